@@ -0,0 +1,88 @@
+package com.sep.realvista.infrastructure.security.jwt;
+
+import com.sep.realvista.application.auth.service.VerifiedToken;
+import com.sep.realvista.infrastructure.security.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one bearer token: the former filter path against
+ * {@link JwtTokenService#verify(String)}.
+ * <p>
+ * The filter used to call {@code extractUsername} and then {@code isTokenValid}, which read the
+ * subject and the expiry, so every request parsed and checked the signature of the token three
+ * times, each time with a signing key decoded from the secret again. Run with
+ * {@code ./mvnw -Pjmh test-compile exec:exec}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    // "test-secret-key-for-jwt-token-signing-in-unit-tests-only" in base64, as in application-test.yml
+    private static final String SECRET_KEY =
+            "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tc2lnbmluZy1pbi11bml0LXRlc3RzLW9ubHkK";
+
+    private JwtTokenService tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new JwtTokenService(SECRET_KEY, TimeUnit.MINUTES.toMillis(15));
+        AuthenticatedUser user = AuthenticatedUser.fromClaims(
+                UUID.randomUUID(), "benchmark@realvista.test", List.of("BUYER"));
+        token = tokenService.generateToken(user, UUID.randomUUID());
+    }
+
+    /**
+     * The former path: three parses, each with a freshly decoded key and a new parser.
+     */
+    @Benchmark
+    public boolean tripleParse() {
+        String username = parseWithNewKey().getSubject();
+        return username.equals(parseWithNewKey().getSubject())
+                && parseWithNewKey().getExpiration().after(new Date());
+    }
+
+    /**
+     * Three parses with the cached key and parser, isolating the cost of the repeated parsing.
+     */
+    @Benchmark
+    public boolean tripleParseCachedParser() {
+        String username = tokenService.extractUsername(token);
+        return username.equals(tokenService.extractClaim(token, Claims::getSubject))
+                && tokenService.extractClaim(token, Claims::getExpiration).after(new Date());
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verify() {
+        return tokenService.verify(token);
+    }
+
+    private Claims parseWithNewKey() {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -37,6 +38,22 @@ public class AuthenticationResponse {
     @Schema(description = "User email", example = "user@example.com")
     private String email;
 
+    @JsonProperty("refresh_token")
+    @Schema(
+            name = "refresh_token",
+            description = "Single-use token exchanged at /api/v1/auth/refresh for a new token pair",
+            example = "3q2-7wAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA"
+    )
+    private String refreshToken;
+
+    @JsonProperty("refresh_token_expires_at")
+    @Schema(name = "refresh_token_expires_at", description = "When the refresh token stops being accepted")
+    private LocalDateTime refreshTokenExpiresAt;
+
+    @JsonProperty("expires_in")
+    @Schema(name = "expires_in", description = "Access token lifetime in seconds", example = "900")
+    private Long expiresIn;
+
     /**
      * Create response with default type.
      */
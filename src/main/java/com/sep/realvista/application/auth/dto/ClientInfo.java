@@ -0,0 +1,10 @@
+package com.sep.realvista.application.auth.dto;
+
+/**
+ * Where a sign-in came from, recorded on the session it opens.
+ *
+ * @param ipAddress the client's address, or null if unknown
+ * @param userAgent the client's User-Agent header, or null if absent
+ */
+public record ClientInfo(String ipAddress, String userAgent) {
+}
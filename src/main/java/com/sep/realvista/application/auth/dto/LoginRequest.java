@@ -1,5 +1,6 @@
 package com.sep.realvista.application.auth.dto;
 
+import com.sep.realvista.domain.user.session.DeviceType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -34,5 +35,8 @@ public class LoginRequest {
     )
     @NotBlank(message = "Password is required")
     private String password;
+
+    @Schema(description = "Kind of device signing in, recorded on the session", example = "WEB")
+    private DeviceType deviceType;
 }
 
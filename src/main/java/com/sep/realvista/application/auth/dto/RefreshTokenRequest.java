@@ -0,0 +1,29 @@
+package com.sep.realvista.application.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Refresh token request DTO, used to refresh a session or to sign out of it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request carrying the refresh token of a session")
+public class RefreshTokenRequest {
+
+    @JsonProperty("refresh_token")
+    @Schema(
+            name = "refresh_token",
+            description = "Refresh token returned by the last login or refresh",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
@@ -1,7 +1,7 @@
 package com.sep.realvista.application.auth.mapper;
 
 import com.sep.realvista.application.auth.dto.AuthenticationResponse;
-import com.sep.realvista.domain.user.User;
+import com.sep.realvista.application.auth.session.SessionTokens;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -15,15 +15,13 @@ import org.mapstruct.Mapping;
 public interface AuthenticationMapper {
 
     /**
-     * Maps User entity and token to AuthenticationResponse.
+     * Maps the tokens of an opened or refreshed session to AuthenticationResponse.
      *
-     * @param user  the authenticated user
-     * @param token the generated authentication token
+     * @param tokens the session's access and refresh tokens
      * @return the authentication response DTO
      */
-    @Mapping(target = "token", source = "token")
+    @Mapping(target = "token", source = "accessToken")
     @Mapping(target = "type", constant = "Bearer")
-    @Mapping(target = "userId", source = "user.userId")
-    @Mapping(target = "email", source = "user.email.value")
-    AuthenticationResponse toAuthenticationResponse(User user, String token);
+    @Mapping(target = "expiresIn", source = "accessTokenExpiresIn")
+    AuthenticationResponse toAuthenticationResponse(SessionTokens tokens);
 }
@@ -2,9 +2,14 @@ package com.sep.realvista.application.auth.service;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import com.sep.realvista.application.auth.dto.AuthenticationResponse;
+import com.sep.realvista.application.auth.dto.ClientInfo;
 import com.sep.realvista.application.auth.dto.GoogleIdTokenRequest;
 import com.sep.realvista.application.auth.dto.LoginRequest;
+import com.sep.realvista.application.auth.dto.MobilePlatform;
+import com.sep.realvista.application.auth.dto.RefreshTokenRequest;
 import com.sep.realvista.application.auth.mapper.AuthenticationMapper;
+import com.sep.realvista.application.auth.session.SessionTokens;
+import com.sep.realvista.application.auth.session.UserSessionService;
 import com.sep.realvista.application.user.dto.CreateUserRequest;
 import com.sep.realvista.application.user.dto.UserResponse;
 import com.sep.realvista.application.user.service.UserApplicationService;
@@ -13,7 +18,8 @@ import com.sep.realvista.domain.common.value.Email;
 import com.sep.realvista.domain.user.User;
 import com.sep.realvista.domain.user.UserRepository;
 import com.sep.realvista.domain.user.UserStatus;
-import com.sep.realvista.domain.user.exception.UserNotFoundException;
+import com.sep.realvista.domain.user.session.DeviceType;
+import com.sep.realvista.infrastructure.security.AuthenticatedUser;
 import com.sep.realvista.infrastructure.security.oauth2.GoogleTokenVerifier;
 import com.sep.realvista.infrastructure.security.util.PasswordUtil;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +27,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,7 +43,7 @@ public class AuthService {
 
     private final UserApplicationService userApplicationService;
     private final AuthenticationManager authenticationManager;
-    private final TokenService tokenService;
+    private final UserSessionService userSessionService;
     private final UserRepository userRepository;
     private final AuthenticationMapper authenticationMapper;
     private final GoogleTokenVerifier googleTokenVerifier;
@@ -56,28 +61,42 @@ public class AuthService {
         return user;
     }
 
-    public AuthenticationResponse login(LoginRequest request) {
+    public AuthenticationResponse login(LoginRequest request, ClientInfo client) {
         log.debug("Authenticating user with email: {}", request.getEmail());
 
         // Step 1: Authenticate user credentials
         Authentication authentication = authenticateUser(request);
 
-        // Step 2: Generate JWT token
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String token = tokenService.generateToken(userDetails);
+        // Step 2: Open a session issuing an access token and a refresh token
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        SessionTokens tokens = userSessionService.open(principal, request.getDeviceType(), client);
 
-        // Step 3: Retrieve user details
-        User user = userRepository.findByEmailValue(request.getEmail())
-                .orElseThrow(() -> new UserNotFoundException(request.getEmail()));
-
-        // Step 4: Build authentication response
-        AuthenticationResponse response = authenticationMapper.toAuthenticationResponse(user, token);
+        // Step 3: Build authentication response
+        AuthenticationResponse response = authenticationMapper.toAuthenticationResponse(tokens);
 
         log.info("User authenticated successfully: {}", request.getEmail());
 
         return response;
     }
 
+    /**
+     * Exchange a refresh token for a new access token and a new refresh token.
+     * <p>
+     * The presented refresh token is used up; presenting it again revokes the session.
+     */
+    public AuthenticationResponse refresh(RefreshTokenRequest request) {
+        SessionTokens tokens = userSessionService.refresh(request.getRefreshToken());
+        log.debug("Session {} refreshed for user {}", tokens.sessionId(), tokens.userId());
+        return authenticationMapper.toAuthenticationResponse(tokens);
+    }
+
+    /**
+     * End the session of a refresh token; its access tokens are rejected from then on.
+     */
+    public void logout(RefreshTokenRequest request) {
+        userSessionService.revoke(request.getRefreshToken());
+    }
+
     /**
      * Authenticate user using Google ID token (for mobile apps).
      * <p>
@@ -92,10 +111,11 @@ public class AuthService {
      * - iOS tokens are validated against iOS OAuth client ID
      *
      * @param request the Google ID token request with platform information
+     * @param client  where the request came from, recorded on the session
      * @return authentication response with JWT token
      */
     @Transactional
-    public AuthenticationResponse loginWithGoogleMobile(GoogleIdTokenRequest request) {
+    public AuthenticationResponse loginWithGoogleMobile(GoogleIdTokenRequest request, ClientInfo client) {
         log.debug("Processing mobile Google login with ID token for platform: {}", request.getPlatform());
 
         try {
@@ -121,17 +141,12 @@ public class AuthService {
             // Step 3: Find or create user
             User user = findOrCreateGoogleUser(email, firstName, lastName, avatarUrl);
 
-            // Step 4: Generate JWT token
-            UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                    .username(user.getEmail().getValue())
-                    .password(user.getPasswordHash())
-                    .authorities(java.util.Collections.emptyList())
-                    .build();
-
-            String token = tokenService.generateToken(userDetails);
+            // Step 4: Open a session issuing an access token and a refresh token
+            SessionTokens tokens = userSessionService.open(
+                    AuthenticatedUser.of(user), toDeviceType(request.getPlatform()), client);
 
             // Step 5: Build authentication response
-            AuthenticationResponse response = authenticationMapper.toAuthenticationResponse(user, token);
+            AuthenticationResponse response = authenticationMapper.toAuthenticationResponse(tokens);
 
             log.info("Mobile Google login successful for platform {} and user: {}",
                     request.getPlatform(), email);
@@ -163,8 +178,8 @@ public class AuthService {
                                   String lastName, String avatarUrl) {
         log.info("Creating new user from Google login: {}", email);
 
-        // Generate a random hashed password for Google users (they won't use it)
-        String hashedPassword = passwordUtil.generateRandomHashedPassword();
+        // Google users sign in without a password, so none is generated or hashed
+        String hashedPassword = passwordUtil.oauth2OnlyPassword();
 
         // Generate business name from user's name or email
         String businessName = (firstName != null && lastName != null)
@@ -187,6 +202,10 @@ public class AuthService {
         return savedUser;
     }
 
+    private static DeviceType toDeviceType(MobilePlatform platform) {
+        return platform == MobilePlatform.IOS ? DeviceType.IOS : DeviceType.ANDROID;
+    }
+
     private Authentication authenticateUser(LoginRequest request) {
         try {
             return authenticationManager.authenticate(
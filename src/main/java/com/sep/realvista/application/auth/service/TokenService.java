@@ -2,7 +2,10 @@ package com.sep.realvista.application.auth.service;
 
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Token service contract for authentication token operations.
@@ -44,6 +47,20 @@ public interface TokenService {
      */
     String generateToken(Map<String, Object> extraClaims, UserDetails userDetails);
 
+    /**
+     * Generates an access token bound to a session, so it is rejected once the session is revoked.
+     *
+     * @param userDetails the user details
+     * @param sessionId   the session the token belongs to
+     * @return the generated authentication token
+     */
+    String generateToken(UserDetails userDetails, UUID sessionId);
+
+    /**
+     * How long generated tokens stay valid.
+     */
+    Duration getAccessTokenLifetime();
+
     /**
      * Validates if the token is valid for the given user details.
      *
@@ -52,4 +69,12 @@ public interface TokenService {
      * @return true if the token is valid, false otherwise
      */
     boolean isTokenValid(String token, UserDetails userDetails);
+
+    /**
+     * Verifies the token's signature and expiry, parsing it exactly once.
+     *
+     * @param token the authentication token
+     * @return the verified claims, or empty if the token is malformed, tampered with or expired
+     */
+    Optional<VerifiedToken> verify(String token);
 }
@@ -0,0 +1,47 @@
+package com.sep.realvista.application.auth.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Claims of an authentication token whose signature and expiry have already been checked.
+ * <p>
+ * Produced once per token by {@link TokenService#verify(String)} so callers can read any claim
+ * without parsing the token again.
+ *
+ * @param subject   the username (email) the token was issued to
+ * @param userId    the id of that user, or null for tokens issued without it
+ * @param roles     the user's role codes when the token was issued, or null for tokens issued
+ *                  without them
+ * @param sessionId the session the token is bound to, or null for tokens issued outside a session
+ * @param issuedAt  when the token was issued
+ * @param expiresAt when the token stops being accepted
+ */
+public record VerifiedToken(
+        String subject,
+        UUID userId,
+        List<String> roles,
+        UUID sessionId,
+        Instant issuedAt,
+        Instant expiresAt) {
+
+    public VerifiedToken {
+        roles = roles != null ? List.copyOf(roles) : null;
+    }
+
+    /**
+     * Whether the token names its user by id and roles, so the caller can be authenticated
+     * without loading the user.
+     */
+    public boolean isSelfContained() {
+        return subject != null && userId != null && roles != null;
+    }
+
+    /**
+     * Whether the token has expired at {@code now}.
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
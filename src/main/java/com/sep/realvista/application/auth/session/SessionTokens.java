@@ -0,0 +1,25 @@
+package com.sep.realvista.application.auth.session;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Tokens handed to a client when a session is opened or refreshed.
+ *
+ * @param sessionId             the session both tokens belong to
+ * @param userId                the signed-in user
+ * @param email                 the signed-in user's email
+ * @param accessToken           short-lived bearer token for API calls
+ * @param accessTokenExpiresIn  lifetime of the access token in seconds
+ * @param refreshToken          single-use token for the next refresh; only its hash is stored
+ * @param refreshTokenExpiresAt when the refresh token stops being accepted
+ */
+public record SessionTokens(
+        UUID sessionId,
+        UUID userId,
+        String email,
+        String accessToken,
+        long accessTokenExpiresIn,
+        String refreshToken,
+        LocalDateTime refreshTokenExpiresAt) {
+}
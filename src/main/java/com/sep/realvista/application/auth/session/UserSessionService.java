@@ -0,0 +1,183 @@
+package com.sep.realvista.application.auth.session;
+
+import com.sep.realvista.application.auth.dto.ClientInfo;
+import com.sep.realvista.application.auth.service.TokenService;
+import com.sep.realvista.application.user.service.UserStatusCache;
+import com.sep.realvista.domain.user.User;
+import com.sep.realvista.domain.user.UserRepository;
+import com.sep.realvista.domain.user.session.DeviceType;
+import com.sep.realvista.domain.user.session.UserSession;
+import com.sep.realvista.infrastructure.persistence.user.UserSessionJpaRepository;
+import com.sep.realvista.infrastructure.security.AuthenticatedUser;
+import com.sep.realvista.infrastructure.security.session.SessionProperties;
+import com.sep.realvista.infrastructure.security.session.SessionRevocationIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sign-in sessions: short-lived access tokens renewed with single-use, rotating refresh tokens.
+ * <p>
+ * Each sign-in opens a row in {@code user_sessions} holding the SHA-256 hash of the session's
+ * current refresh token. A refresh replaces that token and issues a new access token bound to the
+ * session. Presenting a refresh token that was already rotated away means it was copied, so the
+ * session is revoked. Revoked sessions are added to the {@link SessionRevocationIndex}, which
+ * rejects their outstanding access tokens without a query.
+ */
+@Slf4j
+@Service
+public class UserSessionService {
+
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    private static final int USER_AGENT_MAX_LENGTH = 512;
+
+    private final UserSessionJpaRepository userSessionJpaRepository;
+    private final UserRepository userRepository;
+    private final TokenService tokenService;
+    private final UserStatusCache userStatusCache;
+    private final SessionRevocationIndex sessionRevocationIndex;
+    private final Duration refreshTokenLifetime;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public UserSessionService(
+            UserSessionJpaRepository userSessionJpaRepository,
+            UserRepository userRepository,
+            TokenService tokenService,
+            UserStatusCache userStatusCache,
+            SessionRevocationIndex sessionRevocationIndex,
+            SessionProperties properties) {
+        this.userSessionJpaRepository = userSessionJpaRepository;
+        this.userRepository = userRepository;
+        this.tokenService = tokenService;
+        this.userStatusCache = userStatusCache;
+        this.sessionRevocationIndex = sessionRevocationIndex;
+        this.refreshTokenLifetime = properties.getRefreshTokenLifetime();
+    }
+
+    /**
+     * Open a session for a user who has just signed in.
+     */
+    @Transactional
+    public SessionTokens open(AuthenticatedUser principal, DeviceType deviceType, ClientInfo client) {
+        String refreshToken = newRefreshToken();
+        UserSession session = userSessionJpaRepository.save(UserSession.builder()
+                .userId(principal.getId())
+                .sessionTokenHash(hash(refreshToken))
+                .deviceType(deviceType != null ? deviceType : DeviceType.WEB)
+                .ipAddress(client != null ? client.ipAddress() : null)
+                .userAgent(client != null ? truncate(client.userAgent()) : null)
+                .expiresAt(LocalDateTime.now().plus(refreshTokenLifetime))
+                .lastActivityAt(LocalDateTime.now())
+                .build());
+        log.info("Opened {} session {} for user {}", session.getDeviceType(), session.getUserSessionId(),
+                principal.getId());
+        return tokens(session, principal, refreshToken);
+    }
+
+    /**
+     * Exchange a refresh token for a new access token and a new refresh token.
+     *
+     * @throws BadCredentialsException if the token is unknown, expired, revoked or was already used
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public SessionTokens refresh(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        UserSession session = userSessionJpaRepository.findForRotation(tokenHash).orElse(null);
+        if (session == null) {
+            userSessionJpaRepository.findByPreviousTokenHash(tokenHash).ifPresent(reused -> {
+                log.warn("Rotated refresh token of session {} was used again; revoking the session",
+                        reused.getUserSessionId());
+                revoke(reused);
+            });
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        if (!session.isValid()) {
+            throw new BadCredentialsException("Refresh token has expired or been revoked");
+        }
+        if (!userStatusCache.isAllowed(session.getUserId())) {
+            revoke(session);
+            throw new BadCredentialsException("User account is not active");
+        }
+
+        User user = userRepository.findById(session.getUserId())
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        String rotated = newRefreshToken();
+        session.rotate(hash(rotated), LocalDateTime.now().plus(refreshTokenLifetime));
+        return tokens(session, AuthenticatedUser.of(user), rotated);
+    }
+
+    /**
+     * End the session holding the refresh token; unknown tokens are ignored.
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        userSessionJpaRepository.findBySessionTokenHash(hash(refreshToken)).ifPresent(this::revoke);
+    }
+
+    /**
+     * End every live session of the user, e.g. after a password change or suspension.
+     *
+     * @return the number of sessions revoked
+     */
+    @Transactional
+    public int revokeAll(UUID userId) {
+        List<UUID> sessionIds = userSessionJpaRepository.findLiveSessionIds(userId, LocalDateTime.now());
+        if (sessionIds.isEmpty()) {
+            return 0;
+        }
+        sessionRevocationIndex.markRevoked(sessionIds);
+        int revoked = userSessionJpaRepository.revokeAll(sessionIds, LocalDateTime.now());
+        log.info("Revoked {} sessions of user {}", revoked, userId);
+        return revoked;
+    }
+
+    private void revoke(UserSession session) {
+        session.revoke();
+        sessionRevocationIndex.markRevoked(List.of(session.getUserSessionId()));
+        log.info("Revoked session {} of user {}", session.getUserSessionId(), session.getUserId());
+    }
+
+    private SessionTokens tokens(UserSession session, AuthenticatedUser principal, String refreshToken) {
+        return new SessionTokens(
+                session.getUserSessionId(),
+                principal.getId(),
+                principal.getEmail(),
+                tokenService.generateToken(principal, session.getUserSessionId()),
+                tokenService.getAccessTokenLifetime().toSeconds(),
+                refreshToken,
+                session.getExpiresAt());
+    }
+
+    private String newRefreshToken() {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String truncate(String userAgent) {
+        return userAgent != null && userAgent.length() > USER_AGENT_MAX_LENGTH
+                ? userAgent.substring(0, USER_AGENT_MAX_LENGTH)
+                : userAgent;
+    }
+}
@@ -0,0 +1,18 @@
+package com.sep.realvista.application.common.version;
+
+import com.sep.realvista.domain.common.version.ResourceVersion;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Current {@link ResourceVersion} of one kind of resource, for answering conditional requests
+ * without building the representation.
+ */
+public interface ResourceVersionProvider {
+
+    /**
+     * @return the version, or empty if the resource does not exist
+     */
+    Optional<ResourceVersion> versionOf(UUID id);
+}
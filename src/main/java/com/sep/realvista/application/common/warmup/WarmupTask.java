@@ -0,0 +1,24 @@
+package com.sep.realvista.application.common.warmup;
+
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Work run once after startup, before the node reports itself ready, to fill caches and
+ * in-memory indexes that would otherwise be built by the first requests.
+ * <p>
+ * Jobs of all tasks run in parallel within the warm-up budget; a failing job is logged and
+ * does not hold readiness back.
+ */
+public interface WarmupTask {
+
+    default String name() {
+        return ClassUtils.getUserClass(getClass()).getSimpleName();
+    }
+
+    /**
+     * Independent units of work. Called once on the warm-up thread, so it may query what to load.
+     */
+    List<Runnable> jobs();
+}
@@ -0,0 +1,26 @@
+package com.sep.realvista.application.listing.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sep.realvista.domain.property.attribute.AttributeDataType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Facet counts of one searchable property attribute.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttributeFacetDTO {
+    private String code;
+    private String name;
+    private String unit;
+    @JsonProperty("data_type")
+    private AttributeDataType dataType;
+    private List<FacetBucketDTO> buckets;
+}
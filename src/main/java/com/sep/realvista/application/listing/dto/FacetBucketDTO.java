@@ -0,0 +1,27 @@
+package com.sep.realvista.application.listing.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One selectable facet value with the number of listings behind it.
+ * Range buckets of numeric attributes also carry their bounds.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetBucketDTO {
+    private String value;
+    private String label;
+    private Integer count;
+    @JsonProperty("min_value")
+    private BigDecimal minValue;
+    @JsonProperty("max_value")
+    private BigDecimal maxValue;
+}
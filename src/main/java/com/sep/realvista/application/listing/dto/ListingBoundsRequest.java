@@ -0,0 +1,53 @@
+package com.sep.realvista.application.listing.dto;
+
+import com.sep.realvista.domain.listing.ListingType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Map viewport query: published listings inside a latitude/longitude rectangle.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Map viewport bounds and optional filters")
+public class ListingBoundsRequest {
+
+    public static final int DEFAULT_LIMIT = 2000;
+    public static final int MAX_LIMIT = 5000;
+
+    @NotNull(message = "North bound is required")
+    @DecimalMin(value = "-90", message = "North bound must be at least -90")
+    @DecimalMax(value = "90", message = "North bound must be at most 90")
+    private Double north;
+
+    @NotNull(message = "South bound is required")
+    @DecimalMin(value = "-90", message = "South bound must be at least -90")
+    @DecimalMax(value = "90", message = "South bound must be at most 90")
+    private Double south;
+
+    @NotNull(message = "East bound is required")
+    @DecimalMin(value = "-180", message = "East bound must be at least -180")
+    @DecimalMax(value = "180", message = "East bound must be at most 180")
+    private Double east;
+
+    @NotNull(message = "West bound is required")
+    @DecimalMin(value = "-180", message = "West bound must be at least -180")
+    @DecimalMax(value = "180", message = "West bound must be at most 180")
+    private Double west;
+
+    private ListingType listingType;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = MAX_LIMIT, message = "Limit must not exceed " + MAX_LIMIT)
+    private Integer limit;
+}
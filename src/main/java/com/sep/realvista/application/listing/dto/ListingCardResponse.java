@@ -0,0 +1,49 @@
+package com.sep.realvista.application.listing.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sep.realvista.domain.listing.ListingStatus;
+import com.sep.realvista.domain.listing.ListingType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Compact listing summary for search results and listing grids.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListingCardResponse {
+    @JsonProperty("listing_id")
+    private UUID listingId;
+    @JsonProperty("property_id")
+    private UUID propertyId;
+    @JsonProperty("listing_type")
+    private ListingType listingType;
+    private ListingStatus status;
+    private String slug;
+    private String name;
+    private BigDecimal price;
+    @JsonProperty("is_negotiable")
+    private Boolean isNegotiable;
+    @JsonProperty("published_at")
+    private LocalDateTime publishedAt;
+
+    @JsonProperty("street_address")
+    private String streetAddress;
+    @JsonProperty("usable_size_m2")
+    private BigDecimal usableSizeM2;
+    private Integer bedrooms;
+    private Integer bathrooms;
+
+    private LocationInfoDTO location;
+    private PropertyTypeInfoDTO propertyType;
+    @JsonProperty("primary_media")
+    private MediaDTO primaryMedia;
+}
@@ -0,0 +1,30 @@
+package com.sep.realvista.application.listing.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batch lookup of listing cards (feeds, bookmarks, chat listing cards).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Listing ids to render as cards, in display order")
+public class ListingCardsRequest {
+
+    public static final int MAX_IDS = 100;
+
+    @NotEmpty(message = "Listing ids are required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " listing ids can be requested at once")
+    private List<@NotNull(message = "Listing id must not be null") UUID> listingIds;
+}
@@ -0,0 +1,27 @@
+package com.sep.realvista.application.listing.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregated map cluster of the published listings in one grid cell.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListingClusterDTO {
+    private String geohash;
+    private Integer count;
+    private double latitude;
+    private double longitude;
+    @JsonProperty("min_price")
+    private BigDecimal minPrice;
+    @JsonProperty("max_price")
+    private BigDecimal maxPrice;
+}
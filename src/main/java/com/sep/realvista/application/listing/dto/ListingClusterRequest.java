@@ -0,0 +1,50 @@
+package com.sep.realvista.application.listing.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Map cluster query: aggregated listing clusters for a viewport at a zoom level.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Map viewport bounds and zoom level")
+public class ListingClusterRequest {
+
+    public static final int MAX_ZOOM = 22;
+
+    @NotNull(message = "North bound is required")
+    @DecimalMin(value = "-90", message = "North bound must be at least -90")
+    @DecimalMax(value = "90", message = "North bound must be at most 90")
+    private Double north;
+
+    @NotNull(message = "South bound is required")
+    @DecimalMin(value = "-90", message = "South bound must be at least -90")
+    @DecimalMax(value = "90", message = "South bound must be at most 90")
+    private Double south;
+
+    @NotNull(message = "East bound is required")
+    @DecimalMin(value = "-180", message = "East bound must be at least -180")
+    @DecimalMax(value = "180", message = "East bound must be at most 180")
+    private Double east;
+
+    @NotNull(message = "West bound is required")
+    @DecimalMin(value = "-180", message = "West bound must be at least -180")
+    @DecimalMax(value = "180", message = "West bound must be at most 180")
+    private Double west;
+
+    @NotNull(message = "Zoom is required")
+    @Min(value = 0, message = "Zoom must not be negative")
+    @Max(value = MAX_ZOOM, message = "Zoom must not exceed " + MAX_ZOOM)
+    private Integer zoom;
+}
@@ -0,0 +1,20 @@
+package com.sep.realvista.application.listing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Map clusters for a viewport; {@code precision} is the geohash length of the cells used.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListingClustersResponse {
+    private Integer precision;
+    private List<ListingClusterDTO> clusters;
+}
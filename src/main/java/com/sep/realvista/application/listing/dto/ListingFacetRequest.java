@@ -0,0 +1,92 @@
+package com.sep.realvista.application.listing.dto;
+
+import com.sep.realvista.domain.listing.ListingType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Filters for facet counts over published listings.
+ * All filters are optional; list filters match any of their values.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Facet count filters")
+public class ListingFacetRequest {
+
+    public static final String ATTRIBUTE_FILTER_PATTERN = "[A-Za-z0-9_]+:(\\d+(\\.\\d+)?)?:(\\d+(\\.\\d+)?)?";
+
+    private List<ListingType> listingTypes;
+
+    @Schema(description = "Property type codes")
+    private List<String> propertyTypes;
+
+    private List<UUID> cityIds;
+    private List<UUID> districtIds;
+    private List<UUID> wardIds;
+    private List<UUID> amenityIds;
+
+    @DecimalMin(value = "0", message = "Minimum price must not be negative")
+    private BigDecimal minPrice;
+
+    @DecimalMin(value = "0", message = "Maximum price must not be negative")
+    private BigDecimal maxPrice;
+
+    @DecimalMin(value = "0", message = "Minimum area must not be negative")
+    private BigDecimal minArea;
+
+    @DecimalMin(value = "0", message = "Maximum area must not be negative")
+    private BigDecimal maxArea;
+
+    @Schema(description = "Numeric attribute ranges as code:min:max, either bound may be empty (e.g. bedrooms:2:)")
+    private List<@Pattern(regexp = ATTRIBUTE_FILTER_PATTERN,
+            message = "Attribute filter must look like code:min:max") String> attributes;
+
+    /**
+     * Normalized key of the filter set: list order, duplicates and trailing zeros do not
+     * change the key, so equivalent requests share one cached result.
+     */
+    public String cacheKey() {
+        return String.join("|",
+                normalize(listingTypes),
+                normalize(propertyTypes),
+                normalize(cityIds),
+                normalize(districtIds),
+                normalize(wardIds),
+                normalize(amenityIds),
+                normalize(minPrice),
+                normalize(maxPrice),
+                normalize(minArea),
+                normalize(maxArea),
+                normalize(attributes));
+    }
+
+    private static String normalize(Collection<?> values) {
+        if (values == null) {
+            return "";
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(Object::toString)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private static String normalize(BigDecimal value) {
+        return value == null ? "" : value.stripTrailingZeros().toPlainString();
+    }
+}
@@ -0,0 +1,29 @@
+package com.sep.realvista.application.listing.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Facet counts for a search sidebar.
+ * Counts of a dimension the request filters on ignore that filter, so sibling values stay selectable.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListingFacetResponse {
+    private Integer total;
+    @JsonProperty("listing_types")
+    private List<FacetBucketDTO> listingTypes;
+    @JsonProperty("property_types")
+    private List<FacetBucketDTO> propertyTypes;
+    private List<FacetBucketDTO> cities;
+    private List<FacetBucketDTO> districts;
+    private List<FacetBucketDTO> wards;
+    private List<AttributeFacetDTO> attributes;
+}
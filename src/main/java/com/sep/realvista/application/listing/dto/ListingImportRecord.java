@@ -0,0 +1,61 @@
+package com.sep.realvista.application.listing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One row of a partner listing feed: a property with its listing, media and attribute values.
+ * <p>
+ * Locations and property types are referenced by code. Attribute values are keyed by attribute
+ * code and given as text; they are typed by the attribute's data type when the row is resolved,
+ * so CSV cells and JSON scalars are handled alike.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListingImportRecord {
+
+    /**
+     * Partner's own identifier of the row, echoed in row errors.
+     */
+    private String externalId;
+
+    private String locationCode;
+    private String propertyTypeCode;
+    private String streetAddress;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private BigDecimal landSizeM2;
+    private BigDecimal usableSizeM2;
+    private BigDecimal widthM;
+    private BigDecimal lengthM;
+    private String descriptions;
+
+    private String listingType;
+    private String name;
+    private BigDecimal price;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Boolean negotiable;
+    private LocalDate availableFrom;
+
+    /**
+     * Publish the listing right away instead of leaving it a draft.
+     */
+    private Boolean publish;
+
+    /**
+     * Image URLs in display order; the first one is the primary image.
+     */
+    private List<String> mediaUrls;
+
+    private Map<String, String> attributes;
+}
@@ -0,0 +1,54 @@
+package com.sep.realvista.application.listing.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sep.realvista.domain.listing.importing.ListingImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * State of a listing import job. Counts prefixed with {@code run} describe the request that
+ * returned the response only and are absent when the job is merely looked up; the other counts
+ * cover every run of the job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListingImportResponse {
+    @JsonProperty("job_id")
+    private UUID jobId;
+    private ListingImportStatus status;
+    @JsonProperty("checkpoint_row")
+    private long checkpointRow;
+    @JsonProperty("imported_count")
+    private int importedCount;
+    @JsonProperty("failed_count")
+    private int failedCount;
+    @JsonProperty("last_error")
+    private String lastError;
+
+    @JsonProperty("run_rows_read")
+    private Long runRowsRead;
+    @JsonProperty("run_rows_skipped")
+    private Long runRowsSkipped;
+    @JsonProperty("run_imported_count")
+    private Integer runImportedCount;
+    @JsonProperty("run_failed_count")
+    private Integer runFailedCount;
+    @JsonProperty("run_elapsed_ms")
+    private Long runElapsedMs;
+    @JsonProperty("run_rows_per_second")
+    private Double runRowsPerSecond;
+
+    /**
+     * Row errors of this run, capped; see {@code errors_truncated}.
+     */
+    private List<ListingImportRowError> errors;
+    @JsonProperty("errors_truncated")
+    private Boolean errorsTruncated;
+}
@@ -0,0 +1,24 @@
+package com.sep.realvista.application.listing.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Why one feed row was not imported.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListingImportRowError {
+    @JsonProperty("row_number")
+    private long rowNumber;
+    @JsonProperty("external_id")
+    private String externalId;
+    private List<String> errors;
+}
@@ -0,0 +1,47 @@
+package com.sep.realvista.application.listing.dto;
+
+import com.sep.realvista.domain.listing.ListingType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Radius query: published listings within a distance of a point, nearest first.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Center point, radius and optional filters")
+public class ListingNearbyRequest {
+
+    public static final int MAX_RADIUS_METERS = 50_000;
+
+    @NotNull(message = "Latitude is required")
+    @DecimalMin(value = "-90", message = "Latitude must be at least -90")
+    @DecimalMax(value = "90", message = "Latitude must be at most 90")
+    private Double latitude;
+
+    @NotNull(message = "Longitude is required")
+    @DecimalMin(value = "-180", message = "Longitude must be at least -180")
+    @DecimalMax(value = "180", message = "Longitude must be at most 180")
+    private Double longitude;
+
+    @NotNull(message = "Radius is required")
+    @Min(value = 1, message = "Radius must be at least 1 meter")
+    @Max(value = MAX_RADIUS_METERS, message = "Radius must not exceed " + MAX_RADIUS_METERS + " meters")
+    private Integer radiusMeters;
+
+    private ListingType listingType;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = ListingBoundsRequest.MAX_LIMIT, message = "Limit must not exceed " + ListingBoundsRequest.MAX_LIMIT)
+    private Integer limit;
+}
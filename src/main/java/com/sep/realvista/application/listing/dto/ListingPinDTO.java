@@ -0,0 +1,32 @@
+package com.sep.realvista.application.listing.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sep.realvista.domain.listing.ListingType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Map pin of a published listing.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListingPinDTO {
+    @JsonProperty("listing_id")
+    private UUID listingId;
+    private double latitude;
+    private double longitude;
+    private BigDecimal price;
+    @JsonProperty("listing_type")
+    private ListingType listingType;
+    @JsonProperty("property_type_code")
+    private String propertyTypeCode;
+    @JsonProperty("distance_m")
+    private Double distanceMeters;
+}
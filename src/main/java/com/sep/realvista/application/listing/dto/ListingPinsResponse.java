@@ -0,0 +1,22 @@
+package com.sep.realvista.application.listing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Map pins for a viewport or radius query.
+ * {@code truncated} is set when more listings matched than were returned.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListingPinsResponse {
+    private List<ListingPinDTO> pins;
+    private Integer count;
+    private boolean truncated;
+}
@@ -0,0 +1,74 @@
+package com.sep.realvista.application.listing.dto;
+
+import com.sep.realvista.domain.listing.ListingStatus;
+import com.sep.realvista.domain.listing.ListingType;
+import com.sep.realvista.domain.listing.repository.ListingSortField;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Listing search query parameters.
+ * All filters are optional; status defaults to PUBLISHED and sort to newest first.
+ * Other statuses are only visible to the listing's creator and to admins.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Listing search filters, sort and cursor")
+public class ListingSearchRequest {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private ListingType listingType;
+
+    @Schema(description = "Listing status, defaults to PUBLISHED; other statuses require sign-in")
+    private ListingStatus status;
+
+    @DecimalMin(value = "0", message = "Minimum price must not be negative")
+    private BigDecimal minPrice;
+
+    @DecimalMin(value = "0", message = "Maximum price must not be negative")
+    private BigDecimal maxPrice;
+
+    private UUID cityId;
+    private UUID districtId;
+    private UUID wardId;
+    private UUID propertyTypeId;
+
+    @Min(value = 0, message = "Minimum bedrooms must not be negative")
+    private Integer minBedrooms;
+
+    @Min(value = 0, message = "Maximum bedrooms must not be negative")
+    private Integer maxBedrooms;
+
+    @Min(value = 0, message = "Minimum bathrooms must not be negative")
+    private Integer minBathrooms;
+
+    @Min(value = 0, message = "Maximum bathrooms must not be negative")
+    private Integer maxBathrooms;
+
+    @Schema(description = "Sort field, defaults to PUBLISHED_AT")
+    private ListingSortField sort;
+
+    @Schema(description = "Sort direction, defaults to DESC")
+    private Sort.Direction direction;
+
+    @Schema(description = "Opaque cursor returned as nextCursor by the previous page")
+    private String cursor;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = MAX_SIZE, message = "Page size must not exceed " + MAX_SIZE)
+    private Integer size;
+}
@@ -0,0 +1,154 @@
+package com.sep.realvista.application.listing.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sep.realvista.application.location.search.LocationAncestry;
+import com.sep.realvista.application.location.search.LocationAncestryCache;
+import com.sep.realvista.domain.listing.ListingExportRow;
+import com.sep.realvista.domain.listing.ListingStatus;
+import com.sep.realvista.domain.listing.repository.ListingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * Streams listings to partners and sitemap builders as NDJSON or CSV.
+ * <p>
+ * Rows come from a database cursor as flat {@link ListingExportRow}s and are written as soon as
+ * they are read, with location names taken from the {@link LocationAncestryCache}. No entity is
+ * loaded and no row is kept after it is written, so memory use does not depend on the number of
+ * listings exported.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ListingExportService {
+
+    /**
+     * Exported fields in output order; also the CSV header and the NDJSON keys.
+     */
+    private static final List<Column> COLUMNS = List.of(
+            new Column("listing_id", (row, location) -> row.listingId()),
+            new Column("slug", (row, location) -> row.slug()),
+            new Column("name", (row, location) -> row.name()),
+            new Column("listing_type", (row, location) -> row.listingType()),
+            new Column("status", (row, location) -> row.status()),
+            new Column("price", (row, location) -> row.price()),
+            new Column("min_price", (row, location) -> row.minPrice()),
+            new Column("max_price", (row, location) -> row.maxPrice()),
+            new Column("negotiable", (row, location) -> row.negotiable()),
+            new Column("available_from", (row, location) -> row.availableFrom()),
+            new Column("published_at", (row, location) -> row.publishedAt()),
+            new Column("updated_at", (row, location) -> row.updatedAt()),
+            new Column("property_id", (row, location) -> row.propertyId()),
+            new Column("property_type_code", (row, location) -> row.propertyTypeCode()),
+            new Column("street_address", (row, location) -> row.streetAddress()),
+            new Column("ward", (row, location) -> location != null ? location.wardName() : null),
+            new Column("district", (row, location) -> location != null ? location.districtName() : null),
+            new Column("city", (row, location) -> location != null ? location.cityName() : null),
+            new Column("latitude", (row, location) -> row.latitude()),
+            new Column("longitude", (row, location) -> row.longitude()),
+            new Column("land_size_m2", (row, location) -> row.landSizeM2()),
+            new Column("usable_size_m2", (row, location) -> row.usableSizeM2()),
+            new Column("primary_image_url", (row, location) -> row.primaryImageUrl()));
+
+    private final ListingRepository listingRepository;
+    private final LocationAncestryCache locationAncestryCache;
+    private final ObjectMapper objectMapper;
+
+    private record Column(String name, BiFunction<ListingExportRow, LocationAncestry, Object> value) {
+    }
+
+    /**
+     * Write every non-deleted listing with {@code status} to {@code output}, which is flushed but
+     * not closed.
+     *
+     * @return the number of listings written
+     */
+    @Transactional(readOnly = true)
+    public long export(ListingStatus status, ListingExportFormat format, OutputStream output) throws IOException {
+        long started = System.nanoTime();
+        long count = 0;
+        try (Stream<ListingExportRow> rows = listingRepository.streamExportRows(status)) {
+            Iterator<ListingExportRow> iterator = rows.iterator();
+            if (format == ListingExportFormat.CSV) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+                writeCsvLine(writer, COLUMNS.stream().map(Column::name).toList());
+                while (iterator.hasNext()) {
+                    ListingExportRow row = iterator.next();
+                    LocationAncestry location = locationAncestryCache.find(row.locationId()).orElse(null);
+                    writeCsvLine(writer, COLUMNS.stream()
+                            .map(column -> column.value().apply(row, location))
+                            .toList());
+                    count++;
+                }
+                writer.flush();
+            } else {
+                JsonGenerator generator = objectMapper.createGenerator(output, JsonEncoding.UTF8);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                while (iterator.hasNext()) {
+                    ListingExportRow row = iterator.next();
+                    writeJsonLine(generator, row, locationAncestryCache.find(row.locationId()).orElse(null));
+                    count++;
+                }
+                generator.close();
+            }
+        }
+        log.info("Exported {} {} listings as {} in {} ms", count, status, format,
+                (System.nanoTime() - started) / 1_000_000);
+        return count;
+    }
+
+    private static void writeJsonLine(JsonGenerator generator, ListingExportRow row, LocationAncestry location)
+            throws IOException {
+        generator.writeStartObject();
+        for (Column column : COLUMNS) {
+            Object value = column.value().apply(row, location);
+            if (value != null) {
+                generator.writeFieldName(column.name());
+                generator.writeObject(value);
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value instanceof BigDecimal number) {
+                writer.write(number.toPlainString());
+            } else if (value != null) {
+                writer.write(csvField(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvField(String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
@@ -0,0 +1,186 @@
+package com.sep.realvista.application.listing.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sep.realvista.application.listing.dto.ListingImportRecord;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RFC 4180 feed: comma-separated, optionally double-quoted fields (quoted fields may contain
+ * commas, line breaks and doubled quotes) and a header row naming the
+ * {@link ListingImportRecord} properties.
+ * <p>
+ * Two header forms are special: {@code mediaUrls} holds several URLs separated by {@code |}, and
+ * {@code attr.<code>} columns hold the value of the attribute {@code <code>}. Empty cells are
+ * treated as absent. Blank lines are ignored.
+ */
+class CsvListingFeedReader implements ListingFeedReader {
+
+    static final String MEDIA_URLS_COLUMN = "mediaUrls";
+    static final String ATTRIBUTE_COLUMN_PREFIX = "attr.";
+    static final int MAX_RECORD_LENGTH = 1 << 20;
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final String[] columns;
+    private final StringBuilder field = new StringBuilder();
+    private long recordLength;
+    private long rowNumber;
+    private boolean unterminatedQuote;
+
+    CsvListingFeedReader(BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+
+        List<String> header = readRecord();
+        if (header != null && !header.isEmpty() && !header.get(0).isEmpty()
+                && header.get(0).charAt(0) == JsonLinesListingFeedReader.BYTE_ORDER_MARK) {
+            header.set(0, header.get(0).substring(1));
+        }
+        if (unterminatedQuote) {
+            throw new IllegalArgumentException("CSV header has an unterminated quoted field");
+        }
+        this.columns = header == null ? new String[0] : header.stream().map(String::trim).toArray(String[]::new);
+        Set<String> seen = new HashSet<>();
+        for (String column : columns) {
+            if (column.isEmpty() || !seen.add(column)) {
+                throw new IllegalArgumentException("CSV header has an empty or repeated column: " + column);
+            }
+        }
+    }
+
+    @Override
+    public ListingFeedRow next() throws IOException {
+        List<String> cells;
+        do {
+            cells = readRecord();
+            if (cells == null) {
+                return null;
+            }
+        } while (cells.size() == 1 && cells.get(0).isBlank() && !unterminatedQuote);
+
+        rowNumber++;
+        if (unterminatedQuote) {
+            return ListingFeedRow.unreadable(rowNumber, "Unterminated quoted field");
+        }
+        if (cells.size() != columns.length) {
+            return ListingFeedRow.unreadable(rowNumber,
+                    "Expected " + columns.length + " columns but found " + cells.size());
+        }
+        try {
+            return ListingFeedRow.parsed(rowNumber, objectMapper.convertValue(toFields(cells),
+                    ListingImportRecord.class));
+        } catch (IllegalArgumentException e) {
+            return ListingFeedRow.unreadable(rowNumber, "Invalid value: " + rootMessage(e));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Map<String, Object> toFields(List<String> cells) {
+        Map<String, Object> fields = new HashMap<>();
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+            String value = cells.get(i).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            String column = columns[i];
+            if (column.equals(MEDIA_URLS_COLUMN)) {
+                fields.put(column, Arrays.stream(value.split("\\|"))
+                        .map(String::trim)
+                        .filter(url -> !url.isEmpty())
+                        .toList());
+            } else if (column.startsWith(ATTRIBUTE_COLUMN_PREFIX)) {
+                attributes.put(column.substring(ATTRIBUTE_COLUMN_PREFIX.length()), value);
+            } else {
+                fields.put(column, value);
+            }
+        }
+        if (!attributes.isEmpty()) {
+            fields.put("attributes", attributes);
+        }
+        return fields;
+    }
+
+    /**
+     * Fields of the next record, or null at the end of input.
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> cells = new ArrayList<>();
+        field.setLength(0);
+        recordLength = 0;
+        unterminatedQuote = false;
+        boolean quoted = false;
+        boolean afterQuote = false;
+        while (true) {
+            if (++recordLength > MAX_RECORD_LENGTH) {
+                throw new IllegalArgumentException("CSV record after row " + rowNumber + " exceeds "
+                        + MAX_RECORD_LENGTH + " characters");
+            }
+            if (c == -1) {
+                unterminatedQuote = quoted;
+                cells.add(field.toString());
+                return cells;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    quoted = false;
+                    afterQuote = true;
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                // A doubled quote inside a quoted field is a literal quote
+                if (afterQuote) {
+                    field.append('"');
+                }
+                quoted = true;
+                afterQuote = false;
+            } else if (c == ',') {
+                cells.add(field.toString());
+                field.setLength(0);
+                afterQuote = false;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                cells.add(field.toString());
+                return cells;
+            } else {
+                field.append((char) c);
+                afterQuote = false;
+            }
+            c = reader.read();
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        String message = cause.getMessage();
+        int detail = message == null ? -1 : message.indexOf('\n');
+        return detail < 0 ? String.valueOf(message) : message.substring(0, detail);
+    }
+}
@@ -0,0 +1,51 @@
+package com.sep.realvista.application.listing.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sep.realvista.application.listing.dto.ListingImportRecord;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Feed with one JSON object per line; blank lines are ignored.
+ */
+class JsonLinesListingFeedReader implements ListingFeedReader {
+
+    static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long rowNumber;
+
+    JsonLinesListingFeedReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ListingFeedRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        rowNumber++;
+        if (rowNumber == 1 && line.charAt(0) == BYTE_ORDER_MARK) {
+            line = line.substring(1);
+        }
+        try {
+            return ListingFeedRow.parsed(rowNumber, objectMapper.readValue(line, ListingImportRecord.class));
+        } catch (JsonProcessingException e) {
+            return ListingFeedRow.unreadable(rowNumber, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
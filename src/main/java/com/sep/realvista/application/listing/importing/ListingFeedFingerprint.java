@@ -0,0 +1,42 @@
+package com.sep.realvista.application.listing.importing;
+
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 hash and size of a feed's bytes, recorded when an import starts so a resume can tell
+ * whether it is given the same feed.
+ */
+public record ListingFeedFingerprint(String sha256, long sizeBytes) {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Read the whole feed once to fingerprint it.
+     *
+     * @throws UncheckedIOException if the feed cannot be read
+     */
+    public static ListingFeedFingerprint of(InputStreamSource feed) {
+        try (InputStream in = feed.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long size = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                size += read;
+            }
+            return new ListingFeedFingerprint(HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the listing feed", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.sep.realvista.application.listing.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sep.realvista.domain.listing.importing.ListingImportFormat;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads a listing feed one row at a time, so feeds of any size are imported in constant memory.
+ * <p>
+ * A row that cannot be parsed is returned as {@link ListingFeedRow#unreadable} and reading
+ * continues with the next row; only I/O errors and a malformed CSV header end the feed.
+ */
+public interface ListingFeedReader extends Closeable {
+
+    /**
+     * Next data row, or null at the end of the feed.
+     */
+    ListingFeedRow next() throws IOException;
+
+    static ListingFeedReader open(ListingImportFormat format, InputStream input, ObjectMapper objectMapper)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return switch (format) {
+            case CSV -> new CsvListingFeedReader(reader, objectMapper);
+            case JSON_LINES -> new JsonLinesListingFeedReader(reader, objectMapper);
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.sep.realvista.application.listing.importing;
+
+import com.sep.realvista.application.listing.dto.ListingImportRecord;
+
+/**
+ * One row read from a listing feed: either its record or the reason it could not be parsed.
+ *
+ * @param rowNumber 1-based position of the row among the feed's data rows
+ */
+public record ListingFeedRow(long rowNumber, ListingImportRecord record, String error) {
+
+    public static ListingFeedRow parsed(long rowNumber, ListingImportRecord record) {
+        return new ListingFeedRow(rowNumber, record, null);
+    }
+
+    public static ListingFeedRow unreadable(long rowNumber, String error) {
+        return new ListingFeedRow(rowNumber, null, error);
+    }
+}
@@ -0,0 +1,222 @@
+package com.sep.realvista.application.listing.importing;
+
+import com.sep.realvista.application.listing.dto.ListingImportRecord;
+import com.sep.realvista.application.location.search.LocationAncestry;
+import com.sep.realvista.application.location.search.LocationAncestryCache;
+import com.sep.realvista.application.property.dto.AttributeValueInput;
+import com.sep.realvista.application.property.service.AttributeValueRules;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataCache;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.AttributeRef;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.TypeAttributeRef;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.TypeRef;
+import com.sep.realvista.domain.listing.ListingType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Validates feed records and resolves their codes to ids.
+ * <p>
+ * Locations, property types and attributes come from the in-memory {@link LocationAncestryCache}
+ * and {@link ReferenceDataCache}, so resolving a row runs no query. Every problem of a row is
+ * reported, not only the first one.
+ */
+@Component
+@RequiredArgsConstructor
+public class ListingImportResolver {
+
+    static final int MAX_MEDIA_PER_ROW = 50;
+
+    /**
+     * Integer digits of {@code price} (NUMERIC(14, 2)), of land and usable size (NUMERIC(10, 2))
+     * and of width and length (NUMERIC(6, 2)).
+     */
+    private static final int PRICE_INTEGER_DIGITS = 12;
+    private static final int SIZE_INTEGER_DIGITS = 8;
+    private static final int DIMENSION_INTEGER_DIGITS = 4;
+    private static final int STREET_ADDRESS_MAX_LENGTH = 255;
+    private static final int NAME_MAX_LENGTH = 500;
+    private static final BigDecimal MAX_LATITUDE = BigDecimal.valueOf(90);
+    private static final BigDecimal MAX_LONGITUDE = BigDecimal.valueOf(180);
+
+    private final LocationAncestryCache locationAncestryCache;
+    private final ReferenceDataCache referenceDataCache;
+
+    /**
+     * A valid record with its codes resolved.
+     */
+    public record ResolvedListing(
+            long rowNumber,
+            ListingImportRecord record,
+            UUID locationId,
+            TypeRef type,
+            ListingType listingType,
+            List<ResolvedAttribute> attributes) {
+    }
+
+    public record ResolvedAttribute(AttributeRef attribute, AttributeValueInput value) {
+    }
+
+    /**
+     * Resolve a record, adding every problem found to {@code errors}.
+     *
+     * @return the resolved listing, or null if {@code errors} were added
+     */
+    public ResolvedListing resolve(long rowNumber, ListingImportRecord record, List<String> errors) {
+        int errorsBefore = errors.size();
+        ReferenceDataSnapshot snapshot = referenceDataCache.snapshot();
+
+        UUID locationId = null;
+        if (isBlank(record.getLocationCode())) {
+            errors.add("Location code is required");
+        } else {
+            locationId = locationAncestryCache.findByCode(record.getLocationCode())
+                    .map(LocationAncestry::locationId)
+                    .orElse(null);
+            if (locationId == null) {
+                errors.add("Unknown location code '" + record.getLocationCode() + "'");
+            }
+        }
+
+        TypeRef type = null;
+        if (isBlank(record.getPropertyTypeCode())) {
+            errors.add("Property type code is required");
+        } else {
+            type = snapshot.findTypeByCode(record.getPropertyTypeCode().trim())
+                    .filter(TypeRef::isActive)
+                    .orElse(null);
+            if (type == null) {
+                errors.add("Unknown or inactive property type code '" + record.getPropertyTypeCode() + "'");
+            }
+        }
+
+        requireText("Street address", record.getStreetAddress(), STREET_ADDRESS_MAX_LENGTH, errors);
+        requireText("Name", record.getName(), NAME_MAX_LENGTH, errors);
+        requireCoordinate("Latitude", record.getLatitude(), MAX_LATITUDE, errors);
+        requireCoordinate("Longitude", record.getLongitude(), MAX_LONGITUDE, errors);
+        checkAmount("Land size", record.getLandSizeM2(), SIZE_INTEGER_DIGITS, errors);
+        checkAmount("Usable size", record.getUsableSizeM2(), SIZE_INTEGER_DIGITS, errors);
+        checkAmount("Width", record.getWidthM(), DIMENSION_INTEGER_DIGITS, errors);
+        checkAmount("Length", record.getLengthM(), DIMENSION_INTEGER_DIGITS, errors);
+
+        ListingType listingType = null;
+        if (isBlank(record.getListingType())) {
+            errors.add("Listing type is required");
+        } else {
+            try {
+                listingType = ListingType.valueOf(record.getListingType().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                errors.add("Unknown listing type '" + record.getListingType() + "'");
+            }
+        }
+        if (record.getPrice() == null) {
+            errors.add("Price is required");
+        } else if (record.getPrice().signum() <= 0) {
+            errors.add("Price must be positive");
+        }
+        checkAmount("Price", record.getPrice(), PRICE_INTEGER_DIGITS, errors);
+        checkAmount("Minimum price", record.getMinPrice(), PRICE_INTEGER_DIGITS, errors);
+        checkAmount("Maximum price", record.getMaxPrice(), PRICE_INTEGER_DIGITS, errors);
+        if (record.getMinPrice() != null && record.getMaxPrice() != null
+                && record.getMinPrice().compareTo(record.getMaxPrice()) > 0) {
+            errors.add("Minimum price must not exceed maximum price");
+        }
+
+        checkMedia(record.getMediaUrls(), errors);
+        List<ResolvedAttribute> attributes = type == null ? List.of()
+                : resolveAttributes(type, record.getAttributes(), errors);
+
+        if (errors.size() > errorsBefore) {
+            return null;
+        }
+        return new ResolvedListing(rowNumber, record, locationId, type, listingType, attributes);
+    }
+
+    private static List<ResolvedAttribute> resolveAttributes(
+            TypeRef type, Map<String, String> values, List<String> errors) {
+        Map<String, TypeAttributeRef> allowed = type.attributes().stream()
+                .collect(Collectors.toMap(ref -> ref.attribute().code(), Function.identity()));
+        List<ResolvedAttribute> resolved = new ArrayList<>();
+        Set<UUID> present = new HashSet<>();
+        if (values != null) {
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                TypeAttributeRef ref = allowed.get(entry.getKey());
+                if (ref == null) {
+                    errors.add("Attribute '" + entry.getKey() + "' is not defined for property type '"
+                            + type.code() + "'");
+                    continue;
+                }
+                AttributeValueInput value = AttributeValueRules.parse(ref.attribute(), entry.getValue());
+                AttributeValueRules.validate(ref.attribute(), value, errors);
+                if (!value.isRemoval()) {
+                    resolved.add(new ResolvedAttribute(ref.attribute(), value));
+                    present.add(ref.attribute().id());
+                }
+            }
+        }
+        for (TypeAttributeRef ref : type.attributes()) {
+            if (ref.required() && !present.contains(ref.attribute().id())) {
+                errors.add("Attribute '" + ref.attribute().code() + "' is required");
+            }
+        }
+        return resolved;
+    }
+
+    private static void checkMedia(List<String> mediaUrls, List<String> errors) {
+        if (mediaUrls == null) {
+            return;
+        }
+        if (mediaUrls.size() > MAX_MEDIA_PER_ROW) {
+            errors.add("At most " + MAX_MEDIA_PER_ROW + " media URLs are allowed");
+        }
+        for (String url : mediaUrls) {
+            if (url == null || !(url.startsWith("https://") || url.startsWith("http://"))) {
+                errors.add("Media URL '" + url + "' is not an http(s) URL");
+            }
+        }
+    }
+
+    private static void requireText(String label, String value, int maxLength, List<String> errors) {
+        if (isBlank(value)) {
+            errors.add(label + " is required");
+        } else if (value.length() > maxLength) {
+            errors.add(label + " must not exceed " + maxLength + " characters");
+        }
+    }
+
+    private static void requireCoordinate(String label, BigDecimal value, BigDecimal max, List<String> errors) {
+        if (value == null) {
+            errors.add(label + " is required");
+        } else if (value.abs().compareTo(max) > 0) {
+            errors.add(label + " must be between -" + max + " and " + max);
+        }
+    }
+
+    private static void checkAmount(String label, BigDecimal value, int integerDigits, List<String> errors) {
+        if (value == null) {
+            return;
+        }
+        if (value.signum() < 0) {
+            errors.add(label + " must not be negative");
+        } else if (value.stripTrailingZeros().scale() > 2) {
+            errors.add(label + " allows at most 2 decimal places");
+        } else if (value.precision() - value.scale() > integerDigits) {
+            errors.add(label + " is out of range");
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,606 @@
+package com.sep.realvista.application.listing.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sep.realvista.application.listing.dto.ListingImportRecord;
+import com.sep.realvista.application.listing.dto.ListingImportResponse;
+import com.sep.realvista.application.listing.dto.ListingImportRowError;
+import com.sep.realvista.application.listing.importing.ListingImportResolver.ResolvedAttribute;
+import com.sep.realvista.application.listing.importing.ListingImportResolver.ResolvedListing;
+import com.sep.realvista.application.property.service.AttributeValueRules;
+import com.sep.realvista.domain.common.exception.BusinessConflictException;
+import com.sep.realvista.domain.common.exception.ResourceNotFoundException;
+import com.sep.realvista.domain.common.value.Slug;
+import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.ListingMedia;
+import com.sep.realvista.domain.listing.importing.ListingImportFormat;
+import com.sep.realvista.domain.listing.importing.ListingImportJob;
+import com.sep.realvista.domain.property.MediaType;
+import com.sep.realvista.domain.property.Property;
+import com.sep.realvista.domain.property.PropertyMedia;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeValue;
+import com.sep.realvista.domain.user.UserRepository;
+import com.sep.realvista.infrastructure.persistence.listing.ListingImportJobJpaRepository;
+import com.sep.realvista.infrastructure.persistence.listing.ListingJpaRepository;
+import com.sep.realvista.infrastructure.persistence.listing.ListingMediaJpaRepository;
+import com.sep.realvista.infrastructure.persistence.property.PropertyJpaRepository;
+import com.sep.realvista.infrastructure.persistence.property.PropertyMediaJpaRepository;
+import com.sep.realvista.infrastructure.persistence.property.attribute.PropertyAttributeValueJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Imports partner listing feeds: each row becomes a property with its listing, media and
+ * attribute values.
+ * <p>
+ * An import runs as a two-stage pipeline. The calling thread reads the feed incrementally and
+ * validates rows against the in-memory location and reference data lookups; a writer thread
+ * persists them {@value #BATCH_SIZE} rows per transaction, relying on JDBC batching for the
+ * inserts. The stages are connected by a queue of {@value #QUEUE_CAPACITY} batches, so reading
+ * blocks while the writer is behind and memory stays bounded whatever the size of the feed.
+ * <p>
+ * Each transaction also advances the job's checkpoint, so an interrupted import is resumed with
+ * {@link #resume} by feeding the same file again: rows up to the checkpoint are skipped and no
+ * row is imported twice. The feed is read once more up front to fingerprint it, and a resume with
+ * a feed of another hash or size is rejected. A batch the database rejects is retried one row per transaction, so one
+ * bad row fails alone. Runs are limited to {@value #MAX_CONCURRENT_IMPORTS} at a time per node.
+ */
+@Service
+@Slf4j
+public class ListingImportService {
+
+    static final int BATCH_SIZE = 500;
+    static final int QUEUE_CAPACITY = 4;
+    static final int MAX_CONCURRENT_IMPORTS = 2;
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    /**
+     * Marks the end of the feed in the batch queue.
+     */
+    private static final List<RowOutcome> END_OF_FEED = List.of();
+    private static final int COORDINATE_SCALE = 6;
+
+    private final ListingImportJobJpaRepository listingImportJobJpaRepository;
+    private final PropertyJpaRepository propertyJpaRepository;
+    private final ListingJpaRepository listingJpaRepository;
+    private final PropertyMediaJpaRepository propertyMediaJpaRepository;
+    private final ListingMediaJpaRepository listingMediaJpaRepository;
+    private final PropertyAttributeValueJpaRepository propertyAttributeValueJpaRepository;
+    private final UserRepository userRepository;
+    private final ListingImportResolver listingImportResolver;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaction;
+    private final ThreadPoolExecutor writerExecutor;
+    private final Semaphore importPermits = new Semaphore(MAX_CONCURRENT_IMPORTS);
+    private final Set<UUID> runningJobs = ConcurrentHashMap.newKeySet();
+
+    private final Counter importedRows;
+    private final Counter failedRows;
+    private final Timer batchWrites;
+
+    /**
+     * Outcome of reading and validating one row: a resolved listing or its errors.
+     */
+    private record RowOutcome(long rowNumber, String externalId, ResolvedListing listing, List<String> errors) {
+    }
+
+    /**
+     * Counts and errors of one run. Row counts are written by the reading thread, the others by
+     * the writer thread; both are read once the writer has finished.
+     */
+    private static final class RunStats {
+        private final long startedAt = System.nanoTime();
+        private long rowsRead;
+        private long rowsSkipped;
+        private int imported;
+        private int failed;
+        private final List<ListingImportRowError> errors = new ArrayList<>();
+        private boolean errorsTruncated;
+
+        private void recordError(long rowNumber, String externalId, List<String> messages) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(ListingImportRowError.builder()
+                        .rowNumber(rowNumber)
+                        .externalId(externalId)
+                        .errors(List.copyOf(messages))
+                        .build());
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    public ListingImportService(
+            ListingImportJobJpaRepository listingImportJobJpaRepository,
+            PropertyJpaRepository propertyJpaRepository,
+            ListingJpaRepository listingJpaRepository,
+            PropertyMediaJpaRepository propertyMediaJpaRepository,
+            ListingMediaJpaRepository listingMediaJpaRepository,
+            PropertyAttributeValueJpaRepository propertyAttributeValueJpaRepository,
+            UserRepository userRepository,
+            ListingImportResolver listingImportResolver,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.listingImportJobJpaRepository = listingImportJobJpaRepository;
+        this.propertyJpaRepository = propertyJpaRepository;
+        this.listingJpaRepository = listingJpaRepository;
+        this.propertyMediaJpaRepository = propertyMediaJpaRepository;
+        this.listingMediaJpaRepository = listingMediaJpaRepository;
+        this.propertyAttributeValueJpaRepository = propertyAttributeValueJpaRepository;
+        this.userRepository = userRepository;
+        this.listingImportResolver = listingImportResolver;
+        this.objectMapper = objectMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.writerExecutor = newWriterExecutor();
+
+        this.importedRows = Counter.builder("listing.import.rows")
+                .description("Feed rows handled by listing imports")
+                .tag("outcome", "imported")
+                .register(meterRegistry);
+        this.failedRows = Counter.builder("listing.import.rows")
+                .description("Feed rows handled by listing imports")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        this.batchWrites = Timer.builder("listing.import.batch")
+                .description("Transactions writing a batch of imported listings")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start an import of listings owned by {@code ownerId} and run it to the end of the feed.
+     *
+     * @throws ResourceNotFoundException  if the owner does not exist
+     * @throws BusinessConflictException  if too many imports are running
+     */
+    public ListingImportResponse start(
+            UUID ownerId, ListingImportFormat format, String sourceName, InputStreamSource feed) {
+        if (userRepository.findById(ownerId).isEmpty()) {
+            throw new ResourceNotFoundException("User", ownerId);
+        }
+        ListingFeedFingerprint fingerprint = ListingFeedFingerprint.of(feed);
+        acquirePermit();
+        try {
+            ListingImportJob job = transaction.execute(status -> listingImportJobJpaRepository.save(
+                    ListingImportJob.builder()
+                            .ownerId(ownerId)
+                            .format(format)
+                            .sourceName(sourceName)
+                            .feedSha256(fingerprint.sha256())
+                            .feedSizeBytes(fingerprint.sizeBytes())
+                            .build()));
+            runningJobs.add(job.getListingImportJobId());
+            return run(job, feed);
+        } finally {
+            importPermits.release();
+        }
+    }
+
+    /**
+     * Continue an interrupted import from its checkpoint. {@code feed} must be the feed the import
+     * was started with. Resuming a completed import does nothing.
+     *
+     * @throws ResourceNotFoundException if the import does not exist
+     * @throws BusinessConflictException if the import or too many others are running, or if the
+     *                                   feed is not the one the import was started with
+     */
+    public ListingImportResponse resume(UUID jobId, InputStreamSource feed) {
+        ListingFeedFingerprint fingerprint = ListingFeedFingerprint.of(feed);
+        acquirePermit();
+        try {
+            if (!runningJobs.add(jobId)) {
+                throw new BusinessConflictException("Listing import " + jobId + " is already running");
+            }
+            ListingImportJob job;
+            try {
+                job = transaction.execute(status -> {
+                    ListingImportJob stored = listingImportJobJpaRepository.findActiveById(jobId)
+                            .orElseThrow(() -> new ResourceNotFoundException("ListingImportJob", jobId));
+                    if (!stored.matchesFeed(fingerprint.sha256(), fingerprint.sizeBytes())) {
+                        throw new BusinessConflictException(
+                                "The feed is not the one listing import " + jobId + " was started with");
+                    }
+                    if (!stored.isCompleted()) {
+                        stored.resume();
+                    }
+                    return stored;
+                });
+            } catch (RuntimeException e) {
+                runningJobs.remove(jobId);
+                throw e;
+            }
+            if (job.isCompleted()) {
+                runningJobs.remove(jobId);
+                return toResponse(job, null);
+            }
+            return run(job, feed);
+        } finally {
+            importPermits.release();
+        }
+    }
+
+    /**
+     * @throws ResourceNotFoundException if the import does not exist
+     */
+    public ListingImportResponse getJob(UUID jobId) {
+        return listingImportJobJpaRepository.findActiveById(jobId)
+                .map(job -> toResponse(job, null))
+                .orElseThrow(() -> new ResourceNotFoundException("ListingImportJob", jobId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writerExecutor.shutdownNow();
+    }
+
+    private ListingImportResponse run(ListingImportJob job, InputStreamSource feed) {
+        UUID jobId = job.getListingImportJobId();
+        long checkpoint = job.getCheckpointRow();
+        RunStats stats = new RunStats();
+        BlockingQueue<List<RowOutcome>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        Future<?> writer = writerExecutor.submit(() -> {
+            writeBatches(job, queue, stats);
+            return null;
+        });
+        log.info("Listing import {} started from row {}", jobId, checkpoint + 1);
+
+        String failure = null;
+        try (InputStream in = feed.getInputStream();
+             ListingFeedReader reader = ListingFeedReader.open(job.getFormat(), in, objectMapper)) {
+            List<RowOutcome> batch = new ArrayList<>(BATCH_SIZE);
+            ListingFeedRow row;
+            while ((row = reader.next()) != null) {
+                stats.rowsRead++;
+                if (row.rowNumber() <= checkpoint) {
+                    stats.rowsSkipped++;
+                    continue;
+                }
+                batch.add(resolve(row));
+                if (batch.size() == BATCH_SIZE) {
+                    hand(queue, batch, writer);
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                hand(queue, batch, writer);
+            }
+            hand(queue, END_OF_FEED, writer);
+            writer.get();
+        } catch (ExecutionException e) {
+            failure = "Writing failed: " + e.getCause().getMessage();
+            log.error("Listing import {} failed while writing", jobId, e.getCause());
+        } catch (IOException | RuntimeException e) {
+            stopWriter(queue, writer);
+            failure = "Reading failed: " + e.getMessage();
+            log.error("Listing import {} failed while reading the feed", jobId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writer.cancel(true);
+            failure = "Import was interrupted";
+        } finally {
+            runningJobs.remove(jobId);
+        }
+
+        String error = failure;
+        ListingImportJob finished = transaction.execute(status -> {
+            ListingImportJob stored = listingImportJobJpaRepository.findById(jobId).orElseThrow();
+            if (error == null) {
+                stored.complete();
+            } else {
+                stored.fail(error);
+            }
+            return stored;
+        });
+        ListingImportResponse response = toResponse(finished, stats);
+        log.info("Listing import {} {}: {} rows read, {} skipped, {} imported, {} failed in {} ms ({} rows/s)",
+                jobId, finished.getStatus(), stats.rowsRead, stats.rowsSkipped, stats.imported, stats.failed,
+                response.getRunElapsedMs(), response.getRunRowsPerSecond());
+        return response;
+    }
+
+    private RowOutcome resolve(ListingFeedRow row) {
+        if (row.error() != null) {
+            return new RowOutcome(row.rowNumber(), null, null, List.of(row.error()));
+        }
+        ListingImportRecord record = row.record();
+        List<String> errors = new ArrayList<>();
+        ResolvedListing listing = listingImportResolver.resolve(row.rowNumber(), record, errors);
+        return new RowOutcome(row.rowNumber(), record.getExternalId(), listing, errors);
+    }
+
+    /**
+     * Let the writer finish the batch it is writing and drop the queued ones, so the job is not
+     * updated concurrently once the run is over.
+     */
+    private static void stopWriter(BlockingQueue<List<RowOutcome>> queue, Future<?> writer) {
+        queue.clear();
+        queue.offer(END_OF_FEED);
+        try {
+            writer.get();
+        } catch (ExecutionException e) {
+            log.debug("Listing import writer failed after reading had failed: {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writer.cancel(true);
+        }
+    }
+
+    /**
+     * Queue a batch for the writer, waiting while the queue is full. Gives up if the writer has
+     * stopped, whose failure is then reported by its future.
+     */
+    private static void hand(BlockingQueue<List<RowOutcome>> queue, List<RowOutcome> batch, Future<?> writer)
+            throws InterruptedException, ExecutionException {
+        while (!queue.offer(batch, 1, TimeUnit.SECONDS)) {
+            if (writer.isDone()) {
+                writer.get();
+                throw new IllegalStateException("Listing import writer stopped before the end of the feed");
+            }
+        }
+    }
+
+    private void writeBatches(ListingImportJob job, BlockingQueue<List<RowOutcome>> queue, RunStats stats)
+            throws InterruptedException {
+        while (true) {
+            List<RowOutcome> batch = queue.take();
+            if (batch == END_OF_FEED) {
+                return;
+            }
+            batchWrites.record(() -> writeBatch(job, batch, stats));
+        }
+    }
+
+    private void writeBatch(ListingImportJob job, List<RowOutcome> batch, RunStats stats) {
+        UUID jobId = job.getListingImportJobId();
+        long lastRow = batch.get(batch.size() - 1).rowNumber();
+        List<ResolvedListing> valid = batch.stream()
+                .map(RowOutcome::listing)
+                .filter(Objects::nonNull)
+                .toList();
+        int invalid = batch.size() - valid.size();
+        try {
+            transaction.executeWithoutResult(status -> {
+                persist(job.getOwnerId(), valid);
+                advance(jobId, lastRow, valid.size(), invalid);
+            });
+            batch.stream()
+                    .filter(outcome -> outcome.listing() == null)
+                    .forEach(outcome -> stats.recordError(outcome.rowNumber(), outcome.externalId(),
+                            outcome.errors()));
+            stats.imported += valid.size();
+            importedRows.increment(valid.size());
+            failedRows.increment(invalid);
+        } catch (RuntimeException e) {
+            log.warn("Listing import {} could not write rows up to {} as one batch, retrying row by row: {}",
+                    jobId, lastRow, e.getMessage());
+            writeRowByRow(job, batch, stats);
+        }
+    }
+
+    /**
+     * Write each valid row of a batch in its own transaction, advancing the checkpoint with it.
+     */
+    private void writeRowByRow(ListingImportJob job, List<RowOutcome> batch, RunStats stats) {
+        UUID jobId = job.getListingImportJobId();
+        int pendingFailures = 0;
+        long checkpoint = -1;
+        for (RowOutcome outcome : batch) {
+            if (outcome.listing() == null) {
+                stats.recordError(outcome.rowNumber(), outcome.externalId(), outcome.errors());
+                pendingFailures++;
+                continue;
+            }
+            int failuresBefore = pendingFailures;
+            try {
+                transaction.executeWithoutResult(status -> {
+                    persist(job.getOwnerId(), List.of(outcome.listing()));
+                    advance(jobId, outcome.rowNumber(), 1, failuresBefore);
+                });
+                stats.imported++;
+                importedRows.increment();
+                failedRows.increment(pendingFailures);
+                pendingFailures = 0;
+                checkpoint = outcome.rowNumber();
+            } catch (RuntimeException e) {
+                stats.recordError(outcome.rowNumber(), outcome.externalId(), List.of(rootMessage(e)));
+                pendingFailures++;
+            }
+        }
+        long lastRow = batch.get(batch.size() - 1).rowNumber();
+        if (checkpoint < lastRow) {
+            int failures = pendingFailures;
+            transaction.executeWithoutResult(status -> advance(jobId, lastRow, 0, failures));
+            failedRows.increment(failures);
+        }
+    }
+
+    private void advance(UUID jobId, long row, int imported, int failed) {
+        listingImportJobJpaRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("ListingImportJob", jobId))
+                .advance(row, imported, failed);
+    }
+
+    /**
+     * Insert the rows of resolved listings. Ids are assigned on persist, so each level is saved
+     * as a whole before the next one references it and Hibernate flushes every level as batched
+     * inserts on commit.
+     */
+    private void persist(UUID ownerId, List<ResolvedListing> listings) {
+        if (listings.isEmpty()) {
+            return;
+        }
+        List<Property> properties = new ArrayList<>(listings.size());
+        for (ResolvedListing resolved : listings) {
+            ListingImportRecord record = resolved.record();
+            Property property = Property.builder()
+                    .ownerId(ownerId)
+                    .locationId(resolved.locationId())
+                    .propertyTypeId(resolved.type().id())
+                    .streetAddress(record.getStreetAddress().trim())
+                    .latitude(record.getLatitude().setScale(COORDINATE_SCALE, RoundingMode.HALF_UP))
+                    .longitude(record.getLongitude().setScale(COORDINATE_SCALE, RoundingMode.HALF_UP))
+                    .landSizeM2(record.getLandSizeM2())
+                    .usableSizeM2(record.getUsableSizeM2())
+                    .widthM(record.getWidthM())
+                    .lengthM(record.getLengthM())
+                    .descriptions(record.getDescriptions())
+                    .build();
+            if (Boolean.TRUE.equals(record.getPublish())) {
+                property.publish();
+            }
+            properties.add(property);
+        }
+        propertyJpaRepository.saveAll(properties);
+
+        List<Listing> saved = new ArrayList<>(listings.size());
+        List<PropertyAttributeValue> values = new ArrayList<>();
+        for (int i = 0; i < listings.size(); i++) {
+            ResolvedListing resolved = listings.get(i);
+            ListingImportRecord record = resolved.record();
+            UUID propertyId = properties.get(i).getPropertyId();
+            Listing listing = Listing.builder()
+                    .propertyId(propertyId)
+                    .userId(ownerId)
+                    .listingType(resolved.listingType())
+                    .name(record.getName().trim())
+                    .slug(Slug.unique(record.getName()))
+                    .price(record.getPrice())
+                    .minPrice(record.getMinPrice())
+                    .maxPrice(record.getMaxPrice())
+                    .isNegotiable(Boolean.TRUE.equals(record.getNegotiable()))
+                    .availableFrom(record.getAvailableFrom())
+                    .build();
+            if (Boolean.TRUE.equals(record.getPublish())) {
+                listing.publish();
+            }
+            saved.add(listing);
+
+            for (ResolvedAttribute attribute : resolved.attributes()) {
+                PropertyAttributeValue value = PropertyAttributeValue.builder()
+                        .propertyId(propertyId)
+                        .propertyAttributeId(attribute.attribute().id())
+                        .build();
+                AttributeValueRules.write(value, attribute.attribute(), attribute.value());
+                values.add(value);
+            }
+        }
+        listingJpaRepository.saveAll(saved);
+        if (!values.isEmpty()) {
+            propertyAttributeValueJpaRepository.saveAll(values);
+        }
+        persistMedia(ownerId, listings, properties, saved);
+    }
+
+    private void persistMedia(UUID ownerId, List<ResolvedListing> listings, List<Property> properties,
+                              List<Listing> saved) {
+        List<PropertyMedia> media = new ArrayList<>();
+        List<Integer> mediaListing = new ArrayList<>();
+        for (int i = 0; i < listings.size(); i++) {
+            List<String> urls = listings.get(i).record().getMediaUrls();
+            if (urls == null) {
+                continue;
+            }
+            for (int order = 0; order < urls.size(); order++) {
+                media.add(PropertyMedia.builder()
+                        .propertyId(properties.get(i).getPropertyId())
+                        .uploadBy(ownerId)
+                        .mediaType(MediaType.IMAGE)
+                        .mediaUrl(urls.get(order))
+                        .isPrimary(order == 0)
+                        .build());
+                mediaListing.add(i);
+            }
+        }
+        if (media.isEmpty()) {
+            return;
+        }
+        propertyMediaJpaRepository.saveAll(media);
+
+        List<ListingMedia> listingMedia = new ArrayList<>(media.size());
+        int order = 0;
+        for (int m = 0; m < media.size(); m++) {
+            order = m > 0 && mediaListing.get(m).equals(mediaListing.get(m - 1)) ? order + 1 : 0;
+            listingMedia.add(ListingMedia.create(saved.get(mediaListing.get(m)).getListingId(),
+                    media.get(m).getPropertyMediaId(), order, order == 0));
+        }
+        listingMediaJpaRepository.saveAll(listingMedia);
+    }
+
+    private ListingImportResponse toResponse(ListingImportJob job, RunStats stats) {
+        ListingImportResponse.ListingImportResponseBuilder response = ListingImportResponse.builder()
+                .jobId(job.getListingImportJobId())
+                .status(job.getStatus())
+                .checkpointRow(job.getCheckpointRow())
+                .importedCount(job.getImportedCount())
+                .failedCount(job.getFailedCount())
+                .lastError(job.getLastError());
+        if (stats != null) {
+            long elapsedNanos = Math.max(System.nanoTime() - stats.startedAt, 1);
+            long handled = stats.imported + stats.failed;
+            response.runRowsRead(stats.rowsRead)
+                    .runRowsSkipped(stats.rowsSkipped)
+                    .runImportedCount(stats.imported)
+                    .runFailedCount(stats.failed)
+                    .runElapsedMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                    .runRowsPerSecond(BigDecimal.valueOf(handled * 1e9 / elapsedNanos)
+                            .setScale(1, RoundingMode.HALF_UP).doubleValue())
+                    .errors(stats.errors)
+                    .errorsTruncated(stats.errorsTruncated);
+        }
+        return response.build();
+    }
+
+    private void acquirePermit() {
+        if (!importPermits.tryAcquire()) {
+            throw new BusinessConflictException("Too many listing imports are running, try again later");
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return String.valueOf(cause.getMessage());
+    }
+
+    private static ThreadPoolExecutor newWriterExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_CONCURRENT_IMPORTS, MAX_CONCURRENT_IMPORTS,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "listing-import-writer-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -1,37 +1,57 @@
 package com.sep.realvista.application.listing.mapper;
 
 import com.sep.realvista.application.listing.dto.AgentInfoDTO;
+import com.sep.realvista.application.listing.dto.ListingCardResponse;
 import com.sep.realvista.application.listing.dto.ListingDetailResponse;
 import com.sep.realvista.application.listing.dto.LocationInfoDTO;
 import com.sep.realvista.application.listing.dto.MediaDTO;
 import com.sep.realvista.application.listing.dto.PropertyAttributeDTO;
 import com.sep.realvista.application.listing.dto.PropertyInfoDTO;
 import com.sep.realvista.application.listing.dto.PropertyTypeInfoDTO;
+import com.sep.realvista.application.location.search.LocationAncestry;
+import com.sep.realvista.application.location.search.LocationAncestryCache;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataCache;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot;
 import com.sep.realvista.domain.listing.Listing;
 import com.sep.realvista.domain.listing.ListingMedia;
+import com.sep.realvista.domain.listing.search.ListingSearchProjection;
 import com.sep.realvista.domain.property.PropertyType;
-import com.sep.realvista.domain.property.attribute.PropertyAttribute;
+import com.sep.realvista.domain.property.attribute.AttributeVector;
 import com.sep.realvista.domain.property.attribute.PropertyAttributeValue;
+import com.sep.realvista.domain.property.Property;
 import com.sep.realvista.domain.property.location.Location;
-import com.sep.realvista.domain.property.location.LocationType;
 import com.sep.realvista.domain.property.MediaType;
 import com.sep.realvista.domain.property.PropertyMedia;
 import com.sep.realvista.domain.user.UserStatus;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * MapStruct mapper for Listing entity and DTOs.
+ * <p>
+ * Locations are rendered from the {@link LocationAncestryCache} and property types and
+ * attribute definitions from the {@link ReferenceDataCache}, so mapping a listing does not
+ * touch the location hierarchy or reference data tables.
  */
 @Mapper(componentModel = "spring")
-public interface ListingMapper {
+public abstract class ListingMapper {
+
+    @Autowired
+    protected LocationAncestryCache locationAncestryCache;
+
+    @Autowired
+    protected ReferenceDataCache referenceDataCache;
 
     @Mapping(target = "property", ignore = true)
     @Mapping(target = "location", ignore = true)
@@ -42,9 +62,9 @@ public interface ListingMapper {
     @Mapping(target = "totalPhotos", ignore = true)
     @Mapping(target = "totalVideos", ignore = true)
     @Mapping(target = "total3DTours", ignore = true)
-    ListingDetailResponse toDetailResponse(Listing listing);
+    public abstract ListingDetailResponse toDetailResponse(Listing listing);
 
-    default ListingDetailResponse toDetailResponseWithMedia(
+    public ListingDetailResponse toDetailResponseWithMedia(
             Listing listing,
             List<ListingMedia> mediaList) {
         if (listing == null) {
@@ -58,14 +78,10 @@ public interface ListingMapper {
             response.setProperty(mapPropertyInfo(listing.getProperty()));
 
             // Map location
-            if (listing.getProperty().getLocation() != null) {
-                response.setLocation(mapLocationInfo(listing.getProperty().getLocation()));
-            }
+            response.setLocation(mapLocationInfo(listing.getProperty()));
 
             // Map property type
-            if (listing.getProperty().getPropertyType() != null) {
-                response.setPropertyType(mapPropertyTypeInfo(listing.getProperty().getPropertyType()));
-            }
+            response.setPropertyType(mapPropertyTypeInfo(listing.getProperty()));
         }
 
         // Map agent/user
@@ -82,33 +98,35 @@ public interface ListingMapper {
         return response;
     }
 
-    default ListingDetailResponse toDetailResponseWithMediaAndAttributes(
+    public ListingDetailResponse toDetailResponseWithMediaAndAttributes(
             Listing listing,
             List<ListingMedia> mediaList,
             List<PropertyAttributeValue> attributeValues) {
-        ListingDetailResponse response = toDetailResponseWithMedia(listing, mediaList);
+        return withAttributes(toDetailResponseWithMedia(listing, mediaList), toAttributeList(attributeValues));
+    }
+
+    /**
+     * Like {@link #toDetailResponseWithMediaAndAttributes(Listing, List, List)}, rendering the
+     * attributes from the property's attribute vector instead of its attribute value rows.
+     */
+    public ListingDetailResponse toDetailResponseWithMediaAndAttributes(
+            Listing listing,
+            List<ListingMedia> mediaList,
+            AttributeVector attributeVector) {
+        return withAttributes(toDetailResponseWithMedia(listing, mediaList), toAttributeList(attributeVector));
+    }
 
-        // Map attributes
-        if (attributeValues != null && !attributeValues.isEmpty()) {
-            response.setAttributes(toAttributeList(attributeValues));
+    private ListingDetailResponse withAttributes(
+            ListingDetailResponse response,
+            List<PropertyAttributeDTO> attributes) {
+        if (!attributes.isEmpty()) {
+            response.setAttributes(attributes);
 
             // Update property info with common attributes
-            if (response.getProperty() != null) {
-                Map<String, Object> attributeMap = attributeValues.stream()
-                        .filter(pav -> pav.getPropertyAttribute() != null)
-                        .collect(Collectors.toMap(
-                                pav -> pav.getPropertyAttribute().getCode(),
-                                pav -> (Object) getAttributeValue(pav),
-                                (a, b) -> a
-                        ));
-
-                PropertyInfoDTO propertyInfo = response.getProperty();
-                if (attributeMap.containsKey("bedrooms")) {
-                    propertyInfo.setBedrooms(((Number) attributeMap.get("bedrooms")).intValue());
-                }
-                if (attributeMap.containsKey("bathrooms")) {
-                    propertyInfo.setBathrooms(((Number) attributeMap.get("bathrooms")).intValue());
-                }
+            PropertyInfoDTO propertyInfo = response.getProperty();
+            if (propertyInfo != null) {
+                numberOf(attributes, "bedrooms").ifPresent(value -> propertyInfo.setBedrooms(value.intValue()));
+                numberOf(attributes, "bathrooms").ifPresent(value -> propertyInfo.setBathrooms(value.intValue()));
             }
         }
 
@@ -125,17 +143,126 @@ public interface ListingMapper {
         return response;
     }
 
-    private Object getAttributeValue(PropertyAttributeValue pav) {
-        if (pav.getValueNumber() != null) {
-            return pav.getValueNumber();
+    private static Optional<BigDecimal> numberOf(List<PropertyAttributeDTO> attributes, String code) {
+        return attributes.stream()
+                .filter(Objects::nonNull)
+                .filter(attribute -> code.equals(attribute.getAttributeCode()))
+                .findFirst()
+                .map(PropertyAttributeDTO::getValueNumber);
+    }
+
+    /**
+     * Map a listing to a search card.
+     * Expects property and property type to be loaded on the listing.
+     */
+    public ListingCardResponse toCardResponse(
+            Listing listing,
+            ListingMedia primaryMedia,
+            List<PropertyAttributeValue> attributeValues) {
+        if (listing == null) {
+            return null;
         }
-        if (pav.getValueBoolean() != null) {
-            return pav.getValueBoolean();
+
+        ListingCardResponse card = ListingCardResponse.builder()
+                .listingId(listing.getListingId())
+                .propertyId(listing.getPropertyId())
+                .listingType(listing.getListingType())
+                .status(listing.getStatus())
+                .slug(listing.getSlug())
+                .name(listing.getName())
+                .price(listing.getPrice())
+                .isNegotiable(listing.getIsNegotiable())
+                .publishedAt(listing.getPublishedAt())
+                .primaryMedia(toMediaDTO(primaryMedia))
+                .build();
+
+        if (listing.getProperty() != null) {
+            card.setStreetAddress(listing.getProperty().getStreetAddress());
+            card.setUsableSizeM2(listing.getProperty().getUsableSizeM2());
+            card.setLocation(mapLocationInfo(listing.getProperty()));
+            card.setPropertyType(mapPropertyTypeInfo(listing.getProperty()));
+        }
+
+        if (attributeValues != null) {
+            for (PropertyAttributeValue pav : attributeValues) {
+                if (pav.getValueNumber() == null) {
+                    continue;
+                }
+                String code = attributeCode(pav);
+                if ("bedrooms".equals(code)) {
+                    card.setBedrooms(pav.getValueNumber().intValue());
+                } else if ("bathrooms".equals(code)) {
+                    card.setBathrooms(pav.getValueNumber().intValue());
+                }
+            }
         }
-        return pav.getValueText();
+
+        return card;
     }
 
-    default PropertyInfoDTO mapPropertyInfo(com.sep.realvista.domain.property.Property property) {
+    /**
+     * Map a search projection row to a search card without touching any other table.
+     */
+    public ListingCardResponse toCardResponse(ListingSearchProjection row) {
+        if (row == null) {
+            return null;
+        }
+
+        ListingCardResponse card = ListingCardResponse.builder()
+                .listingId(row.getListingId())
+                .propertyId(row.getPropertyId())
+                .listingType(row.getListingType())
+                .status(row.getStatus())
+                .slug(row.getSlug())
+                .name(row.getName())
+                .price(row.getPrice())
+                .isNegotiable(row.getIsNegotiable())
+                .publishedAt(row.getPublishedAt())
+                .streetAddress(row.getStreetAddress())
+                .usableSizeM2(row.getUsableSizeM2())
+                .bedrooms(row.getBedrooms())
+                .bathrooms(row.getBathrooms())
+                .location(LocationInfoDTO.builder()
+                        .locationId(row.getLocationId())
+                        .cityName(row.getCityName())
+                        .districtName(row.getDistrictName())
+                        .wardName(row.getWardName())
+                        .latitude(BigDecimal.valueOf(row.getLatitude()))
+                        .longitude(BigDecimal.valueOf(row.getLongitude()))
+                        .build())
+                .build();
+
+        if (row.getPropertyTypeId() != null) {
+            card.setPropertyType(PropertyTypeInfoDTO.builder()
+                    .propertyTypeId(row.getPropertyTypeId())
+                    .propertyTypeName(row.getPropertyTypeName())
+                    .propertyTypeCode(row.getPropertyTypeCode())
+                    .propertyCategoryId(row.getPropertyCategoryId())
+                    .propertyCategoryName(row.getPropertyCategoryName())
+                    .propertyCategoryCode(row.getPropertyCategoryCode())
+                    .build());
+        }
+
+        if (row.getPrimaryMediaId() != null) {
+            card.setPrimaryMedia(MediaDTO.builder()
+                    .mediaId(row.getPrimaryMediaId())
+                    .mediaType(row.getPrimaryMediaType())
+                    .mediaUrl(row.getPrimaryMediaUrl())
+                    .thumbnailUrl(row.getPrimaryThumbnailUrl())
+                    .isPrimary(true)
+                    .build());
+        }
+
+        return card;
+    }
+
+    private String attributeCode(PropertyAttributeValue pav) {
+        ReferenceDataSnapshot.AttributeRef attribute =
+                referenceDataCache.resolveAttribute(pav.getPropertyAttributeId(), pav.getPropertyAttribute());
+        return attribute != null ? attribute.code() : null;
+    }
+
+    public PropertyInfoDTO mapPropertyInfo(Property property) {
         if (property == null) {
             return null;
         }
@@ -150,49 +277,75 @@ public interface ListingMapper {
                 .build();
     }
 
-    default LocationInfoDTO mapLocationInfo(Location location) {
-        if (location == null) {
+    /**
+     * Map the location of a property, from the ancestry cache when it knows the location.
+     */
+    public LocationInfoDTO mapLocationInfo(Property property) {
+        if (property == null || property.getLocationId() == null) {
             return null;
         }
+        return mapLocationInfo(locationAncestryCache.resolve(property.getLocationId(), property.getLocation()));
+    }
 
-        // Traverse up the location hierarchy to collect names
-        Map<LocationType, String> locationNames = new HashMap<>();
-        Location current = location;
-        while (current != null) {
-            locationNames.put(current.getType(), current.getName());
-            current = current.getParent();
+    public LocationInfoDTO mapLocationInfo(Location location) {
+        if (location == null) {
+            return null;
         }
+        return mapLocationInfo(LocationAncestryCache.walk(location));
+    }
 
+    public LocationInfoDTO mapLocationInfo(LocationAncestry ancestry) {
+        if (ancestry == null) {
+            return null;
+        }
         return LocationInfoDTO.builder()
-                .locationId(location.getLocationId())
-                .cityName(locationNames.getOrDefault(LocationType.CITY, null))
-                .districtName(locationNames.getOrDefault(LocationType.DISTRICT, null))
-                .wardName(locationNames.getOrDefault(LocationType.WARD, null))
-                .latitude(location.getNorthLat())
-                .longitude(location.getEastLng())
+                .locationId(ancestry.locationId())
+                .cityName(ancestry.cityName())
+                .districtName(ancestry.districtName())
+                .wardName(ancestry.wardName())
+                .latitude(ancestry.northLat())
+                .longitude(ancestry.eastLng())
                 .build();
     }
 
-    default PropertyTypeInfoDTO mapPropertyTypeInfo(PropertyType propertyType) {
+    /**
+     * Map the type of a property, from the reference data snapshot when it knows the type.
+     */
+    public PropertyTypeInfoDTO mapPropertyTypeInfo(Property property) {
+        if (property == null || property.getPropertyTypeId() == null) {
+            return null;
+        }
+        return mapPropertyTypeInfo(referenceDataCache.resolveType(property.getPropertyTypeId(),
+                property.getPropertyType()));
+    }
+
+    public PropertyTypeInfoDTO mapPropertyTypeInfo(PropertyType propertyType) {
         if (propertyType == null) {
             return null;
         }
+        return mapPropertyTypeInfo(referenceDataCache.resolveType(propertyType.getPropertyTypeId(), propertyType));
+    }
+
+    public PropertyTypeInfoDTO mapPropertyTypeInfo(ReferenceDataSnapshot.TypeRef type) {
+        if (type == null) {
+            return null;
+        }
 
         var builder = PropertyTypeInfoDTO.builder()
-                .propertyTypeId(propertyType.getPropertyTypeId())
-                .propertyTypeName(propertyType.getName())
-                .propertyTypeCode(propertyType.getCode());
-
-        if (propertyType.getPropertyCategory() != null) {
-            builder.propertyCategoryId(propertyType.getPropertyCategory().getPropertyCategoryId())
-                    .propertyCategoryName(propertyType.getPropertyCategory().getName())
-                    .propertyCategoryCode(propertyType.getPropertyCategory().getCode());
+                .propertyTypeId(type.id())
+                .propertyTypeName(type.name())
+                .propertyTypeCode(type.code());
+
+        if (type.category() != null) {
+            builder.propertyCategoryId(type.category().id())
+                    .propertyCategoryName(type.category().name())
+                    .propertyCategoryCode(type.category().code());
         }
 
         return builder.build();
     }
 
-    default AgentInfoDTO mapAgentInfo(com.sep.realvista.domain.user.User user) {
+    public AgentInfoDTO mapAgentInfo(com.sep.realvista.domain.user.User user) {
         if (user == null) {
             return null;
         }
@@ -210,7 +363,7 @@ public interface ListingMapper {
                 .build();
     }
 
-    default List<MediaDTO> toMediaList(List<ListingMedia> listingMedias) {
+    public List<MediaDTO> toMediaList(List<ListingMedia> listingMedias) {
         if (listingMedias == null) {
             return List.of();
         }
@@ -220,7 +373,7 @@ public interface ListingMapper {
                 .collect(Collectors.toList());
     }
 
-    default MediaDTO toMediaDTO(ListingMedia listingMedia) {
+    public MediaDTO toMediaDTO(ListingMedia listingMedia) {
         if (listingMedia == null || listingMedia.getPropertyMedia() == null) {
             return null;
         }
@@ -235,7 +388,7 @@ public interface ListingMapper {
                 .build();
     }
 
-    default Integer countPhotos(List<ListingMedia> listingMedias) {
+    public Integer countPhotos(List<ListingMedia> listingMedias) {
         if (listingMedias == null) {
             return 0;
         }
@@ -246,7 +399,7 @@ public interface ListingMapper {
                 .count();
     }
 
-    default Integer countVideos(List<ListingMedia> listingMedias) {
+    public Integer countVideos(List<ListingMedia> listingMedias) {
         if (listingMedias == null) {
             return 0;
         }
@@ -257,7 +410,7 @@ public interface ListingMapper {
                 .count();
     }
 
-    default Integer count3DTours(List<ListingMedia> listingMedias) {
+    public Integer count3DTours(List<ListingMedia> listingMedias) {
         if (listingMedias == null) {
             return 0;
         }
@@ -268,30 +421,75 @@ public interface ListingMapper {
                 .count();
     }
 
-    default List<PropertyAttributeDTO> toAttributeList(List<PropertyAttributeValue> attributeValues) {
+    /**
+     * Map attribute values. Values of attributes the reference data snapshot no longer knows are
+     * skipped, as in {@link #toAttributeList(AttributeVector)}.
+     */
+    public List<PropertyAttributeDTO> toAttributeList(List<PropertyAttributeValue> attributeValues) {
         if (attributeValues == null) {
             return List.of();
         }
         return attributeValues.stream()
                 .map(this::toAttributeDTO)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
-    default PropertyAttributeDTO toAttributeDTO(PropertyAttributeValue attributeValue) {
-        if (attributeValue == null || attributeValue.getPropertyAttribute() == null) {
+    /**
+     * Map an attribute value, taking the attribute definition from the reference data snapshot
+     * when it knows the attribute.
+     */
+    public PropertyAttributeDTO toAttributeDTO(PropertyAttributeValue attributeValue) {
+        if (attributeValue == null) {
+            return null;
+        }
+        ReferenceDataSnapshot.AttributeRef attribute = referenceDataCache.resolveAttribute(
+                attributeValue.getPropertyAttributeId(), attributeValue.getPropertyAttribute());
+        if (attribute == null) {
             return null;
         }
-        PropertyAttribute attribute = attributeValue.getPropertyAttribute();
+        return toAttributeDTO(attribute, attributeValue.getValueNumber(), attributeValue.getValueText(),
+                attributeValue.getValueBoolean());
+    }
+
+    /**
+     * Map the values of an attribute vector, in attribute name order. Slots of attributes the
+     * reference data snapshot no longer knows are skipped.
+     */
+    public List<PropertyAttributeDTO> toAttributeList(AttributeVector attributeVector) {
+        if (attributeVector == null || attributeVector.isEmpty()) {
+            return List.of();
+        }
+        ReferenceDataSnapshot snapshot = referenceDataCache.snapshot();
+        List<ReferenceDataSnapshot.AttributeRef> present = new ArrayList<>();
+        BitSet slots = attributeVector.slots();
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            snapshot.findAttributeBySlot(slot).ifPresent(present::add);
+        }
+        present.sort(Comparator.comparingInt(ReferenceDataSnapshot.AttributeRef::ordinal));
+        return present.stream()
+                .map(attribute -> toAttributeDTO(attribute,
+                        attributeVector.number(attribute.slot()),
+                        attributeVector.text(attribute.slot()),
+                        attributeVector.flag(attribute.slot())))
+                .collect(Collectors.toList());
+    }
+
+    private PropertyAttributeDTO toAttributeDTO(
+            ReferenceDataSnapshot.AttributeRef attribute,
+            BigDecimal valueNumber,
+            String valueText,
+            Boolean valueBoolean) {
         return PropertyAttributeDTO.builder()
-                .attributeId(attribute.getPropertyAttributeId())
-                .attributeCode(attribute.getCode())
-                .attributeName(attribute.getName())
-                .dataType(attribute.getDataType() != null ? attribute.getDataType().name() : null)
-                .icon(attribute.getIcon())
-                .unit(attribute.getUnit())
-                .valueNumber(attributeValue.getValueNumber())
-                .valueText(attributeValue.getValueText())
-                .valueBoolean(attributeValue.getValueBoolean())
+                .attributeId(attribute.id())
+                .attributeCode(attribute.code())
+                .attributeName(attribute.name())
+                .dataType(attribute.dataType() != null ? attribute.dataType().name() : null)
+                .icon(attribute.icon())
+                .unit(attribute.unit())
+                .valueNumber(valueNumber)
+                .valueText(valueText)
+                .valueBoolean(valueBoolean)
                 .build();
     }
 }
@@ -0,0 +1,9 @@
+package com.sep.realvista.application.listing.search;
+
+/**
+ * Number of matching listings posted under one facet value.
+ *
+ * @param label display label of the value, or {@code null} when the value is its own label
+ */
+public record FacetCount(String value, String label, int count) {
+}
@@ -0,0 +1,55 @@
+package com.sep.realvista.application.listing.search;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Discrete dimensions of the listing facet index.
+ * <p>
+ * Each field maps a document to the string keys it is posted under and, for single-valued
+ * fields, to a display label for that key. Values selected for the same field are OR-ed;
+ * different fields are AND-ed.
+ */
+public enum FacetField {
+    LISTING_TYPE(doc -> key(doc.listingType()), doc -> null),
+    PROPERTY_TYPE(doc -> key(doc.propertyTypeCode()), ListingFacetDocument::propertyTypeName),
+    CITY(doc -> key(doc.cityId()), ListingFacetDocument::cityName),
+    DISTRICT(doc -> key(doc.districtId()), ListingFacetDocument::districtName),
+    WARD(doc -> key(doc.wardId()), ListingFacetDocument::wardName),
+    BEDROOMS(doc -> key(doc.bedrooms()), doc -> null),
+    AMENITY(doc -> doc.amenityIds().stream().map(UUID::toString).toList(), doc -> null),
+    /**
+     * Boolean property attributes that are true, keyed by attribute code.
+     */
+    FLAG(ListingFacetDocument::flags, doc -> null);
+
+    private final Function<ListingFacetDocument, Collection<String>> extractor;
+    private final Function<ListingFacetDocument, String> labeler;
+
+    FacetField(
+            Function<ListingFacetDocument, Collection<String>> extractor,
+            Function<ListingFacetDocument, String> labeler) {
+        this.extractor = extractor;
+        this.labeler = labeler;
+    }
+
+    public Collection<String> valuesOf(ListingFacetDocument document) {
+        return extractor.apply(document);
+    }
+
+    /**
+     * Display label of the document's value for this field, or {@code null} when the key itself is the label.
+     */
+    public String labelOf(ListingFacetDocument document) {
+        return labeler.apply(document);
+    }
+
+    private static Collection<String> key(Object value) {
+        if (value == null) {
+            return List.of();
+        }
+        return List.of(value instanceof Enum<?> constant ? constant.name() : value.toString());
+    }
+}
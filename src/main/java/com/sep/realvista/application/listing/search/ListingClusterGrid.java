@@ -0,0 +1,170 @@
+package com.sep.realvista.application.listing.search;
+
+import com.sep.realvista.domain.common.geo.GeoBounds;
+import com.sep.realvista.domain.common.geo.Geohash;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Multi-resolution grid of map clusters over published listings.
+ * <p>
+ * Every listing is counted in one geohash cell per precision 1..{@link #MAX_PRECISION}. A cell
+ * keeps its count, coordinate sums (for the centroid) and price bounds, so a viewport query is
+ * a lookup per visible cell. Finest cells keep a price multiset; coarser cells recompute their
+ * bounds from their 32 children when a removal takes away the minimum or maximum.
+ * <p>
+ * Not thread-safe: callers guard reads and writes (see {@link ListingClusterService}).
+ */
+public final class ListingClusterGrid {
+
+    public static final int MAX_PRECISION = 8;
+
+    private final Map<UUID, Point> points = new HashMap<>();
+    private final List<Map<String, Cell>> levels = new ArrayList<>(MAX_PRECISION);
+
+    public ListingClusterGrid() {
+        for (int precision = 1; precision <= MAX_PRECISION; precision++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Aggregated cluster of the listings in one cell.
+     */
+    public record Cluster(
+            String geohash,
+            int count,
+            double latitude,
+            double longitude,
+            BigDecimal minPrice,
+            BigDecimal maxPrice) {
+    }
+
+    public void upsert(UUID listingId, double latitude, double longitude, BigDecimal price) {
+        remove(listingId);
+        Point point = new Point(latitude, longitude, hundredths(price),
+                Geohash.encode(latitude, longitude, MAX_PRECISION));
+        points.put(listingId, point);
+        for (int precision = 1; precision <= MAX_PRECISION; precision++) {
+            level(precision).computeIfAbsent(point.geohash().substring(0, precision), key -> new Cell())
+                    .add(point, precision == MAX_PRECISION);
+        }
+    }
+
+    public void remove(UUID listingId) {
+        Point point = points.remove(listingId);
+        if (point == null) {
+            return;
+        }
+        // Finest level first, so coarser cells can recompute bounds from up-to-date children
+        for (int precision = MAX_PRECISION; precision >= 1; precision--) {
+            String key = point.geohash().substring(0, precision);
+            Cell cell = level(precision).get(key);
+            boolean boundsChanged = cell.remove(point, precision == MAX_PRECISION);
+            if (cell.count == 0) {
+                level(precision).remove(key);
+            } else if (boundsChanged) {
+                cell.recomputeBounds(key, level(precision + 1));
+            }
+        }
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * Non-empty clusters at {@code precision} whose cells intersect the bounds.
+     * Edge cells are reported whole, including listings just outside the bounds.
+     */
+    public List<Cluster> clusters(GeoBounds bounds, int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Cluster precision must be between 1 and " + MAX_PRECISION);
+        }
+        Map<String, Cell> level = level(precision);
+        List<Cluster> clusters = new ArrayList<>();
+        for (String key : Geohash.cells(bounds, precision)) {
+            Cell cell = level.get(key);
+            if (cell != null) {
+                clusters.add(new Cluster(key, cell.count,
+                        cell.latitudeSum / cell.count,
+                        cell.longitudeSum / cell.count,
+                        BigDecimal.valueOf(cell.minPrice, 2),
+                        BigDecimal.valueOf(cell.maxPrice, 2)));
+            }
+        }
+        return clusters;
+    }
+
+    private Map<String, Cell> level(int precision) {
+        return levels.get(precision - 1);
+    }
+
+    private static long hundredths(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    private record Point(double latitude, double longitude, long price, String geohash) {
+    }
+
+    private static final class Cell {
+
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private long minPrice = Long.MAX_VALUE;
+        private long maxPrice = Long.MIN_VALUE;
+        private TreeMap<Long, Integer> prices;
+
+        void add(Point point, boolean finest) {
+            count++;
+            latitudeSum += point.latitude();
+            longitudeSum += point.longitude();
+            minPrice = Math.min(minPrice, point.price());
+            maxPrice = Math.max(maxPrice, point.price());
+            if (finest) {
+                if (prices == null) {
+                    prices = new TreeMap<>();
+                }
+                prices.merge(point.price(), 1, Integer::sum);
+            }
+        }
+
+        /**
+         * @return whether the cell's price bounds must be recomputed from its children
+         */
+        boolean remove(Point point, boolean finest) {
+            count--;
+            latitudeSum -= point.latitude();
+            longitudeSum -= point.longitude();
+            if (finest) {
+                prices.computeIfPresent(point.price(), (price, remaining) -> remaining == 1 ? null : remaining - 1);
+                if (!prices.isEmpty()) {
+                    minPrice = prices.firstKey();
+                    maxPrice = prices.lastKey();
+                }
+                return false;
+            }
+            return point.price() == minPrice || point.price() == maxPrice;
+        }
+
+        void recomputeBounds(String key, Map<String, Cell> childLevel) {
+            minPrice = Long.MAX_VALUE;
+            maxPrice = Long.MIN_VALUE;
+            for (String childKey : Geohash.children(key)) {
+                Cell child = childLevel.get(childKey);
+                if (child != null) {
+                    minPrice = Math.min(minPrice, child.minPrice);
+                    maxPrice = Math.max(maxPrice, child.maxPrice);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.sep.realvista.application.listing.search;
+
+import com.sep.realvista.domain.common.geo.GeoBounds;
+import com.sep.realvista.domain.common.geo.Geohash;
+import com.sep.realvista.domain.listing.event.ListingSearchProjectionsRefreshedEvent;
+import com.sep.realvista.domain.listing.repository.ListingSearchProjectionRepository;
+import com.sep.realvista.domain.listing.search.ListingSearchProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Owns the process-wide {@link ListingClusterGrid}.
+ * <p>
+ * Loaded from the search projection on startup and kept current from
+ * {@link ListingSearchProjectionsRefreshedEvent}s, so publishing or expiring a listing moves
+ * one count per precision instead of re-clustering on each request.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ListingClusterService {
+
+    static final int LOAD_BATCH_SIZE = 1000;
+
+    /**
+     * Upper bound of cells returned for one viewport; coarser cells are used above it.
+     */
+    public static final int MAX_CLUSTER_CELLS = 256;
+
+    /**
+     * Geohash precision per web map zoom level (index = zoom, capped at the last entry).
+     */
+    private static final int[] PRECISION_BY_ZOOM = {1, 1, 2, 2, 2, 3, 3, 3, 4, 4, 5, 5, 5, 6, 6, 7, 7, 8};
+
+    private final ListingSearchProjectionRepository projectionRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private ListingClusterGrid grid = new ListingClusterGrid();
+    private List<ListingSearchProjectionsRefreshedEvent> eventsDuringReload;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectionsRefreshed(ListingSearchProjectionsRefreshedEvent event) {
+        if (event.fullRebuild()) {
+            reload();
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(grid, event);
+            if (eventsDuringReload != null) {
+                eventsDuringReload.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reload the grid from the search projection, replaying changes that arrive meanwhile.
+     */
+    public synchronized void reload() {
+        lock.writeLock().lock();
+        try {
+            eventsDuringReload = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            ListingClusterGrid loaded = new ListingClusterGrid();
+            UUID afterId = null;
+            while (true) {
+                List<ListingSearchProjection> page = projectionRepository.findPageAfter(afterId, LOAD_BATCH_SIZE);
+                page.forEach(row -> add(loaded, row));
+                if (page.size() < LOAD_BATCH_SIZE) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getListingId();
+            }
+
+            lock.writeLock().lock();
+            try {
+                eventsDuringReload.forEach(event -> apply(loaded, event));
+                grid = loaded;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Loaded listing cluster grid with {} listings", loaded.size());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                eventsDuringReload = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Geohash precision for a viewport at a zoom level: the zoom's precision, made coarser
+     * if the viewport would otherwise span more than {@link #MAX_CLUSTER_CELLS} cells.
+     */
+    public int precisionFor(GeoBounds bounds, int zoom) {
+        int byZoom = PRECISION_BY_ZOOM[Math.min(Math.max(zoom, 0), PRECISION_BY_ZOOM.length - 1)];
+        return Math.min(byZoom, Geohash.coveringPrecision(bounds, MAX_CLUSTER_CELLS));
+    }
+
+    public List<ListingClusterGrid.Cluster> clusters(GeoBounds bounds, int precision) {
+        lock.readLock().lock();
+        try {
+            return grid.clusters(bounds, precision);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void apply(ListingClusterGrid target, ListingSearchProjectionsRefreshedEvent event) {
+        event.upserted().forEach(row -> add(target, row));
+        event.removedListingIds().forEach(target::remove);
+    }
+
+    private static void add(ListingClusterGrid target, ListingSearchProjection row) {
+        target.upsert(row.getListingId(), row.getLatitude(), row.getLongitude(), row.getPrice());
+    }
+}
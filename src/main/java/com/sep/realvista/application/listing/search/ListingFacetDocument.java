@@ -0,0 +1,64 @@
+package com.sep.realvista.application.listing.search;
+
+import com.sep.realvista.domain.listing.ListingType;
+import com.sep.realvista.domain.listing.search.ListingSearchProjection;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The facet-relevant slice of a published listing, as held by {@link ListingFacetIndex}.
+ *
+ * @param numberAttributes numeric property attribute values keyed by attribute code
+ * @param flags            codes of boolean property attributes that are true
+ */
+public record ListingFacetDocument(
+        UUID listingId,
+        ListingType listingType,
+        String propertyTypeCode,
+        String propertyTypeName,
+        UUID cityId,
+        String cityName,
+        UUID districtId,
+        String districtName,
+        UUID wardId,
+        String wardName,
+        Integer bedrooms,
+        Set<UUID> amenityIds,
+        Map<String, BigDecimal> numberAttributes,
+        Set<String> flags,
+        BigDecimal price,
+        BigDecimal usableSizeM2) {
+
+    public ListingFacetDocument {
+        amenityIds = amenityIds == null ? Set.of() : Set.copyOf(amenityIds);
+        numberAttributes = numberAttributes == null ? Map.of() : Map.copyOf(numberAttributes);
+        flags = flags == null ? Set.of() : Set.copyOf(flags);
+    }
+
+    public static ListingFacetDocument of(
+            ListingSearchProjection projection,
+            Set<UUID> amenityIds,
+            Map<String, BigDecimal> numberAttributes,
+            Set<String> flags) {
+        return new ListingFacetDocument(
+                projection.getListingId(),
+                projection.getListingType(),
+                projection.getPropertyTypeCode(),
+                projection.getPropertyTypeName(),
+                projection.getCityId(),
+                projection.getCityName(),
+                projection.getDistrictId(),
+                projection.getDistrictName(),
+                projection.getWardId(),
+                projection.getWardName(),
+                projection.getBedrooms(),
+                amenityIds,
+                numberAttributes,
+                flags,
+                projection.getPrice(),
+                projection.getUsableSizeM2());
+    }
+}
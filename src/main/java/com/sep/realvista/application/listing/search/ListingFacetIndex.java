@@ -0,0 +1,395 @@
+package com.sep.realvista.application.listing.search;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory inverted index over published listings for facet filtering and counting.
+ * <p>
+ * Every listing gets a dense document number. Each facet value keeps a bitmap of the documents
+ * posted under it, so filters are bitmap unions and intersections and facet counts are
+ * intersection cardinalities. Price and usable size are kept in hundredths, once per document and
+ * in primitive arrays sorted by value; a range filter is two binary searches plus a bitmap of the
+ * slice in between. A change moves only its own entries in the sorted arrays; they are sorted in
+ * full only when documents are loaded into an empty index (see {@link #apply}). Numeric
+ * property attributes are kept as one primitive column per attribute code, indexed by document.
+ * <p>
+ * Document numbers of removed listings are reused by the next insert, which keeps the bitmaps
+ * as short as the number of live listings. Not thread-safe: callers guard reads and writes
+ * (see {@link ListingFacetIndexService}).
+ */
+public final class ListingFacetIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long NO_VALUE = Long.MIN_VALUE;
+
+    private final Map<UUID, Integer> docByListingId = new HashMap<>();
+    private final Map<FacetField, Map<String, BitSet>> postings = new EnumMap<>(FacetField.class);
+    private final Map<FacetField, Map<String, String>> labels = new EnumMap<>(FacetField.class);
+    private final Map<String, double[]> attributeValues = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private ListingFacetDocument[] documents = new ListingFacetDocument[INITIAL_CAPACITY];
+    private long[] priceByDoc = emptyValues(INITIAL_CAPACITY);
+    private long[] areaByDoc = emptyValues(INITIAL_CAPACITY);
+
+    private SortedColumn prices = new SortedColumn();
+    private SortedColumn areas = new SortedColumn();
+
+    public ListingFacetIndex() {
+        for (FacetField field : FacetField.values()) {
+            postings.put(field, new HashMap<>());
+            labels.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Apply a batch of changes: insert or replace {@code upserts}, then drop {@code removals}.
+     * <p>
+     * Each change moves only its own entries in the sorted range columns. A batch loaded into an
+     * empty index, as on a reload, sorts the columns once instead.
+     */
+    public void apply(Collection<ListingFacetDocument> upserts, Collection<UUID> removals) {
+        if (upserts.isEmpty() && removals.isEmpty()) {
+            return;
+        }
+        boolean bulk = docByListingId.isEmpty();
+        upserts.forEach(document -> upsert(document, !bulk));
+        removals.forEach(this::remove);
+        if (bulk) {
+            prices = SortedColumn.of(priceByDoc, live);
+            areas = SortedColumn.of(areaByDoc, live);
+        }
+    }
+
+    public int size() {
+        return docByListingId.size();
+    }
+
+    public boolean contains(UUID listingId) {
+        return docByListingId.containsKey(listingId);
+    }
+
+    /**
+     * Documents matching every selection and range of the query.
+     */
+    public BitSet match(ListingFacetQuery query) {
+        BitSet result = (BitSet) live.clone();
+        query.getSelections().forEach((field, values) -> {
+            if (values != null && !values.isEmpty()) {
+                result.and(union(field, values));
+            }
+        });
+        if (query.getMinPrice() != null || query.getMaxPrice() != null) {
+            result.and(prices.between(query.getMinPrice(), query.getMaxPrice()));
+        }
+        if (query.getMinArea() != null || query.getMaxArea() != null) {
+            result.and(areas.between(query.getMinArea(), query.getMaxArea()));
+        }
+        query.getAttributeRanges().forEach((code, range) -> retainInRange(result, code, range));
+        return result;
+    }
+
+    /**
+     * Number of matching documents per value of {@code field}, largest first.
+     * Values without matches are left out.
+     */
+    public List<FacetCount> counts(BitSet matches, FacetField field) {
+        List<FacetCount> counts = new ArrayList<>();
+        Map<String, String> fieldLabels = labels.get(field);
+        BitSet scratch = new BitSet();
+        postings.get(field).forEach((value, bitmap) -> {
+            scratch.clear();
+            scratch.or(bitmap);
+            scratch.and(matches);
+            int count = scratch.cardinality();
+            if (count > 0) {
+                counts.add(new FacetCount(value, fieldLabels.get(value), count));
+            }
+        });
+        counts.sort(Comparator.comparingInt(FacetCount::count).reversed()
+                .thenComparing(FacetCount::value));
+        return counts;
+    }
+
+    /**
+     * Number of matching documents whose numeric attribute {@code code} falls in each bucket,
+     * in bucket order. Buckets may overlap; every matching document is visited once.
+     */
+    public int[] bucketCounts(BitSet matches, String code, List<NumericRange> buckets) {
+        int[] counts = new int[buckets.size()];
+        double[] values = attributeValues.get(code);
+        if (values == null) {
+            return counts;
+        }
+        for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+            double value = values[doc];
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            for (int i = 0; i < counts.length; i++) {
+                if (buckets.get(i).contains(value)) {
+                    counts[i]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    public List<UUID> listingIds(BitSet matches) {
+        List<UUID> ids = new ArrayList<>(matches.cardinality());
+        matches.stream().forEach(doc -> ids.add(documents[doc].listingId()));
+        return ids;
+    }
+
+    private void retainInRange(BitSet result, String code, NumericRange range) {
+        double[] values = attributeValues.get(code);
+        if (values == null) {
+            result.clear();
+            return;
+        }
+        for (int doc = result.nextSetBit(0); doc >= 0; doc = result.nextSetBit(doc + 1)) {
+            if (Double.isNaN(values[doc]) || !range.contains(values[doc])) {
+                result.clear(doc);
+            }
+        }
+    }
+
+    private BitSet union(FacetField field, Set<String> values) {
+        Map<String, BitSet> fieldPostings = postings.get(field);
+        BitSet union = new BitSet();
+        for (String value : values) {
+            BitSet bitmap = fieldPostings.get(value);
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    private void upsert(ListingFacetDocument document, boolean updateColumns) {
+        Integer existing = docByListingId.get(document.listingId());
+        int doc;
+        if (existing != null) {
+            doc = existing;
+            unpost(doc);
+        } else {
+            doc = live.nextClearBit(0);
+            ensureCapacity(doc);
+            docByListingId.put(document.listingId(), doc);
+            live.set(doc);
+        }
+        documents[doc] = document;
+        for (FacetField field : FacetField.values()) {
+            Map<String, BitSet> fieldPostings = postings.get(field);
+            String label = field.labelOf(document);
+            for (String value : field.valuesOf(document)) {
+                fieldPostings.computeIfAbsent(value, key -> new BitSet()).set(doc);
+                if (label != null) {
+                    labels.get(field).put(value, label);
+                }
+            }
+        }
+        document.numberAttributes().forEach((code, value) -> attributeColumn(code)[doc] = value.doubleValue());
+        priceByDoc[doc] = hundredths(document.price());
+        areaByDoc[doc] = hundredths(document.usableSizeM2());
+        if (updateColumns) {
+            prices.insert(doc, priceByDoc[doc]);
+            areas.insert(doc, areaByDoc[doc]);
+        }
+    }
+
+    private void remove(UUID listingId) {
+        Integer doc = docByListingId.remove(listingId);
+        if (doc == null) {
+            return;
+        }
+        unpost(doc);
+        documents[doc] = null;
+        priceByDoc[doc] = NO_VALUE;
+        areaByDoc[doc] = NO_VALUE;
+        live.clear(doc);
+    }
+
+    private void unpost(int doc) {
+        ListingFacetDocument previous = documents[doc];
+        for (FacetField field : FacetField.values()) {
+            Map<String, BitSet> fieldPostings = postings.get(field);
+            for (String value : field.valuesOf(previous)) {
+                BitSet bitmap = fieldPostings.get(value);
+                if (bitmap != null) {
+                    bitmap.clear(doc);
+                    if (bitmap.isEmpty()) {
+                        fieldPostings.remove(value);
+                        labels.get(field).remove(value);
+                    }
+                }
+            }
+        }
+        previous.numberAttributes().keySet().forEach(code -> attributeValues.get(code)[doc] = Double.NaN);
+        prices.remove(doc, priceByDoc[doc]);
+        areas.remove(doc, areaByDoc[doc]);
+    }
+
+    private double[] attributeColumn(String code) {
+        return attributeValues.computeIfAbsent(code, key -> {
+            double[] column = new double[documents.length];
+            Arrays.fill(column, Double.NaN);
+            return column;
+        });
+    }
+
+    private void ensureCapacity(int doc) {
+        if (doc < documents.length) {
+            return;
+        }
+        int capacity = Math.max(documents.length * 2, doc + 1);
+        int previousCapacity = documents.length;
+        documents = Arrays.copyOf(documents, capacity);
+        priceByDoc = grow(priceByDoc, capacity);
+        areaByDoc = grow(areaByDoc, capacity);
+        attributeValues.replaceAll((code, column) -> {
+            double[] grown = Arrays.copyOf(column, capacity);
+            Arrays.fill(grown, previousCapacity, capacity, Double.NaN);
+            return grown;
+        });
+    }
+
+    private static long[] emptyValues(int capacity) {
+        long[] values = new long[capacity];
+        Arrays.fill(values, NO_VALUE);
+        return values;
+    }
+
+    private static long[] grow(long[] values, int capacity) {
+        int previousCapacity = values.length;
+        long[] grown = Arrays.copyOf(values, capacity);
+        Arrays.fill(grown, previousCapacity, capacity, NO_VALUE);
+        return grown;
+    }
+
+    private static long hundredths(BigDecimal value) {
+        return value == null ? NO_VALUE : value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    /**
+     * Values of one numeric attribute (in hundredths) sorted ascending, with the owning documents;
+     * equal values are ordered by document, so every entry has a position found by binary search.
+     * Only the first {@code size} slots are in use.
+     */
+    private static final class SortedColumn {
+
+        private long[] values;
+        private int[] docs;
+        private int size;
+
+        SortedColumn() {
+            this(new long[0], new int[0]);
+        }
+
+        private SortedColumn(long[] values, int[] docs) {
+            this.values = values;
+            this.docs = docs;
+            this.size = values.length;
+        }
+
+        /**
+         * Column of the live documents' values; documents without a value are left out.
+         */
+        static SortedColumn of(long[] valueByDoc, BitSet live) {
+            // Live documents stream in ascending order and the sort is stable, so ties stay ordered by document
+            int[] docs = live.stream()
+                    .filter(doc -> valueByDoc[doc] != NO_VALUE)
+                    .boxed()
+                    .sorted(Comparator.comparingLong(doc -> valueByDoc[doc]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            long[] values = new long[docs.length];
+            for (int i = 0; i < docs.length; i++) {
+                values[i] = valueByDoc[docs[i]];
+            }
+            return new SortedColumn(values, docs);
+        }
+
+        void insert(int doc, long value) {
+            if (value == NO_VALUE) {
+                return;
+            }
+            if (size == values.length) {
+                int capacity = Math.max(16, size * 2);
+                values = Arrays.copyOf(values, capacity);
+                docs = Arrays.copyOf(docs, capacity);
+            }
+            int position = position(doc, value);
+            System.arraycopy(values, position, values, position + 1, size - position);
+            System.arraycopy(docs, position, docs, position + 1, size - position);
+            values[position] = value;
+            docs[position] = doc;
+            size++;
+        }
+
+        void remove(int doc, long value) {
+            if (value == NO_VALUE) {
+                return;
+            }
+            int position = position(doc, value);
+            if (position == size || values[position] != value || docs[position] != doc) {
+                return;
+            }
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+            System.arraycopy(docs, position + 1, docs, position, size - position - 1);
+            size--;
+        }
+
+        BitSet between(BigDecimal min, BigDecimal max) {
+            int from = min == null ? 0 : firstAtLeast(hundredths(min));
+            int to = max == null ? size : firstAtLeast(hundredths(max) + 1);
+            BitSet result = new BitSet();
+            for (int i = from; i < to; i++) {
+                result.set(docs[i]);
+            }
+            return result;
+        }
+
+        private int firstAtLeast(long target) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Index of the first entry not ordered before {@code (value, doc)}.
+         */
+        private int position(int doc, long value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < value || (values[mid] == value && docs[mid] < doc)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.sep.realvista.application.listing.search;
+
+import com.sep.realvista.application.listing.service.PropertyAttributeVectorService;
+import com.sep.realvista.domain.listing.event.ListingSearchProjectionsRefreshedEvent;
+import com.sep.realvista.domain.listing.repository.ListingSearchProjectionRepository;
+import com.sep.realvista.domain.listing.search.ListingSearchProjection;
+import com.sep.realvista.domain.property.amenity.PropertyAmenity;
+import com.sep.realvista.infrastructure.persistence.property.amenity.PropertyAmenityJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Owns the process-wide {@link ListingFacetIndex}.
+ * <p>
+ * The index is loaded from the search projection on startup and then follows the projection
+ * through {@link ListingSearchProjectionsRefreshedEvent}s, so listings that are published,
+ * unpublished, sold, rented or expired enter or leave the index once their write commits.
+ * Readers share a read lock; deltas take the write lock. A full reload is built off-lock and
+ * swapped in, replaying deltas that arrived while it was loading.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ListingFacetIndexService {
+
+    static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ListingSearchProjectionRepository projectionRepository;
+    private final PropertyAmenityJpaRepository propertyAmenityJpaRepository;
+    private final PropertyAttributeVectorService propertyAttributeVectorService;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong version = new AtomicLong();
+    private ListingFacetIndex index = new ListingFacetIndex();
+    private List<Delta> deltasDuringReload;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * Apply projection changes once the transaction that wrote them has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectionsRefreshed(ListingSearchProjectionsRefreshedEvent event) {
+        if (event.fullRebuild()) {
+            reload();
+            return;
+        }
+        Delta delta = new Delta(toDocuments(event.upserted()), event.removedListingIds());
+        write(() -> {
+            index.apply(delta.upserts(), delta.removals());
+            if (deltasDuringReload != null) {
+                deltasDuringReload.add(delta);
+            }
+        });
+    }
+
+    /**
+     * Reload the whole index from the search projection. Reloads are serialized.
+     */
+    public synchronized void reload() {
+        write(() -> deltasDuringReload = new ArrayList<>());
+        try {
+            List<ListingFacetDocument> documents = new ArrayList<>();
+            UUID afterId = null;
+            while (true) {
+                List<ListingSearchProjection> page = projectionRepository.findPageAfter(afterId, LOAD_BATCH_SIZE);
+                documents.addAll(toDocuments(page));
+                if (page.size() < LOAD_BATCH_SIZE) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getListingId();
+            }
+
+            ListingFacetIndex loaded = new ListingFacetIndex();
+            loaded.apply(documents, Set.of());
+            write(() -> {
+                deltasDuringReload.forEach(delta -> loaded.apply(delta.upserts(), delta.removals()));
+                index = loaded;
+            });
+            log.info("Loaded listing facet index with {} listings", documents.size());
+        } finally {
+            write(() -> deltasDuringReload = null);
+        }
+    }
+
+    /**
+     * Incremented on every change to the index; lets callers key derived results by index state.
+     */
+    public long version() {
+        return version.get();
+    }
+
+    public int count(ListingFacetQuery query) {
+        return read(() -> index.match(query).cardinality());
+    }
+
+    public List<UUID> findListingIds(ListingFacetQuery query) {
+        return read(() -> index.listingIds(index.match(query)));
+    }
+
+    /**
+     * Per-value counts of the requested fields among listings matching the query.
+     */
+    public Map<FacetField, Map<String, Integer>> facetCounts(ListingFacetQuery query, Collection<FacetField> fields) {
+        return read(() -> {
+            BitSet matches = index.match(query);
+            Map<FacetField, Map<String, Integer>> counts = new EnumMap<>(FacetField.class);
+            fields.forEach(field -> counts.put(field, index.counts(matches, field)));
+            return counts;
+        });
+    }
+
+    /**
+     * Total and facet counts for a query, all read from one consistent index state.
+     * <p>
+     * Counts of a field (or attribute) the query already filters on are computed without that
+     * filter, so the other values of the field stay selectable (multi-select faceting).
+     */
+    public ListingFacets aggregate(
+            ListingFacetQuery query,
+            Collection<FacetField> fields,
+            Map<String, List<NumericRange>> attributeBuckets) {
+        return read(() -> {
+            BitSet matches = index.match(query);
+            Map<FacetField, List<FacetCount>> fieldCounts = new EnumMap<>(FacetField.class);
+            for (FacetField field : fields) {
+                BitSet base = query.selects(field) ? index.match(query.without(field)) : matches;
+                fieldCounts.put(field, index.counts(base, field));
+            }
+            Map<String, int[]> bucketCounts = new HashMap<>();
+            attributeBuckets.forEach((code, buckets) -> {
+                BitSet base = query.getAttributeRanges().containsKey(code)
+                        ? index.match(query.withoutAttribute(code))
+                        : matches;
+                bucketCounts.put(code, index.bucketCounts(base, code, buckets));
+            });
+            return new ListingFacets(matches.cardinality(), fieldCounts, bucketCounts);
+        });
+    }
+
+    private List<ListingFacetDocument> toDocuments(List<ListingSearchProjection> projections) {
+        if (projections.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> propertyIds = projections.stream()
+                .map(ListingSearchProjection::getPropertyId)
+                .collect(Collectors.toSet());
+        Map<UUID, Set<UUID>> amenities = propertyAmenityJpaRepository.findByPropertyIds(propertyIds).stream()
+                .collect(Collectors.groupingBy(PropertyAmenity::getPropertyId,
+                        Collectors.mapping(PropertyAmenity::getAmenityId, Collectors.toCollection(HashSet::new))));
+        Map<UUID, PropertyAttributeVectorService.CodedValues> attributes =
+                propertyAttributeVectorService.findValuesByCode(propertyIds);
+        return projections.stream()
+                .map(projection -> {
+                    PropertyAttributeVectorService.CodedValues values = attributes.getOrDefault(
+                            projection.getPropertyId(), PropertyAttributeVectorService.CodedValues.EMPTY);
+                    return ListingFacetDocument.of(
+                            projection,
+                            amenities.getOrDefault(projection.getPropertyId(), Set.of()),
+                            values.numbers(),
+                            values.trueFlags());
+                })
+                .toList();
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable writer) {
+        lock.writeLock().lock();
+        try {
+            writer.run();
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record Delta(List<ListingFacetDocument> upserts, Set<UUID> removals) {
+    }
+}
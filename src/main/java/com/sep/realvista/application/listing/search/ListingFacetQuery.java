@@ -0,0 +1,57 @@
+package com.sep.realvista.application.listing.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Filter evaluated against {@link ListingFacetIndex}.
+ * <p>
+ * Selected values of one field are OR-ed, fields are AND-ed, and the price, usable size and
+ * attribute ranges are inclusive. An empty query matches every indexed listing.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ListingFacetQuery {
+
+    @Builder.Default
+    private final Map<FacetField, Set<String>> selections = Map.of();
+
+    /**
+     * Ranges over numeric property attributes, keyed by attribute code.
+     */
+    @Builder.Default
+    private final Map<String, NumericRange> attributeRanges = Map.of();
+
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final BigDecimal minArea;
+    private final BigDecimal maxArea;
+
+    public boolean selects(FacetField field) {
+        Set<String> values = selections.get(field);
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * The same query without the selection on {@code field}; used for multi-select facet counts.
+     */
+    public ListingFacetQuery without(FacetField field) {
+        Map<FacetField, Set<String>> remaining = new HashMap<>(selections);
+        remaining.remove(field);
+        return toBuilder().selections(remaining).build();
+    }
+
+    /**
+     * The same query without the range on attribute {@code code}.
+     */
+    public ListingFacetQuery withoutAttribute(String code) {
+        Map<String, NumericRange> remaining = new HashMap<>(attributeRanges);
+        remaining.remove(code);
+        return toBuilder().attributeRanges(remaining).build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.sep.realvista.application.listing.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Facet counts computed in one pass over the index.
+ *
+ * @param total            listings matching the whole query
+ * @param fieldCounts      per-value counts of each requested field
+ * @param attributeBuckets per-bucket counts of each requested numeric attribute, in bucket order
+ */
+public record ListingFacets(
+        int total,
+        Map<FacetField, List<FacetCount>> fieldCounts,
+        Map<String, int[]> attributeBuckets) {
+}
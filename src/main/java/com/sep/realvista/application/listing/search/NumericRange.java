@@ -0,0 +1,13 @@
+package com.sep.realvista.application.listing.search;
+
+import java.math.BigDecimal;
+
+/**
+ * Inclusive numeric range; a {@code null} bound is open.
+ */
+public record NumericRange(BigDecimal min, BigDecimal max) {
+
+    public boolean contains(double value) {
+        return (min == null || value >= min.doubleValue()) && (max == null || value <= max.doubleValue());
+    }
+}
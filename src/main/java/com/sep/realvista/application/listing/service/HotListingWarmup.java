@@ -0,0 +1,55 @@
+package com.sep.realvista.application.listing.service;
+
+import com.sep.realvista.application.common.warmup.WarmupTask;
+import com.sep.realvista.application.listing.dto.ListingDetailResponse;
+import com.sep.realvista.application.user.service.UserApplicationService;
+import com.sep.realvista.domain.common.exception.ResourceNotFoundException;
+import com.sep.realvista.domain.listing.repository.ListingRepository;
+import com.sep.realvista.infrastructure.warmup.WarmupProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Preloads the details of the most-viewed published listings, and their owners' profiles, so
+ * the listings most likely to be requested first are served from cache after a deploy.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HotListingWarmup implements WarmupTask {
+
+    private final ListingRepository listingRepository;
+    private final ListingApplicationService listingApplicationService;
+    private final UserApplicationService userApplicationService;
+    private final WarmupProperties warmupProperties;
+
+    @Override
+    public List<Runnable> jobs() {
+        int limit = warmupProperties.getHotListings();
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<UUID> listingIds = listingRepository.findMostViewedPublishedIds(limit);
+        log.info("Warming up {} most-viewed listings", listingIds.size());
+        return listingIds.stream()
+                .<Runnable>map(listingId -> () -> warmUp(listingId))
+                .toList();
+    }
+
+    private void warmUp(UUID listingId) {
+        ListingDetailResponse detail;
+        try {
+            detail = listingApplicationService.getListingDetail(listingId);
+        } catch (ResourceNotFoundException e) {
+            // Unpublished or deleted since the ranking query
+            return;
+        }
+        if (detail.getUserId() != null) {
+            userApplicationService.getUserById(detail.getUserId());
+        }
+    }
+}
@@ -1,23 +1,46 @@
 package com.sep.realvista.application.listing.service;
 
+import com.sep.realvista.application.common.dto.CursorPageResponse;
+import com.sep.realvista.application.listing.dto.ListingCardResponse;
+import com.sep.realvista.application.listing.dto.ListingCardsRequest;
 import com.sep.realvista.application.listing.dto.ListingDetailResponse;
+import com.sep.realvista.application.listing.dto.ListingSearchRequest;
 import com.sep.realvista.application.listing.mapper.ListingMapper;
 import com.sep.realvista.domain.common.exception.ResourceNotFoundException;
 import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.ListingMedia;
+import com.sep.realvista.domain.listing.ListingStatus;
+import com.sep.realvista.domain.listing.ListingVersionStamps;
 import com.sep.realvista.domain.listing.repository.ListingMediaRepository;
 import com.sep.realvista.domain.listing.repository.ListingRepository;
+import com.sep.realvista.domain.listing.repository.ListingSearchCriteria;
+import com.sep.realvista.domain.listing.repository.ListingSearchProjectionRepository;
+import com.sep.realvista.domain.listing.repository.ListingSortField;
+import com.sep.realvista.domain.listing.search.ListingSearchProjection;
 import com.sep.realvista.domain.property.Property;
-import com.sep.realvista.domain.property.PropertyRepository;
 import com.sep.realvista.domain.property.attribute.PropertyAttributeValue;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeVector;
+import com.sep.realvista.domain.user.role.RoleCode;
 import com.sep.realvista.infrastructure.persistence.property.attribute.PropertyAttributeValueJpaRepository;
+import com.sep.realvista.infrastructure.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Application Service for Listing operations.
@@ -30,54 +53,237 @@ import java.util.UUID;
 @Slf4j
 public class ListingApplicationService {
 
+        public static final String DETAIL_CACHE_NAME = "listings";
+        private static final Set<String> CARD_ATTRIBUTE_CODES = Set.of("bedrooms", "bathrooms");
+
         private final ListingRepository listingRepository;
         private final ListingMediaRepository listingMediaRepository;
-        private final PropertyRepository propertyRepository;
+        private final ListingSearchProjectionRepository listingSearchProjectionRepository;
         private final PropertyAttributeValueJpaRepository propertyAttributeValueJpaRepository;
+        private final PropertyAttributeVectorService propertyAttributeVectorService;
         private final ListingMapper listingMapper;
+        private final ListingDetailCache listingDetailCache;
 
         /**
          * Get listing detail by ID.
          * Returns complete listing information including media, property, location,
          * type, category, agent/owner, and attributes.
+         * <p>
+         * Served from {@link ListingDetailCache}, which coalesces concurrent misses and
+         * refreshes aging entries in the background. A load takes two round trips: the
+         * listing graph (property, type, category, user, media) and then the attribute
+         * values. Location names come from the location ancestry cache.
          *
          * @param listingId the listing ID
          * @return complete listing detail response
          * @throws ResourceNotFoundException if listing not found
          */
-        @Cacheable(value = "listings", key = "#listingId")
-        @Transactional(readOnly = true)
+        @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
         public ListingDetailResponse getListingDetail(UUID listingId) {
+                return listingDetailCache.get(listingId, () -> loadListingDetail(listingId));
+        }
+
+        /**
+         * Get listing detail pre-serialized to UTF-8 JSON.
+         * Cached and invalidated together with {@link #getListingDetail(UUID)}.
+         *
+         * @param listingId the listing ID
+         * @return listing detail JSON
+         * @throws ResourceNotFoundException if listing not found
+         */
+        @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+        public byte[] getListingDetailJson(UUID listingId) {
+                return listingDetailCache.getJson(listingId, () -> loadListingDetail(listingId));
+        }
+
+        private ListingDetailCache.LoadedDetail loadListingDetail(UUID listingId) {
                 log.info("Fetching listing detail for ID: {}", listingId);
 
-                // Fetch listing with all associations
-                Listing listing = listingRepository.findById(listingId)
+                // Round trip 1: listing with property, type, user and media
+                Listing listing = listingRepository.findDetailById(listingId)
                                 .orElseThrow(() -> {
                                         log.error("Listing not found with ID: {}", listingId);
                                         return new ResourceNotFoundException("Listing", listingId);
                                 });
 
                 // Verify property exists and is accessible
-                Property property = propertyRepository.findById(listing.getPropertyId())
-                                .orElseThrow(() -> {
-                                        log.error("Property not found for listing ID: {}, property ID: {}",
-                                                        listingId, listing.getPropertyId());
-                                        return new ResourceNotFoundException("Property", listing.getPropertyId());
-                                });
+                Property property = listing.getProperty();
+                if (property == null || Boolean.TRUE.equals(property.getDeleted())) {
+                        log.error("Property not found for listing ID: {}, property ID: {}",
+                                        listingId, listing.getPropertyId());
+                        throw new ResourceNotFoundException("Property", listing.getPropertyId());
+                }
 
-                // Fetch listing media
-                var listingMedias = listingMediaRepository.findByListingIdOrderByDisplayOrderAsc(listingId);
+                // Round trip 2: the property's attribute vector, decoded without touching the value rows
+                Optional<PropertyAttributeVector> vector =
+                                propertyAttributeVectorService.findStored(property.getPropertyId());
+                if (vector.isPresent()) {
+                        log.info("Successfully fetched listing detail for ID: {} with {} attributes",
+                                        listingId, vector.get().getValueCount());
+                        ListingDetailResponse detail = listingMapper.toDetailResponseWithMediaAndAttributes(
+                                        listing, listing.getListingMedias(), vector.get().vector());
+                        return new ListingDetailCache.LoadedDetail(detail, ListingVersionStamps.of(listing,
+                                        vector.get().getValueCount(), vector.get().getValuesUpdatedAt()).toVersion());
+                }
 
-                // Fetch property attribute values (bedrooms, bathrooms, amenities, etc.)
+                // Not materialized yet: property attribute values (bedrooms, bathrooms, amenities, etc.)
                 List<PropertyAttributeValue> attributeValues = propertyAttributeValueJpaRepository
                                 .findByPropertyIdWithAttribute(property.getPropertyId());
 
-                // Attach property and user for DTO mapping (read-only, not persisted)
-                listing.attachProperty(property);
-
                 log.info("Successfully fetched listing detail for ID: {} with {} attributes",
                                 listingId, attributeValues.size());
 
-                return listingMapper.toDetailResponseWithMediaAndAttributes(listing, listingMedias, attributeValues);
+                ListingDetailResponse detail = listingMapper.toDetailResponseWithMediaAndAttributes(
+                                listing, listing.getListingMedias(), attributeValues);
+                return new ListingDetailCache.LoadedDetail(detail,
+                                ListingVersionStamps.of(listing, attributeValues).toVersion());
+        }
+
+        /**
+         * Search listings with filters and keyset pagination.
+         * Published listings (the default) are served from the search projection in a single
+         * query. Other statuses fall back to the normalized tables with three queries per page:
+         * listings (with property, location and type), primary media, and bedroom/bathroom attributes.
+         * <p>
+         * Only admins see every listing of another status; other signed-in users see their own.
+         *
+         * @param request search filters, sort and cursor
+         * @param caller  the signed-in user, or null for an anonymous search
+         * @return one page of listing cards and the cursor for the next page
+         * @throws AccessDeniedException if an anonymous caller asks for a status other than PUBLISHED
+         */
+        @Transactional(readOnly = true)
+        public CursorPageResponse<ListingCardResponse> searchListings(
+                        ListingSearchRequest request, AuthenticatedUser caller) {
+                ListingStatus status = request.getStatus() != null ? request.getStatus() : ListingStatus.PUBLISHED;
+                UUID userId = null;
+                if (status != ListingStatus.PUBLISHED) {
+                        if (caller == null) {
+                                throw new AccessDeniedException("Sign in to search " + status + " listings");
+                        }
+                        if (!caller.getRoles().contains(RoleCode.ADMIN.name())) {
+                                userId = caller.getId();
+                        }
+                }
+
+                ListingSortField sortField = request.getSort() != null
+                                ? request.getSort()
+                                : ListingSortField.PUBLISHED_AT;
+                boolean ascending = request.getDirection() == Sort.Direction.ASC;
+                int size = request.getSize() != null ? request.getSize() : ListingSearchRequest.DEFAULT_SIZE;
+
+                ListingSearchCursor cursor = request.getCursor() != null && !request.getCursor().isBlank()
+                                ? ListingSearchCursor.decode(request.getCursor(), sortField)
+                                : null;
+
+                ListingSearchCriteria criteria = ListingSearchCriteria.builder()
+                                .listingType(request.getListingType())
+                                .status(status)
+                                .userId(userId)
+                                .minPrice(request.getMinPrice())
+                                .maxPrice(request.getMaxPrice())
+                                .cityId(request.getCityId())
+                                .districtId(request.getDistrictId())
+                                .wardId(request.getWardId())
+                                .propertyTypeId(request.getPropertyTypeId())
+                                .minBedrooms(request.getMinBedrooms())
+                                .maxBedrooms(request.getMaxBedrooms())
+                                .minBathrooms(request.getMinBathrooms())
+                                .maxBathrooms(request.getMaxBathrooms())
+                                .sortField(sortField)
+                                .ascending(ascending)
+                                .afterPrice(cursor != null ? cursor.price() : null)
+                                .afterPublishedAt(cursor != null ? cursor.publishedAt() : null)
+                                .afterListingId(cursor != null ? cursor.listingId() : null)
+                                .build();
+
+                List<ListingCardResponse> cards;
+                boolean hasNext;
+                String nextCursor = null;
+
+                // Fetch one extra row to learn whether another page exists
+                if (criteria.getStatus() == ListingStatus.PUBLISHED) {
+                        List<ListingSearchProjection> rows =
+                                        listingSearchProjectionRepository.search(criteria, size + 1);
+                        hasNext = rows.size() > size;
+                        List<ListingSearchProjection> page = hasNext ? rows.subList(0, size) : rows;
+                        cards = page.stream().map(listingMapper::toCardResponse).toList();
+                        if (hasNext) {
+                                nextCursor = ListingSearchCursor.of(page.get(page.size() - 1), sortField).encode();
+                        }
+                } else {
+                        List<Listing> rows = listingRepository.search(criteria, size + 1);
+                        hasNext = rows.size() > size;
+                        List<Listing> page = hasNext ? rows.subList(0, size) : rows;
+                        cards = toCards(page);
+                        if (hasNext) {
+                                nextCursor = ListingSearchCursor.of(page.get(page.size() - 1), sortField).encode();
+                        }
+                }
+
+                log.debug("Listing search returned {} rows, hasNext: {}", cards.size(), hasNext);
+
+                return CursorPageResponse.<ListingCardResponse>builder()
+                                .content(cards)
+                                .size(cards.size())
+                                .nextCursor(nextCursor)
+                                .hasNext(hasNext)
+                                .build();
+        }
+
+        /**
+         * Get listing cards for a batch of ids, in request order.
+         * Duplicate ids are returned once; unknown and soft-deleted listings (or listings whose
+         * property was deleted) are skipped. Listings of any status are returned, so bookmarks
+         * and chat cards keep rendering after a listing is sold or expires.
+         * <p>
+         * Issues three queries regardless of the batch size: listings (with property and type),
+         * primary media, and bedroom/bathroom attributes.
+         *
+         * @param request listing ids in display order
+         * @return cards of the listings that still exist
+         */
+        @Transactional(readOnly = true)
+        public List<ListingCardResponse> getListingCards(ListingCardsRequest request) {
+                Set<UUID> ids = new LinkedHashSet<>(request.getListingIds());
+
+                Map<UUID, Listing> listingsById = listingRepository.findWithPropertyGraphByIds(ids).stream()
+                                .filter(listing -> !Boolean.TRUE.equals(listing.getDeleted()))
+                                .filter(listing -> listing.getProperty() != null
+                                                && !Boolean.TRUE.equals(listing.getProperty().getDeleted()))
+                                .collect(Collectors.toMap(Listing::getListingId, Function.identity()));
+
+                List<Listing> ordered = ids.stream()
+                                .map(listingsById::get)
+                                .filter(Objects::nonNull)
+                                .toList();
+
+                log.debug("Listing cards requested for {} ids, {} found", ids.size(), ordered.size());
+                return toCards(ordered);
+        }
+
+        private List<ListingCardResponse> toCards(List<Listing> listings) {
+                if (listings.isEmpty()) {
+                        return List.of();
+                }
+
+                List<UUID> listingIds = listings.stream().map(Listing::getListingId).toList();
+                List<UUID> propertyIds = listings.stream().map(Listing::getPropertyId).distinct().toList();
+
+                Map<UUID, ListingMedia> primaryMediaByListing = listingMediaRepository
+                                .findPrimaryByListingIds(listingIds).stream()
+                                .collect(Collectors.toMap(ListingMedia::getListingId, Function.identity(),
+                                                (first, second) -> first, LinkedHashMap::new));
+
+                Map<UUID, List<PropertyAttributeValue>> attributesByProperty = propertyAttributeValueJpaRepository
+                                .findByPropertyIdsAndAttributeCodes(propertyIds, CARD_ATTRIBUTE_CODES).stream()
+                                .collect(Collectors.groupingBy(PropertyAttributeValue::getPropertyId));
+
+                return listings.stream()
+                                .map(listing -> listingMapper.toCardResponse(
+                                                listing,
+                                                primaryMediaByListing.get(listing.getListingId()),
+                                                attributesByProperty.getOrDefault(listing.getPropertyId(), List.of())))
+                                .toList();
         }
 }
@@ -0,0 +1,46 @@
+package com.sep.realvista.application.listing.service;
+
+import com.sep.realvista.domain.listing.event.ListingChangedEvent;
+import com.sep.realvista.domain.listing.repository.ListingRepository;
+import com.sep.realvista.domain.property.event.ReferenceDataChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evicts cached listing details once a change to a listing, its media, boosts or property has
+ * committed (publish, price updates, sold/rented, media edits, ...), and all of them once
+ * reference data they render (type, category and attribute names) has changed.
+ * <p>
+ * Evicting through {@link ListingDetailCache} also drops the shared tier, broadcasts the
+ * invalidation to the other nodes and discards loads in flight on this node.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ListingCacheInvalidator {
+
+    private final ListingDetailCache listingDetailCache;
+    private final ListingRepository listingRepository;
+
+    @EventListener
+    public void onListingChanged(ListingChangedEvent event) {
+        Set<UUID> listingIds = new HashSet<>(event.listingIds());
+        if (!event.propertyIds().isEmpty()) {
+            listingIds.addAll(listingRepository.findIdsByPropertyIds(event.propertyIds()));
+        }
+        listingIds.forEach(listingDetailCache::invalidate);
+        log.debug("Evicted {} cached listing details", listingIds.size());
+    }
+
+    @EventListener
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        listingDetailCache.invalidateAll();
+        log.debug("Evicted all cached listing details after reference data changes");
+    }
+}
@@ -0,0 +1,309 @@
+package com.sep.realvista.application.listing.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sep.realvista.application.listing.dto.ListingDetailResponse;
+import com.sep.realvista.domain.common.exception.ResourceNotFoundException;
+import com.sep.realvista.domain.common.version.ResourceVersion;
+import com.sep.realvista.infrastructure.cache.CacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Read-through front of the listing detail cache with request coalescing and
+ * stale-while-revalidate.
+ * <p>
+ * Every entry also holds the detail pre-serialized to UTF-8 JSON, so the detail endpoint can
+ * write cached bytes without running Jackson over the object graph, and the detail's
+ * {@link ResourceVersion}, so conditional requests for a cached listing need no query.
+ * <p>
+ * At most one load per listing runs on this node at a time: concurrent misses wait for the load
+ * in flight instead of starting their own. Entries older than the cache's {@code refresh-after}
+ * are still served while a single background refresh replaces them, so a popular listing does not
+ * fall out of the cache on expiry. {@link #invalidate(UUID)} also discards the result of a load
+ * in flight, which may have read the state from before the change.
+ */
+@Component
+@Slf4j
+public class ListingDetailCache {
+
+    static final int REFRESH_THREADS = 4;
+    static final int REFRESH_QUEUE_CAPACITY = 256;
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final Duration refreshAfter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final Map<UUID, CompletableFuture<CachedDetail>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter coalescedWaiters;
+    private final Counter staleServed;
+    private final Counter refreshesRejected;
+    private final Timer missLoads;
+    private final Timer refreshLoads;
+
+    /**
+     * Detail as returned by a loader, with the version of the rows it was built from.
+     */
+    public record LoadedDetail(ListingDetailResponse detail, ResourceVersion version) {
+    }
+
+    /**
+     * Cached detail with its UTF-8 JSON, its version and the time it was loaded, used to decide
+     * when to refresh.
+     */
+    public record CachedDetail(ListingDetailResponse detail, byte[] json, ResourceVersion version, Instant loadedAt) {
+    }
+
+    public ListingDetailCache(
+            CacheManager cacheManager,
+            ObjectMapper objectMapper,
+            CacheProperties cacheProperties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.refreshAfter = cacheProperties.specFor(ListingApplicationService.DETAIL_CACHE_NAME).getRefreshAfter();
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.refreshExecutor = newRefreshExecutor();
+
+        this.coalescedWaiters = Counter.builder("listing.detail.cache.coalesced")
+                .description("Requests that waited for a listing detail load already in flight")
+                .register(meterRegistry);
+        this.staleServed = Counter.builder("listing.detail.cache.stale")
+                .description("Listing details served stale while a background refresh runs")
+                .register(meterRegistry);
+        this.refreshesRejected = Counter.builder("listing.detail.cache.refresh.rejected")
+                .description("Background refreshes dropped because the refresh queue was full")
+                .register(meterRegistry);
+        this.missLoads = Timer.builder("listing.detail.cache.load")
+                .description("Listing detail loads from the database")
+                .tag("mode", "miss")
+                .register(meterRegistry);
+        this.refreshLoads = Timer.builder("listing.detail.cache.load")
+                .description("Listing detail loads from the database")
+                .tag("mode", "refresh")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cached detail of a listing, loading it with {@code loader} on a miss. The loader runs in a
+     * read-only transaction, on the calling thread for a miss and on a refresh thread otherwise.
+     *
+     * @throws ResourceNotFoundException as thrown by the loader, also to coalesced waiters
+     */
+    public ListingDetailResponse get(UUID listingId, Supplier<LoadedDetail> loader) {
+        return entry(listingId, loader).detail();
+    }
+
+    /**
+     * Like {@link #get(UUID, Supplier)}, returning the detail as UTF-8 JSON.
+     */
+    public byte[] getJson(UUID listingId, Supplier<LoadedDetail> loader) {
+        return entry(listingId, loader).json();
+    }
+
+    /**
+     * Version of the cached detail, without loading or refreshing it.
+     */
+    public Optional<ResourceVersion> cachedVersion(UUID listingId) {
+        return cached(cache(), listingId).map(CachedDetail::version);
+    }
+
+    private CachedDetail entry(UUID listingId, Supplier<LoadedDetail> loader) {
+        Cache cache = cache();
+        Optional<CachedDetail> hit = cached(cache, listingId);
+        if (hit.isPresent()) {
+            CachedDetail cached = hit.get();
+            if (isStale(cached)) {
+                staleServed.increment();
+                refreshInBackground(cache, listingId, loader);
+            }
+            return cached;
+        }
+
+        CompletableFuture<CachedDetail> load = new CompletableFuture<>();
+        CompletableFuture<CachedDetail> existing = inFlight.putIfAbsent(listingId, load);
+        if (existing != null) {
+            coalescedWaiters.increment();
+            Optional<CachedDetail> awaited = await(existing);
+            if (awaited.isPresent()) {
+                return awaited.get();
+            }
+            // The load joined never ran; load on this thread, caching the result unless another load took over
+            CompletableFuture<CachedDetail> direct = new CompletableFuture<>();
+            inFlight.putIfAbsent(listingId, direct);
+            return missLoads.record(() -> load(cache, listingId, loader, direct));
+        }
+        return missLoads.record(() -> load(cache, listingId, loader, load));
+    }
+
+    /**
+     * Drop the cached detail, here and on other nodes, and discard any load in flight.
+     * <p>
+     * Evicts at once rather than after commit, since it is called from after-commit listeners.
+     */
+    public void invalidate(UUID listingId) {
+        inFlight.remove(listingId);
+        cache().evictIfPresent(listingId);
+    }
+
+    /**
+     * Drop every cached detail, here and on other nodes, and discard all loads in flight.
+     */
+    public void invalidateAll() {
+        inFlight.clear();
+        cache().invalidate();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private boolean isStale(CachedDetail cached) {
+        return refreshAfter != null && !cached.loadedAt().plus(refreshAfter).isAfter(Instant.now());
+    }
+
+    private void refreshInBackground(Cache cache, UUID listingId, Supplier<LoadedDetail> loader) {
+        CompletableFuture<CachedDetail> refresh = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(listingId, refresh) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> refreshLoads.record(() -> {
+                try {
+                    load(cache, listingId, loader, refresh);
+                } catch (ResourceNotFoundException e) {
+                    log.debug("Listing {} is gone, dropping its cached detail", listingId);
+                    cache.evict(listingId);
+                } catch (RuntimeException e) {
+                    log.warn("Background refresh of listing detail {} failed: {}", listingId, e.getMessage());
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            // Keep serving the stale entry; the next read past refresh-after tries again
+            refreshesRejected.increment();
+            inFlight.remove(listingId, refresh);
+            // Misses that joined this refresh meanwhile load the detail themselves
+            refresh.completeExceptionally(new RefreshRejectedException());
+        }
+    }
+
+    private CachedDetail load(
+            Cache cache,
+            UUID listingId,
+            Supplier<LoadedDetail> loader,
+            CompletableFuture<CachedDetail> load) {
+        try {
+            LoadedDetail result = readOnlyTransaction.execute(status -> loader.get());
+            CachedDetail loaded = new CachedDetail(result.detail(), serialize(result.detail()), result.version(),
+                    Instant.now());
+            // Not stored if invalidate() ran meanwhile: the load may predate the change
+            if (inFlight.remove(listingId, load)) {
+                cache.put(listingId, loaded);
+            }
+            load.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            inFlight.remove(listingId, load);
+            load.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private byte[] serialize(ListingDetailResponse detail) {
+        try {
+            return objectMapper.writeValueAsBytes(detail);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize listing detail " + detail.getListingId(), e);
+        }
+    }
+
+    private static Optional<CachedDetail> cached(Cache cache, UUID listingId) {
+        Cache.ValueWrapper wrapper = cache.get(listingId);
+        // Entries written by an older layout of CachedDetail count as misses
+        if (wrapper != null && wrapper.get() instanceof CachedDetail cached
+                && cached.json() != null && cached.version() != null) {
+            return Optional.of(cached);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Result of a load in flight, or empty if that load never ran because it was rejected or
+     * cancelled.
+     */
+    private static Optional<CachedDetail> await(CompletableFuture<CachedDetail> load) {
+        try {
+            return Optional.of(load.join());
+        } catch (CancellationException e) {
+            return Optional.empty();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RefreshRejectedException) {
+                return Optional.empty();
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Completes a background refresh that the refresh executor rejected.
+     */
+    private static final class RefreshRejectedException extends RuntimeException {
+
+        RefreshRejectedException() {
+            super("Background refresh rejected", null, false, false);
+        }
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(ListingApplicationService.DETAIL_CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + ListingApplicationService.DETAIL_CACHE_NAME);
+        }
+        return cache;
+    }
+
+    private static ThreadPoolExecutor newRefreshExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS,
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(REFRESH_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "listing-detail-refresh-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,198 @@
+package com.sep.realvista.application.listing.service;
+
+import com.sep.realvista.application.listing.dto.AttributeFacetDTO;
+import com.sep.realvista.application.listing.dto.FacetBucketDTO;
+import com.sep.realvista.application.listing.dto.ListingFacetRequest;
+import com.sep.realvista.application.listing.dto.ListingFacetResponse;
+import com.sep.realvista.application.listing.search.FacetCount;
+import com.sep.realvista.application.listing.search.FacetField;
+import com.sep.realvista.application.listing.search.ListingFacetIndexService;
+import com.sep.realvista.application.listing.search.ListingFacetQuery;
+import com.sep.realvista.application.listing.search.ListingFacets;
+import com.sep.realvista.application.listing.search.NumericRange;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataCache;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.AttributeRef;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.RangeRef;
+import com.sep.realvista.domain.common.exception.DomainException;
+import com.sep.realvista.domain.property.attribute.AttributeDataType;
+import com.sep.realvista.domain.property.event.ReferenceDataChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Facet counts for search sidebars, computed from the in-memory listing facet index.
+ * <p>
+ * One request yields counts for listing type, property type, each location level and every
+ * searchable property attribute: numeric attributes are bucketed by their configured
+ * ranges, boolean attributes count listings where they are true. Attribute definitions and
+ * ranges come from the {@link ReferenceDataCache}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ListingFacetService {
+
+    public static final String CACHE_NAME = "listingFacets";
+    private static final String INVALID_ATTRIBUTE_FILTER = "INVALID_ATTRIBUTE_FILTER";
+    private static final List<FacetField> COUNTED_FIELDS = List.of(
+            FacetField.LISTING_TYPE, FacetField.PROPERTY_TYPE,
+            FacetField.CITY, FacetField.DISTRICT, FacetField.WARD, FacetField.FLAG);
+
+    private final ListingFacetIndexService listingFacetIndexService;
+    private final ReferenceDataCache referenceDataCache;
+
+    /**
+     * Get facet counts for a filter set.
+     * Cached by the normalized filter key and the index version, so a cached result never
+     * outlives the index state it was computed from; entries of older versions are never read
+     * again and age out by size and time-to-live.
+     */
+    @Cacheable(value = CACHE_NAME, key = "#request.cacheKey() + '@' + @listingFacetIndexService.version()")
+    public ListingFacetResponse getFacets(ListingFacetRequest request) {
+        ListingFacetQuery query = toQuery(request);
+
+        List<AttributeRef> attributes = referenceDataCache.snapshot().searchableAttributes();
+
+        Map<String, List<NumericRange>> buckets = new HashMap<>();
+        attributes.stream()
+                .filter(attribute -> attribute.dataType() == AttributeDataType.NUMBER)
+                .filter(attribute -> !attribute.ranges().isEmpty())
+                .forEach(attribute -> buckets.put(attribute.code(), attribute.ranges().stream()
+                        .map(range -> new NumericRange(range.minValue(), range.maxValue()))
+                        .toList()));
+
+        ListingFacets facets = listingFacetIndexService.aggregate(query, COUNTED_FIELDS, buckets);
+        log.debug("Computed listing facets for {} matching listings", facets.total());
+
+        return ListingFacetResponse.builder()
+                .total(facets.total())
+                .listingTypes(toBuckets(facets.fieldCounts().get(FacetField.LISTING_TYPE)))
+                .propertyTypes(toBuckets(facets.fieldCounts().get(FacetField.PROPERTY_TYPE)))
+                .cities(toBuckets(facets.fieldCounts().get(FacetField.CITY)))
+                .districts(toBuckets(facets.fieldCounts().get(FacetField.DISTRICT)))
+                .wards(toBuckets(facets.fieldCounts().get(FacetField.WARD)))
+                .attributes(toAttributeFacets(attributes, facets))
+                .build();
+    }
+
+    /**
+     * Drop cached facet counts once attribute definitions or ranges have changed.
+     */
+    @EventListener
+    @CacheEvict(value = CACHE_NAME, allEntries = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        log.debug("Evicting cached listing facets after reference data changes");
+    }
+
+    private ListingFacetQuery toQuery(ListingFacetRequest request) {
+        Map<FacetField, Set<String>> selections = new EnumMap<>(FacetField.class);
+        select(selections, FacetField.LISTING_TYPE, request.getListingTypes());
+        select(selections, FacetField.PROPERTY_TYPE, request.getPropertyTypes());
+        select(selections, FacetField.CITY, request.getCityIds());
+        select(selections, FacetField.DISTRICT, request.getDistrictIds());
+        select(selections, FacetField.WARD, request.getWardIds());
+        select(selections, FacetField.AMENITY, request.getAmenityIds());
+
+        Map<String, NumericRange> attributeRanges = new LinkedHashMap<>();
+        if (request.getAttributes() != null) {
+            request.getAttributes().forEach(filter -> {
+                String[] parts = filter.split(":", -1);
+                NumericRange range = new NumericRange(decimal(parts[1]), decimal(parts[2]));
+                if (range.min() != null && range.max() != null && range.min().compareTo(range.max()) > 0) {
+                    throw new DomainException("Attribute filter minimum exceeds maximum: " + filter,
+                            INVALID_ATTRIBUTE_FILTER);
+                }
+                attributeRanges.put(parts[0], range);
+            });
+        }
+
+        return ListingFacetQuery.builder()
+                .selections(selections)
+                .attributeRanges(attributeRanges)
+                .minPrice(request.getMinPrice())
+                .maxPrice(request.getMaxPrice())
+                .minArea(request.getMinArea())
+                .maxArea(request.getMaxArea())
+                .build();
+    }
+
+    private static void select(Map<FacetField, Set<String>> selections, FacetField field, Collection<?> values) {
+        if (values != null && !values.isEmpty()) {
+            selections.put(field, values.stream()
+                    .map(value -> value instanceof Enum<?> constant ? constant.name() : value.toString())
+                    .collect(Collectors.toSet()));
+        }
+    }
+
+    private static BigDecimal decimal(String value) {
+        return value.isEmpty() ? null : new BigDecimal(value);
+    }
+
+    private List<AttributeFacetDTO> toAttributeFacets(List<AttributeRef> attributes, ListingFacets facets) {
+        Map<String, Integer> flagCounts = facets.fieldCounts().get(FacetField.FLAG).stream()
+                .collect(Collectors.toMap(FacetCount::value, FacetCount::count));
+
+        List<AttributeFacetDTO> result = new ArrayList<>();
+        for (AttributeRef attribute : attributes) {
+            List<FacetBucketDTO> buckets = new ArrayList<>();
+            if (attribute.dataType() == AttributeDataType.NUMBER) {
+                int[] counts = facets.attributeBuckets().get(attribute.code());
+                if (counts == null) {
+                    continue;
+                }
+                List<RangeRef> ranges = attribute.ranges();
+                for (int i = 0; i < ranges.size(); i++) {
+                    RangeRef range = ranges.get(i);
+                    buckets.add(FacetBucketDTO.builder()
+                            .value(range.id().toString())
+                            .label(range.label())
+                            .count(counts[i])
+                            .minValue(range.minValue())
+                            .maxValue(range.maxValue())
+                            .build());
+                }
+            } else if (attribute.dataType() == AttributeDataType.BOOLEAN) {
+                buckets.add(FacetBucketDTO.builder()
+                        .value(Boolean.TRUE.toString())
+                        .label(attribute.name())
+                        .count(flagCounts.getOrDefault(attribute.code(), 0))
+                        .build());
+            } else {
+                continue;
+            }
+            result.add(AttributeFacetDTO.builder()
+                    .code(attribute.code())
+                    .name(attribute.name())
+                    .unit(attribute.unit())
+                    .dataType(attribute.dataType())
+                    .buckets(buckets)
+                    .build());
+        }
+        return result;
+    }
+
+    private static List<FacetBucketDTO> toBuckets(List<FacetCount> counts) {
+        return counts.stream()
+                .map(count -> FacetBucketDTO.builder()
+                        .value(count.value())
+                        .label(count.label() != null ? count.label() : count.value())
+                        .count(count.count())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,143 @@
+package com.sep.realvista.application.listing.service;
+
+import com.sep.realvista.application.listing.dto.ListingBoundsRequest;
+import com.sep.realvista.application.listing.dto.ListingClusterDTO;
+import com.sep.realvista.application.listing.dto.ListingClusterRequest;
+import com.sep.realvista.application.listing.dto.ListingClustersResponse;
+import com.sep.realvista.application.listing.dto.ListingNearbyRequest;
+import com.sep.realvista.application.listing.dto.ListingPinDTO;
+import com.sep.realvista.application.listing.dto.ListingPinsResponse;
+import com.sep.realvista.application.listing.search.ListingClusterService;
+import com.sep.realvista.domain.common.exception.DomainException;
+import com.sep.realvista.domain.common.geo.GeoBounds;
+import com.sep.realvista.domain.common.geo.GeoDistance;
+import com.sep.realvista.domain.listing.repository.ListingSearchProjectionRepository;
+import com.sep.realvista.domain.listing.search.ListingGeoPoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Map searches over published listings: viewport rectangles, radius around a point and
+ * zoomed-out clusters.
+ * <p>
+ * Pin searches read the search projection through its geohash index; distances are computed on
+ * primitive doubles. Clusters come from the in-memory grid maintained by {@link ListingClusterService}.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class ListingGeoSearchService {
+
+    /**
+     * Candidates read for a radius query, nearest first, before exact distance filtering and
+     * sorting. The margin over the limit absorbs the database's approximate ordering.
+     */
+    static final int MAX_RADIUS_CANDIDATES = 4 * ListingBoundsRequest.MAX_LIMIT;
+    private static final String INVALID_BOUNDS = "INVALID_BOUNDS";
+
+    private final ListingSearchProjectionRepository listingSearchProjectionRepository;
+    private final ListingClusterService listingClusterService;
+
+    /**
+     * Find pins inside a map viewport, newest listings first.
+     */
+    public ListingPinsResponse findWithinBounds(ListingBoundsRequest request) {
+        GeoBounds bounds = boundsOf(request.getSouth(), request.getWest(), request.getNorth(), request.getEast());
+        int limit = limitOf(request.getLimit());
+
+        List<ListingGeoPoint> points = listingSearchProjectionRepository
+                .findGeoPointsWithin(bounds, request.getListingType(), limit + 1);
+        boolean truncated = points.size() > limit;
+        List<ListingPinDTO> pins = points.stream()
+                .limit(limit)
+                .map(point -> toPin(point, null))
+                .toList();
+
+        log.debug("Found {} listing pins in bounds {}", pins.size(), bounds);
+        return ListingPinsResponse.builder().pins(pins).count(pins.size()).truncated(truncated).build();
+    }
+
+    /**
+     * Find pins within a radius of a point, nearest first.
+     */
+    public ListingPinsResponse findNearby(ListingNearbyRequest request) {
+        double latitude = request.getLatitude();
+        double longitude = request.getLongitude();
+        GeoBounds bounds = GeoBounds.around(latitude, longitude, request.getRadiusMeters());
+        int limit = limitOf(request.getLimit());
+
+        List<ListingGeoPoint> candidates = listingSearchProjectionRepository
+                .findGeoPointsNearest(latitude, longitude, bounds, request.getListingType(), MAX_RADIUS_CANDIDATES);
+
+        List<ListingPinDTO> inRange = new ArrayList<>();
+        for (ListingGeoPoint point : candidates) {
+            double distance = GeoDistance.meters(latitude, longitude, point.latitude(), point.longitude());
+            if (distance <= request.getRadiusMeters()) {
+                inRange.add(toPin(point, distance));
+            }
+        }
+        inRange.sort(Comparator.comparingDouble(ListingPinDTO::getDistanceMeters));
+
+        boolean truncated = inRange.size() > limit || candidates.size() == MAX_RADIUS_CANDIDATES;
+        List<ListingPinDTO> pins = inRange.size() > limit ? List.copyOf(inRange.subList(0, limit)) : inRange;
+
+        log.debug("Found {} listing pins within {} m of ({}, {})", pins.size(), request.getRadiusMeters(),
+                latitude, longitude);
+        return ListingPinsResponse.builder().pins(pins).count(pins.size()).truncated(truncated).build();
+    }
+
+    /**
+     * Get listing clusters for a viewport at a zoom level.
+     */
+    public ListingClustersResponse findClusters(ListingClusterRequest request) {
+        GeoBounds bounds = boundsOf(request.getSouth(), request.getWest(), request.getNorth(), request.getEast());
+        int precision = listingClusterService.precisionFor(bounds, request.getZoom());
+
+        List<ListingClusterDTO> clusters = listingClusterService.clusters(bounds, precision).stream()
+                .map(cluster -> ListingClusterDTO.builder()
+                        .geohash(cluster.geohash())
+                        .count(cluster.count())
+                        .latitude(cluster.latitude())
+                        .longitude(cluster.longitude())
+                        .minPrice(cluster.minPrice())
+                        .maxPrice(cluster.maxPrice())
+                        .build())
+                .toList();
+
+        log.debug("Found {} listing clusters at precision {} in bounds {}", clusters.size(), precision, bounds);
+        return ListingClustersResponse.builder().precision(precision).clusters(clusters).build();
+    }
+
+    private static GeoBounds boundsOf(double south, double west, double north, double east) {
+        if (south > north) {
+            throw new DomainException("South bound must not exceed north bound", INVALID_BOUNDS);
+        }
+        if (west > east) {
+            throw new DomainException("West bound must not exceed east bound", INVALID_BOUNDS);
+        }
+        return new GeoBounds(south, west, north, east);
+    }
+
+    private static int limitOf(Integer limit) {
+        return limit != null ? limit : ListingBoundsRequest.DEFAULT_LIMIT;
+    }
+
+    private static ListingPinDTO toPin(ListingGeoPoint point, Double distanceMeters) {
+        return ListingPinDTO.builder()
+                .listingId(point.listingId())
+                .latitude(point.latitude())
+                .longitude(point.longitude())
+                .price(point.price())
+                .listingType(point.listingType())
+                .propertyTypeCode(point.propertyTypeCode())
+                .distanceMeters(distanceMeters)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.sep.realvista.application.listing.service;
+
+import com.sep.realvista.domain.common.exception.DomainException;
+import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.ListingStatus;
+import com.sep.realvista.domain.listing.repository.ListingSortField;
+import com.sep.realvista.domain.listing.search.ListingSearchProjection;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor for listing search: the sort field, the last row's sort value and its listing ID.
+ * Encoded as URL-safe Base64 of {@code FIELD|value|listingId}.
+ */
+record ListingSearchCursor(ListingSortField sortField, String sortValue, UUID listingId) {
+
+    private static final String SEPARATOR = "|";
+    private static final String INVALID_CURSOR = "INVALID_CURSOR";
+
+    static ListingSearchCursor of(Listing listing, ListingSortField sortField) {
+        Object value;
+        if (sortField == ListingSortField.PRICE) {
+            value = listing.getPrice();
+        } else {
+            // Listings that are not published are ordered by creation time, see ListingSearchCriteria
+            value = listing.getStatus() == ListingStatus.PUBLISHED ? listing.getPublishedAt() : listing.getCreatedAt();
+        }
+        return new ListingSearchCursor(sortField, String.valueOf(value), listing.getListingId());
+    }
+
+    static ListingSearchCursor of(ListingSearchProjection row, ListingSortField sortField) {
+        Object value = sortField == ListingSortField.PRICE ? row.getPrice() : row.getPublishedAt();
+        return new ListingSearchCursor(sortField, String.valueOf(value), row.getListingId());
+    }
+
+    static ListingSearchCursor decode(String cursor, ListingSortField expectedSortField) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            ListingSearchCursor decoded = new ListingSearchCursor(
+                    ListingSortField.valueOf(parts[0]), parts[1], UUID.fromString(parts[2]));
+            if (decoded.sortField() != expectedSortField) {
+                throw new DomainException("Cursor does not match the requested sort", INVALID_CURSOR);
+            }
+            // Validate the value eagerly so a bad cursor fails before hitting the database
+            decoded.price();
+            decoded.publishedAt();
+            return decoded;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new DomainException("Invalid search cursor", INVALID_CURSOR, e);
+        }
+    }
+
+    String encode() {
+        String raw = sortField.name() + SEPARATOR + sortValue + SEPARATOR + listingId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    BigDecimal price() {
+        return sortField == ListingSortField.PRICE ? new BigDecimal(sortValue) : null;
+    }
+
+    LocalDateTime publishedAt() {
+        return sortField == ListingSortField.PUBLISHED_AT ? LocalDateTime.parse(sortValue) : null;
+    }
+}
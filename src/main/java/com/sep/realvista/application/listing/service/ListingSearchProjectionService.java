@@ -0,0 +1,252 @@
+package com.sep.realvista.application.listing.service;
+
+import com.sep.realvista.application.location.search.LocationAncestry;
+import com.sep.realvista.application.location.search.LocationAncestryCache;
+import com.sep.realvista.domain.billing.boost.ListingBoost;
+import com.sep.realvista.domain.billing.boost.ListingBoostRepository;
+import com.sep.realvista.domain.common.geo.Geohash;
+import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.ListingMedia;
+import com.sep.realvista.domain.listing.ListingStatus;
+import com.sep.realvista.domain.listing.event.ListingChangedEvent;
+import com.sep.realvista.domain.listing.event.ListingSearchProjectionsRefreshedEvent;
+import com.sep.realvista.domain.listing.repository.ListingMediaRepository;
+import com.sep.realvista.domain.listing.repository.ListingRepository;
+import com.sep.realvista.domain.listing.repository.ListingSearchProjectionRepository;
+import com.sep.realvista.domain.listing.search.ListingSearchProjection;
+import com.sep.realvista.domain.property.Property;
+import com.sep.realvista.domain.property.PropertyMedia;
+import com.sep.realvista.domain.property.PropertyType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the listing search projection (listing_search_projections).
+ * <p>
+ * Rows are refreshed after each committed write to a listing, its property, attribute values,
+ * media or boosts (see {@link ListingChangedEvent}), and can be rebuilt from scratch in batches.
+ * Every write is announced with a {@link ListingSearchProjectionsRefreshedEvent} so in-memory
+ * read models derived from the projection can follow along.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ListingSearchProjectionService {
+
+    static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ListingRepository listingRepository;
+    private final ListingMediaRepository listingMediaRepository;
+    private final ListingBoostRepository listingBoostRepository;
+    private final PropertyAttributeVectorService propertyAttributeVectorService;
+    private final ListingSearchProjectionRepository projectionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LocationAncestryCache locationAncestryCache;
+
+    /**
+     * Refresh projections touched by a committed transaction.
+     * Runs in its own transaction because the publishing transaction has already completed.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onListingChanged(ListingChangedEvent event) {
+        Set<UUID> listingIds = new HashSet<>(event.listingIds());
+        listingIds.addAll(listingRepository.findIdsByPropertyIds(event.propertyIds()));
+        log.debug("Refreshing search projection for {} listings", listingIds.size());
+        refresh(listingIds);
+    }
+
+    /**
+     * Populate the projection on first start after the table was introduced.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (projectionRepository.count() == 0) {
+            log.info("Listing search projection is empty, rebuilding");
+            rebuildAll();
+        }
+    }
+
+    /**
+     * Refresh the projection rows of specific listings.
+     * Listings that are no longer published (or were deleted) lose their row.
+     */
+    @Transactional
+    public void refreshListings(Collection<UUID> listingIds) {
+        refresh(listingIds);
+    }
+
+    /**
+     * Rebuild the whole projection from the source tables.
+     * Each batch commits on its own; rows not touched by the rebuild are removed at the end.
+     *
+     * @return number of published listings projected
+     */
+    public int rebuildAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        int total = 0;
+        UUID afterId = null;
+
+        while (true) {
+            List<UUID> batch = listingRepository.findPublishedIdsAfter(afterId, REBUILD_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> refresh(batch));
+            total += batch.size();
+            afterId = batch.get(batch.size() - 1);
+            if (batch.size() < REBUILD_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        Integer removed = transactionTemplate.execute(
+                status -> projectionRepository.deleteRefreshedBefore(startedAt));
+        log.info("Rebuilt listing search projection: {} rows projected, {} stale rows removed", total, removed);
+        eventPublisher.publishEvent(ListingSearchProjectionsRefreshedEvent.rebuilt());
+        return total;
+    }
+
+    private void refresh(Collection<UUID> listingIds) {
+        if (listingIds.isEmpty()) {
+            return;
+        }
+
+        List<Listing> searchable = listingRepository.findWithPropertyGraphByIds(listingIds).stream()
+                .filter(this::isSearchable)
+                .toList();
+
+        Set<UUID> unpublished = new HashSet<>(listingIds);
+        searchable.forEach(listing -> unpublished.remove(listing.getListingId()));
+        projectionRepository.deleteByListingIds(unpublished);
+
+        if (searchable.isEmpty()) {
+            eventPublisher.publishEvent(ListingSearchProjectionsRefreshedEvent.delta(List.of(), unpublished));
+            return;
+        }
+
+        List<UUID> ids = searchable.stream().map(Listing::getListingId).toList();
+        List<UUID> propertyIds = searchable.stream().map(Listing::getPropertyId).distinct().toList();
+
+        Map<UUID, ListingMedia> primaryMedia = listingMediaRepository.findPrimaryByListingIds(ids).stream()
+                .collect(Collectors.toMap(ListingMedia::getListingId, Function.identity(), (first, second) -> first));
+        Map<UUID, PropertyAttributeVectorService.CodedValues> attributes =
+                propertyAttributeVectorService.findValuesByCode(propertyIds);
+        Map<UUID, ListingBoost> boosts = listingBoostRepository.findActiveByListingIds(ids, LocalDate.now()).stream()
+                .collect(Collectors.toMap(ListingBoost::getListingId, Function.identity(),
+                        (a, b) -> a.getEndDate().isAfter(b.getEndDate()) ? a : b));
+        Set<UUID> existing = projectionRepository.findAllByIds(ids).stream()
+                .map(ListingSearchProjection::getListingId)
+                .collect(Collectors.toSet());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ListingSearchProjection> rows = searchable.stream()
+                .map(listing -> toProjection(
+                        listing,
+                        primaryMedia.get(listing.getListingId()),
+                        attributes.getOrDefault(listing.getPropertyId(),
+                                PropertyAttributeVectorService.CodedValues.EMPTY),
+                        boosts.get(listing.getListingId()),
+                        !existing.contains(listing.getListingId()),
+                        now))
+                .toList();
+        projectionRepository.saveAll(rows);
+        eventPublisher.publishEvent(ListingSearchProjectionsRefreshedEvent.delta(rows, unpublished));
+    }
+
+    private boolean isSearchable(Listing listing) {
+        return !Boolean.TRUE.equals(listing.getDeleted())
+                && listing.getStatus() == ListingStatus.PUBLISHED
+                && listing.getPublishedAt() != null
+                && listing.getProperty() != null
+                && !Boolean.TRUE.equals(listing.getProperty().getDeleted());
+    }
+
+    private ListingSearchProjection toProjection(
+            Listing listing,
+            ListingMedia primaryMedia,
+            PropertyAttributeVectorService.CodedValues attributes,
+            ListingBoost boost,
+            boolean newRow,
+            LocalDateTime refreshedAt) {
+        Property property = listing.getProperty();
+        double latitude = property.getLatitude().doubleValue();
+        double longitude = property.getLongitude().doubleValue();
+        var builder = ListingSearchProjection.builder()
+                .listingId(listing.getListingId())
+                .propertyId(listing.getPropertyId())
+                .listingType(listing.getListingType())
+                .status(listing.getStatus())
+                .slug(listing.getSlug())
+                .name(listing.getName())
+                .price(listing.getPrice())
+                .isNegotiable(listing.getIsNegotiable())
+                .publishedAt(listing.getPublishedAt())
+                .locationId(property.getLocationId())
+                .streetAddress(property.getStreetAddress())
+                .latitude(latitude)
+                .longitude(longitude)
+                .geohash(Geohash.encode(latitude, longitude, Geohash.MAX_PRECISION))
+                .usableSizeM2(property.getUsableSizeM2())
+                .newRow(newRow)
+                .refreshedAt(refreshedAt);
+
+        PropertyType propertyType = property.getPropertyType();
+        if (propertyType != null) {
+            builder.propertyTypeId(propertyType.getPropertyTypeId())
+                    .propertyTypeName(propertyType.getName())
+                    .propertyTypeCode(propertyType.getCode());
+            if (propertyType.getPropertyCategory() != null) {
+                builder.propertyCategoryId(propertyType.getPropertyCategory().getPropertyCategoryId())
+                        .propertyCategoryName(propertyType.getPropertyCategory().getName())
+                        .propertyCategoryCode(propertyType.getPropertyCategory().getCode());
+            }
+        }
+
+        LocationAncestry location = locationAncestryCache.resolve(property.getLocationId(), property.getLocation());
+        if (location != null) {
+            builder.wardId(location.wardId()).wardName(location.wardName())
+                    .districtId(location.districtId()).districtName(location.districtName())
+                    .cityId(location.cityId()).cityName(location.cityName());
+        }
+
+        BigDecimal bedrooms = attributes.numbers().get("bedrooms");
+        BigDecimal bathrooms = attributes.numbers().get("bathrooms");
+        builder.bedrooms(bedrooms != null ? bedrooms.intValue() : null)
+                .bathrooms(bathrooms != null ? bathrooms.intValue() : null);
+
+        if (primaryMedia != null && primaryMedia.getPropertyMedia() != null) {
+            PropertyMedia media = primaryMedia.getPropertyMedia();
+            builder.primaryMediaId(media.getPropertyMediaId())
+                    .primaryMediaType(media.getMediaType())
+                    .primaryMediaUrl(media.getMediaUrl())
+                    .primaryThumbnailUrl(media.getThumbnailUrl());
+        }
+
+        if (boost != null) {
+            builder.boostType(boost.getBoostType()).boostedUntil(boost.getEndDate());
+        }
+
+        return builder.build();
+    }
+}
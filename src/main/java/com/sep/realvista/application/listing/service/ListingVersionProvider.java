@@ -0,0 +1,29 @@
+package com.sep.realvista.application.listing.service;
+
+import com.sep.realvista.application.common.version.ResourceVersionProvider;
+import com.sep.realvista.domain.common.version.ResourceVersion;
+import com.sep.realvista.domain.listing.ListingVersionStamps;
+import com.sep.realvista.domain.listing.repository.ListingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Version of a listing detail: taken from the detail cache when the listing is cached there,
+ * otherwise from one aggregate query over the listing's stamps.
+ */
+@Component
+@RequiredArgsConstructor
+public class ListingVersionProvider implements ResourceVersionProvider {
+
+    private final ListingDetailCache listingDetailCache;
+    private final ListingRepository listingRepository;
+
+    @Override
+    public Optional<ResourceVersion> versionOf(UUID listingId) {
+        return listingDetailCache.cachedVersion(listingId)
+                .or(() -> listingRepository.findVersionStamps(listingId).map(ListingVersionStamps::toVersion));
+    }
+}
@@ -0,0 +1,301 @@
+package com.sep.realvista.application.listing.service;
+
+import com.sep.realvista.application.common.warmup.WarmupTask;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataCache;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot;
+import com.sep.realvista.domain.common.entity.BaseEntity;
+import com.sep.realvista.domain.listing.event.ListingChangedEvent;
+import com.sep.realvista.domain.property.attribute.AttributeVector;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeSlot;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeValue;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeVector;
+import com.sep.realvista.infrastructure.persistence.property.attribute.PropertyAttributeSlotJpaRepository;
+import com.sep.realvista.infrastructure.persistence.property.attribute.PropertyAttributeValueJpaRepository;
+import com.sep.realvista.infrastructure.persistence.property.attribute.PropertyAttributeVectorJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the per-property attribute vectors (property_attribute_vectors).
+ * <p>
+ * The attribute value rows stay the source of truth: a property's vector is rebuilt from them
+ * after each committed change (see {@link ListingChangedEvent}) and backfilled during warm-up
+ * for properties that have none yet. Readers use the stored vector where there is one and fall
+ * back to the value rows otherwise, so a missing vector is never visible to clients.
+ */
+@Service
+@Slf4j
+public class PropertyAttributeVectorService implements WarmupTask {
+
+    static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final PropertyAttributeValueJpaRepository propertyAttributeValueJpaRepository;
+    private final PropertyAttributeSlotJpaRepository propertyAttributeSlotJpaRepository;
+    private final PropertyAttributeVectorJpaRepository propertyAttributeVectorJpaRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final TransactionTemplate newTransaction;
+
+    /**
+     * Attribute values of one property keyed by attribute code: numbers, and the codes of the
+     * boolean attributes that are true.
+     */
+    public record CodedValues(Map<String, BigDecimal> numbers, Set<String> trueFlags) {
+
+        public static final CodedValues EMPTY = new CodedValues(Map.of(), Set.of());
+    }
+
+    public PropertyAttributeVectorService(
+            PropertyAttributeValueJpaRepository propertyAttributeValueJpaRepository,
+            PropertyAttributeSlotJpaRepository propertyAttributeSlotJpaRepository,
+            PropertyAttributeVectorJpaRepository propertyAttributeVectorJpaRepository,
+            ReferenceDataCache referenceDataCache,
+            PlatformTransactionManager transactionManager) {
+        this.propertyAttributeValueJpaRepository = propertyAttributeValueJpaRepository;
+        this.propertyAttributeSlotJpaRepository = propertyAttributeSlotJpaRepository;
+        this.propertyAttributeVectorJpaRepository = propertyAttributeVectorJpaRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public List<Runnable> jobs() {
+        return List.of(this::backfill);
+    }
+
+    /**
+     * Rebuild the vectors of properties touched by a committed transaction, before the
+     * listeners that re-read them (search projection, detail cache eviction) run.
+     * <p>
+     * A failed rebuild drops the affected vectors instead, so readers fall back to the value
+     * rows rather than serve stale values; the next warm-up backfills them.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onListingChanged(ListingChangedEvent event) {
+        if (event.propertyIds().isEmpty()) {
+            return;
+        }
+        try {
+            newTransaction.executeWithoutResult(status -> refresh(event.propertyIds()));
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh attribute vectors of {} properties, dropping them: {}",
+                    event.propertyIds().size(), e.getMessage(), e);
+            newTransaction.executeWithoutResult(status ->
+                    propertyAttributeVectorJpaRepository.deleteByPropertyIds(event.propertyIds()));
+        }
+    }
+
+    /**
+     * Build vectors for properties that have none yet, e.g. after the table was introduced.
+     * Each batch commits on its own.
+     *
+     * @return number of vectors built
+     */
+    public int backfill() {
+        int total = 0;
+        UUID afterId = null;
+        while (true) {
+            UUID after = afterId;
+            List<UUID> batch = newTransaction.execute(status -> after == null
+                    ? propertyAttributeVectorJpaRepository.findPropertyIdsWithoutVector(Limit.of(BACKFILL_BATCH_SIZE))
+                    : propertyAttributeVectorJpaRepository.findPropertyIdsWithoutVectorAfter(
+                            after, Limit.of(BACKFILL_BATCH_SIZE)));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            newTransaction.executeWithoutResult(status -> refresh(batch));
+            total += batch.size();
+            afterId = batch.get(batch.size() - 1);
+            if (batch.size() < BACKFILL_BATCH_SIZE) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Backfilled attribute vectors of {} properties", total);
+        }
+        return total;
+    }
+
+    /**
+     * Rebuild the vectors of specific properties from their attribute value rows, assigning
+     * slots to attributes that have none yet.
+     */
+    @Transactional
+    public void refresh(Collection<UUID> propertyIds) {
+        if (propertyIds.isEmpty()) {
+            return;
+        }
+        // Properties removed by the same change have nothing left to describe
+        List<UUID> existing = propertyAttributeVectorJpaRepository.findExistingPropertyIds(propertyIds);
+        List<PropertyAttributeValue> values = existing.isEmpty()
+                ? List.of()
+                : propertyAttributeValueJpaRepository.findByPropertyIds(existing);
+        Map<UUID, Integer> slots = slotsFor(values);
+        Map<UUID, List<PropertyAttributeValue>> valuesByProperty = values.stream()
+                .collect(Collectors.groupingBy(PropertyAttributeValue::getPropertyId));
+
+        List<PropertyAttributeVector> rows = existing.stream()
+                .map(propertyId -> toRow(propertyId, valuesByProperty.getOrDefault(propertyId, List.of()), slots))
+                .toList();
+        propertyAttributeVectorJpaRepository.deleteByPropertyIds(propertyIds);
+        propertyAttributeVectorJpaRepository.saveAll(rows);
+        log.debug("Refreshed attribute vectors of {} properties", rows.size());
+    }
+
+    /**
+     * Stored vector of a property, if it has been built.
+     */
+    @Transactional(readOnly = true)
+    public Optional<PropertyAttributeVector> findStored(UUID propertyId) {
+        return propertyAttributeVectorJpaRepository.findById(propertyId);
+    }
+
+    /**
+     * Vectors of the given properties, built from the value rows for properties without a
+     * stored vector. Values of attributes that have no slot yet are left out of those.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, AttributeVector> findVectors(Collection<UUID> propertyIds) {
+        if (propertyIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, AttributeVector> vectors = new HashMap<>();
+        propertyAttributeVectorJpaRepository.findAllById(propertyIds)
+                .forEach(row -> vectors.put(row.getPropertyId(), row.vector()));
+
+        Set<UUID> missing = new HashSet<>(propertyIds);
+        missing.removeAll(vectors.keySet());
+        if (!missing.isEmpty()) {
+            ReferenceDataSnapshot snapshot = referenceDataCache.snapshot();
+            Function<UUID, Integer> knownSlot = attributeId -> snapshot.findAttribute(attributeId)
+                    .map(ReferenceDataSnapshot.AttributeRef::slot)
+                    .filter(slot -> slot >= 0)
+                    .orElse(null);
+            propertyAttributeValueJpaRepository.findByPropertyIds(missing).stream()
+                    .collect(Collectors.groupingBy(PropertyAttributeValue::getPropertyId))
+                    .forEach((propertyId, values) -> vectors.put(propertyId, toVector(values, knownSlot)));
+        }
+        return vectors;
+    }
+
+    /**
+     * Numbers and true flags of the given properties keyed by attribute code, for read models
+     * that index attributes by code. Slots of attributes the snapshot no longer knows are skipped.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, CodedValues> findValuesByCode(Collection<UUID> propertyIds) {
+        ReferenceDataSnapshot snapshot = referenceDataCache.snapshot();
+        Map<UUID, CodedValues> result = new HashMap<>();
+        findVectors(propertyIds).forEach((propertyId, vector) -> {
+            Map<String, BigDecimal> numbers = new HashMap<>();
+            Set<String> trueFlags = new HashSet<>();
+            BitSet slots = vector.slots();
+            for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+                Optional<ReferenceDataSnapshot.AttributeRef> attribute = snapshot.findAttributeBySlot(slot);
+                if (attribute.isEmpty()) {
+                    continue;
+                }
+                if (vector.hasNumber(slot)) {
+                    numbers.put(attribute.get().code(), vector.number(slot));
+                } else if (vector.isTrue(slot)) {
+                    trueFlags.add(attribute.get().code());
+                }
+            }
+            result.put(propertyId, new CodedValues(numbers, trueFlags));
+        });
+        return result;
+    }
+
+    /**
+     * Slots of the attributes of {@code values}, assigning the next free slots to attributes
+     * that have none. Concurrent assignments on two nodes collide on the unique slot and fail
+     * the refresh, which then falls back as described on {@link #onListingChanged}.
+     */
+    private Map<UUID, Integer> slotsFor(Collection<PropertyAttributeValue> values) {
+        ReferenceDataSnapshot snapshot = referenceDataCache.snapshot();
+        Map<UUID, Integer> slots = new HashMap<>();
+        Set<UUID> unknown = new HashSet<>();
+        for (PropertyAttributeValue value : values) {
+            int slot = snapshot.findAttribute(value.getPropertyAttributeId())
+                    .map(ReferenceDataSnapshot.AttributeRef::slot)
+                    .orElse(ReferenceDataSnapshot.DETACHED);
+            if (slot >= 0) {
+                slots.put(value.getPropertyAttributeId(), slot);
+            } else {
+                unknown.add(value.getPropertyAttributeId());
+            }
+        }
+        if (unknown.isEmpty()) {
+            return slots;
+        }
+
+        propertyAttributeSlotJpaRepository.findAllById(unknown)
+                .forEach(row -> slots.put(row.getPropertyAttributeId(), row.getSlot()));
+        unknown.removeAll(slots.keySet());
+        if (!unknown.isEmpty()) {
+            int next = propertyAttributeSlotJpaRepository.findMaxSlot() + 1;
+            List<PropertyAttributeSlot> assigned = new ArrayList<>();
+            for (UUID attributeId : unknown.stream().sorted().toList()) {
+                assigned.add(PropertyAttributeSlot.builder().propertyAttributeId(attributeId).slot(next).build());
+                slots.put(attributeId, next++);
+            }
+            propertyAttributeSlotJpaRepository.saveAll(assigned);
+            log.info("Assigned attribute vector slots to {} attributes", assigned.size());
+        }
+        return slots;
+    }
+
+    private static PropertyAttributeVector toRow(
+            UUID propertyId, List<PropertyAttributeValue> values, Map<UUID, Integer> slots) {
+        LocalDateTime valuesUpdatedAt = values.stream()
+                .map(BaseEntity::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return PropertyAttributeVector.of(propertyId, toVector(values, slots::get), values.size(), valuesUpdatedAt);
+    }
+
+    private static AttributeVector toVector(List<PropertyAttributeValue> values, Function<UUID, Integer> slotOf) {
+        AttributeVector.Builder builder = AttributeVector.builder();
+        for (PropertyAttributeValue value : values) {
+            Integer slot = slotOf.apply(value.getPropertyAttributeId());
+            if (slot == null) {
+                continue;
+            }
+            if (value.getValueNumber() != null) {
+                builder.number(slot, value.getValueNumber());
+            } else if (value.getValueBoolean() != null) {
+                builder.flag(slot, value.getValueBoolean());
+            } else {
+                builder.text(slot, value.getValueText());
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.sep.realvista.application.location.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sep.realvista.domain.property.location.LocationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Location hierarchy a coordinate falls in. {@code locationId} is the most specific level.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResolvedLocationResponse {
+    @JsonProperty("location_id")
+    private UUID locationId;
+    private LocationType type;
+    @JsonProperty("city_id")
+    private UUID cityId;
+    @JsonProperty("city_name")
+    private String cityName;
+    @JsonProperty("district_id")
+    private UUID districtId;
+    @JsonProperty("district_name")
+    private String districtName;
+    @JsonProperty("ward_id")
+    private UUID wardId;
+    @JsonProperty("ward_name")
+    private String wardName;
+}
@@ -0,0 +1,62 @@
+package com.sep.realvista.application.location.search;
+
+import com.sep.realvista.domain.property.location.Location;
+import com.sep.realvista.domain.property.location.LocationType;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Flattened view of a location and its ancestors: the city, district and ward it belongs to
+ * (itself included) plus its own bounds. Levels above the hierarchy root are null.
+ */
+public record LocationAncestry(
+        UUID locationId,
+        LocationType type,
+        UUID cityId,
+        String cityName,
+        UUID districtId,
+        String districtName,
+        UUID wardId,
+        String wardName,
+        BigDecimal northLat,
+        BigDecimal southLat,
+        BigDecimal eastLng,
+        BigDecimal westLng) {
+
+    /**
+     * Builder-style accumulator used while walking a parent chain.
+     */
+    static final class Levels {
+
+        private UUID cityId;
+        private String cityName;
+        private UUID districtId;
+        private String districtName;
+        private UUID wardId;
+        private String wardName;
+
+        void add(Location location) {
+            switch (location.getType()) {
+                case WARD -> {
+                    wardId = location.getLocationId();
+                    wardName = location.getName();
+                }
+                case DISTRICT -> {
+                    districtId = location.getLocationId();
+                    districtName = location.getName();
+                }
+                case CITY -> {
+                    cityId = location.getLocationId();
+                    cityName = location.getName();
+                }
+            }
+        }
+
+        LocationAncestry of(Location location) {
+            return new LocationAncestry(location.getLocationId(), location.getType(),
+                    cityId, cityName, districtId, districtName, wardId, wardName,
+                    location.getNorthLat(), location.getSouthLat(), location.getEastLng(), location.getWestLng());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.sep.realvista.application.location.search;
+
+import com.sep.realvista.application.common.warmup.WarmupTask;
+import com.sep.realvista.domain.property.location.Location;
+import com.sep.realvista.domain.property.location.LocationRepository;
+import com.sep.realvista.domain.property.location.LocationType;
+import com.sep.realvista.domain.property.location.event.LocationsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Process-wide map from location id to its flattened {@link LocationAncestry}.
+ * <p>
+ * Rendering a location then costs a map lookup instead of walking lazy
+ * {@link Location#getParent()} associations. The whole map is rebuilt from one query and
+ * swapped in during startup warm-up and after every committed location change; it is also
+ * loaded on first use if a lookup arrives before warm-up finished. Locations can also be looked
+ * up by their code, as used by partner feeds.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LocationAncestryCache implements WarmupTask {
+
+    private final LocationRepository locationRepository;
+
+    private volatile Map<UUID, LocationAncestry> ancestries;
+    private volatile Map<String, UUID> idsByCode = Map.of();
+
+    @Override
+    public List<Runnable> jobs() {
+        return List.of(this::reload);
+    }
+
+    @EventListener
+    public void onLocationsChanged(LocationsChangedEvent event) {
+        reload();
+    }
+
+    /**
+     * Ancestry of an active location, or empty if the location is unknown to the cache
+     * (e.g. written by a transaction that has not committed yet).
+     */
+    public Optional<LocationAncestry> find(UUID locationId) {
+        if (locationId == null) {
+            return Optional.empty();
+        }
+        Map<UUID, LocationAncestry> current = ancestries;
+        if (current == null) {
+            current = reload();
+        }
+        return Optional.ofNullable(current.get(locationId));
+    }
+
+    /**
+     * Ancestry of the active location with the given code. Codes shared by several locations
+     * resolve to nothing rather than to an arbitrary one of them.
+     */
+    public Optional<LocationAncestry> findByCode(String code) {
+        if (code == null || code.isBlank()) {
+            return Optional.empty();
+        }
+        if (ancestries == null) {
+            reload();
+        }
+        return find(idsByCode.get(code.trim()));
+    }
+
+    /**
+     * Ancestry of {@code locationId} from the cache, falling back to walking the parent chain of
+     * {@code location} on a miss. Returns null if neither is available.
+     */
+    public LocationAncestry resolve(UUID locationId, Location location) {
+        return find(locationId).orElseGet(() -> location == null ? null : walk(location));
+    }
+
+    public synchronized Map<UUID, LocationAncestry> reload() {
+        List<Location> locations = locationRepository.findAllActive();
+        Map<UUID, Location> byId = locations.stream()
+                .collect(Collectors.toMap(Location::getLocationId, Function.identity()));
+
+        Map<UUID, LocationAncestry> loaded = new HashMap<>(locations.size() * 2);
+        Map<String, UUID> byCode = new HashMap<>(locations.size() * 2);
+        Set<String> sharedCodes = new HashSet<>();
+        for (Location location : locations) {
+            LocationAncestry.Levels levels = new LocationAncestry.Levels();
+            Location current = location;
+            // Bounded by the hierarchy depth; also guards against parent cycles in bad data
+            for (int depth = 0; current != null && depth < LocationType.values().length; depth++) {
+                levels.add(current);
+                current = current.getParentId() == null ? null : byId.get(current.getParentId());
+            }
+            loaded.put(location.getLocationId(), levels.of(location));
+            String code = location.getCode();
+            if (code != null && byCode.putIfAbsent(code, location.getLocationId()) != null) {
+                sharedCodes.add(code);
+            }
+        }
+        if (!sharedCodes.isEmpty()) {
+            log.warn("Location codes shared by several locations cannot be looked up: {}", sharedCodes);
+            byCode.keySet().removeAll(sharedCodes);
+        }
+
+        idsByCode = Map.copyOf(byCode);
+        ancestries = Map.copyOf(loaded);
+        log.info("Loaded location ancestry cache with {} locations", loaded.size());
+        return ancestries;
+    }
+
+    /**
+     * Flatten a location by walking its (possibly lazy) parent chain.
+     * Fallback for locations the cache does not know yet.
+     */
+    public static LocationAncestry walk(Location location) {
+        LocationAncestry.Levels levels = new LocationAncestry.Levels();
+        Location current = location;
+        for (int depth = 0; current != null && depth < LocationType.values().length; depth++) {
+            levels.add(current);
+            current = current.getParent();
+        }
+        return levels.of(location);
+    }
+}
@@ -0,0 +1,53 @@
+package com.sep.realvista.application.location.search;
+
+import com.sep.realvista.application.common.warmup.WarmupTask;
+import com.sep.realvista.domain.property.location.LocationRepository;
+import com.sep.realvista.domain.property.location.event.LocationsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Owns the process-wide {@link LocationSpatialIndex}.
+ * <p>
+ * Locations change rarely, so every committed change rebuilds the whole index off to the
+ * side and swaps it in; readers never wait on a lock.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LocationIndexService implements WarmupTask {
+
+    private final LocationRepository locationRepository;
+
+    private volatile LocationSpatialIndex index = LocationSpatialIndex.EMPTY;
+
+    @Override
+    public List<Runnable> jobs() {
+        return List.of(this::reload);
+    }
+
+    @EventListener
+    public void onLocationsChanged(LocationsChangedEvent event) {
+        log.debug("Reloading location index after changes to {}", event.locationIds());
+        reload();
+    }
+
+    public synchronized void reload() {
+        LocationSpatialIndex loaded = LocationSpatialIndex.of(locationRepository.findAllActive());
+        index = loaded;
+        log.info("Loaded location index with {} locations", loaded.size());
+    }
+
+    public Optional<LocationSpatialIndex.Resolution> resolve(double latitude, double longitude) {
+        return index.resolve(latitude, longitude);
+    }
+
+    public LocationSpatialIndex index() {
+        return index;
+    }
+}
@@ -0,0 +1,240 @@
+package com.sep.realvista.application.location.search;
+
+import com.sep.realvista.domain.property.location.Location;
+import com.sep.realvista.domain.property.location.LocationType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Immutable R-tree over the bounding boxes of every location, bulk-loaded with
+ * Sort-Tile-Recursive packing.
+ * <p>
+ * A point lookup descends only into nodes whose box contains the point, so resolving a
+ * coordinate touches a few dozen boxes regardless of how many wards are loaded. Locations
+ * are copied into {@link Entry} values on build, so the index holds no JPA state and can be
+ * shared between threads without locking.
+ */
+public final class LocationSpatialIndex {
+
+    static final int NODE_CAPACITY = 16;
+
+    public static final LocationSpatialIndex EMPTY = new LocationSpatialIndex(List.of());
+
+    private final Map<UUID, Entry> entriesById = new HashMap<>();
+    private final Node root;
+
+    /**
+     * Location bounds and hierarchy data, detached from the entity.
+     */
+    public record Entry(
+            UUID locationId,
+            UUID parentId,
+            LocationType type,
+            String name,
+            String code,
+            double south,
+            double west,
+            double north,
+            double east) {
+
+        public static Entry of(Location location) {
+            return new Entry(location.getLocationId(), location.getParentId(), location.getType(),
+                    location.getName(), location.getCode(),
+                    location.getSouthLat().doubleValue(), location.getWestLng().doubleValue(),
+                    location.getNorthLat().doubleValue(), location.getEastLng().doubleValue());
+        }
+
+        public boolean contains(double latitude, double longitude) {
+            return latitude >= south && latitude <= north && longitude >= west && longitude <= east;
+        }
+
+        double area() {
+            return (north - south) * (east - west);
+        }
+    }
+
+    /**
+     * Ward, district and city a coordinate falls in; levels that could not be resolved are null.
+     */
+    public record Resolution(Entry ward, Entry district, Entry city) {
+
+        /**
+         * The most specific resolved level.
+         */
+        public Entry deepest() {
+            return ward != null ? ward : district != null ? district : city;
+        }
+    }
+
+    public LocationSpatialIndex(Collection<Entry> entries) {
+        entries.forEach(entry -> entriesById.put(entry.locationId(), entry));
+        root = entries.isEmpty() ? null : build(entries);
+    }
+
+    public static LocationSpatialIndex of(Collection<Location> locations) {
+        return new LocationSpatialIndex(locations.stream()
+                .filter(location -> location.getSouthLat() != null && location.getNorthLat() != null
+                        && location.getWestLng() != null && location.getEastLng() != null)
+                .map(Entry::of)
+                .toList());
+    }
+
+    public int size() {
+        return entriesById.size();
+    }
+
+    public Optional<Entry> get(UUID locationId) {
+        return Optional.ofNullable(entriesById.get(locationId));
+    }
+
+    /**
+     * Every location whose bounds contain the coordinate, in no particular order.
+     */
+    public List<Entry> containing(double latitude, double longitude) {
+        List<Entry> hits = new ArrayList<>();
+        if (root == null) {
+            return hits;
+        }
+        List<Node> stack = new ArrayList<>();
+        stack.add(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.remove(stack.size() - 1);
+            if (!node.contains(latitude, longitude)) {
+                continue;
+            }
+            if (node.entries != null) {
+                for (Entry entry : node.entries) {
+                    if (entry.contains(latitude, longitude)) {
+                        hits.add(entry);
+                    }
+                }
+            } else {
+                stack.addAll(Arrays.asList(node.children));
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Resolve a coordinate to its ward, district and city.
+     * <p>
+     * Bounding boxes of neighbouring locations overlap, so the most specific containing
+     * location wins, preferring the smallest box; its parent chain fills the other levels.
+     * Parents are followed even when their own box misses the point, keeping the result
+     * consistent with the stored hierarchy.
+     */
+    public Optional<Resolution> resolve(double latitude, double longitude) {
+        return containing(latitude, longitude).stream()
+                .min(Comparator.comparing((Entry entry) -> entry.type().ordinal()).reversed()
+                        .thenComparingDouble(Entry::area))
+                .map(this::resolutionOf);
+    }
+
+    private Resolution resolutionOf(Entry deepest) {
+        Entry ward = null;
+        Entry district = null;
+        Entry city = null;
+        Entry current = deepest;
+        // Bounded by the hierarchy depth; also guards against parent cycles in bad data
+        for (int depth = 0; current != null && depth < LocationType.values().length; depth++) {
+            switch (current.type()) {
+                case WARD -> ward = current;
+                case DISTRICT -> district = current;
+                case CITY -> city = current;
+            }
+            current = current.parentId() == null ? null : entriesById.get(current.parentId());
+        }
+        return new Resolution(ward, district, city);
+    }
+
+    private static Node build(Collection<Entry> entries) {
+        List<Node> level = new ArrayList<>();
+        for (List<Entry> group : pack(new ArrayList<>(entries), Entry::west, Entry::east,
+                Entry::south, Entry::north)) {
+            level.add(Node.leaf(group.toArray(Entry[]::new)));
+        }
+        while (level.size() > 1) {
+            List<Node> parents = new ArrayList<>();
+            for (List<Node> group : pack(level, node -> node.west, node -> node.east,
+                    node -> node.south, node -> node.north)) {
+                parents.add(Node.branch(group.toArray(Node[]::new)));
+            }
+            level = parents;
+        }
+        return level.get(0);
+    }
+
+    /**
+     * Sort-Tile-Recursive grouping: sort by x center into vertical slices of
+     * {@code sqrt(n / capacity)} tiles, then sort each slice by y center and cut it into runs.
+     */
+    private static <T> List<List<T>> pack(
+            List<T> items,
+            ToDoubleFunction<T> west,
+            ToDoubleFunction<T> east,
+            ToDoubleFunction<T> south,
+            ToDoubleFunction<T> north) {
+        int nodeCount = (items.size() + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceCount = (int) Math.ceil(Math.sqrt(nodeCount));
+        int sliceSize = sliceCount * NODE_CAPACITY;
+
+        items.sort(Comparator.comparingDouble(item -> west.applyAsDouble(item) + east.applyAsDouble(item)));
+        List<List<T>> groups = new ArrayList<>(nodeCount);
+        for (int sliceStart = 0; sliceStart < items.size(); sliceStart += sliceSize) {
+            List<T> slice = new ArrayList<>(items.subList(sliceStart, Math.min(sliceStart + sliceSize, items.size())));
+            slice.sort(Comparator.comparingDouble(item -> south.applyAsDouble(item) + north.applyAsDouble(item)));
+            for (int start = 0; start < slice.size(); start += NODE_CAPACITY) {
+                groups.add(slice.subList(start, Math.min(start + NODE_CAPACITY, slice.size())));
+            }
+        }
+        return groups;
+    }
+
+    private static final class Node {
+
+        private double south = Double.POSITIVE_INFINITY;
+        private double west = Double.POSITIVE_INFINITY;
+        private double north = Double.NEGATIVE_INFINITY;
+        private double east = Double.NEGATIVE_INFINITY;
+        private Node[] children;
+        private Entry[] entries;
+
+        static Node leaf(Entry[] entries) {
+            Node node = new Node();
+            node.entries = entries;
+            for (Entry entry : entries) {
+                node.extend(entry.south(), entry.west(), entry.north(), entry.east());
+            }
+            return node;
+        }
+
+        static Node branch(Node[] children) {
+            Node node = new Node();
+            node.children = children;
+            for (Node child : children) {
+                node.extend(child.south, child.west, child.north, child.east);
+            }
+            return node;
+        }
+
+        boolean contains(double latitude, double longitude) {
+            return latitude >= south && latitude <= north && longitude >= west && longitude <= east;
+        }
+
+        private void extend(double entrySouth, double entryWest, double entryNorth, double entryEast) {
+            south = Math.min(south, entrySouth);
+            west = Math.min(west, entryWest);
+            north = Math.max(north, entryNorth);
+            east = Math.max(east, entryEast);
+        }
+    }
+}
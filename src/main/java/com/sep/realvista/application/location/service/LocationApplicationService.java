@@ -0,0 +1,57 @@
+package com.sep.realvista.application.location.service;
+
+import com.sep.realvista.application.location.dto.LocationResolveRequest;
+import com.sep.realvista.application.location.dto.ResolvedLocationResponse;
+import com.sep.realvista.application.location.search.LocationIndexService;
+import com.sep.realvista.application.location.search.LocationSpatialIndex;
+import com.sep.realvista.domain.common.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Application service for location lookups.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LocationApplicationService {
+
+    private final LocationIndexService locationIndexService;
+
+    /**
+     * Resolve a coordinate to its ward, district and city from the in-memory location index.
+     */
+    public ResolvedLocationResponse resolve(LocationResolveRequest request) {
+        LocationSpatialIndex.Resolution resolution = locationIndexService
+                .resolve(request.getLatitude(), request.getLongitude())
+                .orElseThrow(() -> new ResourceNotFoundException(String.format(
+                        "No location contains coordinate %s,%s", request.getLatitude(), request.getLongitude())));
+
+        LocationSpatialIndex.Entry deepest = resolution.deepest();
+        log.debug("Resolved {},{} to location {}", request.getLatitude(), request.getLongitude(),
+                deepest.locationId());
+
+        return ResolvedLocationResponse.builder()
+                .locationId(deepest.locationId())
+                .type(deepest.type())
+                .cityId(idOf(resolution.city()))
+                .cityName(nameOf(resolution.city()))
+                .districtId(idOf(resolution.district()))
+                .districtName(nameOf(resolution.district()))
+                .wardId(idOf(resolution.ward()))
+                .wardName(nameOf(resolution.ward()))
+                .build();
+    }
+
+    private static UUID idOf(LocationSpatialIndex.Entry entry) {
+        return Optional.ofNullable(entry).map(LocationSpatialIndex.Entry::locationId).orElse(null);
+    }
+
+    private static String nameOf(LocationSpatialIndex.Entry entry) {
+        return Optional.ofNullable(entry).map(LocationSpatialIndex.Entry::name).orElse(null);
+    }
+}
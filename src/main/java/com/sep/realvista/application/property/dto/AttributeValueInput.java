@@ -0,0 +1,38 @@
+package com.sep.realvista.application.property.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Value of one attribute of a property. Exactly one value matching the attribute's data type
+ * sets it; no value at all removes it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Attribute value keyed by attribute code; omit all values to remove the attribute")
+public class AttributeValueInput {
+
+    @NotBlank(message = "Attribute code is required")
+    @Size(max = 50, message = "Attribute code must not exceed 50 characters")
+    private String attributeCode;
+
+    private BigDecimal valueNumber;
+
+    @Size(max = 255, message = "Text value must not exceed 255 characters")
+    private String valueText;
+
+    private Boolean valueBoolean;
+
+    public boolean isRemoval() {
+        return valueNumber == null && valueText == null && valueBoolean == null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.sep.realvista.application.property.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Attribute values for many properties, e.g. from a data import.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Attribute values of many properties, written in one transaction")
+public class BulkPropertyAttributesRequest {
+
+    public static final int MAX_PROPERTIES = 1000;
+
+    @NotEmpty(message = "Properties are required")
+    @Size(max = MAX_PROPERTIES, message = "At most " + MAX_PROPERTIES + " properties can be written at once")
+    private List<@NotNull(message = "Property entry must not be null") @Valid PropertyAttributesUpsertRequest>
+            properties;
+}
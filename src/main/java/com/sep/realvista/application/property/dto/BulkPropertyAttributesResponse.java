@@ -0,0 +1,26 @@
+package com.sep.realvista.application.property.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Per-property outcomes of a bulk attribute write, in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkPropertyAttributesResponse {
+    @JsonProperty("applied_count")
+    private int appliedCount;
+    @JsonProperty("unchanged_count")
+    private int unchangedCount;
+    @JsonProperty("failed_count")
+    private int failedCount;
+    private List<PropertyAttributesUpsertResult> results;
+}
@@ -0,0 +1,39 @@
+package com.sep.realvista.application.property.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Attribute values to write for one property.
+ * <p>
+ * By default only the listed attributes change. With {@code replace}, the listed attributes
+ * become the complete set and every other attribute of the property is removed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Attribute values of one property")
+public class PropertyAttributesUpsertRequest {
+
+    public static final int MAX_ATTRIBUTES = 200;
+
+    @Schema(description = "Target property; taken from the path on single-property updates")
+    private UUID propertyId;
+
+    @Schema(description = "Remove attributes of the property that are not listed")
+    private boolean replace;
+
+    @NotNull(message = "Attributes are required")
+    @Size(max = MAX_ATTRIBUTES, message = "At most " + MAX_ATTRIBUTES + " attributes can be written per property")
+    private List<@NotNull(message = "Attribute value must not be null") @Valid AttributeValueInput> attributes;
+}
@@ -0,0 +1,44 @@
+package com.sep.realvista.application.property.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of writing the attribute values of one property.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyAttributesUpsertResult {
+
+    public enum Status {
+        /**
+         * At least one value was inserted, updated or removed.
+         */
+        APPLIED,
+        /**
+         * The request matched the stored values.
+         */
+        UNCHANGED,
+        /**
+         * Nothing was written because at least one value failed validation.
+         */
+        REJECTED,
+        NOT_FOUND
+    }
+
+    @JsonProperty("property_id")
+    private UUID propertyId;
+    private Status status;
+    private int inserted;
+    private int updated;
+    private int removed;
+    private List<String> errors;
+}
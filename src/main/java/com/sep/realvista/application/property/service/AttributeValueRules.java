@@ -0,0 +1,107 @@
+package com.sep.realvista.application.property.service;
+
+import com.sep.realvista.application.property.dto.AttributeValueInput;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.AttributeRef;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Checks and stores attribute values according to the data type of their attribute.
+ * Shared by every path that writes {@link PropertyAttributeValue} rows.
+ */
+public final class AttributeValueRules {
+
+    /**
+     * {@code value_number} is NUMERIC(12, 2).
+     */
+    private static final int NUMBER_SCALE = 2;
+    private static final int NUMBER_INTEGER_DIGITS = 10;
+    private static final int TEXT_MAX_LENGTH = 255;
+
+    private AttributeValueRules() {
+    }
+
+    /**
+     * Add a message to {@code errors} if {@code input} is not a valid value of {@code attribute}.
+     * Removals (all values null) are always valid.
+     */
+    public static void validate(AttributeRef attribute, AttributeValueInput input, List<String> errors) {
+        if (input.isRemoval()) {
+            return;
+        }
+        String code = attribute.code();
+        switch (attribute.dataType()) {
+            case NUMBER -> {
+                BigDecimal number = input.getValueNumber();
+                if (number == null || input.getValueText() != null || input.getValueBoolean() != null) {
+                    errors.add("Attribute '" + code + "' expects a number");
+                } else if (number.stripTrailingZeros().scale() > NUMBER_SCALE) {
+                    errors.add("Attribute '" + code + "' allows at most " + NUMBER_SCALE + " decimal places");
+                } else if (number.precision() - number.scale() > NUMBER_INTEGER_DIGITS) {
+                    errors.add("Attribute '" + code + "' is out of range");
+                }
+            }
+            case BOOLEAN -> {
+                if (input.getValueBoolean() == null || input.getValueNumber() != null || input.getValueText() != null) {
+                    errors.add("Attribute '" + code + "' expects true or false");
+                }
+            }
+            case TEXT -> {
+                if (input.getValueText() == null || input.getValueText().isBlank()
+                        || input.getValueNumber() != null || input.getValueBoolean() != null) {
+                    errors.add("Attribute '" + code + "' expects a non-blank text");
+                } else if (input.getValueText().length() > TEXT_MAX_LENGTH) {
+                    errors.add("Attribute '" + code + "' must not exceed " + TEXT_MAX_LENGTH + " characters");
+                }
+            }
+        }
+    }
+
+    /**
+     * Typed value of {@code attribute} from its textual form, as found in CSV cells and loosely
+     * typed feeds. Blank text is a removal; text that does not parse is kept as text so that
+     * {@link #validate} reports it.
+     */
+    public static AttributeValueInput parse(AttributeRef attribute, String raw) {
+        AttributeValueInput.AttributeValueInputBuilder input = AttributeValueInput.builder()
+                .attributeCode(attribute.code());
+        if (raw == null || raw.isBlank()) {
+            return input.build();
+        }
+        String value = raw.trim();
+        switch (attribute.dataType()) {
+            case NUMBER -> {
+                try {
+                    input.valueNumber(new BigDecimal(value));
+                } catch (NumberFormatException e) {
+                    input.valueText(value);
+                }
+            }
+            case BOOLEAN -> {
+                switch (value.toLowerCase(Locale.ROOT)) {
+                    case "true", "yes", "1" -> input.valueBoolean(true);
+                    case "false", "no", "0" -> input.valueBoolean(false);
+                    default -> input.valueText(value);
+                }
+            }
+            case TEXT -> input.valueText(value);
+        }
+        return input.build();
+    }
+
+    /**
+     * Store a validated, non-removal {@code input} in {@code row}.
+     */
+    public static void write(PropertyAttributeValue row, AttributeRef attribute, AttributeValueInput input) {
+        switch (attribute.dataType()) {
+            case NUMBER -> row.updateNumberValue(
+                    input.getValueNumber().setScale(NUMBER_SCALE, RoundingMode.UNNECESSARY));
+            case BOOLEAN -> row.updateBooleanValue(input.getValueBoolean());
+            case TEXT -> row.updateTextValue(input.getValueText());
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.sep.realvista.application.property.service;
+
+import com.sep.realvista.application.property.dto.AttributeValueInput;
+import com.sep.realvista.application.property.dto.BulkPropertyAttributesResponse;
+import com.sep.realvista.application.property.dto.PropertyAttributesUpsertRequest;
+import com.sep.realvista.application.property.dto.PropertyAttributesUpsertResult;
+import com.sep.realvista.application.property.dto.PropertyAttributesUpsertResult.Status;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataCache;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.AttributeRef;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.TypeAttributeRef;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.TypeRef;
+import com.sep.realvista.domain.common.exception.ResourceNotFoundException;
+import com.sep.realvista.domain.property.Property;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeValue;
+import com.sep.realvista.domain.user.User;
+import com.sep.realvista.domain.user.UserRepository;
+import com.sep.realvista.infrastructure.persistence.property.PropertyJpaRepository;
+import com.sep.realvista.infrastructure.persistence.property.attribute.PropertyAttributeValueJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the attribute values of one or many properties.
+ * <p>
+ * Values are validated against the attributes assigned to each property's type (taken from the
+ * reference data snapshot) and diffed against the stored rows, so only changed values are
+ * written. All properties of a request share three queries (properties, stored values and one
+ * batched insert); updates and removals are flushed as JDBC batches on commit. A property with
+ * an invalid value is rejected as a whole while the other properties are still applied.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PropertyAttributeBulkService {
+
+    private final PropertyJpaRepository propertyJpaRepository;
+    private final PropertyAttributeValueJpaRepository propertyAttributeValueJpaRepository;
+    private final UserRepository userRepository;
+    private final ReferenceDataCache referenceDataCache;
+
+    /**
+     * Write the attribute values of a property owned by the acting user.
+     *
+     * @throws ResourceNotFoundException if the property does not exist
+     * @throws AccessDeniedException     if the acting user does not own it
+     */
+    @Transactional
+    public PropertyAttributesUpsertResult upsertOwned(
+            UUID propertyId, PropertyAttributesUpsertRequest request, String actorEmail) {
+        Property property = propertyJpaRepository.findActiveById(propertyId)
+                .orElseThrow(() -> new ResourceNotFoundException("Property", propertyId));
+        UUID actorId = userRepository.findByEmailValue(actorEmail)
+                .map(User::getUserId)
+                .orElse(null);
+        if (actorId == null || !actorId.equals(property.getOwnerId())) {
+            throw new AccessDeniedException("Only the owner can change the attributes of property " + propertyId);
+        }
+        request.setPropertyId(propertyId);
+        return upsertAll(List.of(request)).getResults().get(0);
+    }
+
+    /**
+     * Write the attribute values of many properties in one transaction.
+     *
+     * @return one result per request entry, in request order
+     */
+    @Transactional
+    public BulkPropertyAttributesResponse upsertAll(List<PropertyAttributesUpsertRequest> requests) {
+        Set<UUID> propertyIds = requests.stream()
+                .map(PropertyAttributesUpsertRequest::getPropertyId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, Property> properties = propertyIds.isEmpty() ? Map.of()
+                : propertyJpaRepository.findAllById(propertyIds).stream()
+                        .filter(property -> !Boolean.TRUE.equals(property.getDeleted()))
+                        .collect(Collectors.toMap(Property::getPropertyId, Function.identity()));
+        Map<UUID, Map<UUID, PropertyAttributeValue>> stored = new HashMap<>();
+        if (!properties.isEmpty()) {
+            propertyAttributeValueJpaRepository.findAllByPropertyIdsIncludingDeleted(properties.keySet())
+                    .forEach(value -> stored.computeIfAbsent(value.getPropertyId(), id -> new HashMap<>())
+                            .put(value.getPropertyAttributeId(), value));
+        }
+
+        List<PropertyAttributeValue> inserts = new ArrayList<>();
+        List<PropertyAttributesUpsertResult> results = new ArrayList<>(requests.size());
+        Set<UUID> seen = new HashSet<>();
+        for (PropertyAttributesUpsertRequest request : requests) {
+            UUID propertyId = request.getPropertyId();
+            if (propertyId == null) {
+                results.add(rejected(null, List.of("Property id is required")));
+            } else if (!seen.add(propertyId)) {
+                results.add(rejected(propertyId, List.of("Property is listed more than once")));
+            } else if (!properties.containsKey(propertyId)) {
+                results.add(PropertyAttributesUpsertResult.builder()
+                        .propertyId(propertyId).status(Status.NOT_FOUND).errors(List.of()).build());
+            } else {
+                results.add(apply(request, properties.get(propertyId),
+                        stored.getOrDefault(propertyId, Map.of()), inserts));
+            }
+        }
+        if (!inserts.isEmpty()) {
+            propertyAttributeValueJpaRepository.saveAll(inserts);
+        }
+
+        Map<Status, Long> counts = results.stream()
+                .collect(Collectors.groupingBy(PropertyAttributesUpsertResult::getStatus, Collectors.counting()));
+        BulkPropertyAttributesResponse response = BulkPropertyAttributesResponse.builder()
+                .appliedCount(counts.getOrDefault(Status.APPLIED, 0L).intValue())
+                .unchangedCount(counts.getOrDefault(Status.UNCHANGED, 0L).intValue())
+                .failedCount(counts.getOrDefault(Status.REJECTED, 0L).intValue()
+                        + counts.getOrDefault(Status.NOT_FOUND, 0L).intValue())
+                .results(results)
+                .build();
+        log.info("Wrote attributes of {} properties: {} applied, {} unchanged, {} failed, {} values inserted",
+                requests.size(), response.getAppliedCount(), response.getUnchangedCount(),
+                response.getFailedCount(), inserts.size());
+        return response;
+    }
+
+    private PropertyAttributesUpsertResult apply(
+            PropertyAttributesUpsertRequest request,
+            Property property,
+            Map<UUID, PropertyAttributeValue> stored,
+            List<PropertyAttributeValue> inserts) {
+        TypeRef type = referenceDataCache.snapshot().findType(property.getPropertyTypeId()).orElse(null);
+        if (type == null) {
+            return rejected(property.getPropertyId(), List.of("Property type of the property is not available"));
+        }
+        Map<String, TypeAttributeRef> allowed = type.attributes().stream()
+                .collect(Collectors.toMap(ref -> ref.attribute().code(), Function.identity()));
+
+        List<String> errors = new ArrayList<>();
+        Map<UUID, AttributeValueInput> wanted = new LinkedHashMap<>();
+        Map<UUID, AttributeRef> attributes = new HashMap<>();
+        for (AttributeValueInput input : request.getAttributes()) {
+            TypeAttributeRef ref = allowed.get(input.getAttributeCode());
+            if (ref == null) {
+                errors.add("Attribute '" + input.getAttributeCode() + "' is not defined for property type '"
+                        + type.code() + "'");
+                continue;
+            }
+            if (wanted.putIfAbsent(ref.attribute().id(), input) != null) {
+                errors.add("Attribute '" + input.getAttributeCode() + "' is listed more than once");
+                continue;
+            }
+            attributes.put(ref.attribute().id(), ref.attribute());
+            AttributeValueRules.validate(ref.attribute(), input, errors);
+        }
+        for (TypeAttributeRef ref : type.attributes()) {
+            AttributeValueInput input = wanted.get(ref.attribute().id());
+            boolean removed = input != null ? input.isRemoval() : request.isReplace();
+            if (ref.required() && removed) {
+                errors.add("Attribute '" + ref.attribute().code() + "' is required");
+            }
+        }
+        if (!errors.isEmpty()) {
+            return rejected(property.getPropertyId(), errors);
+        }
+
+        int inserted = 0;
+        int updated = 0;
+        int removed = 0;
+        for (Map.Entry<UUID, AttributeValueInput> entry : wanted.entrySet()) {
+            PropertyAttributeValue row = stored.get(entry.getKey());
+            boolean active = row != null && !Boolean.TRUE.equals(row.getDeleted());
+            AttributeValueInput input = entry.getValue();
+            if (input.isRemoval()) {
+                if (active) {
+                    row.markAsDeleted();
+                    removed++;
+                }
+            } else if (row == null) {
+                PropertyAttributeValue value = PropertyAttributeValue.builder()
+                        .propertyId(property.getPropertyId())
+                        .propertyAttributeId(entry.getKey())
+                        .build();
+                AttributeValueRules.write(value, attributes.get(entry.getKey()), input);
+                inserts.add(value);
+                inserted++;
+            } else if (!active) {
+                row.restore();
+                AttributeValueRules.write(row, attributes.get(entry.getKey()), input);
+                inserted++;
+            } else if (!matches(row, attributes.get(entry.getKey()), input)) {
+                AttributeValueRules.write(row, attributes.get(entry.getKey()), input);
+                updated++;
+            }
+        }
+        if (request.isReplace()) {
+            for (PropertyAttributeValue row : stored.values()) {
+                if (!Boolean.TRUE.equals(row.getDeleted()) && !wanted.containsKey(row.getPropertyAttributeId())) {
+                    row.markAsDeleted();
+                    removed++;
+                }
+            }
+        }
+
+        return PropertyAttributesUpsertResult.builder()
+                .propertyId(property.getPropertyId())
+                .status(inserted + updated + removed > 0 ? Status.APPLIED : Status.UNCHANGED)
+                .inserted(inserted)
+                .updated(updated)
+                .removed(removed)
+                .errors(List.of())
+                .build();
+    }
+
+    private static boolean matches(PropertyAttributeValue row, AttributeRef attribute, AttributeValueInput input) {
+        return switch (attribute.dataType()) {
+            case NUMBER -> row.getValueNumber() != null && row.getValueNumber().compareTo(input.getValueNumber()) == 0
+                    && row.getValueText() == null && row.getValueBoolean() == null;
+            case BOOLEAN -> input.getValueBoolean().equals(row.getValueBoolean())
+                    && row.getValueNumber() == null && row.getValueText() == null;
+            case TEXT -> input.getValueText().equals(row.getValueText())
+                    && row.getValueNumber() == null && row.getValueBoolean() == null;
+        };
+    }
+
+    private static PropertyAttributesUpsertResult rejected(UUID propertyId, Collection<String> errors) {
+        return PropertyAttributesUpsertResult.builder()
+                .propertyId(propertyId)
+                .status(Status.REJECTED)
+                .errors(List.copyOf(errors))
+                .build();
+    }
+}
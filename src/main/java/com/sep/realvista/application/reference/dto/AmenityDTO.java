@@ -0,0 +1,25 @@
+package com.sep.realvista.application.reference.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sep.realvista.domain.property.amenity.AmenityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Amenity that a property can offer.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AmenityDTO {
+    @JsonProperty("amenity_id")
+    private UUID amenityId;
+    private String name;
+    private AmenityType type;
+    private String description;
+}
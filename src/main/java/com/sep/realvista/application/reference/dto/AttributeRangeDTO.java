@@ -0,0 +1,27 @@
+package com.sep.realvista.application.reference.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Configured value range of a numeric attribute, as offered by filter UIs.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttributeRangeDTO {
+    @JsonProperty("range_id")
+    private UUID rangeId;
+    private String label;
+    @JsonProperty("min_value")
+    private BigDecimal minValue;
+    @JsonProperty("max_value")
+    private BigDecimal maxValue;
+}
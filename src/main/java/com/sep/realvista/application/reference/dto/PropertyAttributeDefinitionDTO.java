@@ -0,0 +1,31 @@
+package com.sep.realvista.application.reference.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sep.realvista.domain.property.attribute.AttributeDataType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Property attribute definition with its filter ranges.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyAttributeDefinitionDTO {
+    @JsonProperty("attribute_id")
+    private UUID attributeId;
+    private String code;
+    private String name;
+    @JsonProperty("data_type")
+    private AttributeDataType dataType;
+    private Boolean searchable;
+    private String icon;
+    private String unit;
+    private List<AttributeRangeDTO> ranges;
+}
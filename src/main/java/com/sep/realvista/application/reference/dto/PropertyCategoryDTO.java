@@ -0,0 +1,26 @@
+package com.sep.realvista.application.reference.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Property category with its active property types.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyCategoryDTO {
+    @JsonProperty("property_category_id")
+    private UUID propertyCategoryId;
+    private String code;
+    private String name;
+    @JsonProperty("property_types")
+    private List<PropertyTypeDTO> propertyTypes;
+}
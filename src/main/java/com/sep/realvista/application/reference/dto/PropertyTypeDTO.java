@@ -0,0 +1,29 @@
+package com.sep.realvista.application.reference.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Property type with the codes of the attributes it uses.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyTypeDTO {
+    @JsonProperty("property_type_id")
+    private UUID propertyTypeId;
+    private String code;
+    private String name;
+    private String description;
+    @JsonProperty("attribute_codes")
+    private List<String> attributeCodes;
+    @JsonProperty("required_attribute_codes")
+    private List<String> requiredAttributeCodes;
+}
@@ -0,0 +1,22 @@
+package com.sep.realvista.application.reference.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Property reference data for filter and listing forms, with the snapshot version it was built from.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReferenceDataResponse {
+    private String version;
+    private List<PropertyCategoryDTO> categories;
+    private List<PropertyAttributeDefinitionDTO> attributes;
+    private List<AmenityDTO> amenities;
+}
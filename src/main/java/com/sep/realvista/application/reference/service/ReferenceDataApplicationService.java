@@ -0,0 +1,121 @@
+package com.sep.realvista.application.reference.service;
+
+import com.sep.realvista.application.reference.dto.AmenityDTO;
+import com.sep.realvista.application.reference.dto.AttributeRangeDTO;
+import com.sep.realvista.application.reference.dto.PropertyAttributeDefinitionDTO;
+import com.sep.realvista.application.reference.dto.PropertyCategoryDTO;
+import com.sep.realvista.application.reference.dto.PropertyTypeDTO;
+import com.sep.realvista.application.reference.dto.ReferenceDataResponse;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataCache;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.AttributeRef;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.TypeAttributeRef;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.TypeRef;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Application service for property reference data, served from the {@link ReferenceDataCache}.
+ * <p>
+ * The response is built once per snapshot and reused until the snapshot is replaced.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataApplicationService {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    private volatile Rendered rendered;
+
+    private record Rendered(ReferenceDataSnapshot snapshot, ReferenceDataResponse response) {
+    }
+
+    /**
+     * Categories with their active property types, attribute definitions with their ranges, and
+     * amenities.
+     */
+    public ReferenceDataResponse getReferenceData() {
+        ReferenceDataSnapshot snapshot = referenceDataCache.snapshot();
+        Rendered current = rendered;
+        if (current == null || current.snapshot() != snapshot) {
+            current = new Rendered(snapshot, toResponse(snapshot));
+            rendered = current;
+            log.debug("Rendered reference data snapshot {}", snapshot.version().tag());
+        }
+        return current.response();
+    }
+
+    private static ReferenceDataResponse toResponse(ReferenceDataSnapshot snapshot) {
+        Map<UUID, List<PropertyTypeDTO>> typesByCategory = snapshot.types().stream()
+                .filter(TypeRef::isActive)
+                .filter(type -> type.category() != null)
+                .collect(Collectors.groupingBy(type -> type.category().id(),
+                        Collectors.mapping(ReferenceDataApplicationService::toTypeDTO, Collectors.toList())));
+
+        return ReferenceDataResponse.builder()
+                .version(snapshot.version().tag())
+                .categories(snapshot.categories().stream()
+                        .map(category -> PropertyCategoryDTO.builder()
+                                .propertyCategoryId(category.id())
+                                .code(category.code())
+                                .name(category.name())
+                                .propertyTypes(typesByCategory.getOrDefault(category.id(), List.of()))
+                                .build())
+                        .toList())
+                .attributes(snapshot.attributes().stream()
+                        .map(ReferenceDataApplicationService::toAttributeDTO)
+                        .toList())
+                .amenities(snapshot.amenities().stream()
+                        .map(amenity -> AmenityDTO.builder()
+                                .amenityId(amenity.id())
+                                .name(amenity.name())
+                                .type(amenity.type())
+                                .description(amenity.description())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private static PropertyTypeDTO toTypeDTO(TypeRef type) {
+        return PropertyTypeDTO.builder()
+                .propertyTypeId(type.id())
+                .code(type.code())
+                .name(type.name())
+                .description(type.description())
+                .attributeCodes(type.attributes().stream()
+                        .map(typeAttribute -> typeAttribute.attribute().code())
+                        .toList())
+                .requiredAttributeCodes(type.attributes().stream()
+                        .filter(TypeAttributeRef::required)
+                        .map(typeAttribute -> typeAttribute.attribute().code())
+                        .toList())
+                .build();
+    }
+
+    private static PropertyAttributeDefinitionDTO toAttributeDTO(AttributeRef attribute) {
+        return PropertyAttributeDefinitionDTO.builder()
+                .attributeId(attribute.id())
+                .code(attribute.code())
+                .name(attribute.name())
+                .dataType(attribute.dataType())
+                .searchable(attribute.searchable())
+                .icon(attribute.icon())
+                .unit(attribute.unit())
+                .ranges(attribute.ranges().stream()
+                        .map(range -> AttributeRangeDTO.builder()
+                                .rangeId(range.id())
+                                .label(range.label())
+                                .minValue(range.minValue())
+                                .maxValue(range.maxValue())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
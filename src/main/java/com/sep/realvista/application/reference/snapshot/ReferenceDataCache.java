@@ -0,0 +1,122 @@
+package com.sep.realvista.application.reference.snapshot;
+
+import com.sep.realvista.application.common.warmup.WarmupTask;
+import com.sep.realvista.domain.property.PropertyType;
+import com.sep.realvista.domain.property.attribute.PropertyAttribute;
+import com.sep.realvista.domain.property.event.ReferenceDataChangedEvent;
+import com.sep.realvista.infrastructure.persistence.property.PropertyCategoryJpaRepository;
+import com.sep.realvista.infrastructure.persistence.property.PropertyTypeJpaRepository;
+import com.sep.realvista.infrastructure.persistence.property.amenity.AmenityJpaRepository;
+import com.sep.realvista.infrastructure.persistence.property.attribute.PropertyAttributeJpaRepository;
+import com.sep.realvista.infrastructure.persistence.property.attribute.PropertyAttributeRangeJpaRepository;
+import com.sep.realvista.infrastructure.persistence.property.attribute.PropertyAttributeSlotJpaRepository;
+import com.sep.realvista.infrastructure.persistence.property.attribute.PropertyTypeAttributeJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Holds the current {@link ReferenceDataSnapshot}.
+ * <p>
+ * The snapshot is built from one read-only transaction during startup warm-up and rebuilt and
+ * swapped in after every committed reference data change; readers never wait on a lock. It is
+ * also loaded on first use if a lookup arrives before warm-up finished.
+ */
+@Component
+@Slf4j
+public class ReferenceDataCache implements WarmupTask {
+
+    private final PropertyCategoryJpaRepository propertyCategoryJpaRepository;
+    private final PropertyTypeJpaRepository propertyTypeJpaRepository;
+    private final PropertyAttributeJpaRepository propertyAttributeJpaRepository;
+    private final PropertyAttributeRangeJpaRepository propertyAttributeRangeJpaRepository;
+    private final PropertyTypeAttributeJpaRepository propertyTypeAttributeJpaRepository;
+    private final AmenityJpaRepository amenityJpaRepository;
+    private final PropertyAttributeSlotJpaRepository propertyAttributeSlotJpaRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile ReferenceDataSnapshot snapshot;
+
+    public ReferenceDataCache(
+            PropertyCategoryJpaRepository propertyCategoryJpaRepository,
+            PropertyTypeJpaRepository propertyTypeJpaRepository,
+            PropertyAttributeJpaRepository propertyAttributeJpaRepository,
+            PropertyAttributeRangeJpaRepository propertyAttributeRangeJpaRepository,
+            PropertyTypeAttributeJpaRepository propertyTypeAttributeJpaRepository,
+            AmenityJpaRepository amenityJpaRepository,
+            PropertyAttributeSlotJpaRepository propertyAttributeSlotJpaRepository,
+            PlatformTransactionManager transactionManager) {
+        this.propertyCategoryJpaRepository = propertyCategoryJpaRepository;
+        this.propertyTypeJpaRepository = propertyTypeJpaRepository;
+        this.propertyAttributeJpaRepository = propertyAttributeJpaRepository;
+        this.propertyAttributeRangeJpaRepository = propertyAttributeRangeJpaRepository;
+        this.propertyTypeAttributeJpaRepository = propertyTypeAttributeJpaRepository;
+        this.amenityJpaRepository = amenityJpaRepository;
+        this.propertyAttributeSlotJpaRepository = propertyAttributeSlotJpaRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public List<Runnable> jobs() {
+        return List.of(this::reload);
+    }
+
+    /**
+     * Rebuild before other listeners (e.g. listing cache eviction) react to the same change,
+     * so what they reload already sees the new snapshot.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        log.debug("Reloading reference data after changes to {}", event.entityNames());
+        reload();
+    }
+
+    public ReferenceDataSnapshot snapshot() {
+        ReferenceDataSnapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * Type {@code typeId} from the snapshot, falling back to a detached copy of {@code type} on
+     * a miss (e.g. written by a transaction that has not committed yet). Returns null if neither
+     * is available.
+     */
+    public ReferenceDataSnapshot.TypeRef resolveType(UUID typeId, PropertyType type) {
+        return snapshot().findType(typeId)
+                .orElseGet(() -> type == null ? null : ReferenceDataSnapshot.TypeRef.of(type));
+    }
+
+    /**
+     * Attribute {@code attributeId} from the snapshot, falling back to a detached copy of
+     * {@code attribute} on a miss. Returns null if neither is available.
+     */
+    public ReferenceDataSnapshot.AttributeRef resolveAttribute(UUID attributeId, PropertyAttribute attribute) {
+        return snapshot().findAttribute(attributeId)
+                .orElseGet(() -> attribute == null ? null : ReferenceDataSnapshot.AttributeRef.of(attribute));
+    }
+
+    public synchronized ReferenceDataSnapshot reload() {
+        ReferenceDataSnapshot loaded = readOnlyTransaction.execute(status -> ReferenceDataSnapshot.of(
+                propertyCategoryJpaRepository.findAllNotDeleted(),
+                propertyTypeJpaRepository.findAllNotDeleted(),
+                propertyAttributeJpaRepository.findAllNotDeleted(),
+                propertyAttributeRangeJpaRepository.findAllNotDeleted(),
+                propertyTypeAttributeJpaRepository.findAllNotDeleted(),
+                amenityJpaRepository.findAllNotDeleted(),
+                propertyAttributeSlotJpaRepository.findAll()));
+        snapshot = loaded;
+        log.info("Loaded reference data snapshot {} with {} types, {} attributes and {} amenities",
+                loaded.version().tag(), loaded.types().size(), loaded.attributes().size(),
+                loaded.amenities().size());
+        return loaded;
+    }
+}
@@ -0,0 +1,319 @@
+package com.sep.realvista.application.reference.snapshot;
+
+import com.sep.realvista.domain.common.entity.BaseEntity;
+import com.sep.realvista.domain.common.version.ResourceVersion;
+import com.sep.realvista.domain.property.PropertyCategory;
+import com.sep.realvista.domain.property.PropertyType;
+import com.sep.realvista.domain.property.PropertyTypeStatus;
+import com.sep.realvista.domain.property.amenity.Amenity;
+import com.sep.realvista.domain.property.amenity.AmenityType;
+import com.sep.realvista.domain.property.attribute.AttributeDataType;
+import com.sep.realvista.domain.property.attribute.PropertyAttribute;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeRange;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeSlot;
+import com.sep.realvista.domain.property.attribute.PropertyTypeAttribute;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Immutable snapshot of the property reference data: categories, types with their attributes,
+ * attributes with their ranges, and amenities.
+ * <p>
+ * Entries are plain records indexed by id and by code, so rendering or filtering never touches
+ * lazy associations. Within its kind every entry carries a dense {@code ordinal} (its position
+ * in the name-ordered list), so callers can keep per-entry state in arrays. Attributes also carry
+ * their {@code slot} in property attribute vectors. The {@link #version()}
+ * is derived from the rows' modification stamps and counts, so every node that loaded the same
+ * data reports the same version.
+ */
+public final class ReferenceDataSnapshot {
+
+    /**
+     * Ordinal of entries built outside a snapshot, from an entity the snapshot does not know.
+     */
+    public static final int DETACHED = -1;
+
+    private final ResourceVersion version;
+    private final List<CategoryRef> categories;
+    private final List<TypeRef> types;
+    private final List<AttributeRef> attributes;
+    private final List<AttributeRef> searchableAttributes;
+    private final List<AmenityRef> amenities;
+    private final Map<UUID, CategoryRef> categoriesById;
+    private final Map<String, CategoryRef> categoriesByCode;
+    private final Map<UUID, TypeRef> typesById;
+    private final Map<String, TypeRef> typesByCode;
+    private final Map<UUID, AttributeRef> attributesById;
+    private final Map<String, AttributeRef> attributesByCode;
+    private final AttributeRef[] attributesBySlot;
+    private final Map<UUID, AmenityRef> amenitiesById;
+
+    public record CategoryRef(int ordinal, UUID id, String code, String name) {
+
+        public static CategoryRef of(PropertyCategory category) {
+            return new CategoryRef(DETACHED, category.getPropertyCategoryId(), category.getCode(), category.getName());
+        }
+    }
+
+    /**
+     * Property type with its category (null if unknown) and its attributes in name order.
+     */
+    public record TypeRef(
+            int ordinal,
+            UUID id,
+            String code,
+            String name,
+            String description,
+            PropertyTypeStatus status,
+            CategoryRef category,
+            List<TypeAttributeRef> attributes) {
+
+        public boolean isActive() {
+            return status == PropertyTypeStatus.ACTIVE;
+        }
+
+        /**
+         * Detached copy of a type, without its attributes. Reads the category association.
+         */
+        public static TypeRef of(PropertyType type) {
+            return new TypeRef(DETACHED, type.getPropertyTypeId(), type.getCode(), type.getName(),
+                    type.getDescription(), type.getStatus(),
+                    type.getPropertyCategory() != null ? CategoryRef.of(type.getPropertyCategory()) : null,
+                    List.of());
+        }
+    }
+
+    public record TypeAttributeRef(AttributeRef attribute, boolean required) {
+    }
+
+    /**
+     * Property attribute with its ranges in display order. {@code slot} is its position in
+     * attribute vectors, or {@link #DETACHED} if none is assigned yet.
+     */
+    public record AttributeRef(
+            int ordinal,
+            int slot,
+            UUID id,
+            String code,
+            String name,
+            AttributeDataType dataType,
+            boolean searchable,
+            String icon,
+            String unit,
+            List<RangeRef> ranges) {
+
+        /**
+         * Detached copy of an attribute, without its ranges.
+         */
+        public static AttributeRef of(PropertyAttribute attribute) {
+            return new AttributeRef(DETACHED, DETACHED, attribute.getPropertyAttributeId(), attribute.getCode(),
+                    attribute.getName(), attribute.getDataType(), Boolean.TRUE.equals(attribute.getIsSearchable()),
+                    attribute.getIcon(), attribute.getUnit(), List.of());
+        }
+    }
+
+    public record RangeRef(UUID id, String label, BigDecimal minValue, BigDecimal maxValue, int displayOrder) {
+    }
+
+    public record AmenityRef(int ordinal, UUID id, String name, AmenityType type, String description) {
+    }
+
+    private ReferenceDataSnapshot(
+            ResourceVersion version,
+            List<CategoryRef> categories,
+            List<TypeRef> types,
+            List<AttributeRef> attributes,
+            List<AmenityRef> amenities) {
+        this.version = version;
+        this.categories = List.copyOf(categories);
+        this.types = List.copyOf(types);
+        this.attributes = List.copyOf(attributes);
+        this.searchableAttributes = attributes.stream().filter(AttributeRef::searchable).toList();
+        this.amenities = List.copyOf(amenities);
+        this.categoriesById = index(categories, CategoryRef::id);
+        this.categoriesByCode = index(categories, CategoryRef::code);
+        this.typesById = index(types, TypeRef::id);
+        this.typesByCode = index(types, TypeRef::code);
+        this.attributesById = index(attributes, AttributeRef::id);
+        this.attributesByCode = index(attributes, AttributeRef::code);
+        this.attributesBySlot = new AttributeRef[attributes.stream().mapToInt(AttributeRef::slot).max().orElse(-1) + 1];
+        attributes.stream().filter(attribute -> attribute.slot() >= 0)
+                .forEach(attribute -> attributesBySlot[attribute.slot()] = attribute);
+        this.amenitiesById = index(amenities, AmenityRef::id);
+    }
+
+    /**
+     * Build a snapshot from the non-deleted reference rows. Type assignments and ranges of
+     * unknown types or attributes are dropped.
+     */
+    public static ReferenceDataSnapshot of(
+            Collection<PropertyCategory> categoryRows,
+            Collection<PropertyType> typeRows,
+            Collection<PropertyAttribute> attributeRows,
+            Collection<PropertyAttributeRange> rangeRows,
+            Collection<PropertyTypeAttribute> typeAttributeRows,
+            Collection<Amenity> amenityRows,
+            Collection<PropertyAttributeSlot> slotRows) {
+        ResourceVersion version = ResourceVersion.builder()
+                .count(categoryRows.size()).stamp(latest(categoryRows))
+                .count(typeRows.size()).stamp(latest(typeRows))
+                .count(attributeRows.size()).stamp(latest(attributeRows))
+                .count(rangeRows.size()).stamp(latest(rangeRows))
+                .count(typeAttributeRows.size()).stamp(latest(typeAttributeRows))
+                .count(amenityRows.size()).stamp(latest(amenityRows))
+                .count(slotRows.size())
+                .build();
+
+        List<CategoryRef> categories = new ArrayList<>();
+        sortedBy(categoryRows, PropertyCategory::getName).forEach(row -> categories.add(new CategoryRef(
+                categories.size(), row.getPropertyCategoryId(), row.getCode(), row.getName())));
+        Map<UUID, CategoryRef> categoriesById = index(categories, CategoryRef::id);
+
+        Map<UUID, List<RangeRef>> rangesByAttribute = new HashMap<>();
+        Comparator<PropertyAttributeRange> rangeOrder =
+                Comparator.comparing((PropertyAttributeRange row) -> displayOrder(row.getDisplayOrder()))
+                        .thenComparing(PropertyAttributeRange::getLabel,
+                                Comparator.nullsLast(Comparator.naturalOrder()));
+        rangeRows.stream()
+                .sorted(rangeOrder)
+                .forEach(row -> rangesByAttribute.computeIfAbsent(row.getPropertyAttributeId(), id -> new ArrayList<>())
+                        .add(new RangeRef(row.getPropertyAttributeRangeId(), row.getLabel(),
+                                row.getMinValue(), row.getMaxValue(), displayOrder(row.getDisplayOrder()))));
+
+        Map<UUID, Integer> slots = new HashMap<>();
+        slotRows.forEach(row -> slots.put(row.getPropertyAttributeId(), row.getSlot()));
+
+        List<AttributeRef> attributes = new ArrayList<>();
+        sortedBy(attributeRows, PropertyAttribute::getName).forEach(row -> attributes.add(new AttributeRef(
+                attributes.size(), slots.getOrDefault(row.getPropertyAttributeId(), DETACHED),
+                row.getPropertyAttributeId(), row.getCode(), row.getName(), row.getDataType(),
+                Boolean.TRUE.equals(row.getIsSearchable()), row.getIcon(), row.getUnit(),
+                List.copyOf(rangesByAttribute.getOrDefault(row.getPropertyAttributeId(), List.of())))));
+        Map<UUID, AttributeRef> attributesById = index(attributes, AttributeRef::id);
+
+        Map<UUID, List<TypeAttributeRef>> attributesByType = new HashMap<>();
+        for (PropertyTypeAttribute row : typeAttributeRows) {
+            AttributeRef attribute = attributesById.get(row.getPropertyAttributeId());
+            if (attribute != null) {
+                attributesByType.computeIfAbsent(row.getPropertyTypeId(), id -> new ArrayList<>())
+                        .add(new TypeAttributeRef(attribute, Boolean.TRUE.equals(row.getIsRequired())));
+            }
+        }
+        attributesByType.values().forEach(list -> list.sort(
+                Comparator.comparingInt((TypeAttributeRef ref) -> ref.attribute().ordinal())));
+
+        List<TypeRef> types = new ArrayList<>();
+        sortedBy(typeRows, PropertyType::getName).forEach(row -> types.add(new TypeRef(
+                types.size(), row.getPropertyTypeId(), row.getCode(), row.getName(), row.getDescription(),
+                row.getStatus(), categoriesById.get(row.getPropertyCategoryId()),
+                List.copyOf(attributesByType.getOrDefault(row.getPropertyTypeId(), List.of())))));
+
+        List<AmenityRef> amenities = new ArrayList<>();
+        sortedBy(amenityRows, Amenity::getAmenityName).forEach(row -> amenities.add(new AmenityRef(
+                amenities.size(), row.getAmenityId(), row.getAmenityName(), row.getAmenityType(),
+                row.getDescription())));
+
+        return new ReferenceDataSnapshot(version, categories, types, attributes, amenities);
+    }
+
+    public ResourceVersion version() {
+        return version;
+    }
+
+    public List<CategoryRef> categories() {
+        return categories;
+    }
+
+    public List<TypeRef> types() {
+        return types;
+    }
+
+    public List<AttributeRef> attributes() {
+        return attributes;
+    }
+
+    /**
+     * Attributes offered as search filters, in name order.
+     */
+    public List<AttributeRef> searchableAttributes() {
+        return searchableAttributes;
+    }
+
+    public List<AmenityRef> amenities() {
+        return amenities;
+    }
+
+    public Optional<CategoryRef> findCategory(UUID categoryId) {
+        return categoryId == null ? Optional.empty() : Optional.ofNullable(categoriesById.get(categoryId));
+    }
+
+    public Optional<CategoryRef> findCategoryByCode(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(categoriesByCode.get(code));
+    }
+
+    public Optional<TypeRef> findType(UUID typeId) {
+        return typeId == null ? Optional.empty() : Optional.ofNullable(typesById.get(typeId));
+    }
+
+    public Optional<TypeRef> findTypeByCode(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(typesByCode.get(code));
+    }
+
+    public Optional<AttributeRef> findAttribute(UUID attributeId) {
+        return attributeId == null ? Optional.empty() : Optional.ofNullable(attributesById.get(attributeId));
+    }
+
+    public Optional<AttributeRef> findAttributeByCode(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(attributesByCode.get(code));
+    }
+
+    /**
+     * Attribute in vector slot {@code slot}; empty for slots of deleted attributes.
+     */
+    public Optional<AttributeRef> findAttributeBySlot(int slot) {
+        return slot >= 0 && slot < attributesBySlot.length
+                ? Optional.ofNullable(attributesBySlot[slot])
+                : Optional.empty();
+    }
+
+    public Optional<AmenityRef> findAmenity(UUID amenityId) {
+        return amenityId == null ? Optional.empty() : Optional.ofNullable(amenitiesById.get(amenityId));
+    }
+
+    private static <T> List<T> sortedBy(Collection<T> rows, Function<T, String> name) {
+        return rows.stream()
+                .sorted(Comparator.comparing(name, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    private static <K, T> Map<K, T> index(List<T> entries, Function<T, K> key) {
+        Map<K, T> index = new HashMap<>(entries.size() * 2);
+        entries.stream()
+                .filter(entry -> key.apply(entry) != null)
+                .forEach(entry -> index.putIfAbsent(key.apply(entry), entry));
+        return Map.copyOf(index);
+    }
+
+    private static LocalDateTime latest(Collection<? extends BaseEntity> rows) {
+        return rows.stream()
+                .map(BaseEntity::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    private static int displayOrder(Integer displayOrder) {
+        return displayOrder != null ? displayOrder : 0;
+    }
+}
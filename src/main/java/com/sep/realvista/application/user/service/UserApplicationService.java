@@ -1,5 +1,6 @@
 package com.sep.realvista.application.user.service;
 
+import com.sep.realvista.application.auth.session.UserSessionService;
 import com.sep.realvista.application.user.dto.ChangePasswordRequest;
 import com.sep.realvista.application.user.dto.CreateUserRequest;
 import com.sep.realvista.application.user.dto.UpdateUserRequest;
@@ -12,6 +13,7 @@ import com.sep.realvista.domain.user.UserDomainService;
 import com.sep.realvista.domain.user.UserRepository;
 import com.sep.realvista.domain.user.UserStatus;
 import com.sep.realvista.infrastructure.security.PasswordService;
+import com.sep.realvista.infrastructure.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -35,6 +37,9 @@ public class UserApplicationService {
     private final UserDomainService userDomainService;
     private final UserMapper userMapper;
     private final PasswordService passwordService;
+    private final UserStatusCache userStatusCache;
+    private final UserDetailsCache userDetailsCache;
+    private final UserSessionService userSessionService;
 
     /**
      * Create a new user.
@@ -84,6 +89,7 @@ public class UserApplicationService {
         user.updateProfile(request.getFirstName(), request.getLastName(), request.getAvatarUrl());
 
         User updatedUser = userRepository.save(user);
+        userDetailsCache.evict(user.getEmail().getValue());
         log.info("User profile updated successfully for ID: {}", userId);
 
         return userMapper.toResponse(updatedUser);
@@ -108,6 +114,9 @@ public class UserApplicationService {
         user.updatePassword(newPasswordHash);
 
         userRepository.save(user);
+        userDetailsCache.evict(user.getEmail().getValue());
+        // Sign out every session opened with the old password
+        userSessionService.revokeAll(userId);
         log.info("Password changed successfully for user ID: {}", userId);
     }
 
@@ -122,6 +131,7 @@ public class UserApplicationService {
         user.activate();
 
         User activatedUser = userRepository.save(user);
+        evictSecurityCaches(user);
         log.info("User activated successfully: {}", userId);
 
         return userMapper.toResponse(activatedUser);
@@ -138,11 +148,31 @@ public class UserApplicationService {
         user.suspend();
 
         User suspendedUser = userRepository.save(user);
+        evictSecurityCaches(user);
+        userSessionService.revokeAll(userId);
         log.info("User suspended successfully: {}", userId);
 
         return userMapper.toResponse(suspendedUser);
     }
 
+    /**
+     * Ban user account permanently.
+     */
+    @CacheEvict(value = "users", key = "#userId")
+    public UserResponse banUser(UUID userId) {
+        log.info("Banning user ID: {}", userId);
+
+        User user = userDomainService.getUserOrThrow(userId);
+        user.ban();
+
+        User bannedUser = userRepository.save(user);
+        evictSecurityCaches(user);
+        userSessionService.revokeAll(userId);
+        log.info("User banned successfully: {}", userId);
+
+        return userMapper.toResponse(bannedUser);
+    }
+
     /**
      * Delete user.
      */
@@ -154,7 +184,17 @@ public class UserApplicationService {
         user.markAsDeleted();
 
         userRepository.save(user);
+        evictSecurityCaches(user);
+        userSessionService.revokeAll(userId);
         log.info("User deleted successfully: {}", userId);
     }
-}
 
+    /**
+     * Drop the cached security state of a user whose status changed, so the change applies to
+     * their next login and their existing tokens.
+     */
+    private void evictSecurityCaches(User user) {
+        userStatusCache.invalidate(user.getUserId());
+        userDetailsCache.evict(user.getEmail().getValue());
+    }
+}
@@ -0,0 +1,48 @@
+package com.sep.realvista.application.user.service;
+
+import com.sep.realvista.domain.user.UserRepository;
+import com.sep.realvista.domain.user.UserStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Short-lived cache of user statuses, consulted on every token-authenticated request so that
+ * suspended, banned and deleted users are locked out before their tokens expire.
+ * <p>
+ * Entries live for the {@code userStatus} cache's time-to-live and are evicted, on every node,
+ * whenever {@link UserApplicationService} changes a user's status or deletes the user.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserStatusCache {
+
+    public static final String CACHE_NAME = "userStatus";
+
+    private final CacheManager cacheManager;
+    private final UserRepository userRepository;
+
+    /**
+     * Whether tokens issued to the user are still honoured: the user exists, is not deleted and
+     * is neither suspended nor banned.
+     */
+    public boolean isAllowed(UUID userId) {
+        UserStatus status = cache().get(userId, () -> userRepository.findActiveStatus(userId).orElse(null));
+        return status != null && status != UserStatus.SUSPENDED && status != UserStatus.BANNED;
+    }
+
+    public void invalidate(UUID userId) {
+        cache().evict(userId);
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + CACHE_NAME);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,26 @@
+package com.sep.realvista.application.user.service;
+
+import com.sep.realvista.application.common.version.ResourceVersionProvider;
+import com.sep.realvista.domain.common.version.ResourceVersion;
+import com.sep.realvista.domain.user.UserRepository;
+import com.sep.realvista.domain.user.UserVersionStamps;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Version of a user profile, from the user's and its role assignments' stamps.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserVersionProvider implements ResourceVersionProvider {
+
+    private final UserRepository userRepository;
+
+    @Override
+    public Optional<ResourceVersion> versionOf(UUID userId) {
+        return userRepository.findVersionStamps(userId).map(UserVersionStamps::toVersion);
+    }
+}
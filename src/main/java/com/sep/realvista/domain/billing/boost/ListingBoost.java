@@ -2,9 +2,11 @@ package com.sep.realvista.domain.billing.boost;
 
 import com.sep.realvista.domain.common.entity.BaseEntity;
 import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.event.ListingChangeTracker;
 import com.sep.realvista.domain.user.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -26,6 +28,7 @@ import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(ListingChangeTracker.class)
 @Table(name = "listing_boosts", indexes = {
         @Index(name = "idx_listing_boost_package", columnList = "boost_package_id"),
         @Index(name = "idx_listing_boost_listing", columnList = "listing_id"),
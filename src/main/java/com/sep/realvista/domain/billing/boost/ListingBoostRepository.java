@@ -0,0 +1,16 @@
+package com.sep.realvista.domain.billing.boost;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ListingBoostRepository {
+
+    ListingBoost save(ListingBoost listingBoost);
+
+    /**
+     * Active, non-deleted boosts covering {@code date} for the given listings.
+     */
+    List<ListingBoost> findActiveByListingIds(Collection<UUID> listingIds, LocalDate date);
+}
@@ -0,0 +1,93 @@
+package com.sep.realvista.domain.common.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Collects the changes recorded during a transaction and publishes them as a single event
+ * after commit; nothing is published on rollback. Outside a transaction each change is
+ * published at once.
+ * <p>
+ * Used by the JPA entity listeners that keep caches and read models in step with writes.
+ * A failure to publish is logged and swallowed, since the write is already committed.
+ *
+ * @param <C> mutable accumulator of the changes of one transaction
+ */
+@Slf4j
+public final class AfterCommitEventCollector<C> {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Supplier<C> newChanges;
+    private final Function<C, ?> toEvent;
+
+    /**
+     * @param newChanges creates an empty accumulator for a transaction
+     * @param toEvent    builds the event to publish from the accumulated changes
+     */
+    public AfterCommitEventCollector(
+            ApplicationEventPublisher eventPublisher,
+            Supplier<C> newChanges,
+            Function<C, ?> toEvent) {
+        this.eventPublisher = eventPublisher;
+        this.newChanges = newChanges;
+        this.toEvent = toEvent;
+    }
+
+    /**
+     * Apply a change to the current transaction's accumulator, or publish it right away when
+     * no transaction is active.
+     */
+    public void record(Consumer<C> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            C changes = newChanges.get();
+            change.accept(changes);
+            publish(changes);
+            return;
+        }
+        change.accept(pendingChanges().changes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private PendingChanges<C> pendingChanges() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges<?> pending && pending.collector == this) {
+                return (PendingChanges<C>) pending;
+            }
+        }
+        PendingChanges<C> pending = new PendingChanges<>(this, newChanges.get());
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private void publish(C changes) {
+        Object event = toEvent.apply(changes);
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            // Listeners that missed the event catch up on their next rebuild or expiry
+            log.error("Failed to publish change event {}: {}", event, e.getMessage(), e);
+        }
+    }
+
+    private static final class PendingChanges<C> implements TransactionSynchronization {
+
+        private final AfterCommitEventCollector<C> collector;
+        private final C changes;
+
+        private PendingChanges(AfterCommitEventCollector<C> collector, C changes) {
+            this.collector = collector;
+            this.changes = changes;
+        }
+
+        @Override
+        public void afterCommit() {
+            collector.publish(changes);
+        }
+    }
+}
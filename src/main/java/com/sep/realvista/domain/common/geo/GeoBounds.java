@@ -0,0 +1,38 @@
+package com.sep.realvista.domain.common.geo;
+
+/**
+ * Latitude/longitude rectangle in degrees, bounds inclusive.
+ * Does not cross the antimeridian: {@code west <= east}.
+ */
+public record GeoBounds(double south, double west, double north, double east) {
+
+    private static final double METERS_PER_DEGREE_LATITUDE = 111_320.0;
+
+    public GeoBounds {
+        if (south > north || west > east) {
+            throw new IllegalArgumentException("Bounds must satisfy south <= north and west <= east");
+        }
+        if (south < -90 || north > 90 || west < -180 || east > 180) {
+            throw new IllegalArgumentException("Bounds are outside the valid coordinate range");
+        }
+    }
+
+    /**
+     * Smallest rectangle containing the circle of {@code radiusMeters} around a point,
+     * clipped to the valid coordinate range.
+     */
+    public static GeoBounds around(double latitude, double longitude, double radiusMeters) {
+        double latitudeDelta = radiusMeters / METERS_PER_DEGREE_LATITUDE;
+        double cosine = Math.cos(Math.toRadians(latitude));
+        double longitudeDelta = cosine < 1e-9 ? 180 : radiusMeters / (METERS_PER_DEGREE_LATITUDE * cosine);
+        return new GeoBounds(
+                Math.max(-90, latitude - latitudeDelta),
+                Math.max(-180, longitude - longitudeDelta),
+                Math.min(90, latitude + latitudeDelta),
+                Math.min(180, longitude + longitudeDelta));
+    }
+
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= south && latitude <= north && longitude >= west && longitude <= east;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sep.realvista.domain.common.geo;
+
+/**
+ * Great-circle distance on primitive coordinates.
+ */
+public final class GeoDistance {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    private GeoDistance() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Haversine distance between two points given in degrees.
+     */
+    public static double meters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double deltaLatitude = Math.toRadians(latitude2 - latitude1);
+        double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(deltaLatitude / 2) * Math.sin(deltaLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(deltaLongitude / 2) * Math.sin(deltaLongitude / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
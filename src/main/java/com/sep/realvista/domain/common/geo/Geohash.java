@@ -0,0 +1,195 @@
+package com.sep.realvista.domain.common.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Geohash encoding and rectangle covering.
+ * <p>
+ * A geohash interleaves longitude and latitude bisections into a base-32 string, so points that
+ * share a prefix lie in the same cell and a cell is a contiguous range of an ordered index.
+ */
+public final class Geohash {
+
+    public static final int MAX_PRECISION = 12;
+
+    private static final char[] ALPHABET = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private Geohash() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Contiguous range of geohashes: {@code lower <= hash < upper}; {@code upper} is {@code null}
+     * when the range runs to the end of the key space.
+     */
+    public record Range(String lower, String upper) {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Geohash precision must be between 1 and " + MAX_PRECISION);
+        }
+        double minLatitude = -90;
+        double maxLatitude = 90;
+        double minLongitude = -180;
+        double maxLongitude = 180;
+        boolean longitudeBit = true;
+        StringBuilder hash = new StringBuilder(precision);
+        int bits = 0;
+        int character = 0;
+
+        while (hash.length() < precision) {
+            if (longitudeBit) {
+                double mid = (minLongitude + maxLongitude) / 2;
+                character <<= 1;
+                if (longitude >= mid) {
+                    character |= 1;
+                    minLongitude = mid;
+                } else {
+                    maxLongitude = mid;
+                }
+            } else {
+                double mid = (minLatitude + maxLatitude) / 2;
+                character <<= 1;
+                if (latitude >= mid) {
+                    character |= 1;
+                    minLatitude = mid;
+                } else {
+                    maxLatitude = mid;
+                }
+            }
+            longitudeBit = !longitudeBit;
+            if (++bits == 5) {
+                hash.append(ALPHABET[character]);
+                bits = 0;
+                character = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Height of a cell at {@code precision}, in degrees of latitude.
+     */
+    public static double cellHeight(int precision) {
+        return 180.0 / (1L << (5 * precision / 2));
+    }
+
+    /**
+     * Width of a cell at {@code precision}, in degrees of longitude.
+     */
+    public static double cellWidth(int precision) {
+        return 360.0 / (1L << ((5 * precision + 1) / 2));
+    }
+
+    /**
+     * Finest precision at which at most {@code maxCells} cells cover the bounds.
+     */
+    public static int coveringPrecision(GeoBounds bounds, int maxCells) {
+        for (int precision = MAX_PRECISION; precision > 1; precision--) {
+            if (columns(bounds, precision) * rows(bounds, precision) <= maxCells) {
+                return precision;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Geohash ranges whose cells together cover the bounds, using at most {@code maxCells} cells.
+     * Cells that are adjacent in key order are merged into a single range.
+     */
+    public static List<Range> cover(GeoBounds bounds, int maxCells) {
+        List<String> cells = cells(bounds, coveringPrecision(bounds, maxCells));
+
+        List<Range> ranges = new ArrayList<>();
+        String lower = null;
+        String upper = null;
+        for (String cell : cells) {
+            if (lower != null && cell.equals(upper)) {
+                upper = successor(cell);
+                continue;
+            }
+            if (lower != null) {
+                ranges.add(new Range(lower, upper));
+            }
+            lower = cell;
+            upper = successor(cell);
+        }
+        if (lower != null) {
+            ranges.add(new Range(lower, upper));
+        }
+        return ranges;
+    }
+
+    /**
+     * Geohashes of all cells at {@code precision} that intersect the bounds, in key order.
+     */
+    public static List<String> cells(GeoBounds bounds, int precision) {
+        double width = cellWidth(precision);
+        double height = cellHeight(precision);
+        long firstColumn = (long) Math.floor((bounds.west() + 180) / width);
+        long firstRow = (long) Math.floor((bounds.south() + 90) / height);
+
+        TreeSet<String> cells = new TreeSet<>();
+        long columns = columns(bounds, precision);
+        long rows = rows(bounds, precision);
+        for (long row = 0; row < rows; row++) {
+            double latitude = Math.min(89.999999, -90 + (firstRow + row + 0.5) * height);
+            for (long column = 0; column < columns; column++) {
+                double longitude = Math.min(179.999999, -180 + (firstColumn + column + 0.5) * width);
+                cells.add(encode(latitude, longitude, precision));
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    /**
+     * The 32 cells one precision finer than {@code cell}.
+     */
+    public static List<String> children(String cell) {
+        List<String> children = new ArrayList<>(ALPHABET.length);
+        for (char character : ALPHABET) {
+            children.add(cell + character);
+        }
+        return children;
+    }
+
+    /**
+     * Smallest geohash of the same length that sorts after every hash starting with {@code prefix},
+     * or {@code null} if there is none.
+     */
+    static String successor(String prefix) {
+        char[] chars = prefix.toCharArray();
+        for (int i = chars.length - 1; i >= 0; i--) {
+            int index = indexOf(chars[i]);
+            if (index < ALPHABET.length - 1) {
+                chars[i] = ALPHABET[index + 1];
+                return new String(chars, 0, i + 1) + String.valueOf(ALPHABET[0]).repeat(chars.length - i - 1);
+            }
+        }
+        return null;
+    }
+
+    private static int indexOf(char character) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == character) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Not a geohash character: " + character);
+    }
+
+    private static long columns(GeoBounds bounds, int precision) {
+        double width = cellWidth(precision);
+        return (long) Math.floor((Math.min(bounds.east(), 179.999999) + 180) / width)
+                - (long) Math.floor((bounds.west() + 180) / width) + 1;
+    }
+
+    private static long rows(GeoBounds bounds, int precision) {
+        double height = cellHeight(precision);
+        return (long) Math.floor((Math.min(bounds.north(), 89.999999) + 90) / height)
+                - (long) Math.floor((bounds.south() + 90) / height) + 1;
+    }
+}
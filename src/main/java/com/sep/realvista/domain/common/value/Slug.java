@@ -0,0 +1,61 @@
+package com.sep.realvista.domain.common.value;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * URL-friendly identifiers derived from display names, e.g. {@code "Can ho 2 phong ngu, Quan 1"}
+ * becomes {@code "can-ho-2-phong-ngu-quan-1-3f9c2a1b"}. Accents are dropped.
+ */
+public final class Slug {
+
+    private static final int MAX_BASE_LENGTH = 200;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    private Slug() {
+    }
+
+    /**
+     * Slug of {@code text} made unique with a random suffix, so it can be generated without
+     * querying for existing slugs.
+     */
+    public static String unique(String text) {
+        String base = base(text);
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return base.isEmpty() ? suffix : base + "-" + suffix;
+    }
+
+    /**
+     * Lower-case ASCII words of {@code text} joined by hyphens, at most 200 characters long.
+     */
+    public static String base(String text) {
+        if (text == null) {
+            return "";
+        }
+        // Vietnamese d with stroke has no decomposition into d plus a combining mark
+        String ascii = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .replace('\u0111', 'd')
+                .replace('\u0110', 'D')
+                .toLowerCase(Locale.ROOT);
+        String slug = SEPARATORS.matcher(ascii).replaceAll("-");
+        if (slug.length() > MAX_BASE_LENGTH) {
+            slug = slug.substring(0, MAX_BASE_LENGTH);
+        }
+        return trimHyphens(slug);
+    }
+
+    private static String trimHyphens(String slug) {
+        int start = 0;
+        int end = slug.length();
+        while (start < end && slug.charAt(start) == '-') {
+            start++;
+        }
+        while (end > start && slug.charAt(end - 1) == '-') {
+            end--;
+        }
+        return slug.substring(start, end);
+    }
+}
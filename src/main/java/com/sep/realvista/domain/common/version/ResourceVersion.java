@@ -0,0 +1,53 @@
+package com.sep.realvista.domain.common.version;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Validator of a resource representation for conditional requests.
+ * <p>
+ * {@code tag} is a digest of the modification stamps and child counts of every entity the
+ * representation is built from, so it changes whenever one of them is updated, added or removed.
+ * {@code lastModified} is the latest of the stamps, or {@code null} if none is known.
+ */
+public record ResourceVersion(String tag, LocalDateTime lastModified) {
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private final StringBuilder parts = new StringBuilder();
+        private LocalDateTime lastModified;
+
+        private Builder() {
+        }
+
+        /**
+         * Add the {@code updatedAt} of an entity, or of the latest entity in a collection.
+         */
+        public Builder stamp(LocalDateTime updatedAt) {
+            parts.append(updatedAt).append('|');
+            if (updatedAt != null && (lastModified == null || updatedAt.isAfter(lastModified))) {
+                lastModified = updatedAt;
+            }
+            return this;
+        }
+
+        /**
+         * Add the size of a collection, which catches removals that leave no newer stamp behind.
+         */
+        public Builder count(long count) {
+            parts.append(count).append('|');
+            return this;
+        }
+
+        public ResourceVersion build() {
+            return new ResourceVersion(
+                    DigestUtils.md5DigestAsHex(parts.toString().getBytes(StandardCharsets.UTF_8)), lastModified);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.sep.realvista.domain.listing;
 
 import com.sep.realvista.domain.common.entity.BaseEntity;
+import com.sep.realvista.domain.listing.event.ListingChangeTracker;
 import com.sep.realvista.domain.property.Property;
 import com.sep.realvista.domain.user.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -14,19 +16,25 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(ListingChangeTracker.class)
 @Table(name = "listings", indexes = {
         @Index(name = "idx_listing_property", columnList = "property_id"),
         @Index(name = "idx_listing_user", columnList = "user_id"),
@@ -99,6 +107,16 @@ public class Listing extends BaseEntity {
     @Column(nullable = false, length = 500)
     private String name;
 
+    /**
+     * Non-deleted media in display order.
+     * Only fetched explicitly (see the detail query in ListingJpaRepository).
+     */
+    @OneToMany(mappedBy = "listing", fetch = FetchType.LAZY)
+    @SQLRestriction("deleted = false")
+    @OrderBy("displayOrder ASC")
+    @Builder.Default
+    private List<ListingMedia> listingMedias = new ArrayList<>();
+
     public void submitForReview() {
         if (this.status != ListingStatus.DRAFT) {
             throw new IllegalStateException("Only draft listings can be submitted for review");
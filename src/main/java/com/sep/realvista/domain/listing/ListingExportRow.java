@@ -0,0 +1,34 @@
+package com.sep.realvista.domain.listing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Flat row of a listing and its property as exported to partners, read by a constructor
+ * expression so exporting loads no entities (see {@code ListingRepository#streamExportRows}).
+ */
+public record ListingExportRow(
+        UUID listingId,
+        String slug,
+        String name,
+        ListingType listingType,
+        ListingStatus status,
+        BigDecimal price,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Boolean negotiable,
+        LocalDate availableFrom,
+        LocalDateTime publishedAt,
+        LocalDateTime updatedAt,
+        UUID propertyId,
+        UUID locationId,
+        String propertyTypeCode,
+        String streetAddress,
+        BigDecimal latitude,
+        BigDecimal longitude,
+        BigDecimal landSizeM2,
+        BigDecimal usableSizeM2,
+        String primaryImageUrl) {
+}
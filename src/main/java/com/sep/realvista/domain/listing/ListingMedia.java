@@ -1,9 +1,11 @@
 package com.sep.realvista.domain.listing;
 
 import com.sep.realvista.domain.common.entity.BaseEntity;
+import com.sep.realvista.domain.listing.event.ListingChangeTracker;
 import com.sep.realvista.domain.property.PropertyMedia;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -22,6 +24,7 @@ import lombok.NoArgsConstructor;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(ListingChangeTracker.class)
 @Table(name = "listing_medias", 
         indexes = {
                 @Index(name = "idx_listing_media_listing", columnList = "listing_id"),
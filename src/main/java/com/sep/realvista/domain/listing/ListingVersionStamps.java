@@ -0,0 +1,74 @@
+package com.sep.realvista.domain.listing;
+
+import com.sep.realvista.domain.common.entity.BaseEntity;
+import com.sep.realvista.domain.common.version.ResourceVersion;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeValue;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Modification stamps of everything a listing detail is rendered from: the listing, its
+ * property and owner, its non-deleted media and the property's non-deleted attribute values.
+ * <p>
+ * Read either from the loaded detail graph ({@link #of}) or by a single aggregate query
+ * (see {@code ListingRepository#findVersionStamps}); both yield the same {@link ResourceVersion}.
+ */
+public record ListingVersionStamps(
+        LocalDateTime listingUpdatedAt,
+        LocalDateTime propertyUpdatedAt,
+        LocalDateTime userUpdatedAt,
+        long mediaCount,
+        LocalDateTime mediaUpdatedAt,
+        LocalDateTime propertyMediaUpdatedAt,
+        long attributeValueCount,
+        LocalDateTime attributeValueUpdatedAt) {
+
+    /**
+     * Stamps of a listing loaded with its detail graph and of its attribute values.
+     */
+    public static ListingVersionStamps of(Listing listing, Collection<PropertyAttributeValue> attributeValues) {
+        return of(listing, attributeValues.size(), latest(attributeValues.stream().map(BaseEntity::getUpdatedAt)));
+    }
+
+    /**
+     * Stamps of a listing loaded with its detail graph, with the count and latest modification
+     * of its attribute values as recorded elsewhere (e.g. on the property's attribute vector).
+     */
+    public static ListingVersionStamps of(
+            Listing listing, long attributeValueCount, LocalDateTime attributeValueUpdatedAt) {
+        return new ListingVersionStamps(
+                listing.getUpdatedAt(),
+                updatedAt(listing.getProperty()),
+                updatedAt(listing.getUser()),
+                listing.getListingMedias().size(),
+                latest(listing.getListingMedias().stream().map(BaseEntity::getUpdatedAt)),
+                latest(listing.getListingMedias().stream().map(media -> updatedAt(media.getPropertyMedia()))),
+                attributeValueCount,
+                attributeValueUpdatedAt);
+    }
+
+    public ResourceVersion toVersion() {
+        return ResourceVersion.builder()
+                .stamp(listingUpdatedAt)
+                .stamp(propertyUpdatedAt)
+                .stamp(userUpdatedAt)
+                .count(mediaCount)
+                .stamp(mediaUpdatedAt)
+                .stamp(propertyMediaUpdatedAt)
+                .count(attributeValueCount)
+                .stamp(attributeValueUpdatedAt)
+                .build();
+    }
+
+    private static LocalDateTime updatedAt(BaseEntity entity) {
+        return entity == null ? null : entity.getUpdatedAt();
+    }
+
+    private static LocalDateTime latest(Stream<LocalDateTime> stamps) {
+        return stamps.filter(Objects::nonNull).max(Comparator.naturalOrder()).orElse(null);
+    }
+}
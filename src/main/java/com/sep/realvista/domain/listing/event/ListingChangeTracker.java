@@ -0,0 +1,78 @@
+package com.sep.realvista.domain.listing.event;
+
+import com.sep.realvista.domain.billing.boost.ListingBoost;
+import com.sep.realvista.domain.common.event.AfterCommitEventCollector;
+import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.ListingMedia;
+import com.sep.realvista.domain.property.Property;
+import com.sep.realvista.domain.property.amenity.PropertyAmenity;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeValue;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JPA entity listener that records which listings and properties were written in the
+ * current transaction and publishes a single {@link ListingChangedEvent} after commit.
+ * <p>
+ * Registered via {@code @EntityListeners} on the entities that feed the listing search
+ * read model. Hibernate obtains the instance from the Spring context.
+ */
+@Component
+@Slf4j
+public class ListingChangeTracker {
+
+    private final AfterCommitEventCollector<PendingChanges> changes;
+
+    public ListingChangeTracker(ApplicationEventPublisher eventPublisher) {
+        this.changes = new AfterCommitEventCollector<>(eventPublisher, PendingChanges::new,
+                pending -> new ListingChangedEvent(pending.listingIds, pending.propertyIds));
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        switch (entity) {
+            case Listing listing -> recordListing(listing.getListingId());
+            case ListingMedia media -> recordListing(media.getListingId());
+            case ListingBoost boost -> recordListing(boost.getListingId());
+            case Property property -> recordProperty(property.getPropertyId());
+            case PropertyAttributeValue value -> recordProperty(value.getPropertyId());
+            case PropertyAmenity amenity -> recordProperty(amenity.getPropertyId());
+            default -> log.warn("ListingChangeTracker registered on unsupported entity {}",
+                    entity.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Record a listing change outside of a JPA write (e.g. a bulk JPQL update).
+     */
+    public void recordListing(UUID listingId) {
+        if (listingId != null) {
+            changes.record(pending -> pending.listingIds.add(listingId));
+        }
+    }
+
+    /**
+     * Record a property change outside of a JPA write (e.g. a bulk JPQL update).
+     */
+    public void recordProperty(UUID propertyId) {
+        if (propertyId != null) {
+            changes.record(pending -> pending.propertyIds.add(propertyId));
+        }
+    }
+
+    private static final class PendingChanges {
+
+        private final Set<UUID> listingIds = new HashSet<>();
+        private final Set<UUID> propertyIds = new HashSet<>();
+    }
+}
@@ -0,0 +1,23 @@
+package com.sep.realvista.domain.listing.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published once per committed transaction that touched listing read-model inputs.
+ * <p>
+ * {@code listingIds} are listings changed directly (listing, media, boost);
+ * {@code propertyIds} are properties whose data (property row, attribute values or
+ * amenities) changed and whose listings must be refreshed as well.
+ */
+public record ListingChangedEvent(Set<UUID> listingIds, Set<UUID> propertyIds) {
+
+    public ListingChangedEvent {
+        listingIds = Set.copyOf(listingIds);
+        propertyIds = Set.copyOf(propertyIds);
+    }
+
+    public boolean isEmpty() {
+        return listingIds.isEmpty() && propertyIds.isEmpty();
+    }
+}
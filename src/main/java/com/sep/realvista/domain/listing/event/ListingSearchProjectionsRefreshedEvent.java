@@ -0,0 +1,34 @@
+package com.sep.realvista.domain.listing.event;
+
+import com.sep.realvista.domain.listing.search.ListingSearchProjection;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published by the search projection maintainer after it wrote projection rows.
+ * <p>
+ * {@code upserted} are the rows as saved; {@code removedListingIds} are listings whose row was
+ * dropped because they are no longer published. {@code fullRebuild} marks the end of a full
+ * rebuild, after which consumers should reload everything instead of applying a delta.
+ */
+public record ListingSearchProjectionsRefreshedEvent(
+        List<ListingSearchProjection> upserted,
+        Set<UUID> removedListingIds,
+        boolean fullRebuild) {
+
+    public ListingSearchProjectionsRefreshedEvent {
+        upserted = List.copyOf(upserted);
+        removedListingIds = Set.copyOf(removedListingIds);
+    }
+
+    public static ListingSearchProjectionsRefreshedEvent delta(
+            List<ListingSearchProjection> upserted, Set<UUID> removedListingIds) {
+        return new ListingSearchProjectionsRefreshedEvent(upserted, removedListingIds, false);
+    }
+
+    public static ListingSearchProjectionsRefreshedEvent rebuilt() {
+        return new ListingSearchProjectionsRefreshedEvent(List.of(), Set.of(), true);
+    }
+}
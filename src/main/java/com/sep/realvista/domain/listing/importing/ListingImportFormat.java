@@ -0,0 +1,15 @@
+package com.sep.realvista.domain.listing.importing;
+
+/**
+ * Encoding of a listing feed.
+ */
+public enum ListingImportFormat {
+    /**
+     * Comma-separated values with a header row.
+     */
+    CSV,
+    /**
+     * One JSON object per line.
+     */
+    JSON_LINES
+}
@@ -0,0 +1,127 @@
+package com.sep.realvista.domain.listing.importing;
+
+import com.sep.realvista.domain.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of one bulk listing import.
+ * <p>
+ * {@link #getCheckpointRow()} is the last feed row whose outcome (imported or failed) is
+ * committed. It only moves forward, together with the rows it covers, so an interrupted import
+ * is resumed by feeding the same file again and skipping the rows up to the checkpoint. The
+ * feed's hash and size are kept to check that it is indeed the same file.
+ */
+@Entity
+@Table(name = "listing_import_jobs", indexes = {
+        @Index(name = "idx_listing_import_job_owner", columnList = "owner_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ListingImportJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "listing_import_job_id")
+    private UUID listingImportJobId;
+
+    @Column(name = "owner_id", nullable = false)
+    private UUID ownerId;
+
+    @Column(name = "source_name")
+    private String sourceName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ListingImportFormat format;
+
+    @Column(name = "feed_sha256", length = 64)
+    private String feedSha256;
+
+    @Column(name = "feed_size_bytes")
+    private Long feedSizeBytes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private ListingImportStatus status = ListingImportStatus.RUNNING;
+
+    @Column(name = "checkpoint_row", nullable = false)
+    @Builder.Default
+    private long checkpointRow = 0;
+
+    @Column(name = "imported_count", nullable = false)
+    @Builder.Default
+    private int importedCount = 0;
+
+    @Column(name = "failed_count", nullable = false)
+    @Builder.Default
+    private int failedCount = 0;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * Record the outcome of the rows after the checkpoint up to {@code row}.
+     */
+    public void advance(long row, int imported, int failed) {
+        if (row < checkpointRow) {
+            throw new IllegalStateException("Checkpoint of import " + listingImportJobId + " cannot move back");
+        }
+        this.checkpointRow = row;
+        this.importedCount += imported;
+        this.failedCount += failed;
+    }
+
+    /**
+     * Whether a feed with this hash and size is the one the import was started with. Imports
+     * recorded without a fingerprint accept any feed.
+     */
+    public boolean matchesFeed(String sha256, long sizeBytes) {
+        return feedSha256 == null || (feedSha256.equals(sha256) && Long.valueOf(sizeBytes).equals(feedSizeBytes));
+    }
+
+    public void resume() {
+        if (this.status == ListingImportStatus.COMPLETED) {
+            throw new IllegalStateException("Import " + listingImportJobId + " is already completed");
+        }
+        this.status = ListingImportStatus.RUNNING;
+        this.lastError = null;
+        this.finishedAt = null;
+    }
+
+    public void complete() {
+        this.status = ListingImportStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String error) {
+        this.status = ListingImportStatus.FAILED;
+        this.lastError = error;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return this.status == ListingImportStatus.COMPLETED;
+    }
+}
@@ -0,0 +1,7 @@
+package com.sep.realvista.domain.listing.importing;
+
+public enum ListingImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
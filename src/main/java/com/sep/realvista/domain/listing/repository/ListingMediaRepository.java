@@ -2,6 +2,7 @@ package com.sep.realvista.domain.listing.repository;
 
 import com.sep.realvista.domain.listing.ListingMedia;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +19,11 @@ public interface ListingMediaRepository {
 
     Optional<ListingMedia> findPrimaryByListingId(UUID listingId);
 
+    /**
+     * Primary media (with its property media) for several listings in one query.
+     */
+    List<ListingMedia> findPrimaryByListingIds(Collection<UUID> listingIds);
+
     void deleteById(UUID id);
 
     void deleteByListingId(UUID listingId);
@@ -1,12 +1,16 @@
 package com.sep.realvista.domain.listing.repository;
 
 import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.ListingExportRow;
 import com.sep.realvista.domain.listing.ListingStatus;
 import com.sep.realvista.domain.listing.ListingType;
+import com.sep.realvista.domain.listing.ListingVersionStamps;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ListingRepository {
 
@@ -14,14 +18,58 @@ public interface ListingRepository {
 
     Optional<Listing> findById(UUID id);
 
+    /**
+     * Load a listing together with everything the detail page renders
+     * (property, type, category, user and media) in one query.
+     */
+    Optional<Listing> findDetailById(UUID id);
+
     List<Listing> findByPropertyId(UUID propertyId);
 
     List<Listing> findByUserId(UUID userId);
 
     List<Listing> findByStatus(ListingStatus status);
 
+    /**
+     * Export rows of non-deleted listings with the given status, in ID order, fetched from a
+     * database cursor as the stream is consumed. Must be consumed inside a transaction and closed.
+     */
+    Stream<ListingExportRow> streamExportRows(ListingStatus status);
+
     List<Listing> findByListingTypeAndStatus(ListingType listingType, ListingStatus status);
 
+    /**
+     * Search listings with keyset pagination.
+     * Property and property type are fetched with each row.
+     *
+     * @param criteria filters, sort and cursor position
+     * @param limit maximum number of rows to return
+     */
+    List<Listing> search(ListingSearchCriteria criteria, int limit);
+
+    /**
+     * Load listings with property and property type, including soft-deleted rows.
+     * Used to rebuild read models, which must see deletions too.
+     */
+    List<Listing> findWithPropertyGraphByIds(Collection<UUID> ids);
+
+    List<UUID> findIdsByPropertyIds(Collection<UUID> propertyIds);
+
+    /**
+     * Modification stamps of a non-deleted listing's detail graph, read without loading it.
+     */
+    Optional<ListingVersionStamps> findVersionStamps(UUID id);
+
+    /**
+     * IDs of published, non-deleted listings with the most views (summed over viewers), most viewed first.
+     */
+    List<UUID> findMostViewedPublishedIds(int limit);
+
+    /**
+     * IDs of published, non-deleted listings in ID order, starting after {@code afterId} (exclusive).
+     */
+    List<UUID> findPublishedIdsAfter(UUID afterId, int limit);
+
     boolean existsById(UUID id);
 
     void deleteById(UUID id);
@@ -0,0 +1,65 @@
+package com.sep.realvista.domain.listing.repository;
+
+import com.sep.realvista.domain.listing.ListingStatus;
+import com.sep.realvista.domain.listing.ListingType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Filter, sort and keyset position for a listing search.
+ * <p>
+ * Null filters are ignored. When {@code afterListingId} is set, only rows strictly
+ * after ({@code afterPrice} or {@code afterPublishedAt}, {@code afterListingId})
+ * in the requested order are returned.
+ * <p>
+ * Listings that are not published have no publish date, so for any other status the
+ * {@link ListingSortField#PUBLISHED_AT} sort and its cursor use the creation time instead.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ListingSearchCriteria {
+
+    private final ListingType listingType;
+    private final ListingStatus status;
+    /** Only listings created by this user. */
+    private final UUID userId;
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+
+    private final UUID cityId;
+    private final UUID districtId;
+    private final UUID wardId;
+    private final UUID propertyTypeId;
+
+    private final Integer minBedrooms;
+    private final Integer maxBedrooms;
+    private final Integer minBathrooms;
+    private final Integer maxBathrooms;
+
+    private final ListingSortField sortField;
+    private final boolean ascending;
+
+    private final BigDecimal afterPrice;
+    private final LocalDateTime afterPublishedAt;
+    private final UUID afterListingId;
+
+    /**
+     * Whether the {@link ListingSortField#PUBLISHED_AT} sort orders by creation time.
+     */
+    public boolean sortsByCreation() {
+        return sortField == ListingSortField.PUBLISHED_AT && status != ListingStatus.PUBLISHED;
+    }
+
+    /**
+     * Listing property ordered on by this search.
+     */
+    public String sortPropertyName() {
+        return sortsByCreation() ? "createdAt" : sortField.getPropertyName();
+    }
+}
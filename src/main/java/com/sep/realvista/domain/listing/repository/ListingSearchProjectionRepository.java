@@ -0,0 +1,60 @@
+package com.sep.realvista.domain.listing.repository;
+
+import com.sep.realvista.domain.common.geo.GeoBounds;
+import com.sep.realvista.domain.listing.ListingType;
+import com.sep.realvista.domain.listing.search.ListingGeoPoint;
+import com.sep.realvista.domain.listing.search.ListingSearchProjection;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ListingSearchProjectionRepository {
+
+    List<ListingSearchProjection> saveAll(Collection<ListingSearchProjection> projections);
+
+    List<ListingSearchProjection> findAllByIds(Collection<UUID> listingIds);
+
+    void deleteByListingIds(Collection<UUID> listingIds);
+
+    /**
+     * Remove rows not refreshed since {@code cutoff}; used to drop stale rows after a full rebuild.
+     *
+     * @return number of rows removed
+     */
+    int deleteRefreshedBefore(LocalDateTime cutoff);
+
+    long count();
+
+    /**
+     * Page through all rows in listing id order.
+     *
+     * @param afterId last listing id of the previous page, or {@code null} for the first page
+     */
+    List<ListingSearchProjection> findPageAfter(UUID afterId, int limit);
+
+    /**
+     * Search published listings on the projection alone.
+     * The status filter of the criteria is ignored: every row is a published listing.
+     */
+    List<ListingSearchProjection> search(ListingSearchCriteria criteria, int limit);
+
+    /**
+     * Map pins of published listings inside the bounds, newest first.
+     * Candidates are narrowed by geohash prefix ranges before the exact coordinate filter.
+     *
+     * @param listingType optional listing type filter
+     */
+    List<ListingGeoPoint> findGeoPointsWithin(GeoBounds bounds, ListingType listingType, int limit);
+
+    /**
+     * Map pins of published listings inside the bounds, nearest to the point first.
+     * The database orders by an equirectangular approximation of the distance; callers needing
+     * exact distances compute them on the returned points.
+     *
+     * @param listingType optional listing type filter
+     */
+    List<ListingGeoPoint> findGeoPointsNearest(
+            double latitude, double longitude, GeoBounds bounds, ListingType listingType, int limit);
+}
@@ -0,0 +1,17 @@
+package com.sep.realvista.domain.listing.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sortable columns for listing search.
+ * Each sort is tie-broken by listing ID so keyset cursors are stable.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ListingSortField {
+    PRICE("price"),
+    PUBLISHED_AT("publishedAt");
+
+    private final String propertyName;
+}
@@ -0,0 +1,18 @@
+package com.sep.realvista.domain.listing.search;
+
+import com.sep.realvista.domain.listing.ListingType;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Minimal map pin read from the search projection; coordinates stay primitive doubles.
+ */
+public record ListingGeoPoint(
+        UUID listingId,
+        double latitude,
+        double longitude,
+        BigDecimal price,
+        ListingType listingType,
+        String propertyTypeCode) {
+}
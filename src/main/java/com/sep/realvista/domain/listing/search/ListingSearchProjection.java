@@ -0,0 +1,189 @@
+package com.sep.realvista.domain.listing.search;
+
+import com.sep.realvista.domain.billing.boost.BoostType;
+import com.sep.realvista.domain.listing.ListingStatus;
+import com.sep.realvista.domain.listing.ListingType;
+import com.sep.realvista.domain.property.MediaType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Flattened, denormalized search row for a published listing.
+ * <p>
+ * Derived data only: rows are (re)built from listings, properties, locations, attribute
+ * values, media and boosts and never edited directly. Not a {@code BaseEntity} because it
+ * has no lifecycle of its own; a row exists exactly while its listing is published.
+ */
+@Entity
+@Table(name = "listing_search_projections", indexes = {
+        @Index(name = "idx_lsp_price", columnList = "price, listing_id"),
+        @Index(name = "idx_lsp_published", columnList = "published_at, listing_id"),
+        @Index(name = "idx_lsp_type_price", columnList = "listing_type, price"),
+        @Index(name = "idx_lsp_city", columnList = "city_id"),
+        @Index(name = "idx_lsp_district", columnList = "district_id"),
+        @Index(name = "idx_lsp_ward", columnList = "ward_id"),
+        @Index(name = "idx_lsp_property_type", columnList = "property_type_id"),
+        @Index(name = "idx_lsp_property", columnList = "property_id"),
+        @Index(name = "idx_lsp_geohash", columnList = "geohash")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ListingSearchProjection implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "listing_id")
+    private UUID listingId;
+
+    @Column(name = "property_id", nullable = false)
+    private UUID propertyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "listing_type", nullable = false, length = 20)
+    private ListingType listingType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private ListingStatus status;
+
+    @Column(nullable = false, length = 255)
+    private String slug;
+
+    @Column(nullable = false, length = 500)
+    private String name;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal price;
+
+    @Column(name = "is_negotiable", nullable = false)
+    private Boolean isNegotiable;
+
+    @Column(name = "published_at", nullable = false)
+    private LocalDateTime publishedAt;
+
+    @Column(name = "property_type_id")
+    private UUID propertyTypeId;
+
+    @Column(name = "property_type_name", length = 100)
+    private String propertyTypeName;
+
+    @Column(name = "property_type_code", length = 50)
+    private String propertyTypeCode;
+
+    @Column(name = "property_category_id")
+    private UUID propertyCategoryId;
+
+    @Column(name = "property_category_name", length = 100)
+    private String propertyCategoryName;
+
+    @Column(name = "property_category_code", length = 50)
+    private String propertyCategoryCode;
+
+    /**
+     * The property's own location (usually a ward).
+     */
+    @Column(name = "location_id")
+    private UUID locationId;
+
+    @Column(name = "ward_id")
+    private UUID wardId;
+
+    @Column(name = "ward_name", length = 100)
+    private String wardName;
+
+    @Column(name = "district_id")
+    private UUID districtId;
+
+    @Column(name = "district_name", length = 100)
+    private String districtName;
+
+    @Column(name = "city_id")
+    private UUID cityId;
+
+    @Column(name = "city_name", length = 100)
+    private String cityName;
+
+    @Column(name = "street_address")
+    private String streetAddress;
+
+    @Column(nullable = false)
+    private double latitude;
+
+    @Column(nullable = false)
+    private double longitude;
+
+    /**
+     * Full-precision geohash of latitude/longitude; prefix ranges select map cells.
+     */
+    @Column(length = 12)
+    private String geohash;
+
+    private Integer bedrooms;
+
+    private Integer bathrooms;
+
+    @Column(name = "usable_size_m2", precision = 10, scale = 2)
+    private BigDecimal usableSizeM2;
+
+    @Column(name = "primary_media_id")
+    private UUID primaryMediaId;
+
+    @Convert(converter = MediaType.MediaTypeConverter.class)
+    @Column(name = "primary_media_type", length = 20)
+    private MediaType primaryMediaType;
+
+    @Column(name = "primary_media_url", columnDefinition = "TEXT")
+    private String primaryMediaUrl;
+
+    @Column(name = "primary_thumbnail_url", columnDefinition = "TEXT")
+    private String primaryThumbnailUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "boost_type", length = 20)
+    private BoostType boostType;
+
+    @Column(name = "boosted_until")
+    private LocalDate boostedUntil;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    /**
+     * Set by the builder of the row so saves insert or merge without a probing SELECT.
+     */
+    @Transient
+    private boolean newRow;
+
+    @Override
+    public UUID getId() {
+        return listingId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+
+    public boolean isBoosted() {
+        return boostedUntil != null && !LocalDate.now().isAfter(boostedUntil);
+    }
+}
@@ -1,10 +1,12 @@
 package com.sep.realvista.domain.property;
 
 import com.sep.realvista.domain.common.entity.BaseEntity;
+import com.sep.realvista.domain.listing.event.ListingChangeTracker;
 import com.sep.realvista.domain.property.location.Location;
 import com.sep.realvista.domain.user.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -28,6 +30,7 @@ import java.util.Map;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(ListingChangeTracker.class)
 @Table(name = "properties", indexes = {
         @Index(name = "idx_property_owner", columnList = "owner_id"),
         @Index(name = "idx_property_location", columnList = "location_id"),
@@ -1,8 +1,10 @@
 package com.sep.realvista.domain.property;
 
 import com.sep.realvista.domain.common.entity.BaseEntity;
+import com.sep.realvista.domain.property.event.ReferenceDataChangeTracker;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -16,6 +18,7 @@ import lombok.NoArgsConstructor;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(ReferenceDataChangeTracker.class)
 @Table(name = "property_categories")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -1,8 +1,10 @@
 package com.sep.realvista.domain.property;
 
 import com.sep.realvista.domain.common.entity.BaseEntity;
+import com.sep.realvista.domain.property.event.ReferenceDataChangeTracker;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -22,6 +24,7 @@ import lombok.NoArgsConstructor;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(ReferenceDataChangeTracker.class)
 @Table(name = "property_types", indexes = {
         @Index(name = "idx_property_type_category", columnList = "property_category_id"),
         @Index(name = "idx_property_type_status", columnList = "status")
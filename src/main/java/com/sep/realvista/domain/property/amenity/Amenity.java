@@ -1,8 +1,10 @@
 package com.sep.realvista.domain.property.amenity;
 
 import com.sep.realvista.domain.common.entity.BaseEntity;
+import com.sep.realvista.domain.property.event.ReferenceDataChangeTracker;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -19,6 +21,7 @@ import lombok.NoArgsConstructor;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(ReferenceDataChangeTracker.class)
 @Table(name = "amenities", indexes = {
         @Index(name = "idx_amenity_type", columnList = "amenity_type")
 })
@@ -0,0 +1,242 @@
+package com.sep.realvista.domain.property.attribute;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Typed attribute values of one property, positioned by attribute slot (see
+ * {@link PropertyAttributeSlot}).
+ * <p>
+ * Numbers are kept as hundredths in a {@code long[]} ({@code value_number} has scale 2), booleans
+ * as two bitsets (has a value / is true) and texts in a {@code String[]}, each indexed by slot.
+ * Immutable; {@link #encode()} and {@link #decode(byte[])} convert to and from the stored form.
+ */
+public final class AttributeVector {
+
+    public static final AttributeVector EMPTY = builder().build();
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final BitSet numberSlots;
+    private final long[] numbers;
+    private final BitSet flagSlots;
+    private final BitSet flags;
+    private final BitSet textSlots;
+    private final String[] texts;
+
+    private AttributeVector(
+            BitSet numberSlots, long[] numbers, BitSet flagSlots, BitSet flags, BitSet textSlots, String[] texts) {
+        this.numberSlots = numberSlots;
+        this.numbers = numbers;
+        this.flagSlots = flagSlots;
+        this.flags = flags;
+        this.textSlots = textSlots;
+        this.texts = texts;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Number of slots holding a value.
+     */
+    public int size() {
+        return numberSlots.cardinality() + flagSlots.cardinality() + textSlots.cardinality();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Slots holding a value of any type.
+     */
+    public BitSet slots() {
+        BitSet slots = (BitSet) numberSlots.clone();
+        slots.or(flagSlots);
+        slots.or(textSlots);
+        return slots;
+    }
+
+    public boolean hasNumber(int slot) {
+        return numberSlots.get(slot);
+    }
+
+    /**
+     * Number in {@code slot} in hundredths; only meaningful when {@link #hasNumber(int)}.
+     */
+    public long hundredths(int slot) {
+        return hasNumber(slot) ? numbers[slot] : 0;
+    }
+
+    /**
+     * Number in {@code slot}, or {@code null} if the slot holds none.
+     */
+    public BigDecimal number(int slot) {
+        return hasNumber(slot) ? BigDecimal.valueOf(numbers[slot], 2) : null;
+    }
+
+    public boolean hasFlag(int slot) {
+        return flagSlots.get(slot);
+    }
+
+    /**
+     * Boolean in {@code slot}, or {@code null} if the slot holds none.
+     */
+    public Boolean flag(int slot) {
+        return hasFlag(slot) ? flags.get(slot) : null;
+    }
+
+    /**
+     * Whether {@code slot} holds {@code true}.
+     */
+    public boolean isTrue(int slot) {
+        return flags.get(slot);
+    }
+
+    /**
+     * Text in {@code slot}, or {@code null} if the slot holds none.
+     */
+    public String text(int slot) {
+        return textSlots.get(slot) ? texts[slot] : null;
+    }
+
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeBits(out, numberSlots);
+            for (int slot = numberSlots.nextSetBit(0); slot >= 0; slot = numberSlots.nextSetBit(slot + 1)) {
+                out.writeLong(numbers[slot]);
+            }
+            writeBits(out, flagSlots);
+            writeBits(out, flags);
+            writeBits(out, textSlots);
+            for (int slot = textSlots.nextSetBit(0); slot >= 0; slot = textSlots.nextSetBit(slot + 1)) {
+                out.writeUTF(texts[slot]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code data} is not an encoded vector
+     */
+    public static AttributeVector decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported attribute vector format " + version);
+            }
+            BitSet numberSlots = readBits(in);
+            long[] numbers = new long[numberSlots.length()];
+            for (int slot = numberSlots.nextSetBit(0); slot >= 0; slot = numberSlots.nextSetBit(slot + 1)) {
+                numbers[slot] = in.readLong();
+            }
+            BitSet flagSlots = readBits(in);
+            BitSet flags = readBits(in);
+            BitSet textSlots = readBits(in);
+            String[] texts = new String[textSlots.length()];
+            for (int slot = textSlots.nextSetBit(0); slot >= 0; slot = textSlots.nextSetBit(slot + 1)) {
+                texts[slot] = in.readUTF();
+            }
+            return new AttributeVector(numberSlots, numbers, flagSlots, flags, textSlots, texts);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed attribute vector", e);
+        }
+    }
+
+    private static void writeBits(DataOutputStream out, BitSet bits) throws IOException {
+        long[] words = bits.toLongArray();
+        out.writeShort(words.length);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+    private static BitSet readBits(DataInputStream in) throws IOException {
+        long[] words = new long[in.readUnsignedShort()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = in.readLong();
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Collects values by slot; a later value for a slot replaces the earlier one, whatever its type.
+     */
+    public static final class Builder {
+
+        private final BitSet numberSlots = new BitSet();
+        private long[] numbers = new long[0];
+        private final BitSet flagSlots = new BitSet();
+        private final BitSet flags = new BitSet();
+        private final BitSet textSlots = new BitSet();
+        private String[] texts = new String[0];
+
+        private Builder() {
+        }
+
+        public Builder number(int slot, BigDecimal value) {
+            clear(slot);
+            if (value != null) {
+                numbers = ensureCapacity(numbers, slot);
+                numbers[slot] = value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+                numberSlots.set(slot);
+            }
+            return this;
+        }
+
+        public Builder flag(int slot, Boolean value) {
+            clear(slot);
+            if (value != null) {
+                flagSlots.set(slot);
+                flags.set(slot, value);
+            }
+            return this;
+        }
+
+        public Builder text(int slot, String value) {
+            clear(slot);
+            if (value != null) {
+                if (slot >= texts.length) {
+                    texts = Arrays.copyOf(texts, Math.max(slot + 1, texts.length * 2));
+                }
+                texts[slot] = value;
+                textSlots.set(slot);
+            }
+            return this;
+        }
+
+        public AttributeVector build() {
+            return new AttributeVector((BitSet) numberSlots.clone(), Arrays.copyOf(numbers, numberSlots.length()),
+                    (BitSet) flagSlots.clone(), (BitSet) flags.clone(),
+                    (BitSet) textSlots.clone(), Arrays.copyOf(texts, textSlots.length()));
+        }
+
+        private void clear(int slot) {
+            if (slot < 0) {
+                throw new IllegalArgumentException("Attribute slot must not be negative: " + slot);
+            }
+            numberSlots.clear(slot);
+            flagSlots.clear(slot);
+            flags.clear(slot);
+            textSlots.clear(slot);
+        }
+
+        private static long[] ensureCapacity(long[] values, int slot) {
+            return slot < values.length ? values : Arrays.copyOf(values, Math.max(slot + 1, values.length * 2));
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.sep.realvista.domain.property.attribute;
 
 import com.sep.realvista.domain.common.entity.BaseEntity;
+import com.sep.realvista.domain.property.event.ReferenceDataChangeTracker;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -21,6 +23,7 @@ import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(ReferenceDataChangeTracker.class)
 @Table(name = "property_attribute_ranges", indexes = {
         @Index(name = "idx_property_attr_range_attr", columnList = "property_attribute_id")
 })
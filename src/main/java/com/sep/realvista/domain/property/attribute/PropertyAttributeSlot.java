@@ -0,0 +1,38 @@
+package com.sep.realvista.domain.property.attribute;
+
+import com.sep.realvista.domain.property.event.ReferenceDataChangeTracker;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Fixed position of an attribute in every {@link AttributeVector}.
+ * <p>
+ * Assigned once, the first time a value of the attribute is materialized, and never reused, so
+ * stored vectors stay readable when attributes are added or retired.
+ */
+@Entity
+@EntityListeners(ReferenceDataChangeTracker.class)
+@Table(name = "property_attribute_slots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class PropertyAttributeSlot {
+
+    @Id
+    @Column(name = "property_attribute_id")
+    private UUID propertyAttributeId;
+
+    @Column(nullable = false, unique = true)
+    private int slot;
+}
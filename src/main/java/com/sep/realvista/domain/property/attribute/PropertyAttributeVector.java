@@ -0,0 +1,88 @@
+package com.sep.realvista.domain.property.attribute;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Stored {@link AttributeVector} of a property.
+ * <p>
+ * Derived data only: rebuilt from the property's {@link PropertyAttributeValue} rows, which stay
+ * the source of truth. {@code valueCount} and {@code valuesUpdatedAt} describe those rows, so
+ * readers can version what they render without loading them.
+ */
+@Entity
+@Table(name = "property_attribute_vectors")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class PropertyAttributeVector implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "property_id")
+    private UUID propertyId;
+
+    @Column(name = "vector_data", nullable = false)
+    private byte[] vectorData;
+
+    @Column(name = "value_count", nullable = false)
+    private int valueCount;
+
+    @Column(name = "values_updated_at")
+    private LocalDateTime valuesUpdatedAt;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    /**
+     * Set by the builder of the row so saves insert without a probing SELECT.
+     */
+    @Transient
+    private boolean newRow;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private AttributeVector decoded;
+
+    public static PropertyAttributeVector of(
+            UUID propertyId, AttributeVector vector, int valueCount, LocalDateTime valuesUpdatedAt) {
+        return PropertyAttributeVector.builder()
+                .propertyId(propertyId)
+                .vectorData(vector.encode())
+                .valueCount(valueCount)
+                .valuesUpdatedAt(valuesUpdatedAt)
+                .refreshedAt(LocalDateTime.now())
+                .newRow(true)
+                .decoded(vector)
+                .build();
+    }
+
+    @Override
+    public UUID getId() {
+        return propertyId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+
+    public AttributeVector vector() {
+        if (decoded == null) {
+            decoded = AttributeVector.decode(vectorData);
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,34 @@
+package com.sep.realvista.domain.property.event;
+
+import com.sep.realvista.domain.common.event.AfterCommitEventCollector;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * JPA entity listener that records which kinds of reference data were written in the current
+ * transaction and publishes a single {@link ReferenceDataChangedEvent} after commit.
+ */
+@Component
+public class ReferenceDataChangeTracker {
+
+    private final AfterCommitEventCollector<Set<String>> changes;
+
+    public ReferenceDataChangeTracker(ApplicationEventPublisher eventPublisher) {
+        this.changes = new AfterCommitEventCollector<>(eventPublisher, HashSet::new, ReferenceDataChangedEvent::new);
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        String entityName = Hibernate.getClass(entity).getSimpleName();
+        changes.record(entityNames -> entityNames.add(entityName));
+    }
+}
@@ -0,0 +1,16 @@
+package com.sep.realvista.domain.property.event;
+
+import java.util.Set;
+
+/**
+ * Published once per committed transaction that created, updated or removed property reference
+ * data (categories, types, attributes and their ranges and type assignments, amenities).
+ *
+ * @param entityNames simple names of the changed entity classes
+ */
+public record ReferenceDataChangedEvent(Set<String> entityNames) {
+
+    public ReferenceDataChangedEvent {
+        entityNames = Set.copyOf(entityNames);
+    }
+}
@@ -1,8 +1,10 @@
 package com.sep.realvista.domain.property.location;
 
 import com.sep.realvista.domain.common.entity.BaseEntity;
+import com.sep.realvista.domain.property.location.event.LocationChangeTracker;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -24,6 +26,7 @@ import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(LocationChangeTracker.class)
 @Table(name = "locations", indexes = {
         @Index(name = "idx_location_parent", columnList = "parent_id"),
         @Index(name = "idx_location_type", columnList = "type"),
@@ -89,6 +92,20 @@ public class Location extends BaseEntity {
                 && longitude.compareTo(eastLng) <= 0;
     }
 
+    /**
+     * Primitive variant of {@link #containsCoordinate(BigDecimal, BigDecimal)} for hot paths.
+     * Locations without bounds contain nothing.
+     */
+    public boolean containsCoordinate(double latitude, double longitude) {
+        if (southLat == null || northLat == null || westLng == null || eastLng == null) {
+            return false;
+        }
+        return latitude >= southLat.doubleValue()
+                && latitude <= northLat.doubleValue()
+                && longitude >= westLng.doubleValue()
+                && longitude <= eastLng.doubleValue();
+    }
+
     public void update(String name, String code) {
         if (name != null && !name.isBlank()) {
             this.name = name;
@@ -0,0 +1,15 @@
+package com.sep.realvista.domain.property.location;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface LocationRepository {
+
+    Optional<Location> findById(UUID id);
+
+    /**
+     * All locations that are not soft-deleted, every level of the hierarchy.
+     */
+    List<Location> findAllActive();
+}
@@ -0,0 +1,35 @@
+package com.sep.realvista.domain.property.location.event;
+
+import com.sep.realvista.domain.common.event.AfterCommitEventCollector;
+import com.sep.realvista.domain.property.location.Location;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JPA entity listener that records which locations were written in the current transaction
+ * and publishes a single {@link LocationsChangedEvent} after commit.
+ */
+@Component
+public class LocationChangeTracker {
+
+    private final AfterCommitEventCollector<Set<UUID>> changes;
+
+    public LocationChangeTracker(ApplicationEventPublisher eventPublisher) {
+        this.changes = new AfterCommitEventCollector<>(eventPublisher, HashSet::new, LocationsChangedEvent::new);
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Location location) {
+        UUID locationId = location.getLocationId();
+        changes.record(locationIds -> locationIds.add(locationId));
+    }
+}
@@ -0,0 +1,14 @@
+package com.sep.realvista.domain.property.location.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published once per committed transaction that created, updated or removed locations.
+ */
+public record LocationsChangedEvent(Set<UUID> locationIds) {
+
+    public LocationsChangedEvent {
+        locationIds = Set.copyOf(locationIds);
+    }
+}
@@ -18,5 +18,15 @@ public interface UserRepository {
     void deleteById(UUID id);
 
     Optional<User> findByEmailValue(String email);
+
+    /**
+     * Modification stamps of a user profile, read without loading the user.
+     */
+    Optional<UserVersionStamps> findVersionStamps(UUID id);
+
+    /**
+     * Status of a user that has not been deleted, read without loading the user.
+     */
+    Optional<UserStatus> findActiveStatus(UUID id);
 }
 
@@ -0,0 +1,19 @@
+package com.sep.realvista.domain.user;
+
+import com.sep.realvista.domain.common.version.ResourceVersion;
+
+import java.time.LocalDateTime;
+
+/**
+ * Modification stamps of a user profile: the user and its role assignments.
+ */
+public record UserVersionStamps(LocalDateTime userUpdatedAt, long roleCount, LocalDateTime roleUpdatedAt) {
+
+    public ResourceVersion toVersion() {
+        return ResourceVersion.builder()
+                .stamp(userUpdatedAt)
+                .count(roleCount)
+                .stamp(roleUpdatedAt)
+                .build();
+    }
+}
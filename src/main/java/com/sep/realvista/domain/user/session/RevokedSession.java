@@ -0,0 +1,10 @@
+package com.sep.realvista.domain.user.session;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Id and revocation time of a revoked session, read without loading the session.
+ */
+public record RevokedSession(UUID userSessionId, LocalDateTime revokedAt) {
+}
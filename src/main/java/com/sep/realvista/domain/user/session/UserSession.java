@@ -50,6 +50,12 @@ public class UserSession extends BaseEntity {
     @Column(name = "session_token_hash", nullable = false, unique = true)
     private String sessionTokenHash;
 
+    /**
+     * Hash of the refresh token replaced by the last rotation, kept to detect its reuse.
+     */
+    @Column(name = "previous_token_hash")
+    private String previousTokenHash;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "device_type", nullable = false, length = 20)
     private DeviceType deviceType;
@@ -90,4 +96,17 @@ public class UserSession extends BaseEntity {
     public void updateLastActivity() {
         this.lastActivityAt = LocalDateTime.now();
     }
+
+    /**
+     * Replace the session's refresh token and extend the session until {@code expiresAt}.
+     */
+    public void rotate(String newTokenHash, LocalDateTime expiresAt) {
+        if (!isValid()) {
+            throw new IllegalStateException("Cannot rotate an expired or revoked session");
+        }
+        this.previousTokenHash = this.sessionTokenHash;
+        this.sessionTokenHash = newTokenHash;
+        this.expiresAt = expiresAt;
+        updateLastActivity();
+    }
 }
@@ -0,0 +1,12 @@
+package com.sep.realvista.infrastructure.cache;
+
+/**
+ * Invalidation of one cache entry, or of a whole cache when {@code key} is null,
+ * broadcast by the node that made the change.
+ */
+public record CacheInvalidation(String nodeId, String cacheName, String key) {
+
+    public boolean clearsAll() {
+        return key == null;
+    }
+}
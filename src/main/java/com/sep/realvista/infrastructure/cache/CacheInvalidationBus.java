@@ -0,0 +1,16 @@
+package com.sep.realvista.infrastructure.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Transport that delivers cache invalidations to every node.
+ * <p>
+ * Delivery is at-least-once and may include the publisher's own messages; subscribers
+ * ignore invalidations carrying their own node id.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> subscriber);
+}
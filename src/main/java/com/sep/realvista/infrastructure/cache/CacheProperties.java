@@ -0,0 +1,95 @@
+package com.sep.realvista.infrastructure.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Settings of the two-tier application cache ({@code realvista.cache.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "realvista.cache")
+public class CacheProperties {
+
+    /**
+     * Identifies this node on the invalidation bus; must differ between nodes.
+     */
+    private String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * Transport used to broadcast invalidations to other nodes.
+     */
+    private Transport invalidationTransport = Transport.IN_MEMORY;
+
+    /**
+     * Store used as the shared second tier.
+     */
+    private SharedStore sharedStore = SharedStore.NONE;
+
+    /**
+     * How often the JDBC transport polls for invalidations from other nodes.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long broadcast invalidations are kept for nodes that fall behind.
+     */
+    private Duration invalidationRetention = Duration.ofHours(1);
+
+    /**
+     * Settings for caches that are not listed in {@link #caches}.
+     */
+    private Spec defaults = new Spec();
+
+    /**
+     * Per-cache settings, keyed by cache name.
+     */
+    private Map<String, Spec> caches = new LinkedHashMap<>();
+
+    public Spec specFor(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    public enum Transport {
+        /** In-process delivery only: single-node deployments and tests. */
+        IN_MEMORY,
+        /** Invalidations are written to a database table that every node polls. */
+        JDBC
+    }
+
+    public enum SharedStore {
+        NONE,
+        JDBC
+    }
+
+    @Data
+    public static class Spec {
+
+        private long maximumSize = 10_000;
+
+        private Duration timeToLive = Duration.ofMinutes(10);
+
+        /**
+         * Age after which a read-through front serves the entry while one background refresh
+         * runs ({@code null} = never). Only honoured by caches that load through such a front.
+         */
+        private Duration refreshAfter;
+
+        /**
+         * Whether the cache uses the shared tier and broadcasts invalidations. Caches holding
+         * node-local state (e.g. results keyed by an in-memory index version) must stay local.
+         */
+        private boolean distributed = true;
+
+        /**
+         * Whether a distributed cache copies its values to the shared tier. Caches holding
+         * secrets, such as password hashes, keep values on the node that loaded them and only
+         * broadcast invalidations.
+         */
+        private boolean shareValues = true;
+    }
+}
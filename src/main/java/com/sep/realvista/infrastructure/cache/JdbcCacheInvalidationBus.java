@@ -0,0 +1,142 @@
+package com.sep.realvista.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation transport over the shared database: publishers append to
+ * {@code cache_invalidations} and every node polls for recent rows.
+ * <p>
+ * Each poll re-reads a short window, so rows committed out of id order or stamped by a
+ * node with a slightly skewed clock are still seen; rows already delivered are skipped.
+ * Old rows are purged after the configured retention.
+ */
+@Slf4j
+public class JdbcCacheInvalidationBus implements CacheInvalidationBus, SmartLifecycle {
+
+    static final Duration CLOCK_SKEW_ALLOWANCE = Duration.ofSeconds(10);
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private final Duration lookback;
+    private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+    private final Map<Long, Instant> delivered = new LinkedHashMap<>();
+
+    private ScheduledExecutorService poller;
+    private Instant lastPurge = Instant.EPOCH;
+
+    public JdbcCacheInvalidationBus(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            CacheProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Publishing happens after the caller's commit, when its connection can no longer commit
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.pollInterval = properties.getPollInterval();
+        this.retention = properties.getInvalidationRetention();
+        this.lookback = pollInterval.multipliedBy(2).plus(CLOCK_SKEW_ALLOWANCE);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO cache_invalidations (node_id, cache_name, cache_key, created_at) VALUES (?, ?, ?, ?)",
+                invalidation.nodeId(), invalidation.cacheName(), invalidation.key(), Timestamp.from(Instant.now())));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (poller != null) {
+            return;
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-invalidation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(this::poll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Polling cache invalidations every {}", pollInterval);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+            poller = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return poller != null;
+    }
+
+    void poll() {
+        try {
+            Instant now = Instant.now();
+            List<Row> rows = jdbcTemplate.query(
+                    "SELECT invalidation_id, node_id, cache_name, cache_key FROM cache_invalidations "
+                            + "WHERE created_at >= ? ORDER BY invalidation_id",
+                    (rs, rowNum) -> new Row(rs.getLong("invalidation_id"), new CacheInvalidation(
+                            rs.getString("node_id"), rs.getString("cache_name"), rs.getString("cache_key"))),
+                    Timestamp.from(now.minus(lookback)));
+
+            for (Row row : rows) {
+                if (delivered.putIfAbsent(row.id(), now) == null) {
+                    deliver(row.invalidation());
+                }
+            }
+            Instant forgetBefore = now.minus(lookback.multipliedBy(2));
+            delivered.values().removeIf(seenAt -> seenAt.isBefore(forgetBefore));
+
+            if (lastPurge.plus(PURGE_INTERVAL).isBefore(now)) {
+                int purged = jdbcTemplate.update("DELETE FROM cache_invalidations WHERE created_at < ?",
+                        Timestamp.from(now.minus(retention)));
+                lastPurge = now;
+                log.debug("Purged {} old cache invalidations", purged);
+            }
+        } catch (RuntimeException e) {
+            // Keep polling; entries missed meanwhile expire by their time-to-live
+            log.warn("Polling cache invalidations failed: {}", e.getMessage());
+        }
+    }
+
+    private void deliver(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> subscriber : subscribers) {
+            try {
+                subscriber.accept(invalidation);
+            } catch (RuntimeException e) {
+                log.error("Cache invalidation subscriber failed for {}: {}", invalidation, e.getMessage(), e);
+            }
+        }
+    }
+
+    private record Row(long id, CacheInvalidation invalidation) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.sep.realvista.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Shared cache tier in the {@code cache_entries} table, values stored as JSON.
+ * <p>
+ * Only types from this application are deserialized; anything else is treated as a miss.
+ * Expired rows are ignored on read and purged periodically on write.
+ */
+@Slf4j
+public class JdbcSharedCacheStore implements SharedCacheStore {
+
+    private static final String TRUSTED_PACKAGE = "com.sep.realvista.";
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(5);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final ObjectMapper objectMapper;
+
+    private volatile Instant lastPurge = Instant.EPOCH;
+
+    public JdbcSharedCacheStore(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Writes must commit on their own, independent of (and possibly after) the caller's transaction
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Optional<Object> get(String cacheName, String key) {
+        List<Object> values = jdbcTemplate.query(
+                "SELECT value_type, payload FROM cache_entries "
+                        + "WHERE cache_name = ? AND cache_key = ? AND expires_at > ?",
+                (rs, rowNum) -> deserialize(rs.getString("value_type"), rs.getString("payload")),
+                cacheName, key, Timestamp.from(Instant.now()));
+        return values.stream().filter(Objects::nonNull).findFirst();
+    }
+
+    @Override
+    public void put(String cacheName, String key, Object value, Duration timeToLive) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.warn("Cannot serialize {} for shared cache {}: {}", value.getClass().getName(), cacheName,
+                    e.getMessage());
+            return;
+        }
+        Instant now = Instant.now();
+        Timestamp expiresAt = Timestamp.from(now.plus(timeToLive));
+        String valueType = value.getClass().getName();
+
+        requiresNew.executeWithoutResult(status -> {
+            int updated = jdbcTemplate.update(
+                    "UPDATE cache_entries SET value_type = ?, payload = ?, expires_at = ? "
+                            + "WHERE cache_name = ? AND cache_key = ?",
+                    valueType, payload, expiresAt, cacheName, key);
+            if (updated == 0) {
+                try {
+                    jdbcTemplate.update(
+                            "INSERT INTO cache_entries (cache_name, cache_key, value_type, payload, expires_at) "
+                                    + "VALUES (?, ?, ?, ?, ?)",
+                            cacheName, key, valueType, payload, expiresAt);
+                } catch (DuplicateKeyException e) {
+                    // Another node stored the same entry concurrently; either copy will do
+                    log.debug("Shared cache entry {}::{} was stored concurrently", cacheName, key);
+                }
+            }
+        });
+
+        if (lastPurge.plus(PURGE_INTERVAL).isBefore(now)) {
+            lastPurge = now;
+            requiresNew.executeWithoutResult(status -> jdbcTemplate.update(
+                    "DELETE FROM cache_entries WHERE expires_at <= ?", Timestamp.from(now)));
+        }
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.update(
+                "DELETE FROM cache_entries WHERE cache_name = ? AND cache_key = ?", cacheName, key));
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.update(
+                "DELETE FROM cache_entries WHERE cache_name = ?", cacheName));
+    }
+
+    private Object deserialize(String valueType, String payload) {
+        if (valueType == null || !valueType.startsWith(TRUSTED_PACKAGE)) {
+            log.warn("Ignoring shared cache entry of untrusted type {}", valueType);
+            return null;
+        }
+        try {
+            Class<?> type = Class.forName(valueType, false, getClass().getClassLoader());
+            return objectMapper.readValue(payload, type);
+        } catch (ClassNotFoundException | JsonProcessingException e) {
+            // Entries written by another application version; reload instead
+            log.debug("Cannot read shared cache entry of type {}: {}", valueType, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.sep.realvista.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Second cache tier shared by all nodes.
+ * <p>
+ * Implementations serialize values, so only plain DTOs should be cached in distributed caches.
+ * Failures are reported to the caller; {@link TwoTierCache} treats them as misses.
+ */
+public interface SharedCacheStore {
+
+    Optional<Object> get(String cacheName, String key);
+
+    void put(String cacheName, String key, Object value, Duration timeToLive);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+}
@@ -0,0 +1,229 @@
+package com.sep.realvista.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Spring {@link org.springframework.cache.Cache} with a bounded in-process first tier and an
+ * optional shared second tier.
+ * <p>
+ * Reads go to the local Caffeine cache, then to the {@link SharedCacheStore}, then to the
+ * value loader; whatever is found is copied into the tiers above it. Evictions drop the entry
+ * from both tiers and are broadcast on the {@link CacheInvalidationBus} so other nodes drop
+ * their local copy. Inside a transaction {@link #evict(Object)} and {@link #clear()} repeat the
+ * eviction after commit, so a reader that reloaded the old value in between does not keep it;
+ * {@link #evictIfPresent(Object)} and {@link #invalidate()} act at once.
+ * <p>
+ * Keys are identified by their {@code toString()} on every tier and on the bus.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final SharedCacheStore shared;
+    private final CacheInvalidationBus bus;
+    private final String nodeId;
+    private final Duration timeToLive;
+
+    /**
+     * @param shared second tier, or null for a local-only cache
+     * @param bus    invalidation transport, or null if evictions stay on this node
+     */
+    public TwoTierCache(
+            String name,
+            CacheProperties.Spec spec,
+            SharedCacheStore shared,
+            CacheInvalidationBus bus,
+            String nodeId) {
+        super(true);
+        this.name = name;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getTimeToLive())
+                .build();
+        this.shared = shared;
+        this.bus = bus;
+        this.nodeId = nodeId;
+        this.timeToLive = spec.getTimeToLive();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Cache<String, Object> getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = keyOf(key);
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            return value;
+        }
+        Object sharedValue = readShared(cacheKey);
+        if (sharedValue != null) {
+            local.put(cacheKey, sharedValue);
+        }
+        return sharedValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = keyOf(key);
+        return (T) fromStoreValue(local.get(cacheKey, ignored -> {
+            Object sharedValue = readShared(cacheKey);
+            if (sharedValue != null) {
+                return sharedValue;
+            }
+            try {
+                Object value = toStoreValue(valueLoader.call());
+                writeShared(cacheKey, value);
+                return value;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String cacheKey = keyOf(key);
+        Object storeValue = toStoreValue(value);
+        local.put(cacheKey, storeValue);
+        writeShared(cacheKey, storeValue);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = keyOf(key);
+        local.invalidate(cacheKey);
+        afterCommit(() -> evictEverywhere(cacheKey));
+    }
+
+    /**
+     * Evict the entry from both tiers and broadcast it right away, also inside a transaction.
+     * Use this from after-commit callbacks, where a synchronization registered by
+     * {@link #evict(Object)} would never run.
+     */
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String cacheKey = keyOf(key);
+        boolean present = local.asMap().remove(cacheKey) != null;
+        evictEverywhere(cacheKey);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        afterCommit(this::clearEverywhere);
+    }
+
+    /**
+     * Clear both tiers and broadcast it right away, also inside a transaction; see
+     * {@link #evictIfPresent(Object)}.
+     */
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = local.estimatedSize() > 0;
+        clearEverywhere();
+        return notEmpty;
+    }
+
+    /**
+     * Apply an invalidation broadcast by another node to the local tier.
+     */
+    void onRemoteInvalidation(CacheInvalidation invalidation) {
+        if (invalidation.clearsAll()) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(invalidation.key());
+        }
+    }
+
+    private void evictEverywhere(String cacheKey) {
+        local.invalidate(cacheKey);
+        if (shared != null) {
+            runShared(() -> shared.evict(name, cacheKey));
+        }
+        broadcast(cacheKey);
+    }
+
+    private void clearEverywhere() {
+        local.invalidateAll();
+        if (shared != null) {
+            runShared(() -> shared.clear(name));
+        }
+        broadcast(null);
+    }
+
+    private Object readShared(String cacheKey) {
+        if (shared == null) {
+            return null;
+        }
+        try {
+            return shared.get(name, cacheKey).orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Shared cache read failed for {}::{}, treating as miss: {}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(String cacheKey, Object storeValue) {
+        // Null results are cached locally only; they are cheap to recompute on other nodes
+        if (shared != null && !(storeValue instanceof NullValue)) {
+            runShared(() -> shared.put(name, cacheKey, storeValue, timeToLive));
+        }
+    }
+
+    private void runShared(Runnable operation) {
+        try {
+            operation.run();
+        } catch (RuntimeException e) {
+            log.warn("Shared cache write failed for {}: {}", name, e.getMessage());
+        }
+    }
+
+    private void broadcast(String cacheKey) {
+        if (bus == null) {
+            return;
+        }
+        try {
+            bus.publish(new CacheInvalidation(nodeId, name, cacheKey));
+        } catch (RuntimeException e) {
+            // Other nodes fall back to the time-to-live for this entry
+            log.error("Failed to broadcast invalidation of {}::{}: {}", name, cacheKey, e.getMessage(), e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String keyOf(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,57 @@
+package com.sep.realvista.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+
+import java.util.Collection;
+
+/**
+ * Creates a {@link TwoTierCache} per configured cache name and routes invalidations
+ * broadcast by other nodes to the matching cache.
+ * <p>
+ * Caches marked non-distributed use only the local tier and never broadcast.
+ */
+public class TwoTierCacheManager extends AbstractCacheManager {
+
+    private final CacheProperties properties;
+    private final SharedCacheStore shared;
+    private final CacheInvalidationBus bus;
+
+    /**
+     * @param shared second tier, or null to run distributed caches with invalidation only
+     */
+    public TwoTierCacheManager(CacheProperties properties, SharedCacheStore shared, CacheInvalidationBus bus) {
+        this.properties = properties;
+        this.shared = shared;
+        this.bus = bus;
+        bus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return properties.getCaches().keySet().stream()
+                .map(this::createCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private Cache createCache(String name) {
+        CacheProperties.Spec spec = properties.specFor(name);
+        return spec.isDistributed()
+                ? new TwoTierCache(name, spec, spec.isShareValues() ? shared : null, bus, properties.getNodeId())
+                : new TwoTierCache(name, spec, null, null, properties.getNodeId());
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (properties.getNodeId().equals(invalidation.nodeId())) {
+            return;
+        }
+        if (lookupCache(invalidation.cacheName()) instanceof TwoTierCache cache) {
+            cache.onRemoteInvalidation(invalidation);
+        }
+    }
+}
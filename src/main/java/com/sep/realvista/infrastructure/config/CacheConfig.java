@@ -0,0 +1,50 @@
+package com.sep.realvista.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sep.realvista.infrastructure.cache.CacheInvalidationBus;
+import com.sep.realvista.infrastructure.cache.CacheProperties;
+import com.sep.realvista.infrastructure.cache.InMemoryCacheInvalidationBus;
+import com.sep.realvista.infrastructure.cache.JdbcCacheInvalidationBus;
+import com.sep.realvista.infrastructure.cache.JdbcSharedCacheStore;
+import com.sep.realvista.infrastructure.cache.SharedCacheStore;
+import com.sep.realvista.infrastructure.cache.TwoTierCacheManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Two-tier cache configuration: bounded Caffeine caches per node, an optional shared tier and
+ * an invalidation transport, selected by {@code realvista.cache.*}.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(
+            CacheProperties properties,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager) {
+        return switch (properties.getInvalidationTransport()) {
+            case IN_MEMORY -> new InMemoryCacheInvalidationBus();
+            case JDBC -> new JdbcCacheInvalidationBus(jdbcTemplate, transactionManager, properties);
+        };
+    }
+
+    @Bean
+    public CacheManager cacheManager(
+            CacheProperties properties,
+            CacheInvalidationBus cacheInvalidationBus,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper) {
+        SharedCacheStore shared = switch (properties.getSharedStore()) {
+            case NONE -> null;
+            case JDBC -> new JdbcSharedCacheStore(jdbcTemplate, transactionManager, objectMapper);
+        };
+        return new TwoTierCacheManager(properties, shared, cacheInvalidationBus);
+    }
+}
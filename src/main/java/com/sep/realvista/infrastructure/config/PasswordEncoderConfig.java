@@ -1,10 +1,18 @@
 package com.sep.realvista.infrastructure.config;
 
+import com.sep.realvista.infrastructure.security.password.BoundedPasswordEncoder;
+import com.sep.realvista.infrastructure.security.password.OAuth2OnlyPasswordEncoder;
+import com.sep.realvista.infrastructure.security.password.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+
 /**
  * Configuration for password encoding.
  * <p>
@@ -16,16 +24,28 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * By extracting PasswordEncoder into its own config, we break the cycle.
  */
 @Configuration
+@EnableConfigurationProperties(PasswordHashingProperties.class)
 public class PasswordEncoderConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+
     /**
      * Creates the password encoder bean.
-     * Uses BCrypt hashing algorithm with default strength (10 rounds).
+     * <p>
+     * New hashes are BCrypt with the configured strength, prefixed with {@code {bcrypt}}. Hashes
+     * stored without a prefix are matched as BCrypt and, like hashes of a lower strength, are
+     * rehashed at the user's next login. {@code {oauth2}} marks accounts without a password.
+     * Hashing runs on a bounded pool of threads, see {@link BoundedPasswordEncoder}.
      *
      * @return the password encoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(properties.getBcryptStrength());
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(
+                BCRYPT_ID, bcrypt,
+                OAuth2OnlyPasswordEncoder.ID, new OAuth2OnlyPasswordEncoder()));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new BoundedPasswordEncoder(delegating, properties, meterRegistry);
     }
 }
@@ -0,0 +1,13 @@
+package com.sep.realvista.infrastructure.config;
+
+import com.sep.realvista.infrastructure.security.session.SessionProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Refresh-token session configuration.
+ */
+@Configuration
+@EnableConfigurationProperties(SessionProperties.class)
+public class SessionConfig {
+}
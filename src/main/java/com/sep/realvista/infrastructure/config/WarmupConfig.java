@@ -0,0 +1,13 @@
+package com.sep.realvista.infrastructure.config;
+
+import com.sep.realvista.infrastructure.warmup.WarmupProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup warm-up configuration.
+ */
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfig {
+}
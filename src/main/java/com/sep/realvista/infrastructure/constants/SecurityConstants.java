@@ -21,7 +21,7 @@ public final class SecurityConstants {
         public static final String TOKEN_PREFIX = "Bearer ";
         public static final String HEADER_NAME = "Authorization";
         public static final String TOKEN_TYPE = "Bearer";
-        public static final long DEFAULT_EXPIRATION_MS = 86400000L; // 24 hours
+        public static final long DEFAULT_EXPIRATION_MS = 900000L; // 15 minutes
 
         private Jwt() {
             throw new AssertionError("Cannot instantiate constants class");
@@ -35,6 +35,8 @@ public final class SecurityConstants {
         public static final String[] PUBLIC_PATHS = {
                 "/api/v1/auth/**",
                 "/api/v1/listings/**",
+                "/api/v1/locations/**",
+                "/api/v1/reference-data/**",
                 "/v1/api-docs/**",
                 "/swagger-ui/**",
                 "/swagger-ui.html",
@@ -75,6 +77,19 @@ public final class SecurityConstants {
         }
     }
 
+    /**
+     * Cookie carrying the refresh token of browser sessions, which is never put in a URL.
+     */
+    public static final class RefreshCookie {
+        public static final String NAME = "refresh_token";
+        public static final String PATH = "/api/v1/auth";
+        public static final String SAME_SITE = "Strict";
+
+        private RefreshCookie() {
+            throw new AssertionError("Cannot instantiate constants class");
+        }
+    }
+
     /**
      * Cache names.
      */
@@ -0,0 +1,23 @@
+package com.sep.realvista.infrastructure.persistence.billing.boost;
+
+import com.sep.realvista.domain.billing.boost.ListingBoost;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for ListingBoost entity.
+ */
+public interface ListingBoostJpaRepository extends JpaRepository<ListingBoost, UUID> {
+
+    @Query("SELECT lb FROM ListingBoost lb WHERE lb.listingId IN :listingIds "
+            + "AND lb.status = com.sep.realvista.domain.billing.boost.ListingBoostStatus.ACTIVE "
+            + "AND lb.startDate <= :date AND lb.endDate >= :date AND lb.deleted = false")
+    List<ListingBoost> findActiveByListingIds(@Param("listingIds") Collection<UUID> listingIds,
+            @Param("date") LocalDate date);
+}
@@ -0,0 +1,31 @@
+package com.sep.realvista.infrastructure.persistence.billing.boost;
+
+import com.sep.realvista.domain.billing.boost.ListingBoost;
+import com.sep.realvista.domain.billing.boost.ListingBoostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ListingBoostRepositoryImpl implements ListingBoostRepository {
+
+    private final ListingBoostJpaRepository jpaRepository;
+
+    @Override
+    public ListingBoost save(ListingBoost listingBoost) {
+        return jpaRepository.save(listingBoost);
+    }
+
+    @Override
+    public List<ListingBoost> findActiveByListingIds(Collection<UUID> listingIds, LocalDate date) {
+        if (listingIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findActiveByListingIds(listingIds, date);
+    }
+}
@@ -0,0 +1,18 @@
+package com.sep.realvista.infrastructure.persistence.listing;
+
+import com.sep.realvista.domain.listing.importing.ListingImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for ListingImportJob entity.
+ */
+public interface ListingImportJobJpaRepository extends JpaRepository<ListingImportJob, UUID> {
+
+    @Query("SELECT j FROM ListingImportJob j WHERE j.listingImportJobId = :id AND j.deleted = false")
+    Optional<ListingImportJob> findActiveById(@Param("id") UUID id);
+}
@@ -1,20 +1,31 @@
 package com.sep.realvista.infrastructure.persistence.listing;
 
 import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.ListingExportRow;
 import com.sep.realvista.domain.listing.ListingStatus;
 import com.sep.realvista.domain.listing.ListingType;
+import com.sep.realvista.domain.listing.ListingVersionStamps;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for Listing entity.
  * All queries exclude soft-deleted records (deleted = false).
  */
-public interface ListingJpaRepository extends JpaRepository<Listing, UUID> {
+public interface ListingJpaRepository extends JpaRepository<Listing, UUID>, JpaSpecificationExecutor<Listing> {
+
+    int EXPORT_FETCH_SIZE = 500;
 
     @Query("SELECT l FROM Listing l WHERE l.property.propertyId = :propertyId AND l.deleted = false")
     List<Listing> findByPropertyId(@Param("propertyId") UUID propertyId);
@@ -25,6 +36,26 @@ public interface ListingJpaRepository extends JpaRepository<Listing, UUID> {
     @Query("SELECT l FROM Listing l WHERE l.status = :status AND l.deleted = false")
     List<Listing> findByStatus(@Param("status") ListingStatus status);
 
+    /**
+     * Rows are fetched {@value #EXPORT_FETCH_SIZE} at a time; the query selects no entities, so
+     * nothing accumulates in the persistence context however many rows are read.
+     */
+    @Query("SELECT new com.sep.realvista.domain.listing.ListingExportRow("
+            + "l.listingId, l.slug, l.name, l.listingType, l.status, l.price, l.minPrice, l.maxPrice, "
+            + "l.isNegotiable, l.availableFrom, l.publishedAt, l.updatedAt, "
+            + "p.propertyId, p.locationId, pt.code, p.streetAddress, p.latitude, p.longitude, "
+            + "p.landSizeM2, p.usableSizeM2, "
+            + "(SELECT MIN(pm.mediaUrl) FROM ListingMedia m JOIN m.propertyMedia pm "
+            + "WHERE m.listingId = l.listingId AND m.isPrimary = true AND m.deleted = false)) "
+            + "FROM Listing l JOIN l.property p JOIN p.propertyType pt "
+            + "WHERE l.status = :status AND l.deleted = false "
+            + "ORDER BY l.listingId")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ListingExportRow> streamExportRows(@Param("status") ListingStatus status);
+
     @Query("SELECT l FROM Listing l WHERE l.listingType = :listingType AND l.status = :status "
             + "AND l.deleted = false")
     List<Listing> findByListingTypeAndStatus(@Param("listingType") ListingType listingType,
@@ -32,4 +63,64 @@ public interface ListingJpaRepository extends JpaRepository<Listing, UUID> {
 
     @Query("SELECT l FROM Listing l WHERE l.listingId = :id AND l.deleted = false")
     Optional<Listing> findActiveById(@Param("id") UUID id);
+
+    /**
+     * Fetches the whole listing detail graph in a single statement.
+     * Media is the only collection joined, so the result stays a single bag.
+     * The location hierarchy is rendered from the location ancestry cache and is not joined.
+     */
+    @Query("SELECT DISTINCT l FROM Listing l "
+            + "LEFT JOIN FETCH l.property p "
+            + "LEFT JOIN FETCH p.propertyType pt "
+            + "LEFT JOIN FETCH pt.propertyCategory "
+            + "LEFT JOIN FETCH l.user "
+            + "LEFT JOIN FETCH l.listingMedias lm "
+            + "LEFT JOIN FETCH lm.propertyMedia "
+            + "WHERE l.listingId = :id AND l.deleted = false")
+    Optional<Listing> findDetailById(@Param("id") UUID id);
+
+    @Query("SELECT l FROM Listing l "
+            + "LEFT JOIN FETCH l.property p "
+            + "LEFT JOIN FETCH p.propertyType pt "
+            + "LEFT JOIN FETCH pt.propertyCategory "
+            + "WHERE l.listingId IN :ids")
+    List<Listing> findWithPropertyGraphByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT l.listingId FROM Listing l WHERE l.propertyId IN :propertyIds")
+    List<UUID> findIdsByPropertyIds(@Param("propertyIds") Collection<UUID> propertyIds);
+
+    @Query("SELECT v.listingId FROM ListingView v JOIN v.listing l "
+            + "WHERE l.status = com.sep.realvista.domain.listing.ListingStatus.PUBLISHED AND l.deleted = false "
+            + "GROUP BY v.listingId "
+            + "ORDER BY SUM(v.viewCount) DESC, v.listingId")
+    List<UUID> findMostViewedPublishedIds(Limit limit);
+
+    /**
+     * Stamps of the rows {@link #findDetailById} and the attribute value query read, in one statement.
+     */
+    @Query("SELECT new com.sep.realvista.domain.listing.ListingVersionStamps("
+            + "l.updatedAt, p.updatedAt, u.updatedAt, "
+            + "(SELECT COUNT(m) FROM ListingMedia m WHERE m.listingId = l.listingId AND m.deleted = false), "
+            + "(SELECT MAX(m.updatedAt) FROM ListingMedia m "
+            + "WHERE m.listingId = l.listingId AND m.deleted = false), "
+            + "(SELECT MAX(pm.updatedAt) FROM ListingMedia m JOIN m.propertyMedia pm "
+            + "WHERE m.listingId = l.listingId AND m.deleted = false), "
+            + "(SELECT COUNT(v) FROM PropertyAttributeValue v "
+            + "WHERE v.property.propertyId = l.propertyId AND v.deleted = false), "
+            + "(SELECT MAX(v.updatedAt) FROM PropertyAttributeValue v "
+            + "WHERE v.property.propertyId = l.propertyId AND v.deleted = false)) "
+            + "FROM Listing l LEFT JOIN l.property p LEFT JOIN l.user u "
+            + "WHERE l.listingId = :id AND l.deleted = false")
+    Optional<ListingVersionStamps> findVersionStamps(@Param("id") UUID id);
+
+    @Query("SELECT l.listingId FROM Listing l "
+            + "WHERE l.status = com.sep.realvista.domain.listing.ListingStatus.PUBLISHED AND l.deleted = false "
+            + "ORDER BY l.listingId")
+    List<UUID> findPublishedIds(Limit limit);
+
+    @Query("SELECT l.listingId FROM Listing l "
+            + "WHERE l.status = com.sep.realvista.domain.listing.ListingStatus.PUBLISHED AND l.deleted = false "
+            + "AND l.listingId > :afterId "
+            + "ORDER BY l.listingId")
+    List<UUID> findPublishedIdsAfter(@Param("afterId") UUID afterId, Limit limit);
 }
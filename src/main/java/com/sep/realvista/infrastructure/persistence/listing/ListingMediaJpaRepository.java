@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,4 +26,9 @@ public interface ListingMediaJpaRepository extends JpaRepository<ListingMedia, U
         @Query("SELECT lm FROM ListingMedia lm WHERE lm.listingId = :listingId "
                         + "AND lm.isPrimary = true AND lm.deleted = false")
         Optional<ListingMedia> findPrimaryByListingId(@Param("listingId") UUID listingId);
+
+        @Query("SELECT lm FROM ListingMedia lm JOIN FETCH lm.propertyMedia "
+                        + "WHERE lm.listingId IN :listingIds AND lm.isPrimary = true AND lm.deleted = false "
+                        + "ORDER BY lm.displayOrder ASC")
+        List<ListingMedia> findPrimaryByListingIdIn(@Param("listingIds") Collection<UUID> listingIds);
 }
@@ -5,6 +5,7 @@ import com.sep.realvista.domain.listing.repository.ListingMediaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,6 +41,14 @@ public class ListingMediaRepositoryImpl implements ListingMediaRepository {
         return jpaRepository.findPrimaryByListingId(listingId);
     }
 
+    @Override
+    public List<ListingMedia> findPrimaryByListingIds(Collection<UUID> listingIds) {
+        if (listingIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findPrimaryByListingIdIn(listingIds);
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
@@ -1,15 +1,22 @@
 package com.sep.realvista.infrastructure.persistence.listing;
 
 import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.ListingExportRow;
 import com.sep.realvista.domain.listing.ListingStatus;
 import com.sep.realvista.domain.listing.ListingType;
+import com.sep.realvista.domain.listing.ListingVersionStamps;
 import com.sep.realvista.domain.listing.repository.ListingRepository;
+import com.sep.realvista.domain.listing.repository.ListingSearchCriteria;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
@@ -27,6 +34,11 @@ public class ListingRepositoryImpl implements ListingRepository {
         return jpaRepository.findActiveById(id);
     }
 
+    @Override
+    public Optional<Listing> findDetailById(UUID id) {
+        return jpaRepository.findDetailById(id);
+    }
+
     @Override
     public List<Listing> findByPropertyId(UUID propertyId) {
         return jpaRepository.findByPropertyId(propertyId);
@@ -42,11 +54,58 @@ public class ListingRepositoryImpl implements ListingRepository {
         return jpaRepository.findByStatus(status);
     }
 
+    @Override
+    public Stream<ListingExportRow> streamExportRows(ListingStatus status) {
+        return jpaRepository.streamExportRows(status);
+    }
+
     @Override
     public List<Listing> findByListingTypeAndStatus(ListingType listingType, ListingStatus status) {
         return jpaRepository.findByListingTypeAndStatus(listingType, status);
     }
 
+    @Override
+    public List<Listing> search(ListingSearchCriteria criteria, int limit) {
+        Sort.Direction direction = criteria.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, criteria.sortPropertyName(), "listingId");
+        return jpaRepository.findBy(ListingSpecifications.matching(criteria),
+                query -> query.sortBy(sort).limit(limit).all());
+    }
+
+    @Override
+    public List<Listing> findWithPropertyGraphByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findWithPropertyGraphByIds(ids);
+    }
+
+    @Override
+    public List<UUID> findIdsByPropertyIds(Collection<UUID> propertyIds) {
+        if (propertyIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findIdsByPropertyIds(propertyIds);
+    }
+
+    @Override
+    public Optional<ListingVersionStamps> findVersionStamps(UUID id) {
+        return jpaRepository.findVersionStamps(id);
+    }
+
+    @Override
+    public List<UUID> findMostViewedPublishedIds(int limit) {
+        return jpaRepository.findMostViewedPublishedIds(Limit.of(limit));
+    }
+
+    @Override
+    public List<UUID> findPublishedIdsAfter(UUID afterId, int limit) {
+        if (afterId == null) {
+            return jpaRepository.findPublishedIds(Limit.of(limit));
+        }
+        return jpaRepository.findPublishedIdsAfter(afterId, Limit.of(limit));
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return jpaRepository.existsById(id);
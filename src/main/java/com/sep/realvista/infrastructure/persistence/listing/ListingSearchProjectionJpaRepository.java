@@ -0,0 +1,33 @@
+package com.sep.realvista.infrastructure.persistence.listing;
+
+import com.sep.realvista.domain.listing.search.ListingSearchProjection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for the listing search projection.
+ */
+public interface ListingSearchProjectionJpaRepository
+        extends JpaRepository<ListingSearchProjection, UUID>, JpaSpecificationExecutor<ListingSearchProjection> {
+
+    List<ListingSearchProjection> findAllByOrderByListingId(Limit limit);
+
+    List<ListingSearchProjection> findByListingIdGreaterThanOrderByListingId(UUID afterId, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM ListingSearchProjection p WHERE p.listingId IN :listingIds")
+    int deleteByListingIds(@Param("listingIds") Collection<UUID> listingIds);
+
+    @Modifying
+    @Query("DELETE FROM ListingSearchProjection p WHERE p.refreshedAt < :cutoff")
+    int deleteRefreshedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
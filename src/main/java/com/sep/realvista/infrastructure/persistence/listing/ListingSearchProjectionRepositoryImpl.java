@@ -0,0 +1,141 @@
+package com.sep.realvista.infrastructure.persistence.listing;
+
+import com.sep.realvista.domain.common.geo.GeoBounds;
+import com.sep.realvista.domain.common.geo.Geohash;
+import com.sep.realvista.domain.listing.ListingType;
+import com.sep.realvista.domain.listing.repository.ListingSearchCriteria;
+import com.sep.realvista.domain.listing.repository.ListingSearchProjectionRepository;
+import com.sep.realvista.domain.listing.search.ListingGeoPoint;
+import com.sep.realvista.domain.listing.search.ListingSearchProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ListingSearchProjectionRepositoryImpl implements ListingSearchProjectionRepository {
+
+    /**
+     * Upper bound of geohash cells scanned per map query; the finest precision under it is used.
+     */
+    static final int MAX_GEOHASH_CELLS = 16;
+
+    private final ListingSearchProjectionJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<ListingSearchProjection> saveAll(Collection<ListingSearchProjection> projections) {
+        return jpaRepository.saveAll(projections);
+    }
+
+    @Override
+    public List<ListingSearchProjection> findAllByIds(Collection<UUID> listingIds) {
+        if (listingIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(listingIds);
+    }
+
+    @Override
+    public void deleteByListingIds(Collection<UUID> listingIds) {
+        if (!listingIds.isEmpty()) {
+            jpaRepository.deleteByListingIds(listingIds);
+        }
+    }
+
+    @Override
+    public int deleteRefreshedBefore(LocalDateTime cutoff) {
+        return jpaRepository.deleteRefreshedBefore(cutoff);
+    }
+
+    @Override
+    public long count() {
+        return jpaRepository.count();
+    }
+
+    @Override
+    public List<ListingSearchProjection> findPageAfter(UUID afterId, int limit) {
+        if (afterId == null) {
+            return jpaRepository.findAllByOrderByListingId(Limit.of(limit));
+        }
+        return jpaRepository.findByListingIdGreaterThanOrderByListingId(afterId, Limit.of(limit));
+    }
+
+    @Override
+    public List<ListingSearchProjection> search(ListingSearchCriteria criteria, int limit) {
+        Sort.Direction direction = criteria.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, criteria.getSortField().getPropertyName(), "listingId");
+        return jpaRepository.findBy(ListingSearchProjectionSpecifications.matching(criteria),
+                query -> query.sortBy(sort).limit(limit).all());
+    }
+
+    @Override
+    public List<ListingGeoPoint> findGeoPointsWithin(GeoBounds bounds, ListingType listingType, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ListingGeoPoint> query = geoPointQuery(cb, bounds, listingType);
+        Root<?> root = query.getRoots().iterator().next();
+        query.orderBy(cb.desc(root.get("publishedAt")), cb.asc(root.get("listingId")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<ListingGeoPoint> findGeoPointsNearest(
+            double latitude, double longitude, GeoBounds bounds, ListingType listingType, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ListingGeoPoint> query = geoPointQuery(cb, bounds, listingType);
+        Root<?> root = query.getRoots().iterator().next();
+
+        // Equirectangular distance, squared: it orders like the great-circle distance at the
+        // radii searched here and stays plain arithmetic the database can evaluate
+        Expression<Double> northing = cb.diff(root.<Double>get("latitude"), latitude);
+        Expression<Double> easting = cb.prod(cb.diff(root.<Double>get("longitude"), longitude),
+                Math.cos(Math.toRadians(latitude)));
+        Expression<Double> distance = cb.sum(cb.prod(northing, northing), cb.prod(easting, easting));
+        query.orderBy(cb.asc(distance), cb.asc(root.get("listingId")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private static CriteriaQuery<ListingGeoPoint> geoPointQuery(
+            CriteriaBuilder cb, GeoBounds bounds, ListingType listingType) {
+        CriteriaQuery<ListingGeoPoint> query = cb.createQuery(ListingGeoPoint.class);
+        Root<ListingSearchProjection> root = query.from(ListingSearchProjection.class);
+        Path<String> geohash = root.get("geohash");
+
+        List<Predicate> cells = new ArrayList<>();
+        for (Geohash.Range range : Geohash.cover(bounds, MAX_GEOHASH_CELLS)) {
+            Predicate lower = cb.greaterThanOrEqualTo(geohash, range.lower());
+            cells.add(range.upper() == null ? lower : cb.and(lower, cb.lessThan(geohash, range.upper())));
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.or(cells.toArray(Predicate[]::new)));
+        predicates.add(cb.between(root.get("latitude"), bounds.south(), bounds.north()));
+        predicates.add(cb.between(root.get("longitude"), bounds.west(), bounds.east()));
+        if (listingType != null) {
+            predicates.add(cb.equal(root.get("listingType"), listingType));
+        }
+
+        return query.select(cb.construct(ListingGeoPoint.class,
+                        root.get("listingId"),
+                        root.get("latitude"),
+                        root.get("longitude"),
+                        root.get("price"),
+                        root.get("listingType"),
+                        root.get("propertyTypeCode")))
+                .where(predicates.toArray(Predicate[]::new));
+    }
+}
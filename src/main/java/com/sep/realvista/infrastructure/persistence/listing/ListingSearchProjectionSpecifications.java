@@ -0,0 +1,77 @@
+package com.sep.realvista.infrastructure.persistence.listing;
+
+import com.sep.realvista.domain.listing.repository.ListingSearchCriteria;
+import com.sep.realvista.domain.listing.repository.ListingSortField;
+import com.sep.realvista.domain.listing.search.ListingSearchProjection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA specifications for searching the flat listing projection.
+ * Every filter maps to a single column, so the query is one scan of listing_search_projections.
+ */
+final class ListingSearchProjectionSpecifications {
+
+    private ListingSearchProjectionSpecifications() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    static Specification<ListingSearchProjection> matching(ListingSearchCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            addEqual(predicates, cb, root, "listingType", criteria.getListingType());
+            addEqual(predicates, cb, root, "cityId", criteria.getCityId());
+            addEqual(predicates, cb, root, "districtId", criteria.getDistrictId());
+            addEqual(predicates, cb, root, "wardId", criteria.getWardId());
+            addEqual(predicates, cb, root, "propertyTypeId", criteria.getPropertyTypeId());
+
+            if (criteria.getMinPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("price"), criteria.getMinPrice()));
+            }
+            if (criteria.getMaxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("price"), criteria.getMaxPrice()));
+            }
+            if (criteria.getMinBedrooms() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("bedrooms"), criteria.getMinBedrooms()));
+            }
+            if (criteria.getMaxBedrooms() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("bedrooms"), criteria.getMaxBedrooms()));
+            }
+            if (criteria.getMinBathrooms() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("bathrooms"), criteria.getMinBathrooms()));
+            }
+            if (criteria.getMaxBathrooms() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("bathrooms"), criteria.getMaxBathrooms()));
+            }
+
+            if (criteria.getAfterListingId() != null) {
+                Path<UUID> listingId = root.get("listingId");
+                if (criteria.getSortField() == ListingSortField.PRICE) {
+                    predicates.add(ListingSpecifications.after(cb, root.get("price"), criteria.getAfterPrice(),
+                            listingId, criteria.getAfterListingId(), criteria.isAscending()));
+                } else {
+                    predicates.add(ListingSpecifications.after(cb, root.get("publishedAt"),
+                            criteria.getAfterPublishedAt(), listingId, criteria.getAfterListingId(),
+                            criteria.isAscending()));
+                }
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static void addEqual(List<Predicate> predicates, CriteriaBuilder cb,
+                                 Root<ListingSearchProjection> root, String attribute, Object value) {
+        if (value != null) {
+            predicates.add(cb.equal(root.get(attribute), value));
+        }
+    }
+}
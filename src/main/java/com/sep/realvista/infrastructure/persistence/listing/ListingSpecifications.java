@@ -0,0 +1,195 @@
+package com.sep.realvista.infrastructure.persistence.listing;
+
+import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.repository.ListingSearchCriteria;
+import com.sep.realvista.domain.listing.repository.ListingSortField;
+import com.sep.realvista.domain.property.Property;
+import com.sep.realvista.domain.property.PropertyType;
+import com.sep.realvista.domain.property.attribute.PropertyAttribute;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeValue;
+import com.sep.realvista.domain.property.location.Location;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA specifications for listing search.
+ * Attribute filters are expressed as EXISTS sub-queries so the main query stays one row per listing.
+ */
+final class ListingSpecifications {
+
+    static final String BEDROOMS_CODE = "bedrooms";
+    static final String BATHROOMS_CODE = "bathrooms";
+
+    private ListingSpecifications() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    static Specification<Listing> matching(ListingSearchCriteria criteria) {
+        return (root, query, cb) -> {
+            From<Listing, Property> property;
+            From<Property, Location> location;
+            if (isEntityQuery(query)) {
+                // Fetch everything the search card renders along with the listing;
+                // location names come from the location ancestry cache
+                Fetch<Listing, Property> propertyFetch = root.fetch("property", JoinType.INNER);
+                Fetch<Property, PropertyType> typeFetch = propertyFetch.fetch("propertyType", JoinType.LEFT);
+                typeFetch.fetch("propertyCategory", JoinType.LEFT);
+                property = (Join<Listing, Property>) propertyFetch;
+                location = property.join("location", JoinType.LEFT);
+            } else {
+                property = root.join("property", JoinType.INNER);
+                location = property.join("location", JoinType.LEFT);
+            }
+
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.isFalse(root.get("deleted")));
+            predicates.add(cb.isFalse(property.get("deleted")));
+
+            if (criteria.getListingType() != null) {
+                predicates.add(cb.equal(root.get("listingType"), criteria.getListingType()));
+            }
+            if (criteria.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), criteria.getStatus()));
+            }
+            if (criteria.getUserId() != null) {
+                predicates.add(cb.equal(root.get("userId"), criteria.getUserId()));
+            }
+            if (criteria.getMinPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("price"), criteria.getMinPrice()));
+            }
+            if (criteria.getMaxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("price"), criteria.getMaxPrice()));
+            }
+            if (criteria.getPropertyTypeId() != null) {
+                predicates.add(cb.equal(property.get("propertyTypeId"), criteria.getPropertyTypeId()));
+            }
+
+            addLocationPredicates(criteria, property, location, query, cb, predicates);
+
+            if (criteria.getMinBedrooms() != null || criteria.getMaxBedrooms() != null) {
+                predicates.add(attributeInRange(property, query, cb, BEDROOMS_CODE,
+                        criteria.getMinBedrooms(), criteria.getMaxBedrooms()));
+            }
+            if (criteria.getMinBathrooms() != null || criteria.getMaxBathrooms() != null) {
+                predicates.add(attributeInRange(property, query, cb, BATHROOMS_CODE,
+                        criteria.getMinBathrooms(), criteria.getMaxBathrooms()));
+            }
+
+            Path<UUID> listingId = root.get("listingId");
+            if (criteria.getSortField() == ListingSortField.PRICE) {
+                if (criteria.getAfterListingId() != null) {
+                    predicates.add(after(cb, root.get("price"), criteria.getAfterPrice(),
+                            listingId, criteria.getAfterListingId(), criteria.isAscending()));
+                }
+            } else {
+                Path<LocalDateTime> sortedAt = root.get(criteria.sortPropertyName());
+                if (!criteria.sortsByCreation()) {
+                    // Published rows without a publish date cannot be positioned by a cursor
+                    predicates.add(cb.isNotNull(sortedAt));
+                }
+                if (criteria.getAfterListingId() != null) {
+                    predicates.add(after(cb, sortedAt, criteria.getAfterPublishedAt(),
+                            listingId, criteria.getAfterListingId(), criteria.isAscending()));
+                }
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static boolean isEntityQuery(CriteriaQuery<?> query) {
+        return query.getResultType() != Long.class && query.getResultType() != long.class;
+    }
+
+    private static void addLocationPredicates(
+            ListingSearchCriteria criteria,
+            From<Listing, Property> property,
+            From<Property, Location> location,
+            CriteriaQuery<?> query,
+            CriteriaBuilder cb,
+            List<Predicate> predicates) {
+        if (criteria.getWardId() != null) {
+            predicates.add(cb.equal(property.get("locationId"), criteria.getWardId()));
+        }
+        if (criteria.getDistrictId() != null) {
+            predicates.add(cb.or(
+                    cb.equal(location.get("locationId"), criteria.getDistrictId()),
+                    cb.equal(location.get("parentId"), criteria.getDistrictId())));
+        }
+        if (criteria.getCityId() != null) {
+            Subquery<UUID> districts = query.subquery(UUID.class);
+            Root<Location> district = districts.from(Location.class);
+            districts.select(district.get("locationId"))
+                    .where(cb.equal(district.get("parentId"), criteria.getCityId()));
+
+            predicates.add(cb.or(
+                    cb.equal(location.get("locationId"), criteria.getCityId()),
+                    cb.equal(location.get("parentId"), criteria.getCityId()),
+                    location.get("parentId").in(districts)));
+        }
+    }
+
+    private static Predicate attributeInRange(
+            From<Listing, Property> property,
+            CriteriaQuery<?> query,
+            CriteriaBuilder cb,
+            String attributeCode,
+            Integer min,
+            Integer max) {
+        Subquery<UUID> subquery = query.subquery(UUID.class);
+        Root<PropertyAttributeValue> value = subquery.from(PropertyAttributeValue.class);
+        Join<PropertyAttributeValue, PropertyAttribute> attribute = value.join("propertyAttribute");
+
+        List<Predicate> conditions = new ArrayList<>();
+        conditions.add(cb.equal(value.get("propertyId"), property.get("propertyId")));
+        conditions.add(cb.equal(attribute.get("code"), attributeCode));
+        conditions.add(cb.isFalse(value.get("deleted")));
+        Expression<BigDecimal> number = value.get("valueNumber");
+        if (min != null) {
+            conditions.add(cb.greaterThanOrEqualTo(number, BigDecimal.valueOf(min)));
+        }
+        if (max != null) {
+            conditions.add(cb.lessThanOrEqualTo(number, BigDecimal.valueOf(max)));
+        }
+
+        subquery.select(value.get("propertyAttributeValueId"))
+                .where(conditions.toArray(new Predicate[0]));
+        return cb.exists(subquery);
+    }
+
+    /**
+     * Keyset predicate: (sortValue, listingId) strictly after the cursor in the given direction.
+     */
+    static <Y extends Comparable<? super Y>> Predicate after(
+            CriteriaBuilder cb,
+            Expression<Y> sortPath,
+            Y sortValue,
+            Path<UUID> listingId,
+            UUID afterListingId,
+            boolean ascending) {
+        if (ascending) {
+            return cb.or(
+                    cb.greaterThan(sortPath, sortValue),
+                    cb.and(cb.equal(sortPath, sortValue), cb.greaterThan(listingId, afterListingId)));
+        }
+        return cb.or(
+                cb.lessThan(sortPath, sortValue),
+                cb.and(cb.equal(sortPath, sortValue), cb.lessThan(listingId, afterListingId)));
+    }
+}
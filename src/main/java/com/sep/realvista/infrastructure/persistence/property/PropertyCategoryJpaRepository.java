@@ -0,0 +1,17 @@
+package com.sep.realvista.infrastructure.persistence.property;
+
+import com.sep.realvista.domain.property.PropertyCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for PropertyCategory entity.
+ */
+public interface PropertyCategoryJpaRepository extends JpaRepository<PropertyCategory, UUID> {
+
+    @Query("SELECT pc FROM PropertyCategory pc WHERE pc.deleted = false")
+    List<PropertyCategory> findAllNotDeleted();
+}
@@ -0,0 +1,12 @@
+package com.sep.realvista.infrastructure.persistence.property;
+
+import com.sep.realvista.domain.property.PropertyMedia;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for PropertyMedia entity.
+ */
+public interface PropertyMediaJpaRepository extends JpaRepository<PropertyMedia, UUID> {
+}
@@ -0,0 +1,17 @@
+package com.sep.realvista.infrastructure.persistence.property;
+
+import com.sep.realvista.domain.property.PropertyType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for PropertyType entity.
+ */
+public interface PropertyTypeJpaRepository extends JpaRepository<PropertyType, UUID> {
+
+    @Query("SELECT pt FROM PropertyType pt WHERE pt.deleted = false")
+    List<PropertyType> findAllNotDeleted();
+}
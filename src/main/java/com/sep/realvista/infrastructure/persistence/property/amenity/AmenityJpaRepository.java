@@ -0,0 +1,17 @@
+package com.sep.realvista.infrastructure.persistence.property.amenity;
+
+import com.sep.realvista.domain.property.amenity.Amenity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for Amenity entity.
+ */
+public interface AmenityJpaRepository extends JpaRepository<Amenity, UUID> {
+
+    @Query("SELECT a FROM Amenity a WHERE a.deleted = false")
+    List<Amenity> findAllNotDeleted();
+}
@@ -0,0 +1,20 @@
+package com.sep.realvista.infrastructure.persistence.property.amenity;
+
+import com.sep.realvista.domain.property.amenity.PropertyAmenity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for PropertyAmenity entity.
+ */
+public interface PropertyAmenityJpaRepository extends JpaRepository<PropertyAmenity, UUID> {
+
+    @Query("SELECT pa FROM PropertyAmenity pa "
+            + "WHERE pa.propertyId IN :propertyIds AND pa.deleted = false")
+    List<PropertyAmenity> findByPropertyIds(@Param("propertyIds") Collection<UUID> propertyIds);
+}
@@ -0,0 +1,22 @@
+package com.sep.realvista.infrastructure.persistence.property.attribute;
+
+import com.sep.realvista.domain.property.attribute.PropertyAttribute;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for PropertyAttribute entity.
+ */
+public interface PropertyAttributeJpaRepository extends JpaRepository<PropertyAttribute, UUID> {
+
+    @Query("SELECT pa FROM PropertyAttribute pa "
+            + "WHERE pa.isSearchable = true AND pa.deleted = false "
+            + "ORDER BY pa.name")
+    List<PropertyAttribute> findSearchable();
+
+    @Query("SELECT pa FROM PropertyAttribute pa WHERE pa.deleted = false")
+    List<PropertyAttribute> findAllNotDeleted();
+}
@@ -0,0 +1,24 @@
+package com.sep.realvista.infrastructure.persistence.property.attribute;
+
+import com.sep.realvista.domain.property.attribute.PropertyAttributeRange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for PropertyAttributeRange entity.
+ */
+public interface PropertyAttributeRangeJpaRepository extends JpaRepository<PropertyAttributeRange, UUID> {
+
+    @Query("SELECT r FROM PropertyAttributeRange r "
+            + "WHERE r.propertyAttributeId IN :attributeIds AND r.deleted = false "
+            + "ORDER BY r.displayOrder, r.label")
+    List<PropertyAttributeRange> findByAttributeIds(@Param("attributeIds") Collection<UUID> attributeIds);
+
+    @Query("SELECT r FROM PropertyAttributeRange r WHERE r.deleted = false")
+    List<PropertyAttributeRange> findAllNotDeleted();
+}
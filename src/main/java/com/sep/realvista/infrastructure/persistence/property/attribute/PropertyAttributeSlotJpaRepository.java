@@ -0,0 +1,19 @@
+package com.sep.realvista.infrastructure.persistence.property.attribute;
+
+import com.sep.realvista.domain.property.attribute.PropertyAttributeSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for PropertyAttributeSlot entity.
+ */
+public interface PropertyAttributeSlotJpaRepository extends JpaRepository<PropertyAttributeSlot, UUID> {
+
+    /**
+     * Highest assigned slot, or -1 if none is assigned yet.
+     */
+    @Query("SELECT COALESCE(MAX(s.slot), -1) FROM PropertyAttributeSlot s")
+    int findMaxSlot();
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,4 +27,29 @@ public interface PropertyAttributeValueJpaRepository extends JpaRepository<Prope
                         + "WHERE pav.propertyAttributeValueId = :id AND pav.deleted = false")
         Optional<PropertyAttributeValue> findByIdWithAttribute(@Param("id") UUID id);
 
+        @Query("SELECT pav FROM PropertyAttributeValue pav "
+                        + "JOIN FETCH pav.propertyAttribute pa "
+                        + "WHERE pav.propertyId IN :propertyIds AND pa.code IN :codes AND pav.deleted = false")
+        List<PropertyAttributeValue> findByPropertyIdsAndAttributeCodes(
+                        @Param("propertyIds") Collection<UUID> propertyIds,
+                        @Param("codes") Collection<String> codes);
+
+        @Query("SELECT pav FROM PropertyAttributeValue pav "
+                        + "JOIN FETCH pav.propertyAttribute pa "
+                        + "WHERE pav.propertyId IN :propertyIds AND pav.deleted = false")
+        List<PropertyAttributeValue> findByPropertyIdsWithAttribute(
+                        @Param("propertyIds") Collection<UUID> propertyIds);
+
+        @Query("SELECT pav FROM PropertyAttributeValue pav "
+                        + "WHERE pav.propertyId IN :propertyIds AND pav.deleted = false")
+        List<PropertyAttributeValue> findByPropertyIds(@Param("propertyIds") Collection<UUID> propertyIds);
+
+        /**
+         * Values of the given properties including removed ones, which are restored rather than
+         * re-inserted because (property, attribute) is unique.
+         */
+        @Query("SELECT pav FROM PropertyAttributeValue pav WHERE pav.propertyId IN :propertyIds")
+        List<PropertyAttributeValue> findAllByPropertyIdsIncludingDeleted(
+                        @Param("propertyIds") Collection<UUID> propertyIds);
+
 }
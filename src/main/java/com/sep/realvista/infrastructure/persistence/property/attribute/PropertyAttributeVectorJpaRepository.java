@@ -0,0 +1,43 @@
+package com.sep.realvista.infrastructure.persistence.property.attribute;
+
+import com.sep.realvista.domain.property.attribute.PropertyAttributeVector;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for PropertyAttributeVector entity.
+ */
+public interface PropertyAttributeVectorJpaRepository extends JpaRepository<PropertyAttributeVector, UUID> {
+
+    @Modifying
+    @Query("DELETE FROM PropertyAttributeVector v WHERE v.propertyId IN :propertyIds")
+    int deleteByPropertyIds(@Param("propertyIds") Collection<UUID> propertyIds);
+
+    /**
+     * Ids among {@code propertyIds} of properties that exist, deleted or not.
+     */
+    @Query("SELECT p.propertyId FROM Property p WHERE p.propertyId IN :propertyIds")
+    List<UUID> findExistingPropertyIds(@Param("propertyIds") Collection<UUID> propertyIds);
+
+    /**
+     * Properties without a stored vector, in id order, used to backfill vectors.
+     */
+    @Query("SELECT p.propertyId FROM Property p "
+            + "WHERE p.deleted = false AND p.propertyId > :afterId "
+            + "AND NOT EXISTS (SELECT 1 FROM PropertyAttributeVector v WHERE v.propertyId = p.propertyId) "
+            + "ORDER BY p.propertyId")
+    List<UUID> findPropertyIdsWithoutVectorAfter(@Param("afterId") UUID afterId, Limit limit);
+
+    @Query("SELECT p.propertyId FROM Property p "
+            + "WHERE p.deleted = false "
+            + "AND NOT EXISTS (SELECT 1 FROM PropertyAttributeVector v WHERE v.propertyId = p.propertyId) "
+            + "ORDER BY p.propertyId")
+    List<UUID> findPropertyIdsWithoutVector(Limit limit);
+}
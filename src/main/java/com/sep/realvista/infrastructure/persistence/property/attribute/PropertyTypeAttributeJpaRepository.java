@@ -0,0 +1,17 @@
+package com.sep.realvista.infrastructure.persistence.property.attribute;
+
+import com.sep.realvista.domain.property.attribute.PropertyTypeAttribute;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for PropertyTypeAttribute entity.
+ */
+public interface PropertyTypeAttributeJpaRepository extends JpaRepository<PropertyTypeAttribute, UUID> {
+
+    @Query("SELECT pta FROM PropertyTypeAttribute pta WHERE pta.deleted = false")
+    List<PropertyTypeAttribute> findAllNotDeleted();
+}
@@ -0,0 +1,22 @@
+package com.sep.realvista.infrastructure.persistence.property.location;
+
+import com.sep.realvista.domain.property.location.Location;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for Location entity.
+ */
+public interface LocationJpaRepository extends JpaRepository<Location, UUID> {
+
+    @Query("SELECT l FROM Location l WHERE l.locationId = :id AND l.deleted = false")
+    Optional<Location> findActiveById(@Param("id") UUID id);
+
+    @Query("SELECT l FROM Location l WHERE l.deleted = false")
+    List<Location> findAllActive();
+}
@@ -0,0 +1,27 @@
+package com.sep.realvista.infrastructure.persistence.property.location;
+
+import com.sep.realvista.domain.property.location.Location;
+import com.sep.realvista.domain.property.location.LocationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class LocationRepositoryImpl implements LocationRepository {
+
+    private final LocationJpaRepository jpaRepository;
+
+    @Override
+    public Optional<Location> findById(UUID id) {
+        return jpaRepository.findActiveById(id);
+    }
+
+    @Override
+    public List<Location> findAllActive() {
+        return jpaRepository.findAllActive();
+    }
+}
@@ -2,6 +2,8 @@ package com.sep.realvista.infrastructure.persistence.user;
 
 import com.sep.realvista.domain.common.value.Email;
 import com.sep.realvista.domain.user.User;
+import com.sep.realvista.domain.user.UserStatus;
+import com.sep.realvista.domain.user.UserVersionStamps;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,5 +22,14 @@ public interface UserJpaRepository extends JpaRepository<User, UUID> {
 
     @Query("SELECT u FROM User u WHERE u.email.value = :email")
     Optional<User> findByEmailValue(@Param("email") String email);
+
+    @Query("SELECT new com.sep.realvista.domain.user.UserVersionStamps(u.updatedAt, COUNT(ur), MAX(ur.updatedAt)) "
+            + "FROM User u LEFT JOIN u.userRoles ur "
+            + "WHERE u.userId = :id "
+            + "GROUP BY u.userId, u.updatedAt")
+    Optional<UserVersionStamps> findVersionStamps(@Param("id") UUID id);
+
+    @Query("SELECT u.status FROM User u WHERE u.userId = :id AND u.deleted = false")
+    Optional<UserStatus> findActiveStatus(@Param("id") UUID id);
 }
 
@@ -3,6 +3,8 @@ package com.sep.realvista.infrastructure.persistence.user;
 import com.sep.realvista.domain.common.value.Email;
 import com.sep.realvista.domain.user.User;
 import com.sep.realvista.domain.user.UserRepository;
+import com.sep.realvista.domain.user.UserStatus;
+import com.sep.realvista.domain.user.UserVersionStamps;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -47,5 +49,14 @@ public class UserRepositoryImpl implements UserRepository {
     public Optional<User> findByEmailValue(String email) {
         return jpaRepository.findByEmailValue(email);
     }
-}
 
+    @Override
+    public Optional<UserVersionStamps> findVersionStamps(UUID id) {
+        return jpaRepository.findVersionStamps(id);
+    }
+
+    @Override
+    public Optional<UserStatus> findActiveStatus(UUID id) {
+        return jpaRepository.findActiveStatus(id);
+    }
+}
@@ -0,0 +1,55 @@
+package com.sep.realvista.infrastructure.persistence.user;
+
+import com.sep.realvista.domain.user.session.RevokedSession;
+import com.sep.realvista.domain.user.session.UserSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for user sessions.
+ */
+public interface UserSessionJpaRepository extends JpaRepository<UserSession, UUID> {
+
+    /**
+     * Session currently holding the refresh token hash, locked so concurrent refreshes with the
+     * same token rotate it only once.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserSession s WHERE s.sessionTokenHash = :hash")
+    Optional<UserSession> findForRotation(@Param("hash") String hash);
+
+    Optional<UserSession> findBySessionTokenHash(String sessionTokenHash);
+
+    Optional<UserSession> findByPreviousTokenHash(String previousTokenHash);
+
+    @Query("SELECT s.userSessionId FROM UserSession s "
+            + "WHERE s.userId = :userId AND s.revokedAt IS NULL AND s.expiresAt > :now")
+    List<UUID> findLiveSessionIds(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.sep.realvista.domain.user.session.RevokedSession(s.userSessionId, s.revokedAt) "
+            + "FROM UserSession s WHERE s.revokedAt >= :since")
+    List<RevokedSession> findRevokedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("UPDATE UserSession s SET s.revokedAt = :now, s.updatedAt = :now "
+            + "WHERE s.userSessionId IN :sessionIds AND s.revokedAt IS NULL")
+    int revokeAll(@Param("sessionIds") Collection<UUID> sessionIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Record activity at {@code at} for the sessions, never moving a later activity back.
+     */
+    @Modifying
+    @Query("UPDATE UserSession s SET s.lastActivityAt = :at "
+            + "WHERE s.userSessionId IN :sessionIds AND (s.lastActivityAt IS NULL OR s.lastActivityAt < :at)")
+    int touchAll(@Param("sessionIds") Collection<UUID> sessionIds, @Param("at") LocalDateTime at);
+}
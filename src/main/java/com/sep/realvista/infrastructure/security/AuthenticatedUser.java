@@ -0,0 +1,87 @@
+package com.sep.realvista.infrastructure.security;
+
+import com.sep.realvista.domain.user.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Security principal of an authenticated user: id, email and role codes.
+ * <p>
+ * Built from the database at login and from verified token claims on every later request, so
+ * authenticating a request needs no user query. {@link #getId()} is what
+ * {@code authentication.principal.id} resolves to in {@code @PreAuthorize} expressions.
+ */
+@Getter
+public final class AuthenticatedUser implements UserDetails {
+
+    /**
+     * Role given to users without any role assignment.
+     */
+    public static final String DEFAULT_ROLE = "BUYER";
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final UUID id;
+    private final String email;
+    private final List<String> roles;
+    private final transient String password;
+    private final boolean enabled;
+    private final List<GrantedAuthority> authorities;
+
+    private AuthenticatedUser(UUID id, String email, List<String> roles, String password, boolean enabled) {
+        this.id = id;
+        this.email = email;
+        this.roles = roles.isEmpty() ? List.of(DEFAULT_ROLE) : List.copyOf(roles);
+        this.password = password;
+        this.enabled = enabled;
+        this.authorities = this.roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(ROLE_PREFIX + role))
+                .toList();
+    }
+
+    /**
+     * Principal for {@code user}, including its password hash for credential checks. The user's
+     * role assignments must be loadable.
+     */
+    public static AuthenticatedUser of(User user) {
+        List<String> roles = user.getUserRoles().stream()
+                .filter(ur -> ur.getRole() != null)
+                .map(ur -> ur.getRole().getRoleCode().name())
+                .toList();
+        return new AuthenticatedUser(
+                user.getUserId(), user.getEmail().getValue(), roles, user.getPasswordHash(), user.isActive());
+    }
+
+    /**
+     * Principal rebuilt from verified token claims; it carries no password.
+     */
+    public static AuthenticatedUser fromClaims(UUID id, String email, List<String> roles) {
+        return new AuthenticatedUser(id, email, roles, null, true);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return enabled;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser[id=" + id + ", email=" + email + ", roles=" + roles + "]";
+    }
+}
@@ -2,49 +2,80 @@ package com.sep.realvista.infrastructure.security;
 
 import com.sep.realvista.domain.user.User;
 import com.sep.realvista.domain.user.UserRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Custom UserDetailsService implementation for Spring Security.
+ * <p>
+ * Only used at login and for tokens issued without id and role claims; other requests are
+ * authenticated from the token alone. Results are served from the {@link UserDetailsCache}; a
+ * transaction is only opened to load a user on a miss.
+ * <p>
+ * Also stores the new hash when a login finds the user's password hash outdated.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transaction;
+
+    public CustomUserDetailsService(
+            UserRepository userRepository,
+            UserDetailsCache userDetailsCache,
+            PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmailValue(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-
-        List<SimpleGrantedAuthority> authorities = user.getUserRoles().stream()
-                .filter(ur -> ur.getRole() != null)
-                .map(ur -> new SimpleGrantedAuthority("ROLE_" + ur.getRole().getRoleCode().name()))
-                .collect(Collectors.toList());
+        return userDetailsCache.get(email, this::load);
+    }
 
-        // Default to BUYER role if no roles assigned
-        if (authorities.isEmpty()) {
-            authorities = List.of(new SimpleGrantedAuthority("ROLE_BUYER"));
+    /**
+     * Store a rehash of the user's password. A failure is logged and leaves the old hash in place,
+     * to be replaced at a later login, rather than failing the login.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        String email = user.getUsername();
+        try {
+            AuthenticatedUser updated = transaction.execute(status -> {
+                User entity = userRepository.findByEmailValue(email)
+                        .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+                entity.updatePassword(newPassword);
+                return AuthenticatedUser.of(userRepository.save(entity));
+            });
+            log.info("Rehashed outdated password of user {}", updated.getId());
+            return updated;
+        } catch (RuntimeException e) {
+            log.warn("Could not store rehashed password of {}: {}", email, e.getMessage());
+            return user;
+        } finally {
+            userDetailsCache.evict(email);
         }
+    }
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail().getValue())
-                .password(user.getPasswordHash())
-                .authorities(authorities)
-                .accountExpired(false)
-                .accountLocked(!user.isActive())
-                .credentialsExpired(false)
-                .disabled(!user.isActive())
-                .build();
+    private AuthenticatedUser load(String email) {
+        return readOnlyTransaction.execute(status -> {
+            User user = userRepository.findByEmailValue(email)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+
+            // Users without role assignments default to BUYER
+            return AuthenticatedUser.of(user);
+        });
     }
 }
-
@@ -0,0 +1,83 @@
+package com.sep.realvista.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Cache of {@link AuthenticatedUser}s keyed by email, in front of the user query of
+ * {@link CustomUserDetailsService}.
+ * <p>
+ * Backed by the {@code userDetails} cache, which is bounded in size and time-to-live and keeps
+ * its values on the node that loaded them, since they hold password hashes; evictions are still
+ * broadcast to every node. Concurrent misses for one email share a single load. Unknown emails
+ * are not cached, so a user who registers after a failed login is found at once.
+ * <p>
+ * {@link AuthenticatedUser} is not a credentials container, so Spring Security does not erase
+ * the cached password hash after a successful login.
+ */
+@Component
+public class UserDetailsCache {
+
+    public static final String CACHE_NAME = "userDetails";
+
+    private final CacheManager cacheManager;
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer loads;
+
+    public UserDetailsCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.hits = Counter.builder("security.user_details.cache")
+                .description("User details lookups by email")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("security.user_details.cache")
+                .description("User details lookups by email")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.loads = Timer.builder("security.user_details.cache.load")
+                .description("User details loads from the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cached principal for {@code email}, loaded with {@code loader} on a miss.
+     *
+     * @throws UsernameNotFoundException if the loader finds no user
+     */
+    public AuthenticatedUser get(String email, Function<String, AuthenticatedUser> loader) {
+        boolean[] loaded = new boolean[1];
+        try {
+            return cache().get(email, () -> {
+                loaded[0] = true;
+                return loads.record(() -> loader.apply(email));
+            });
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof UsernameNotFoundException notFound) {
+                throw notFound;
+            }
+            throw e;
+        } finally {
+            (loaded[0] ? misses : hits).increment();
+        }
+    }
+
+    public void evict(String email) {
+        cache().evict(email);
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + CACHE_NAME);
+        }
+        return cache;
+    }
+}
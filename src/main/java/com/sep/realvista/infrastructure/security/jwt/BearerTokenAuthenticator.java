@@ -0,0 +1,86 @@
+package com.sep.realvista.infrastructure.security.jwt;
+
+import com.sep.realvista.application.auth.service.TokenService;
+import com.sep.realvista.application.auth.service.VerifiedToken;
+import com.sep.realvista.application.user.service.UserStatusCache;
+import com.sep.realvista.infrastructure.security.AuthenticatedUser;
+import com.sep.realvista.infrastructure.security.session.SessionActivityTracker;
+import com.sep.realvista.infrastructure.security.session.SessionRevocationIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Turns a bearer token into the principal it was issued to, for both HTTP requests and
+ * WebSocket connections.
+ * <p>
+ * Tokens carrying id and role claims are trusted as they are: the principal is rebuilt from the
+ * claims and only the user's status is checked, through the {@link UserStatusCache}. Tokens
+ * issued before those claims existed still load the user once per request.
+ * <p>
+ * Access tokens bound to a session are rejected once the session is revoked, checked against the
+ * in-memory {@link SessionRevocationIndex}; accepted ones record activity on their session through
+ * the {@link SessionActivityTracker}, which writes it in batches.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BearerTokenAuthenticator {
+
+    private final TokenService tokenService;
+    private final UserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
+    private final SessionRevocationIndex sessionRevocationIndex;
+    private final SessionActivityTracker sessionActivityTracker;
+
+    /**
+     * Principal of {@code token}, or empty if the token is invalid, its session is revoked or its
+     * user is suspended, banned or deleted.
+     */
+    public Optional<AuthenticatedUser> authenticate(String token) {
+        Optional<VerifiedToken> verified = tokenService.verify(token);
+        if (verified.isEmpty() || verified.get().subject() == null) {
+            return Optional.empty();
+        }
+        VerifiedToken claims = verified.get();
+        if (claims.sessionId() != null && sessionRevocationIndex.isRevoked(claims.sessionId())) {
+            log.debug("Rejected token of revoked session {}", claims.sessionId());
+            return Optional.empty();
+        }
+
+        AuthenticatedUser principal;
+        if (claims.isSelfContained()) {
+            principal = AuthenticatedUser.fromClaims(claims.userId(), claims.subject(), claims.roles());
+        } else {
+            Optional<AuthenticatedUser> loaded = load(claims.subject());
+            if (loaded.isEmpty()) {
+                return Optional.empty();
+            }
+            principal = loaded.get();
+        }
+
+        if (!userStatusCache.isAllowed(principal.getId())) {
+            log.debug("Rejected token of blocked or deleted user {}", principal.getId());
+            return Optional.empty();
+        }
+        if (claims.sessionId() != null) {
+            sessionActivityTracker.touch(claims.sessionId());
+        }
+        return Optional.of(principal);
+    }
+
+    private Optional<AuthenticatedUser> load(String email) {
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            return userDetails instanceof AuthenticatedUser user ? Optional.of(user) : Optional.empty();
+        } catch (UsernameNotFoundException e) {
+            log.debug("Rejected token of unknown user: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
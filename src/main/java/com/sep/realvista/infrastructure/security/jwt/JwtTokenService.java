@@ -1,18 +1,27 @@
 package com.sep.realvista.infrastructure.security.jwt;
 
 import com.sep.realvista.application.auth.service.TokenService;
+import com.sep.realvista.application.auth.service.VerifiedToken;
+import com.sep.realvista.infrastructure.security.AuthenticatedUser;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -24,15 +33,41 @@ import java.util.function.Function;
  * <p>
  * Infrastructure concerns (JWT library, secret key management) are isolated here,
  * keeping the application layer clean and independent of specific token technology.
+ * <p>
+ * The signing key and parser are built once at startup; both are immutable and shared by all
+ * requests. A misconfigured secret therefore fails the application start instead of every request.
  */
+@Slf4j
 @Service
 public class JwtTokenService implements TokenService {
 
-    @Value("${spring.security.jwt.secret-key}")
-    private String secretKey;
+    /**
+     * Claim holding the user id of an {@link AuthenticatedUser}.
+     */
+    public static final String USER_ID_CLAIM = "uid";
+
+    /**
+     * Claim holding the role codes of an {@link AuthenticatedUser}, without the {@code ROLE_} prefix.
+     */
+    public static final String ROLES_CLAIM = "roles";
+
+    /**
+     * Claim holding the id of the session an access token belongs to.
+     */
+    public static final String SESSION_ID_CLAIM = "sid";
 
-    @Value("${spring.security.jwt.expiration}")
-    private long jwtExpiration;
+    private final SecretKey signInKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+
+    public JwtTokenService(
+            @Value("${spring.security.jwt.secret-key}") String secretKey,
+            @Value("${spring.security.jwt.expiration}") long jwtExpiration
+    ) {
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser().verifyWith(signInKey).build();
+        this.jwtExpiration = jwtExpiration;
+    }
 
     @Override
     public String extractUsername(String token) {
@@ -46,13 +81,50 @@ public class JwtTokenService implements TokenService {
 
     @Override
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return buildToken(extraClaims, userDetails, jwtExpiration);
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        if (userDetails instanceof AuthenticatedUser user) {
+            claims.put(USER_ID_CLAIM, user.getId().toString());
+            claims.put(ROLES_CLAIM, user.getRoles());
+        }
+        return buildToken(claims, userDetails, jwtExpiration);
+    }
+
+    @Override
+    public String generateToken(UserDetails userDetails, UUID sessionId) {
+        return generateToken(Map.of(SESSION_ID_CLAIM, sessionId.toString()), userDetails);
+    }
+
+    @Override
+    public Duration getAccessTokenLifetime() {
+        return Duration.ofMillis(jwtExpiration);
     }
 
     @Override
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return verify(token)
+                .map(verified -> verified.subject() != null && verified.subject().equals(userDetails.getUsername()))
+                .orElse(false);
+    }
+
+    @Override
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            String userId = claims.get(USER_ID_CLAIM, String.class);
+            List<?> roles = claims.get(ROLES_CLAIM, List.class);
+            String sessionId = claims.get(SESSION_ID_CLAIM, String.class);
+            return Optional.of(new VerifiedToken(
+                    claims.getSubject(),
+                    userId != null ? UUID.fromString(userId) : null,
+                    roles != null ? roles.stream().map(String::valueOf).toList() : null,
+                    sessionId != null ? UUID.fromString(sessionId) : null,
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null));
+        } catch (JwtException | IllegalArgumentException e) {
+            // IllegalArgumentException also covers a uid or sid claim that is not a UUID
+            log.debug("Rejected JWT: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
 
     /**
@@ -73,35 +145,20 @@ public class JwtTokenService implements TokenService {
             UserDetails userDetails,
             long expiration
     ) {
+        long now = System.currentTimeMillis();
         return Jwts
                 .builder()
                 .claims(extraClaims)
                 .subject(userDetails.getUsername())
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiration))
+                .signWith(signInKey)
                 .compact();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignInKey())
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
-
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
@@ -1,17 +1,24 @@
 package com.sep.realvista.infrastructure.security.oauth2;
 
-import com.sep.realvista.application.auth.service.TokenService;
+import com.sep.realvista.application.auth.dto.ClientInfo;
+import com.sep.realvista.application.auth.session.SessionTokens;
+import com.sep.realvista.application.auth.session.UserSessionService;
 import com.sep.realvista.domain.common.value.Email;
 import com.sep.realvista.domain.user.User;
 import com.sep.realvista.domain.user.UserRepository;
 import com.sep.realvista.domain.user.UserStatus;
+import com.sep.realvista.domain.user.session.DeviceType;
 import com.sep.realvista.infrastructure.constants.SecurityConstants;
+import com.sep.realvista.infrastructure.security.AuthenticatedUser;
+import com.sep.realvista.infrastructure.security.session.RefreshTokenCookie;
 import com.sep.realvista.infrastructure.security.util.PasswordUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
@@ -32,19 +39,22 @@ import java.util.UUID;
 public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final UserRepository userRepository;
-    private final TokenService tokenService;
+    private final UserSessionService userSessionService;
     private final PasswordUtil passwordUtil;
+    private final UserDetailsService userDetailsService;
     private final String frontendUrl;
 
     public OAuth2AuthenticationSuccessHandler(
             UserRepository userRepository,
-            TokenService tokenService,
+            UserSessionService userSessionService,
             PasswordUtil passwordUtil,
+            UserDetailsService userDetailsService,
             @Value("${spring.application.frontend.url}") String frontendUrl
     ) {
         this.userRepository = userRepository;
-        this.tokenService = tokenService;
+        this.userSessionService = userSessionService;
         this.passwordUtil = passwordUtil;
+        this.userDetailsService = userDetailsService;
         this.frontendUrl = frontendUrl;
     }
 
@@ -75,19 +85,19 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
             // Find or create user
             User user = findOrCreateUser(email, firstName, lastName, avatarUrl);
 
-            // Generate JWT token
-            String jwtToken = tokenService.generateToken(
-                    new org.springframework.security.core.userdetails.User(
-                            user.getEmail().getValue(),
-                            user.getPasswordHash(),
-                            java.util.Collections.emptyList()
-                    )
-            );
+            // Open a web session issuing an access token and a refresh token
+            AuthenticatedUser principal = (AuthenticatedUser) userDetailsService.loadUserByUsername(email);
+            ClientInfo client = new ClientInfo(request.getRemoteAddr(), request.getHeader(HttpHeaders.USER_AGENT));
+            SessionTokens tokens = userSessionService.open(principal, DeviceType.WEB, client);
 
-            // Redirect to frontend with token
-            String redirectUrl = buildSuccessRedirectUrl(jwtToken, user.getUserId(), email);
+            // The refresh token goes in an HttpOnly cookie, never in the redirect URL
+            response.addHeader(HttpHeaders.SET_COOKIE,
+                    RefreshTokenCookie.of(tokens.refreshToken(), tokens.refreshTokenExpiresAt()).toString());
 
-            log.info("Redirecting to: {}", redirectUrl);
+            // Redirect to frontend with the short-lived access token
+            String redirectUrl = buildSuccessRedirectUrl(tokens.accessToken(), user.getUserId(), email);
+
+            log.info("Redirecting user {} to the frontend callback", user.getUserId());
             response.sendRedirect(redirectUrl);
 
         } catch (Exception e) {
@@ -105,8 +115,8 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
     private User createNewOAuth2User(String email, String firstName, String lastName, String avatarUrl) {
         log.info("Creating new user from OAuth2 login: {}", email);
 
-        // Generate a random hashed password for OAuth2 users (they won't use it)
-        String hashedPassword = passwordUtil.generateRandomHashedPassword();
+        // OAuth2 users sign in without a password, so none is generated or hashed
+        String hashedPassword = passwordUtil.oauth2OnlyPassword();
 
         // Generate business name from user's name or email
         String businessName = (firstName != null && lastName != null)
@@ -0,0 +1,137 @@
+package com.sep.realvista.infrastructure.security.password;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the hashing of another {@link PasswordEncoder} on a fixed pool of threads with a bounded
+ * queue.
+ * <p>
+ * BCrypt is deliberately slow, so a burst of logins hashing on request threads would take every
+ * core and slow down all other endpoints. Here at most one hash per pool thread runs at a time,
+ * and the pool defaults to half the cores, which is the cap on login throughput. Callers still
+ * block for their result, but hashes beyond the queue's capacity, or waiting longer than the
+ * timeout, fail fast with a {@link PasswordHashingBusyException} instead of piling up and holding
+ * request threads.
+ * {@link #upgradeEncoding(String)} only inspects the hash and runs on the calling thread.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    private final Timer encodes;
+    private final Timer matches;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            PasswordHashingProperties properties,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = properties.getTimeout();
+        this.executor = newExecutor(properties.effectiveThreads(), properties.getQueueCapacity());
+        new ExecutorServiceMetrics(executor, "password-hashing", Tags.empty()).bindTo(meterRegistry);
+
+        this.encodes = Timer.builder("security.password.hashing")
+                .description("Password hashes computed, waiting for a thread excluded")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matches = Timer.builder("security.password.hashing")
+                .description("Password hashes computed, waiting for a thread excluded")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedQueueFull = Counter.builder("security.password.hashing.rejected")
+                .description("Password hashes rejected because the hashing threads were saturated")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.rejectedTimeout = Counter.builder("security.password.hashing.rejected")
+                .description("Password hashes rejected because the hashing threads were saturated")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodes, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matches, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Timer timer, Callable<T> hashing) {
+        Future<T> result;
+        try {
+            result = executor.submit(() -> timer.recordCallable(hashing));
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            throw new PasswordHashingBusyException("Too many concurrent sign-ins, please retry shortly");
+        }
+
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // A cancelled hash still in the queue is skipped when its turn comes
+            result.cancel(true);
+            rejectedTimeout.increment();
+            log.warn("Password hashing timed out after {}", timeout);
+            throw new PasswordHashingBusyException("Too many concurrent sign-ins, please retry shortly");
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor(int threads, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
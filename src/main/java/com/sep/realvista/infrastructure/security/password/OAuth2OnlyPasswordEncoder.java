@@ -0,0 +1,32 @@
+package com.sep.realvista.infrastructure.security.password;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Encoder of the {@code {oauth2}} password stored for accounts that only sign in through an
+ * OAuth2 provider. No password matches it, so such accounts cannot sign in with a password, and
+ * creating them costs no hash.
+ */
+public final class OAuth2OnlyPasswordEncoder implements PasswordEncoder {
+
+    public static final String ID = "oauth2";
+
+    /**
+     * Stored password of OAuth2-only accounts.
+     */
+    public static final String ENCODED_PASSWORD = "{" + ID + "}";
+
+    /**
+     * The payload of {@link #ENCODED_PASSWORD}, whatever the password: prefixed with the id it
+     * is again the marker, which no password matches.
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return "";
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return false;
+    }
+}
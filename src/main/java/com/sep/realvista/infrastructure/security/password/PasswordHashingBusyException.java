@@ -0,0 +1,12 @@
+package com.sep.realvista.infrastructure.security.password;
+
+/**
+ * Thrown when a password cannot be hashed because the hashing threads are saturated; the caller
+ * may retry shortly.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
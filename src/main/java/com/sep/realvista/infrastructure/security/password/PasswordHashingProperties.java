@@ -0,0 +1,40 @@
+package com.sep.realvista.infrastructure.security.password;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of password hashing ({@code realvista.auth.password.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "realvista.auth.password")
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt cost of new hashes. Raising it rehashes each user's password at their next login.
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * Threads hashing passwords, which caps hashing throughput and the cores it can take; 0 uses
+     * half the available processors, at least one, so a login spike leaves the rest to other
+     * endpoints.
+     */
+    private int threads = 0;
+
+    /**
+     * Hashes that may wait for a thread before further ones are rejected.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * Longest a caller waits for its hash, queueing included, before it is rejected.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
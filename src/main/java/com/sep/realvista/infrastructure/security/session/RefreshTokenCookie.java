@@ -0,0 +1,43 @@
+package com.sep.realvista.infrastructure.security.session;
+
+import com.sep.realvista.infrastructure.constants.SecurityConstants;
+import org.springframework.http.ResponseCookie;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Builds the {@code HttpOnly}, {@code Secure}, {@code SameSite} cookie holding the refresh token of
+ * a browser session. It is only sent to the auth endpoints and cannot be read by scripts.
+ */
+public final class RefreshTokenCookie {
+
+    private RefreshTokenCookie() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Cookie holding {@code refreshToken} until it expires at {@code expiresAt}.
+     */
+    public static ResponseCookie of(String refreshToken, LocalDateTime expiresAt) {
+        Duration maxAge = Duration.between(LocalDateTime.now(), expiresAt);
+        return builder(refreshToken)
+                .maxAge(maxAge.isNegative() ? Duration.ZERO : maxAge)
+                .build();
+    }
+
+    /**
+     * Cookie telling the browser to drop the refresh token.
+     */
+    public static ResponseCookie cleared() {
+        return builder("").maxAge(Duration.ZERO).build();
+    }
+
+    private static ResponseCookie.ResponseCookieBuilder builder(String value) {
+        return ResponseCookie.from(SecurityConstants.RefreshCookie.NAME, value)
+                .httpOnly(true)
+                .secure(true)
+                .sameSite(SecurityConstants.RefreshCookie.SAME_SITE)
+                .path(SecurityConstants.RefreshCookie.PATH);
+    }
+}
@@ -0,0 +1,139 @@
+package com.sep.realvista.infrastructure.security.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sep.realvista.infrastructure.persistence.user.UserSessionJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records {@code last_activity_at} of sessions without a database write per request.
+ * <p>
+ * Requests only add their session to a pending set. A background flush writes the pending
+ * sessions every {@code activity-flush-interval}, one UPDATE per batch of sessions, and a session
+ * written once is not queued again until {@code activity-debounce} has passed. Activity is
+ * therefore accurate to the flush interval plus the debounce, and at most one write per session
+ * and debounce period reaches the database. Pending activity is flushed on shutdown; a failed
+ * flush is dropped, since a later request records the session again.
+ */
+@Slf4j
+@Component
+public class SessionActivityTracker implements SmartLifecycle {
+
+    static final int FLUSH_BATCH_SIZE = 500;
+    private static final long MAX_RECENT_SESSIONS = 200_000;
+
+    private final UserSessionJpaRepository userSessionJpaRepository;
+    private final TransactionTemplate transaction;
+    private final Duration flushInterval;
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+    private final Cache<UUID, Boolean> recentlyWritten;
+
+    private ScheduledExecutorService flusher;
+
+    public SessionActivityTracker(
+            UserSessionJpaRepository userSessionJpaRepository,
+            PlatformTransactionManager transactionManager,
+            SessionProperties properties) {
+        this.userSessionJpaRepository = userSessionJpaRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.flushInterval = properties.getActivityFlushInterval();
+        this.recentlyWritten = Caffeine.newBuilder()
+                .maximumSize(MAX_RECENT_SESSIONS)
+                .expireAfterWrite(properties.getActivityDebounce())
+                .build();
+    }
+
+    /**
+     * Note activity on the session; the write happens on the next flush.
+     */
+    public void touch(UUID sessionId) {
+        if (recentlyWritten.getIfPresent(sessionId) == null) {
+            pending.add(sessionId);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (flusher != null) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-activity-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                if (!flusher.awaitTermination(flushInterval.toMillis(), TimeUnit.MILLISECONDS)) {
+                    flusher.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flusher = null;
+            flush();
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return flusher != null;
+    }
+
+    /**
+     * Write the pending sessions' activity; returns the number of sessions written.
+     */
+    public int flush() {
+        List<UUID> sessionIds = drainPending();
+        if (sessionIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int written = 0;
+        try {
+            for (int from = 0; from < sessionIds.size(); from += FLUSH_BATCH_SIZE) {
+                List<UUID> batch = sessionIds.subList(from, Math.min(from + FLUSH_BATCH_SIZE, sessionIds.size()));
+                transaction.executeWithoutResult(status -> userSessionJpaRepository.touchAll(batch, now));
+                batch.forEach(sessionId -> recentlyWritten.put(sessionId, Boolean.TRUE));
+                written += batch.size();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Writing activity of {} sessions failed: {}", sessionIds.size() - written, e.getMessage());
+        }
+        log.debug("Wrote activity of {} sessions", written);
+        return written;
+    }
+
+    private List<UUID> drainPending() {
+        List<UUID> drained = new ArrayList<>();
+        Iterator<UUID> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+}
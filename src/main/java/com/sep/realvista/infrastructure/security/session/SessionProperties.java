@@ -0,0 +1,35 @@
+package com.sep.realvista.infrastructure.security.session;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of refresh-token sessions ({@code realvista.auth.session.*}). The access token
+ * lifetime is {@code spring.security.jwt.expiration}.
+ */
+@Data
+@ConfigurationProperties(prefix = "realvista.auth.session")
+public class SessionProperties {
+
+    /**
+     * How long a refresh token stays usable; every rotation starts a new period.
+     */
+    private Duration refreshTokenLifetime = Duration.ofDays(30);
+
+    /**
+     * How often each node polls for sessions revoked on other nodes.
+     */
+    private Duration revocationPollInterval = Duration.ofSeconds(5);
+
+    /**
+     * How often recorded session activity is written to the database.
+     */
+    private Duration activityFlushInterval = Duration.ofSeconds(30);
+
+    /**
+     * Minimum time between two activity writes for the same session.
+     */
+    private Duration activityDebounce = Duration.ofMinutes(5);
+}
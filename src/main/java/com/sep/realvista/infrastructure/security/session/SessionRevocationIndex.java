@@ -0,0 +1,108 @@
+package com.sep.realvista.infrastructure.security.session;
+
+import com.sep.realvista.application.auth.service.TokenService;
+import com.sep.realvista.domain.user.session.RevokedSession;
+import com.sep.realvista.infrastructure.persistence.user.UserSessionJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory set of recently revoked sessions, checked on every request that carries a
+ * session-bound access token.
+ * <p>
+ * A revoked session only needs to be remembered for as long as access tokens issued before its
+ * revocation can still be valid, so the set holds the sessions revoked within one access token
+ * lifetime and stays small. Revocations made on this node are added at once; those made on
+ * other nodes are picked up by polling {@code user_sessions}, which also fills the set at
+ * startup.
+ */
+@Slf4j
+@Component
+public class SessionRevocationIndex implements SmartLifecycle {
+
+    static final Duration CLOCK_SKEW_ALLOWANCE = Duration.ofSeconds(30);
+
+    private final UserSessionJpaRepository userSessionJpaRepository;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private final Map<UUID, Instant> revoked = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService poller;
+
+    public SessionRevocationIndex(
+            UserSessionJpaRepository userSessionJpaRepository,
+            SessionProperties properties,
+            TokenService tokenService) {
+        this.userSessionJpaRepository = userSessionJpaRepository;
+        this.pollInterval = properties.getRevocationPollInterval();
+        this.retention = tokenService.getAccessTokenLifetime().plus(CLOCK_SKEW_ALLOWANCE);
+    }
+
+    public boolean isRevoked(UUID sessionId) {
+        return revoked.containsKey(sessionId);
+    }
+
+    /**
+     * Reject access tokens of the sessions on this node from now on. Called before the revocation
+     * commits; if it rolls back the sessions are only rejected here, until they age out.
+     */
+    public void markRevoked(Collection<UUID> sessionIds) {
+        Instant now = Instant.now();
+        sessionIds.forEach(sessionId -> revoked.put(sessionId, now));
+    }
+
+    @Override
+    public synchronized void start() {
+        if (poller != null) {
+            return;
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-revocation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Polling session revocations every {}", pollInterval);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+            poller = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return poller != null;
+    }
+
+    void poll() {
+        try {
+            Instant forgetBefore = Instant.now().minus(retention);
+            LocalDateTime since = LocalDateTime.ofInstant(forgetBefore, ZoneId.systemDefault());
+            for (RevokedSession session : userSessionJpaRepository.findRevokedSince(since)) {
+                revoked.putIfAbsent(session.userSessionId(),
+                        session.revokedAt().atZone(ZoneId.systemDefault()).toInstant());
+            }
+            revoked.values().removeIf(revokedAt -> revokedAt.isBefore(forgetBefore));
+        } catch (RuntimeException e) {
+            // Keep polling; revocations made on this node are still applied meanwhile
+            log.warn("Polling session revocations failed: {}", e.getMessage());
+        }
+    }
+}
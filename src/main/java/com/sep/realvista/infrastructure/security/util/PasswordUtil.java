@@ -1,8 +1,8 @@
 package com.sep.realvista.infrastructure.security.util;
 
 import com.sep.realvista.infrastructure.security.PasswordService;
+import com.sep.realvista.infrastructure.security.password.OAuth2OnlyPasswordEncoder;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -15,24 +15,20 @@ import java.util.UUID;
  */
 @Component
 @RequiredArgsConstructor
-@Slf4j
 public class PasswordUtil {
 
     private final PasswordService passwordService;
 
     /**
-     * Generates a random password and returns it hashed.
+     * Returns the stored password of an account that only signs in through OAuth2.
      * <p>
-     * This is useful for OAuth2/Social login users who don't use
-     * traditional password authentication. The generated password
-     * is a random UUID that the user will never need to know.
+     * No password matches it, so no random password has to be generated and hashed for
+     * OAuth2/Social login users, who never use one.
      *
-     * @return hashed random password
+     * @return password marking the account as OAuth2-only
      */
-    public String generateRandomHashedPassword() {
-        log.debug("Generating random hashed password for OAuth2 user");
-        String randomPassword = UUID.randomUUID().toString();
-        return passwordService.encode(randomPassword);
+    public String oauth2OnlyPassword() {
+        return OAuth2OnlyPasswordEncoder.ENCODED_PASSWORD;
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.sep.realvista.infrastructure.security.websocket;
 
-import com.sep.realvista.application.auth.service.TokenService;
+import com.sep.realvista.infrastructure.security.AuthenticatedUser;
+import com.sep.realvista.infrastructure.security.jwt.BearerTokenAuthenticator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -11,10 +12,10 @@ import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 /**
  * WebSocket channel interceptor for JWT authentication.
  * Validates JWT tokens in WebSocket CONNECT frames.
@@ -24,8 +25,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class WebSocketAuthenticationInterceptor implements ChannelInterceptor {
 
-    private final TokenService tokenService;
-    private final UserDetailsService userDetailsService;
+    private final BearerTokenAuthenticator bearerTokenAuthenticator;
 
     /**
      * Intercept messages before they are sent to the channel.
@@ -46,19 +46,16 @@ public class WebSocketAuthenticationInterceptor implements ChannelInterceptor {
                 String token = authToken.substring(7);
 
                 try {
-                    // Extract username from token
-                    String username = tokenService.extractUsername(token);
-                    
-                    // Load user details
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                    // Verify the token once and rebuild its principal from the claims
+                    Optional<AuthenticatedUser> principal = bearerTokenAuthenticator.authenticate(token);
 
-                    // Validate token with user details
-                    if (tokenService.isTokenValid(token, userDetails)) {
+                    if (principal.isPresent()) {
+                        String username = principal.get().getUsername();
                         UsernamePasswordAuthenticationToken authentication =
                                 new UsernamePasswordAuthenticationToken(
-                                        userDetails,
+                                        principal.get(),
                                         null,
-                                        userDetails.getAuthorities()
+                                        principal.get().getAuthorities()
                                 );
 
                         SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -66,7 +63,7 @@ public class WebSocketAuthenticationInterceptor implements ChannelInterceptor {
 
                         log.info("WebSocket authentication successful for user: {}", username);
                     } else {
-                        log.warn("Invalid JWT token in WebSocket connection");
+                        log.warn("Invalid or revoked JWT token in WebSocket connection");
                     }
                 } catch (Exception e) {
                     log.error("Error authenticating WebSocket connection: {}", e.getMessage());
@@ -0,0 +1,27 @@
+package com.sep.realvista.infrastructure.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code warmup} health contributor: out of service until {@link WarmupRunner} has finished,
+ * so load balancers route no traffic to a node whose caches are still cold.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupRunner warmupRunner;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = warmupRunner.isFinished() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("phase", warmupRunner.phase())
+                .withDetail("elapsedMs", warmupRunner.elapsed().toMillis())
+                .withDetail("tasks", warmupRunner.progress())
+                .build();
+    }
+}
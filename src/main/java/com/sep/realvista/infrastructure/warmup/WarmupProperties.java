@@ -0,0 +1,31 @@
+package com.sep.realvista.infrastructure.warmup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the startup warm-up phase ({@code realvista.warmup.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "realvista.warmup")
+public class WarmupProperties {
+
+    /**
+     * Longest time readiness waits for warm-up; jobs still running afterwards finish in the
+     * background.
+     */
+    private Duration budget = Duration.ofMinutes(2);
+
+    /**
+     * Number of warm-up jobs run at the same time.
+     */
+    private int parallelism = 4;
+
+    /**
+     * Number of most-viewed published listings preloaded into the listing detail cache
+     * (0 disables it).
+     */
+    private int hotListings = 500;
+}
@@ -0,0 +1,172 @@
+package com.sep.realvista.infrastructure.warmup;
+
+import com.sep.realvista.application.common.warmup.WarmupTask;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the {@link WarmupTask}s once the application has started.
+ * <p>
+ * Jobs run on a dedicated pool of {@link WarmupProperties#getParallelism()} threads. The phase
+ * ends when every job has finished or the budget has run out, whichever comes first; until
+ * then {@link WarmupHealthIndicator} keeps the node out of the readiness group.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WarmupRunner {
+
+    private final ObjectProvider<WarmupTask> tasks;
+    private final WarmupProperties properties;
+
+    private final Map<String, Progress> progress = new LinkedHashMap<>();
+    private volatile Phase phase = Phase.PENDING;
+    private volatile long startedAtNanos;
+    private volatile Duration elapsed;
+
+    public enum Phase {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        BUDGET_EXCEEDED
+    }
+
+    /**
+     * Jobs of one task: total, finished and failed.
+     */
+    public record Progress(int total, int finished, int failed) {
+    }
+
+    /**
+     * Runs after the other startup listeners; warm-up itself runs on its own thread.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void start() {
+        phase = Phase.RUNNING;
+        startedAtNanos = System.nanoTime();
+        Thread thread = new Thread(this::run, "warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public Phase phase() {
+        return phase;
+    }
+
+    /**
+     * Whether readiness no longer waits for warm-up.
+     */
+    public boolean isFinished() {
+        return phase == Phase.COMPLETED || phase == Phase.BUDGET_EXCEEDED;
+    }
+
+    public Duration elapsed() {
+        Duration finished = elapsed;
+        if (finished != null) {
+            return finished;
+        }
+        return phase == Phase.PENDING ? Duration.ZERO : Duration.ofNanos(System.nanoTime() - startedAtNanos);
+    }
+
+    public Map<String, Progress> progress() {
+        Map<String, Progress> snapshot = new LinkedHashMap<>();
+        synchronized (progress) {
+            progress.forEach(snapshot::put);
+        }
+        return snapshot;
+    }
+
+    void run() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, properties.getParallelism()), runnable -> {
+            Thread thread = new Thread(runnable, "warmup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long deadline = startedAtNanos + properties.getBudget().toNanos();
+        try {
+            List<CompletableFuture<Void>> jobs = new ArrayList<>();
+            tasks.orderedStream().forEach(task -> jobs.addAll(submit(task, pool)));
+            CompletableFuture.allOf(jobs.toArray(CompletableFuture[]::new))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            finish(Phase.COMPLETED);
+            log.info("Warm-up completed in {} ms: {}", elapsed().toMillis(), progress());
+        } catch (TimeoutException e) {
+            finish(Phase.BUDGET_EXCEEDED);
+            log.warn("Warm-up budget of {} exceeded, reporting ready with partial warm-up: {}",
+                    properties.getBudget(), progress());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish(Phase.BUDGET_EXCEEDED);
+        } catch (ExecutionException | RuntimeException e) {
+            // Jobs handle their own failures; this only covers a task failing to list its jobs
+            finish(Phase.COMPLETED);
+            log.error("Warm-up aborted: {}", e.getMessage(), e);
+        } finally {
+            // Jobs already queued still run, so a late finish still fills the caches
+            pool.shutdown();
+        }
+    }
+
+    private List<CompletableFuture<Void>> submit(WarmupTask task, ExecutorService pool) {
+        String name = task.name();
+        List<Runnable> jobs;
+        try {
+            jobs = task.jobs();
+        } catch (RuntimeException e) {
+            log.warn("Warm-up task {} failed to plan its jobs: {}", name, e.getMessage());
+            update(name, new Progress(0, 0, 1));
+            return List.of();
+        }
+        update(name, new Progress(jobs.size(), 0, 0));
+        return jobs.stream()
+                .map(job -> CompletableFuture.runAsync(() -> runJob(name, job), pool))
+                .toList();
+    }
+
+    private void runJob(String name, Runnable job) {
+        boolean failed = false;
+        try {
+            job.run();
+        } catch (RuntimeException e) {
+            failed = true;
+            log.debug("Warm-up job of {} failed: {}", name, e.getMessage());
+        }
+        boolean jobFailed = failed;
+        synchronized (progress) {
+            progress.computeIfPresent(name, (key, current) ->
+                    new Progress(current.total(), current.finished() + 1, current.failed() + (jobFailed ? 1 : 0)));
+        }
+    }
+
+    private void update(String name, Progress value) {
+        synchronized (progress) {
+            progress.put(name, value);
+        }
+    }
+
+    private void finish(Phase finalPhase) {
+        elapsed = Duration.ofNanos(System.nanoTime() - startedAtNanos);
+        phase = finalPhase;
+    }
+}
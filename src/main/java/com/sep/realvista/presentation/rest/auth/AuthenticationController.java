@@ -1,23 +1,32 @@
 package com.sep.realvista.presentation.rest.auth;
 
 import com.sep.realvista.application.auth.dto.AuthenticationResponse;
+import com.sep.realvista.application.auth.dto.ClientInfo;
 import com.sep.realvista.application.auth.dto.GoogleIdTokenRequest;
 import com.sep.realvista.application.auth.dto.LoginRequest;
+import com.sep.realvista.application.auth.dto.RefreshTokenRequest;
 import com.sep.realvista.application.auth.service.AuthService;
 import com.sep.realvista.application.common.dto.ApiResponse;
 import com.sep.realvista.application.user.dto.CreateUserRequest;
 import com.sep.realvista.application.user.dto.UserResponse;
+import com.sep.realvista.infrastructure.constants.SecurityConstants;
+import com.sep.realvista.infrastructure.security.session.RefreshTokenCookie;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -58,15 +67,60 @@ public class AuthenticationController {
     @PostMapping("/login")
     @Operation(summary = "Login", description = "Authenticates user and returns JWT token")
     public ResponseEntity<ApiResponse<AuthenticationResponse>> login(
-            @Valid @RequestBody LoginRequest request
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
     ) {
         log.info("Login request received for email: {}", request.getEmail());
 
-        AuthenticationResponse response = authService.login(request);
+        AuthenticationResponse response = authService.login(request, clientInfo(httpRequest));
 
         return ResponseEntity.ok(ApiResponse.success("Login successful", response));
     }
 
+    @PostMapping("/refresh")
+    @Operation(
+            summary = "Refresh tokens",
+            description = "Exchanges a refresh token for a new access token and a new refresh token. "
+                    + "Each refresh token can be used once; reusing one signs the whole session out. "
+                    + "Browser sessions opened through Google sign-in send it in the refresh_token cookie "
+                    + "instead of the body, and receive the new one the same way."
+    )
+    public ResponseEntity<ApiResponse<AuthenticationResponse>> refresh(
+            @Valid @RequestBody(required = false) RefreshTokenRequest request,
+            @CookieValue(name = SecurityConstants.RefreshCookie.NAME, required = false) String cookieToken
+    ) {
+        if (request != null) {
+            AuthenticationResponse response = authService.refresh(request);
+            return ResponseEntity.ok(ApiResponse.success("Token refreshed successfully", response));
+        }
+
+        AuthenticationResponse response = authService.refresh(fromCookie(cookieToken));
+        ResponseCookie cookie = RefreshTokenCookie.of(response.getRefreshToken(), response.getRefreshTokenExpiresAt());
+        // Keep the rotated token out of the body, where scripts could read it
+        response.setRefreshToken(null);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                .body(ApiResponse.success("Token refreshed successfully", response));
+    }
+
+    @PostMapping("/logout")
+    @Operation(
+            summary = "Logout",
+            description = "Ends the session of the refresh token, sent in the body or the refresh_token cookie; "
+                    + "its access tokens stop working within seconds"
+    )
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @Valid @RequestBody(required = false) RefreshTokenRequest request,
+            @CookieValue(name = SecurityConstants.RefreshCookie.NAME, required = false) String cookieToken
+    ) {
+        authService.logout(request != null ? request : fromCookie(cookieToken));
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, RefreshTokenCookie.cleared().toString())
+                .body(ApiResponse.success("Logout successful", null));
+    }
+
     @GetMapping("/login-google")
     @Operation(
             summary = "Login with Google (Web)",
@@ -125,15 +179,26 @@ public class AuthenticationController {
             )
     })
     public ResponseEntity<ApiResponse<AuthenticationResponse>> loginWithGoogleMobile(
-            @Valid @RequestBody GoogleIdTokenRequest request
+            @Valid @RequestBody GoogleIdTokenRequest request,
+            HttpServletRequest httpRequest
     ) {
         log.info("Mobile Google login request received");
 
-        AuthenticationResponse response = authService.loginWithGoogleMobile(request);
+        AuthenticationResponse response = authService.loginWithGoogleMobile(request, clientInfo(httpRequest));
 
         return ResponseEntity.ok(
                 ApiResponse.success("Google authentication successful", response)
         );
     }
-}
 
+    private static ClientInfo clientInfo(HttpServletRequest request) {
+        return new ClientInfo(request.getRemoteAddr(), request.getHeader(HttpHeaders.USER_AGENT));
+    }
+
+    private static RefreshTokenRequest fromCookie(String cookieToken) {
+        if (cookieToken == null || cookieToken.isBlank()) {
+            throw new BadCredentialsException("Refresh token is required");
+        }
+        return RefreshTokenRequest.builder().refreshToken(cookieToken).build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.sep.realvista.presentation.rest.conditional;
+
+import com.sep.realvista.application.common.version.ResourceVersionProvider;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opts a GET endpoint into conditional requests (see {@link ConditionalGetInterceptor}).
+ * <p>
+ * The resource version is looked up by the UUID path variable {@link #idVariable()} before the
+ * handler runs: a matching {@code If-None-Match} or {@code If-Modified-Since} is answered with
+ * 304 without invoking the handler, any other response carries {@code ETag} and
+ * {@code Last-Modified}. Method-level security runs inside the handler, so only annotate
+ * endpoints whose access is fully decided by URL rules.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConditionalGet {
+
+    /**
+     * Bean type that provides the version of the requested resource.
+     */
+    Class<? extends ResourceVersionProvider> value();
+
+    /**
+     * Path variable holding the resource ID.
+     */
+    String idVariable() default "id";
+
+    /**
+     * Whether the ETag is weak ({@code W/"..."}), promising only a semantically equivalent
+     * representation for the same version.
+     */
+    boolean weak() default true;
+
+    /**
+     * Whether shared caches (proxies, CDNs) may store the response; private otherwise.
+     */
+    boolean shared() default true;
+}
@@ -0,0 +1,97 @@
+package com.sep.realvista.presentation.rest.conditional;
+
+import com.sep.realvista.application.common.version.ResourceVersionProvider;
+import com.sep.realvista.domain.common.version.ResourceVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers conditional GETs for endpoints annotated with {@link ConditionalGet} from the
+ * resource version alone, before the handler loads the representation.
+ * <p>
+ * Requests are passed through untouched when the ID is malformed or the resource does not
+ * exist, so the handler produces its usual 400 or 404.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final BeanFactory beanFactory;
+    private final Map<Class<? extends ResourceVersionProvider>, ObjectProvider<? extends ResourceVersionProvider>>
+            providers = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null || !isGetOrHead(request)) {
+            return true;
+        }
+        UUID id = pathId(request, conditionalGet.idVariable());
+        ResourceVersionProvider provider = providers
+                .computeIfAbsent(conditionalGet.value(), beanFactory::getBeanProvider)
+                .getIfAvailable();
+        if (id == null || provider == null) {
+            return true;
+        }
+        Optional<ResourceVersion> version = provider.versionOf(id);
+        if (version.isEmpty()) {
+            return true;
+        }
+
+        String etag = (conditionalGet.weak() ? "W/\"" : "\"") + version.get().tag() + "\"";
+        long lastModified = version.get().lastModified() == null
+                ? -1
+                : version.get().lastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // no-cache: clients may store the response but must revalidate it on every use
+        CacheControl cacheControl = conditionalGet.shared()
+                ? CacheControl.noCache()
+                : CacheControl.noCache().cachePrivate();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+
+        // Sets ETag and Last-Modified, and the 304 status when the client's copy is current
+        boolean notModified = new ServletWebRequest(request, response).checkNotModified(etag, lastModified);
+        if (notModified) {
+            log.debug("Not modified: {} {}", request.getMethod(), request.getRequestURI());
+        }
+        return !notModified;
+    }
+
+    private static boolean isGetOrHead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UUID pathId(HttpServletRequest request, String variable) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String value = variables == null ? null : variables.get(variable);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
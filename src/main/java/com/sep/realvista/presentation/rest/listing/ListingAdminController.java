@@ -0,0 +1,149 @@
+package com.sep.realvista.presentation.rest.listing;
+
+import com.sep.realvista.application.common.dto.ApiResponse;
+import com.sep.realvista.application.listing.dto.ListingImportResponse;
+import com.sep.realvista.application.listing.export.ListingExportFormat;
+import com.sep.realvista.application.listing.export.ListingExportService;
+import com.sep.realvista.application.listing.importing.ListingImportService;
+import com.sep.realvista.application.listing.service.ListingSearchProjectionService;
+import com.sep.realvista.domain.listing.ListingStatus;
+import com.sep.realvista.domain.listing.importing.ListingImportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * REST Controller for listing maintenance operations (Admin only).
+ */
+@RestController
+@RequestMapping("/api/v1/admin/listings")
+@RequiredArgsConstructor
+@Tag(name = "Listing Administration", description = "Admin endpoints for listing read models and imports")
+@Slf4j
+public class ListingAdminController {
+
+    private final ListingSearchProjectionService listingSearchProjectionService;
+    private final ListingImportService listingImportService;
+    private final ListingExportService listingExportService;
+
+    @PostMapping("/search-projection/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild listing search projection",
+            description = "Recomputes the denormalized search rows of all published listings (Admin only)")
+    public ResponseEntity<ApiResponse<Integer>> rebuildSearchProjection() {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Rebuilding listing search projection - traceId: {}", traceId);
+
+        int projected = listingSearchProjectionService.rebuildAll();
+        return ResponseEntity.ok(ApiResponse.success("Search projection rebuilt successfully", projected));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export listings",
+            description = "Streams all listings with the given status as NDJSON or CSV (Admin only)")
+    public ResponseEntity<StreamingResponseBody> exportListings(
+            @RequestParam(defaultValue = "NDJSON") ListingExportFormat format,
+            @RequestParam(defaultValue = "PUBLISHED") ListingStatus status
+    ) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Exporting listings - traceId: {}, status: {}, format: {}", traceId, status, format);
+
+        String filename = "listings-" + status.name().toLowerCase(Locale.ROOT) + "." + format.getFileExtension();
+        StreamingResponseBody body = output -> listingExportService.export(status, format, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    @PostMapping(value = "/imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import a listing feed",
+            description = "Creates properties and listings owned by the given user from a CSV or JSON lines "
+                    + "feed and reports per-row errors; the format defaults to the file extension (Admin only)")
+    public ResponseEntity<ApiResponse<ListingImportResponse>> importListings(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam UUID ownerId,
+            @RequestParam(required = false) ListingImportFormat format
+    ) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        ListingImportFormat feedFormat = format != null ? format : formatOf(file.getOriginalFilename());
+        log.info("Importing listing feed - traceId: {}, file: {}, format: {}, size: {}, ownerId: {}",
+                traceId, file.getOriginalFilename(), feedFormat, file.getSize(), ownerId);
+
+        ListingImportResponse response = listingImportService.start(
+                ownerId, feedFormat, file.getOriginalFilename(), file);
+        return ResponseEntity.ok(ApiResponse.success("Listing feed processed", response));
+    }
+
+    @PostMapping(value = "/imports/{jobId}/resume", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Resume a listing import",
+            description = "Continues an interrupted import after its checkpoint; the file must be the feed "
+                    + "the import was started with (Admin only)")
+    public ResponseEntity<ApiResponse<ListingImportResponse>> resumeImport(
+            @PathVariable UUID jobId,
+            @RequestPart("file") MultipartFile file
+    ) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Resuming listing import - traceId: {}, jobId: {}, file: {}",
+                traceId, jobId, file.getOriginalFilename());
+
+        ListingImportResponse response = listingImportService.resume(jobId, file);
+        return ResponseEntity.ok(ApiResponse.success("Listing feed processed", response));
+    }
+
+    @GetMapping("/imports/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get a listing import", description = "Returns the progress of a listing import (Admin only)")
+    public ResponseEntity<ApiResponse<ListingImportResponse>> getImport(@PathVariable UUID jobId) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Getting listing import - traceId: {}, jobId: {}", traceId, jobId);
+
+        ListingImportResponse response = listingImportService.getJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success("Listing import retrieved successfully", response));
+    }
+
+    private static ListingImportFormat formatOf(String filename) {
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return ListingImportFormat.CSV;
+        }
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson") || name.endsWith(".json")) {
+            return ListingImportFormat.JSON_LINES;
+        }
+        throw new IllegalArgumentException("Cannot tell the feed format from file name '" + filename
+                + "'; pass the format parameter");
+    }
+}
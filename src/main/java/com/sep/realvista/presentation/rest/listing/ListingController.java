@@ -1,19 +1,43 @@
 package com.sep.realvista.presentation.rest.listing;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sep.realvista.application.common.dto.ApiResponse;
+import com.sep.realvista.application.common.dto.CursorPageResponse;
+import com.sep.realvista.application.listing.dto.ListingCardResponse;
+import com.sep.realvista.application.listing.dto.ListingCardsRequest;
 import com.sep.realvista.application.listing.dto.ListingDetailResponse;
+import com.sep.realvista.application.listing.dto.ListingFacetRequest;
+import com.sep.realvista.application.listing.dto.ListingFacetResponse;
+import com.sep.realvista.application.listing.dto.ListingSearchRequest;
 import com.sep.realvista.application.listing.service.ListingApplicationService;
+import com.sep.realvista.application.listing.service.ListingFacetService;
+import com.sep.realvista.application.listing.service.ListingVersionProvider;
+import com.sep.realvista.infrastructure.security.AuthenticatedUser;
+import com.sep.realvista.presentation.rest.conditional.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.slf4j.MDC;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -27,18 +51,101 @@ import java.util.UUID;
 public class ListingController {
 
     private final ListingApplicationService listingApplicationService;
+    private final ListingFacetService listingFacetService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping("/search")
+    @Operation(summary = "Search listings",
+            description = "Filters listings by type, status, price, location, property type and bedrooms/bathrooms. "
+                    + "Statuses other than PUBLISHED require sign-in and return the caller's own listings, "
+                    + "or all of them for admins. "
+                    + "Results are keyset-paginated: pass nextCursor from the previous page as cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ListingCardResponse>>> searchListings(
+            @Valid @ParameterObject ListingSearchRequest request,
+            @AuthenticationPrincipal AuthenticatedUser caller
+    ) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Searching listings - traceId: {}, request: {}", traceId, request);
+
+        CursorPageResponse<ListingCardResponse> page = listingApplicationService.searchListings(request, caller);
+        return ResponseEntity.ok(ApiResponse.success("Listings retrieved successfully", page));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Get search facet counts",
+            description = "Counts published listings per listing type, property type, city, district, ward "
+                    + "and searchable attribute bucket for the given filters")
+    public ResponseEntity<ApiResponse<ListingFacetResponse>> getFacets(
+            @Valid @ParameterObject ListingFacetRequest request
+    ) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Fetching listing facets - traceId: {}, request: {}", traceId, request);
+
+        ListingFacetResponse facets = listingFacetService.getFacets(request);
+        return ResponseEntity.ok(ApiResponse.success("Facets retrieved successfully", facets));
+    }
+
+    @PostMapping("/cards")
+    @Operation(summary = "Get listing cards by IDs",
+            description = "Returns compact listing cards for up to " + ListingCardsRequest.MAX_IDS
+                    + " listing IDs in request order, skipping deleted listings. "
+                    + "Used by feeds, bookmarks and chat listing cards")
+    public ResponseEntity<ApiResponse<List<ListingCardResponse>>> getListingCards(
+            @Valid @RequestBody ListingCardsRequest request
+    ) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Fetching listing cards - traceId: {}, count: {}", traceId, request.getListingIds().size());
+
+        List<ListingCardResponse> cards = listingApplicationService.getListingCards(request);
+        return ResponseEntity.ok(ApiResponse.success("Listing cards retrieved successfully", cards));
+    }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get listing detail by ID",
             description = "Retrieves complete listing information including media, property, "
-                    + "location, type, category, and agent/owner")
-    public ResponseEntity<ApiResponse<ListingDetailResponse>> getListingDetail(@PathVariable UUID id) {
+                    + "location, type, category, and agent/owner. Responses carry a strong ETag and "
+                    + "Last-Modified; send them back as If-None-Match or If-Modified-Since to get "
+                    + "304 Not Modified while the listing is unchanged")
+    @ConditionalGet(value = ListingVersionProvider.class, weak = false)
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ListingDetailResponse.class)))
+    public ResponseEntity<byte[]> getListingDetail(@PathVariable UUID id) throws IOException {
         String traceId = UUID.randomUUID().toString();
         MDC.put("traceId", traceId);
 
         log.info("Fetching listing detail - traceId: {}, listingId: {}", traceId, id);
 
-        ListingDetailResponse listing = listingApplicationService.getListingDetail(id);
-        return ResponseEntity.ok(ApiResponse.success("Listing retrieved successfully", listing));
+        byte[] listing = listingApplicationService.getListingDetailJson(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(successBody("Listing retrieved successfully", listing));
+    }
+
+    /**
+     * {@link ApiResponse#success(String, Object)} envelope around data that is already JSON,
+     * written without parsing or re-serializing it.
+     */
+    private byte[] successBody(String message, byte[] data) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(data.length + 128);
+        try (JsonGenerator generator = objectMapper.createGenerator(body)) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", message);
+            generator.writeFieldName("data");
+            // Mark the value as written, then append the bytes behind the generator's buffer
+            generator.writeRawValue("");
+            generator.flush();
+            body.write(data);
+            generator.writeObjectField("timestamp", LocalDateTime.now());
+            generator.writeEndObject();
+        }
+        return body.toByteArray();
     }
 }
@@ -0,0 +1,81 @@
+package com.sep.realvista.presentation.rest.listing;
+
+import com.sep.realvista.application.common.dto.ApiResponse;
+import com.sep.realvista.application.listing.dto.ListingBoundsRequest;
+import com.sep.realvista.application.listing.dto.ListingClusterRequest;
+import com.sep.realvista.application.listing.dto.ListingClustersResponse;
+import com.sep.realvista.application.listing.dto.ListingNearbyRequest;
+import com.sep.realvista.application.listing.dto.ListingPinsResponse;
+import com.sep.realvista.application.listing.service.ListingGeoSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * REST Controller for map views of published listings.
+ */
+@RestController
+@RequestMapping("/api/v1/listings/map")
+@RequiredArgsConstructor
+@Tag(name = "Listing Map", description = "Endpoints for listing map pins")
+@Slf4j
+public class ListingMapController {
+
+    private final ListingGeoSearchService listingGeoSearchService;
+
+    @GetMapping("/bounds")
+    @Operation(summary = "Get listing pins in a viewport",
+            description = "Returns pins of published listings inside the north/south/east/west bounds, newest first")
+    public ResponseEntity<ApiResponse<ListingPinsResponse>> findWithinBounds(
+            @Valid @ParameterObject ListingBoundsRequest request
+    ) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Fetching listing pins in bounds - traceId: {}, request: {}", traceId, request);
+
+        ListingPinsResponse pins = listingGeoSearchService.findWithinBounds(request);
+        return ResponseEntity.ok(ApiResponse.success("Listing pins retrieved successfully", pins));
+    }
+
+    @GetMapping("/nearby")
+    @Operation(summary = "Get listing pins near a point",
+            description = "Returns pins of published listings within radiusMeters of the point, nearest first")
+    public ResponseEntity<ApiResponse<ListingPinsResponse>> findNearby(
+            @Valid @ParameterObject ListingNearbyRequest request
+    ) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Fetching listing pins nearby - traceId: {}, request: {}", traceId, request);
+
+        ListingPinsResponse pins = listingGeoSearchService.findNearby(request);
+        return ResponseEntity.ok(ApiResponse.success("Listing pins retrieved successfully", pins));
+    }
+
+    @GetMapping("/clusters")
+    @Operation(summary = "Get listing clusters in a viewport",
+            description = "Returns per-cell counts, centroids and price ranges of published listings "
+                    + "for zoomed-out map views; the cell size follows the zoom level")
+    public ResponseEntity<ApiResponse<ListingClustersResponse>> findClusters(
+            @Valid @ParameterObject ListingClusterRequest request
+    ) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Fetching listing clusters - traceId: {}, request: {}", traceId, request);
+
+        ListingClustersResponse clusters = listingGeoSearchService.findClusters(request);
+        return ResponseEntity.ok(ApiResponse.success("Listing clusters retrieved successfully", clusters));
+    }
+}
@@ -0,0 +1,47 @@
+package com.sep.realvista.presentation.rest.location;
+
+import com.sep.realvista.application.common.dto.ApiResponse;
+import com.sep.realvista.application.location.dto.LocationResolveRequest;
+import com.sep.realvista.application.location.dto.ResolvedLocationResponse;
+import com.sep.realvista.application.location.service.LocationApplicationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * REST Controller for location lookups.
+ */
+@RestController
+@RequestMapping("/api/v1/locations")
+@RequiredArgsConstructor
+@Tag(name = "Location", description = "Endpoints for the city, district and ward hierarchy")
+@Slf4j
+public class LocationController {
+
+    private final LocationApplicationService locationApplicationService;
+
+    @GetMapping("/resolve")
+    @Operation(summary = "Resolve a coordinate to its location",
+            description = "Returns the ward, district and city whose bounds contain the coordinate")
+    public ResponseEntity<ApiResponse<ResolvedLocationResponse>> resolve(
+            @Valid @ParameterObject LocationResolveRequest request
+    ) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Resolving location - traceId: {}, request: {}", traceId, request);
+
+        ResolvedLocationResponse location = locationApplicationService.resolve(request);
+        return ResponseEntity.ok(ApiResponse.success("Location resolved successfully", location));
+    }
+}
@@ -0,0 +1,51 @@
+package com.sep.realvista.presentation.rest.property;
+
+import com.sep.realvista.application.common.dto.ApiResponse;
+import com.sep.realvista.application.property.dto.BulkPropertyAttributesRequest;
+import com.sep.realvista.application.property.dto.BulkPropertyAttributesResponse;
+import com.sep.realvista.application.property.service.PropertyAttributeBulkService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * REST Controller for property maintenance operations (Admin only).
+ */
+@RestController
+@RequestMapping("/api/v1/admin/properties")
+@RequiredArgsConstructor
+@Tag(name = "Property Administration", description = "Admin endpoints for property data")
+@Slf4j
+public class PropertyAdminController {
+
+    private final PropertyAttributeBulkService propertyAttributeBulkService;
+
+    @PostMapping("/attributes/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk write property attributes",
+            description = "Validates and writes attribute values of many properties in one transaction, "
+                    + "reporting a result per property (Admin only)")
+    public ResponseEntity<ApiResponse<BulkPropertyAttributesResponse>> bulkUpsertAttributes(
+            @Valid @RequestBody BulkPropertyAttributesRequest request
+    ) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Bulk writing property attributes - traceId: {}, properties: {}",
+                traceId, request.getProperties().size());
+
+        BulkPropertyAttributesResponse response = propertyAttributeBulkService.upsertAll(request.getProperties());
+        return ResponseEntity.ok(ApiResponse.success("Property attributes processed", response));
+    }
+}
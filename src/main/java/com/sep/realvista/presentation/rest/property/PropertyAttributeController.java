@@ -0,0 +1,58 @@
+package com.sep.realvista.presentation.rest.property;
+
+import com.sep.realvista.application.common.dto.ApiResponse;
+import com.sep.realvista.application.property.dto.PropertyAttributesUpsertRequest;
+import com.sep.realvista.application.property.dto.PropertyAttributesUpsertResult;
+import com.sep.realvista.application.property.service.PropertyAttributeBulkService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * REST Controller for the attribute values of a user's own property.
+ */
+@RestController
+@RequestMapping("/api/v1/properties")
+@RequiredArgsConstructor
+@Tag(name = "Property Attributes", description = "Endpoints for editing property attribute values")
+@SecurityRequirement(name = "Bearer Authentication")
+@Slf4j
+public class PropertyAttributeController {
+
+    private final PropertyAttributeBulkService propertyAttributeBulkService;
+
+    @PutMapping("/{propertyId}/attributes")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Write property attributes",
+            description = "Sets, changes or removes attribute values of a property owned by the caller. "
+                    + "Only changed values are written")
+    public ResponseEntity<ApiResponse<PropertyAttributesUpsertResult>> upsertAttributes(
+            @PathVariable UUID propertyId,
+            @Valid @RequestBody PropertyAttributesUpsertRequest request,
+            Authentication authentication
+    ) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Writing property attributes - traceId: {}, propertyId: {}, attributes: {}",
+                traceId, propertyId, request.getAttributes().size());
+
+        PropertyAttributesUpsertResult result =
+                propertyAttributeBulkService.upsertOwned(propertyId, request, authentication.getName());
+        return ResponseEntity.ok(ApiResponse.success("Property attributes processed", result));
+    }
+}
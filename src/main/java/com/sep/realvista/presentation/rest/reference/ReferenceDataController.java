@@ -0,0 +1,53 @@
+package com.sep.realvista.presentation.rest.reference;
+
+import com.sep.realvista.application.common.dto.ApiResponse;
+import com.sep.realvista.application.reference.dto.ReferenceDataResponse;
+import com.sep.realvista.application.reference.service.ReferenceDataApplicationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.UUID;
+
+/**
+ * REST Controller for property reference data (categories, types, attributes, amenities).
+ */
+@RestController
+@RequestMapping("/api/v1/reference-data")
+@RequiredArgsConstructor
+@Tag(name = "Reference Data", description = "Endpoints for property types, attributes and amenities")
+@Slf4j
+public class ReferenceDataController {
+
+    private final ReferenceDataApplicationService referenceDataApplicationService;
+
+    @GetMapping
+    @Operation(summary = "Get property reference data",
+            description = "Returns categories with their property types, attribute definitions with their "
+                    + "filter ranges, and amenities. Supports If-None-Match with the returned ETag.")
+    public ResponseEntity<ApiResponse<ReferenceDataResponse>> getReferenceData(WebRequest webRequest) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Getting reference data - traceId: {}", traceId);
+
+        // Shared by all users and changed rarely: clients revalidate instead of re-downloading
+        ReferenceDataResponse referenceData = referenceDataApplicationService.getReferenceData();
+        if (webRequest.checkNotModified(referenceData.getVersion())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue())
+                .body(ApiResponse.success("Reference data retrieved successfully", referenceData));
+    }
+}
@@ -6,6 +6,8 @@ import com.sep.realvista.application.user.dto.CreateUserRequest;
 import com.sep.realvista.application.user.dto.UpdateUserRequest;
 import com.sep.realvista.application.user.dto.UserResponse;
 import com.sep.realvista.application.user.service.UserApplicationService;
+import com.sep.realvista.application.user.service.UserVersionProvider;
+import com.sep.realvista.presentation.rest.conditional.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -60,7 +62,9 @@ public class UserController {
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get user by ID", description = "Retrieves user details by ID")
+    @Operation(summary = "Get user by ID", description = "Retrieves user details by ID. Supports "
+            + "If-None-Match and If-Modified-Since")
+    @ConditionalGet(value = UserVersionProvider.class, shared = false)
     public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable UUID id) {
         String traceId = UUID.randomUUID().toString();
         MDC.put("traceId", traceId);
@@ -129,6 +133,19 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success("User suspended successfully", user));
     }
 
+    @PutMapping("/{id}/ban")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Ban user", description = "Permanently bans a user account (Admin only)")
+    public ResponseEntity<ApiResponse<UserResponse>> banUser(@PathVariable UUID id) {
+        String traceId = UUID.randomUUID().toString();
+        MDC.put("traceId", traceId);
+
+        log.info("Banning user - traceId: {}, userId: {}", traceId, id);
+
+        UserResponse user = userApplicationService.banUser(id);
+        return ResponseEntity.ok(ApiResponse.success("User banned successfully", user));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.id")
     @Operation(summary = "Delete user", description = "Soft deletes a user account")
@@ -0,0 +1,58 @@
+-- V11__Create_listing_search_projections_table.sql
+-- Denormalized read model for listing search: one row per published, non-deleted listing
+-- Maintained incrementally by the application; rebuilt on startup when empty
+-- Compatible with both PostgreSQL and H2 databases
+
+CREATE TABLE listing_search_projections
+(
+    listing_id             UUID PRIMARY KEY,
+    property_id            UUID           NOT NULL,
+    listing_type           VARCHAR(20)    NOT NULL,
+    status                 VARCHAR(50)    NOT NULL,
+    slug                   VARCHAR(255)   NOT NULL,
+    name                   VARCHAR(500)   NOT NULL,
+    price                  NUMERIC(14, 2) NOT NULL,
+    is_negotiable          BOOLEAN        NOT NULL DEFAULT FALSE,
+    published_at           TIMESTAMP      NOT NULL,
+
+    property_type_id       UUID,
+    property_type_name     VARCHAR(100),
+    property_type_code     VARCHAR(50),
+    property_category_id   UUID,
+    property_category_name VARCHAR(100),
+    property_category_code VARCHAR(50),
+
+    location_id            UUID,
+    ward_id                UUID,
+    ward_name              VARCHAR(100),
+    district_id            UUID,
+    district_name          VARCHAR(100),
+    city_id                UUID,
+    city_name              VARCHAR(100),
+    street_address         VARCHAR(255),
+    latitude               DOUBLE PRECISION NOT NULL,
+    longitude              DOUBLE PRECISION NOT NULL,
+
+    bedrooms               INTEGER,
+    bathrooms              INTEGER,
+    usable_size_m2         NUMERIC(10, 2),
+
+    primary_media_id       UUID,
+    primary_media_type     VARCHAR(20),
+    primary_media_url      TEXT,
+    primary_thumbnail_url  TEXT,
+
+    boost_type             VARCHAR(20),
+    boosted_until          DATE,
+
+    refreshed_at           TIMESTAMP      NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_lsp_price ON listing_search_projections (price, listing_id);
+CREATE INDEX idx_lsp_published ON listing_search_projections (published_at, listing_id);
+CREATE INDEX idx_lsp_type_price ON listing_search_projections (listing_type, price);
+CREATE INDEX idx_lsp_city ON listing_search_projections (city_id);
+CREATE INDEX idx_lsp_district ON listing_search_projections (district_id);
+CREATE INDEX idx_lsp_ward ON listing_search_projections (ward_id);
+CREATE INDEX idx_lsp_property_type ON listing_search_projections (property_type_id);
+CREATE INDEX idx_lsp_property ON listing_search_projections (property_id);
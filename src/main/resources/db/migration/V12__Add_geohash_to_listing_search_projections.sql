@@ -0,0 +1,9 @@
+-- Geohash of each projected listing's coordinates, for map viewport and radius queries.
+-- A prefix range scan on the geohash index narrows candidates to a few cells before the
+-- exact latitude/longitude filter runs.
+ALTER TABLE listing_search_projections ADD COLUMN geohash VARCHAR(12);
+
+CREATE INDEX idx_lsp_geohash ON listing_search_projections (geohash);
+
+-- The projection is derived data; empty it so it is rebuilt with geohashes on next startup.
+DELETE FROM listing_search_projections;
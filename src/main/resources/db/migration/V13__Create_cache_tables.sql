@@ -0,0 +1,28 @@
+-- V13__Create_cache_tables.sql
+-- Shared tier and invalidation log of the two-tier application cache
+-- Compatible with both PostgreSQL and H2 databases
+
+-- Second cache tier shared by all nodes; values are JSON-serialized DTOs
+CREATE TABLE cache_entries
+(
+    cache_name  VARCHAR(100) NOT NULL,
+    cache_key   VARCHAR(500) NOT NULL,
+    value_type  VARCHAR(255) NOT NULL,
+    payload     TEXT         NOT NULL,
+    expires_at  TIMESTAMP    NOT NULL,
+    PRIMARY KEY (cache_name, cache_key)
+);
+
+CREATE INDEX idx_cache_entries_expires ON cache_entries (expires_at);
+
+-- Evictions broadcast to other nodes, polled by each node and purged after a retention period
+CREATE TABLE cache_invalidations
+(
+    invalidation_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    node_id         VARCHAR(100) NOT NULL,
+    cache_name      VARCHAR(100) NOT NULL,
+    cache_key       VARCHAR(500),
+    created_at      TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX idx_cache_invalidations_created ON cache_invalidations (created_at);
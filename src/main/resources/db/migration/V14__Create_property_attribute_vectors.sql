@@ -0,0 +1,30 @@
+-- V14__Create_property_attribute_vectors.sql
+-- Typed, per-property attribute vectors materialized from property_attribute_values
+-- The EAV rows stay the source of truth; vectors are rebuilt after every committed change
+-- Compatible with both PostgreSQL and H2 databases
+
+-- Fixed position of each attribute in a vector; slots are assigned once and never reused
+CREATE TABLE property_attribute_slots
+(
+    property_attribute_id UUID PRIMARY KEY,
+    slot                  INTEGER NOT NULL UNIQUE,
+
+    FOREIGN KEY (property_attribute_id) REFERENCES property_attributes (property_attribute_id) ON DELETE CASCADE
+);
+
+INSERT INTO property_attribute_slots (property_attribute_id, slot)
+SELECT property_attribute_id, ROW_NUMBER() OVER (ORDER BY created_at, property_attribute_id) - 1
+FROM property_attributes;
+
+-- One row per property; vector_data is the binary encoding of an AttributeVector.
+-- value_count and values_updated_at describe the EAV rows the vector was built from.
+CREATE TABLE property_attribute_vectors
+(
+    property_id       UUID PRIMARY KEY,
+    vector_data       BYTEA     NOT NULL,
+    value_count       INTEGER   NOT NULL,
+    values_updated_at TIMESTAMP,
+    refreshed_at      TIMESTAMP NOT NULL,
+
+    FOREIGN KEY (property_id) REFERENCES properties (property_id) ON DELETE CASCADE
+);
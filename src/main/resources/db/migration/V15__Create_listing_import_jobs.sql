@@ -0,0 +1,26 @@
+-- V15__Create_listing_import_jobs.sql
+-- Progress of bulk listing imports from partner feeds
+-- Compatible with both PostgreSQL and H2 databases
+
+-- checkpoint_row is the last feed row whose outcome is committed; it is advanced in the same
+-- transaction as the rows it covers, so a resumed import skips exactly the rows already handled
+CREATE TABLE listing_import_jobs
+(
+    listing_import_job_id UUID PRIMARY KEY,
+    owner_id              UUID         NOT NULL,
+    source_name           VARCHAR(255),
+    format                VARCHAR(20)  NOT NULL,
+    status                VARCHAR(20)  NOT NULL,
+    checkpoint_row        BIGINT       NOT NULL DEFAULT 0,
+    imported_count        INTEGER      NOT NULL DEFAULT 0,
+    failed_count          INTEGER      NOT NULL DEFAULT 0,
+    last_error            TEXT,
+    finished_at           TIMESTAMP,
+    created_at            TIMESTAMP    NOT NULL DEFAULT NOW(),
+    updated_at            TIMESTAMP    NOT NULL DEFAULT NOW(),
+    deleted               BOOLEAN      NOT NULL DEFAULT FALSE,
+
+    FOREIGN KEY (owner_id) REFERENCES users (user_id)
+);
+
+CREATE INDEX idx_listing_import_job_owner ON listing_import_jobs (owner_id);
@@ -0,0 +1,12 @@
+-- V16__Add_user_session_rotation.sql
+-- Refresh token rotation and revocation lookups for user sessions
+-- Compatible with both PostgreSQL and H2 databases
+
+-- Hash of the refresh token a session had before its last rotation; presenting that token again
+-- means it was copied, so the whole session is revoked
+ALTER TABLE user_sessions ADD COLUMN previous_token_hash VARCHAR(255);
+
+CREATE INDEX idx_user_session_previous_token_hash ON user_sessions (previous_token_hash);
+
+-- Every node polls for recently revoked sessions
+CREATE INDEX idx_user_session_revoked_at ON user_sessions (revoked_at);
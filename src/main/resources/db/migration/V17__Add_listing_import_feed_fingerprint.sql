@@ -0,0 +1,8 @@
+-- V17__Add_listing_import_feed_fingerprint.sql
+-- Fingerprint of the feed a listing import was started with
+-- Compatible with both PostgreSQL and H2 databases
+
+-- A resume skips rows up to the checkpoint, so it must be given the same feed; imports started
+-- before this migration have no fingerprint and are resumed unchecked
+ALTER TABLE listing_import_jobs ADD COLUMN feed_sha256 VARCHAR(64);
+ALTER TABLE listing_import_jobs ADD COLUMN feed_size_bytes BIGINT;
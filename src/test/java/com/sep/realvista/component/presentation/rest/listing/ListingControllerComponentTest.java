@@ -1,13 +1,24 @@
 package com.sep.realvista.component.presentation.rest.listing;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sep.realvista.application.auth.service.TokenService;
+import com.sep.realvista.application.common.dto.CursorPageResponse;
 import com.sep.realvista.application.listing.dto.AgentInfoDTO;
+import com.sep.realvista.application.listing.dto.ListingCardResponse;
+import com.sep.realvista.application.listing.dto.ListingCardsRequest;
+import com.sep.realvista.application.listing.dto.FacetBucketDTO;
 import com.sep.realvista.application.listing.dto.ListingDetailResponse;
+import com.sep.realvista.application.listing.dto.ListingFacetRequest;
+import com.sep.realvista.application.listing.dto.ListingFacetResponse;
+import com.sep.realvista.application.listing.dto.ListingSearchRequest;
 import com.sep.realvista.application.listing.dto.LocationInfoDTO;
 import com.sep.realvista.application.listing.dto.MediaDTO;
 import com.sep.realvista.application.listing.dto.PropertyInfoDTO;
 import com.sep.realvista.application.listing.dto.PropertyTypeInfoDTO;
 import com.sep.realvista.application.listing.service.ListingApplicationService;
+import com.sep.realvista.application.listing.service.ListingFacetService;
+import com.sep.realvista.application.listing.service.ListingVersionProvider;
+import com.sep.realvista.domain.common.version.ResourceVersion;
 import com.sep.realvista.domain.listing.ListingStatus;
 import com.sep.realvista.domain.listing.ListingType;
 import com.sep.realvista.domain.property.MediaType;
@@ -21,17 +32,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -50,9 +68,18 @@ class ListingControllerComponentTest {
         @Autowired
         private MockMvc mockMvc;
 
+        @Autowired
+        private ObjectMapper objectMapper;
+
         @MockitoBean
         private ListingApplicationService listingApplicationService;
 
+        @MockitoBean
+        private ListingFacetService listingFacetService;
+
+        @MockitoBean
+        private ListingVersionProvider listingVersionProvider;
+
         @MockitoBean
         private TokenService tokenService;
 
@@ -163,8 +190,8 @@ class ListingControllerComponentTest {
         void getListingDetail_withValidId_shouldReturnOk() throws Exception {
                 // Arrange
                 UUID listingId = mockListingResponse.getListingId();
-                when(listingApplicationService.getListingDetail(any(UUID.class)))
-                                .thenReturn(mockListingResponse);
+                when(listingApplicationService.getListingDetailJson(any(UUID.class)))
+                                .thenReturn(objectMapper.writeValueAsBytes(mockListingResponse));
 
                 // Act & Assert
                 mockMvc.perform(get("/api/v1/listings/{id}", listingId))
@@ -189,12 +216,48 @@ class ListingControllerComponentTest {
                                 .andExpect(jsonPath("$.data.agent.full_name").value("John Doe"));
         }
 
+        @Test
+        @DisplayName("Should return 304 Not Modified without loading the listing when If-None-Match is current")
+        void getListingDetail_withMatchingEtag_shouldReturnNotModified() throws Exception {
+                // Arrange
+                UUID listingId = mockListingResponse.getListingId();
+                when(listingVersionProvider.versionOf(listingId))
+                                .thenReturn(Optional.of(new ResourceVersion("abc123", LocalDateTime.now())));
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/listings/{id}", listingId)
+                                                .header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                                .andExpect(content().string(""));
+                verify(listingApplicationService, never()).getListingDetailJson(any(UUID.class));
+        }
+
+        @Test
+        @DisplayName("Should return the full listing detail with validators when the ETag is outdated")
+        void getListingDetail_withOutdatedEtag_shouldReturnOk() throws Exception {
+                // Arrange
+                UUID listingId = mockListingResponse.getListingId();
+                when(listingVersionProvider.versionOf(listingId))
+                                .thenReturn(Optional.of(new ResourceVersion("def456", LocalDateTime.now())));
+                when(listingApplicationService.getListingDetailJson(listingId))
+                                .thenReturn(objectMapper.writeValueAsBytes(mockListingResponse));
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/listings/{id}", listingId)
+                                                .header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string(HttpHeaders.ETAG, "\"def456\""))
+                                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                                .andExpect(jsonPath("$.data.listing_id").value(listingId.toString()));
+        }
+
         @Test
         @DisplayName("Should return 404 Not Found when listing does not exist")
         void getListingDetail_withNonExistentId_shouldReturnNotFound() throws Exception {
                 // Arrange
                 UUID nonExistentId = UUID.randomUUID();
-                when(listingApplicationService.getListingDetail(any(UUID.class)))
+                when(listingApplicationService.getListingDetailJson(any(UUID.class)))
                                 .thenThrow(new com.sep.realvista.domain.common.exception.ResourceNotFoundException(
                                                 "Listing", nonExistentId));
 
@@ -204,4 +267,116 @@ class ListingControllerComponentTest {
                                 .andExpect(jsonPath("$.message").exists())
                                 .andExpect(jsonPath("$.errorCode").value("RESOURCE_NOT_FOUND"));
         }
+
+        @Test
+        @DisplayName("Should return 200 OK with cursor page when searching listings")
+        void searchListings_withFilters_shouldReturnCursorPage() throws Exception {
+                // Arrange
+                ListingCardResponse card = ListingCardResponse.builder()
+                                .listingId(mockListingResponse.getListingId())
+                                .listingType(ListingType.RENT)
+                                .status(ListingStatus.PUBLISHED)
+                                .name(mockListingResponse.getName())
+                                .price(new BigDecimal("2700.00"))
+                                .bedrooms(3)
+                                .build();
+                CursorPageResponse<ListingCardResponse> page = CursorPageResponse.<ListingCardResponse>builder()
+                                .content(List.of(card))
+                                .size(1)
+                                .nextCursor("next-cursor")
+                                .hasNext(true)
+                                .build();
+                when(listingApplicationService.searchListings(any(ListingSearchRequest.class), any())).thenReturn(page);
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/listings/search")
+                                                .param("listingType", "RENT")
+                                                .param("minBedrooms", "2")
+                                                .param("sort", "PRICE")
+                                                .param("direction", "ASC")
+                                                .param("size", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.success").value(true))
+                                .andExpect(jsonPath("$.data.content.length()").value(1))
+                                .andExpect(jsonPath("$.data.content[0].listing_id")
+                                                .value(mockListingResponse.getListingId().toString()))
+                                .andExpect(jsonPath("$.data.content[0].bedrooms").value(3))
+                                .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"))
+                                .andExpect(jsonPath("$.data.hasNext").value(true));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when search page size exceeds the maximum")
+        void searchListings_withOversizedPage_shouldReturnBadRequest() throws Exception {
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/listings/search").param("size", "1000"))
+                                .andExpect(status().isBadRequest());
+
+                verify(listingApplicationService, never()).searchListings(any(ListingSearchRequest.class), any());
+        }
+
+        @Test
+        @DisplayName("Should return 200 OK with facet counts")
+        void getFacets_withFilters_shouldReturnCounts() throws Exception {
+                // Arrange
+                ListingFacetResponse facets = ListingFacetResponse.builder()
+                                .total(341)
+                                .listingTypes(List.of(FacetBucketDTO.builder()
+                                                .value("SALE").label("SALE").count(341).build()))
+                                .districts(List.of(FacetBucketDTO.builder()
+                                                .value(UUID.randomUUID().toString()).label("District 7").count(120)
+                                                .build()))
+                                .build();
+                when(listingFacetService.getFacets(any(ListingFacetRequest.class))).thenReturn(facets);
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/listings/facets")
+                                                .param("listingTypes", "SALE")
+                                                .param("attributes", "bedrooms:2:"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.total").value(341))
+                                .andExpect(jsonPath("$.data.listing_types[0].count").value(341))
+                                .andExpect(jsonPath("$.data.districts[0].label").value("District 7"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when an attribute filter is malformed")
+        void getFacets_withMalformedAttributeFilter_shouldReturnBadRequest() throws Exception {
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/listings/facets").param("attributes", "bedrooms>2"))
+                                .andExpect(status().isBadRequest());
+
+                verify(listingFacetService, never()).getFacets(any(ListingFacetRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should return 200 OK with listing cards for a batch of ids")
+        void getListingCards_withIds_shouldReturnCards() throws Exception {
+                // Arrange
+                UUID first = UUID.randomUUID();
+                UUID second = UUID.randomUUID();
+                when(listingApplicationService.getListingCards(any(ListingCardsRequest.class))).thenReturn(List.of(
+                                ListingCardResponse.builder().listingId(first).name("First").build(),
+                                ListingCardResponse.builder().listingId(second).name("Second").build()));
+
+                // Act & Assert
+                mockMvc.perform(post("/api/v1/listings/cards")
+                                                .contentType("application/json")
+                                                .content("{\"listingIds\": [\"" + first + "\", \"" + second + "\"]}"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data[0].listing_id").value(first.toString()))
+                                .andExpect(jsonPath("$.data[1].listing_id").value(second.toString()));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when no listing ids are given")
+        void getListingCards_withoutIds_shouldReturnBadRequest() throws Exception {
+                // Act & Assert
+                mockMvc.perform(post("/api/v1/listings/cards")
+                                                .contentType("application/json")
+                                                .content("{\"listingIds\": []}"))
+                                .andExpect(status().isBadRequest());
+
+                verify(listingApplicationService, never()).getListingCards(any(ListingCardsRequest.class));
+        }
 }
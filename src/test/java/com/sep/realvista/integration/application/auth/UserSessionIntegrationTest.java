@@ -0,0 +1,105 @@
+package com.sep.realvista.integration.application.auth;
+
+import com.sep.realvista.application.auth.dto.ClientInfo;
+import com.sep.realvista.application.auth.session.SessionTokens;
+import com.sep.realvista.application.auth.session.UserSessionService;
+import com.sep.realvista.domain.user.User;
+import com.sep.realvista.domain.user.session.DeviceType;
+import com.sep.realvista.infrastructure.security.AuthenticatedUser;
+import com.sep.realvista.infrastructure.security.jwt.BearerTokenAuthenticator;
+import com.sep.realvista.integration.support.ListingFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for refresh-token rotation of sign-in sessions.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("User Session Integration Tests")
+class UserSessionIntegrationTest {
+
+    private static final ClientInfo CLIENT = new ClientInfo("127.0.0.1", "JUnit");
+
+    @Autowired
+    private UserSessionService userSessionService;
+
+    @Autowired
+    private BearerTokenAuthenticator bearerTokenAuthenticator;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private AuthenticatedUser principal;
+
+    @BeforeEach
+    void setUp() {
+        principal = transactionTemplate.execute(status -> {
+            User user = new ListingFixtures(entityManager).user();
+            return AuthenticatedUser.of(user);
+        });
+    }
+
+    @Test
+    @DisplayName("Should rotate the refresh token and keep the session's access tokens valid")
+    void refresh_shouldRotateRefreshToken() {
+        // Given
+        SessionTokens opened = userSessionService.open(principal, DeviceType.WEB, CLIENT);
+
+        // When
+        SessionTokens refreshed = userSessionService.refresh(opened.refreshToken());
+
+        // Then
+        assertThat(refreshed.sessionId()).isEqualTo(opened.sessionId());
+        assertThat(refreshed.refreshToken()).isNotEqualTo(opened.refreshToken());
+        assertThat(bearerTokenAuthenticator.authenticate(refreshed.accessToken())).isPresent();
+        assertThat(userSessionService.refresh(refreshed.refreshToken()).sessionId())
+                .isEqualTo(opened.sessionId());
+    }
+
+    @Test
+    @DisplayName("Should revoke the session when a rotated refresh token is used again")
+    void refresh_shouldRevokeSessionOnReuse() {
+        // Given
+        SessionTokens opened = userSessionService.open(principal, DeviceType.WEB, CLIENT);
+        SessionTokens refreshed = userSessionService.refresh(opened.refreshToken());
+
+        // When
+        assertThatThrownBy(() -> userSessionService.refresh(opened.refreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+
+        // Then
+        assertThatThrownBy(() -> userSessionService.refresh(refreshed.refreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(bearerTokenAuthenticator.authenticate(refreshed.accessToken())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject the access tokens of every session after revoking all of them")
+    void revokeAll_shouldRejectOutstandingAccessTokens() {
+        // Given
+        SessionTokens web = userSessionService.open(principal, DeviceType.WEB, CLIENT);
+        SessionTokens mobile = userSessionService.open(principal, DeviceType.ANDROID, CLIENT);
+
+        // When
+        int revoked = userSessionService.revokeAll(principal.getId());
+
+        // Then
+        assertThat(revoked).isEqualTo(2);
+        assertThat(bearerTokenAuthenticator.authenticate(web.accessToken())).isEmpty();
+        assertThat(bearerTokenAuthenticator.authenticate(mobile.accessToken())).isEmpty();
+    }
+}
@@ -0,0 +1,118 @@
+package com.sep.realvista.integration.application.listing;
+
+import com.sep.realvista.application.listing.dto.ListingDetailResponse;
+import com.sep.realvista.application.listing.service.ListingApplicationService;
+import com.sep.realvista.application.listing.service.ListingDetailCache;
+import com.sep.realvista.domain.common.version.ResourceVersion;
+import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.ListingType;
+import com.sep.realvista.domain.listing.ListingVersionStamps;
+import com.sep.realvista.domain.listing.repository.ListingRepository;
+import com.sep.realvista.domain.property.Property;
+import com.sep.realvista.domain.property.location.Location;
+import com.sep.realvista.domain.property.location.LocationType;
+import com.sep.realvista.domain.user.User;
+import com.sep.realvista.integration.support.ListingFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the listing detail read path.
+ * <p>
+ * Guards the number of SQL statements issued by getListingDetail so that
+ * lazy associations touched by the mapper do not silently add round trips, and
+ * that the version cached with a detail matches the version query.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("Listing Detail Query Integration Tests")
+class ListingDetailQueryIntegrationTest {
+
+    private static final long MAX_DETAIL_STATEMENTS = 2;
+
+    @Autowired
+    private ListingApplicationService listingApplicationService;
+
+    @Autowired
+    private ListingDetailCache listingDetailCache;
+
+    @Autowired
+    private ListingRepository listingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Should load listing detail in at most two statements")
+    void getListingDetail_shouldIssueAtMostTwoStatements() {
+        // Arrange
+        UUID listingId = transactionTemplate.execute(status -> persistListingGraph());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        ListingDetailResponse response = listingApplicationService.getListingDetail(listingId);
+
+        // Assert
+        assertThat(response.getListingId()).isEqualTo(listingId);
+        assertThat(response.getMedia()).hasSize(2);
+        assertThat(response.getLocation()).isNotNull();
+        assertThat(response.getAgent()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_DETAIL_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("Should compute the same version from the loaded graph as from the stamps query")
+    void findVersionStamps_shouldMatchVersionOfLoadedGraph() {
+        // Arrange
+        UUID listingId = transactionTemplate.execute(status -> persistListingGraph());
+
+        // Act
+        ResourceVersion queried = listingRepository.findVersionStamps(listingId)
+                .map(ListingVersionStamps::toVersion)
+                .orElseThrow();
+        listingApplicationService.getListingDetail(listingId);
+        ResourceVersion cached = listingDetailCache.cachedVersion(listingId).orElseThrow();
+
+        // Assert
+        assertThat(cached).isEqualTo(queried);
+        assertThat(queried.lastModified()).isNotNull();
+    }
+
+    private UUID persistListingGraph() {
+        ListingFixtures fixtures = new ListingFixtures(entityManager);
+        User user = fixtures.user();
+        Location city = fixtures.location(null, LocationType.CITY);
+        Location district = fixtures.location(city, LocationType.DISTRICT);
+        Location ward = fixtures.location(district, LocationType.WARD);
+        Property property = fixtures.property(user, ward, fixtures.propertyType());
+        Listing listing = fixtures.listing(property, user, ListingType.SALE,
+                new BigDecimal("250000.00"), LocalDateTime.now());
+        fixtures.media(listing, user, 0, true);
+        fixtures.media(listing, user, 1, false);
+
+        entityManager.flush();
+        entityManager.clear();
+        return listing.getListingId();
+    }
+}
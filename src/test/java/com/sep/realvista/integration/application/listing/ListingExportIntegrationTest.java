@@ -0,0 +1,123 @@
+package com.sep.realvista.integration.application.listing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sep.realvista.application.listing.export.ListingExportFormat;
+import com.sep.realvista.application.listing.export.ListingExportService;
+import com.sep.realvista.application.location.search.LocationAncestryCache;
+import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.ListingStatus;
+import com.sep.realvista.domain.listing.ListingType;
+import com.sep.realvista.domain.property.Property;
+import com.sep.realvista.domain.property.PropertyType;
+import com.sep.realvista.domain.property.location.Location;
+import com.sep.realvista.domain.property.location.LocationType;
+import com.sep.realvista.domain.user.User;
+import com.sep.realvista.integration.support.ListingFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the streaming listing export.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Listing Export Integration Tests")
+class ListingExportIntegrationTest {
+
+    @Autowired
+    private ListingExportService listingExportService;
+
+    @Autowired
+    private LocationAncestryCache locationAncestryCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID listingId;
+    private String wardName;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            ListingFixtures fixtures = new ListingFixtures(entityManager);
+            User user = fixtures.user();
+            PropertyType propertyType = fixtures.propertyType();
+            Location ward = fixtures.location(
+                    fixtures.location(fixtures.location(null, LocationType.CITY), LocationType.DISTRICT),
+                    LocationType.WARD);
+            Property property = fixtures.property(user, ward, propertyType);
+            Listing listing = fixtures.listing(property, user, ListingType.SALE, new BigDecimal("4200000000.00"),
+                    LocalDateTime.now());
+            fixtures.media(listing, user, 0, true);
+            listingId = listing.getListingId();
+            wardName = ward.getName();
+        });
+        locationAncestryCache.reload();
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per published listing")
+    void export_ndjson_shouldWriteOneObjectPerListing() throws Exception {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long count = listingExportService.export(ListingStatus.PUBLISHED, ListingExportFormat.NDJSON, output);
+
+        // Assert
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(lines).hasSize((int) count);
+        JsonNode exported = lines.stream()
+                .filter(line -> line.get("listing_id").asText().equals(listingId.toString()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(exported.get("price").decimalValue()).isEqualByComparingTo("4200000000");
+        assertThat(exported.get("ward").asText()).isEqualTo(wardName);
+        assertThat(exported.get("primary_image_url").asText()).startsWith("https://cdn.realvista.test/");
+        assertThat(exported.has("min_price")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and one line per published listing")
+    void export_csv_shouldWriteHeaderAndLines() throws Exception {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long count = listingExportService.export(ListingStatus.PUBLISHED, ListingExportFormat.CSV, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize((int) count + 1);
+        assertThat(lines[0]).startsWith("listing_id,slug,name,listing_type,status,price,");
+        assertThat(lines).filteredOn(line -> line.startsWith(listingId.toString()))
+                .singleElement()
+                .satisfies(line -> assertThat(line).contains(",4200000000.00,").contains(wardName));
+    }
+}
@@ -0,0 +1,145 @@
+package com.sep.realvista.integration.application.listing;
+
+import com.sep.realvista.application.listing.dto.ListingBoundsRequest;
+import com.sep.realvista.application.listing.dto.ListingNearbyRequest;
+import com.sep.realvista.application.listing.dto.ListingPinDTO;
+import com.sep.realvista.application.listing.dto.ListingPinsResponse;
+import com.sep.realvista.application.listing.service.ListingGeoSearchService;
+import com.sep.realvista.domain.common.geo.GeoBounds;
+import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.ListingType;
+import com.sep.realvista.domain.listing.repository.ListingSearchProjectionRepository;
+import com.sep.realvista.domain.listing.search.ListingGeoPoint;
+import com.sep.realvista.domain.property.Property;
+import com.sep.realvista.domain.property.PropertyType;
+import com.sep.realvista.domain.property.location.Location;
+import com.sep.realvista.domain.property.location.LocationType;
+import com.sep.realvista.domain.user.User;
+import com.sep.realvista.integration.support.ListingFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for map viewport and radius searches.
+ * Fixtures are placed around a random point far from other test data so results are isolated.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("Listing Geo Search Integration Tests")
+class ListingGeoSearchIntegrationTest {
+
+    @Autowired
+    private ListingGeoSearchService listingGeoSearchService;
+
+    @Autowired
+    private ListingSearchProjectionRepository listingSearchProjectionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private double centerLatitude;
+    private double centerLongitude;
+    private UUID centerListingId;
+    private UUID nearListingId;
+    private UUID farListingId;
+
+    @BeforeEach
+    void setUp() {
+        // Somewhere in the southern ocean, away from the fixed fixture coordinates
+        centerLatitude = -40 - Math.random() * 10;
+        centerLongitude = -120 - Math.random() * 10;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ListingFixtures fixtures = new ListingFixtures(entityManager);
+            User user = fixtures.user();
+            PropertyType propertyType = fixtures.propertyType();
+            Location ward = fixtures.location(
+                    fixtures.location(fixtures.location(null, LocationType.CITY), LocationType.DISTRICT),
+                    LocationType.WARD);
+
+            centerListingId = listingAt(fixtures, user, ward, propertyType, 0, 0, 3);
+            // ~1.1 km north
+            nearListingId = listingAt(fixtures, user, ward, propertyType, 0.01, 0, 2);
+            // ~11 km north, published last
+            farListingId = listingAt(fixtures, user, ward, propertyType, 0.1, 0, 1);
+            entityManager.flush();
+        });
+    }
+
+    @Test
+    @DisplayName("Should return pins inside the viewport only")
+    void findWithinBounds_shouldReturnPinsInsideViewport() {
+        // Act
+        ListingPinsResponse response = listingGeoSearchService.findWithinBounds(ListingBoundsRequest.builder()
+                .south(centerLatitude - 0.005)
+                .north(centerLatitude + 0.02)
+                .west(centerLongitude - 0.01)
+                .east(centerLongitude + 0.01)
+                .build());
+
+        // Assert
+        assertThat(response.isTruncated()).isFalse();
+        assertThat(response.getPins()).extracting(ListingPinDTO::getListingId)
+                .containsExactlyInAnyOrder(centerListingId, nearListingId);
+    }
+
+    @Test
+    @DisplayName("Should return pins within the radius ordered by distance")
+    void findNearby_shouldReturnNearestFirst() {
+        // Act
+        ListingPinsResponse response = listingGeoSearchService.findNearby(ListingNearbyRequest.builder()
+                .latitude(centerLatitude)
+                .longitude(centerLongitude)
+                .radiusMeters(2000)
+                .build());
+
+        // Assert
+        assertThat(response.getPins()).extracting(ListingPinDTO::getListingId)
+                .containsExactly(centerListingId, nearListingId)
+                .doesNotContain(farListingId);
+        assertThat(response.getPins().get(1).getDistanceMeters()).isBetween(1000.0, 1200.0);
+    }
+
+    @Test
+    @DisplayName("Should read the nearest candidates rather than the newest")
+    void findGeoPointsNearest_shouldOrderByDistance() {
+        // Act
+        List<ListingGeoPoint> points = listingSearchProjectionRepository.findGeoPointsNearest(
+                centerLatitude, centerLongitude, GeoBounds.around(centerLatitude, centerLongitude, 20_000),
+                null, 2);
+
+        // Assert
+        assertThat(points).extracting(ListingGeoPoint::listingId)
+                .containsExactly(centerListingId, nearListingId);
+    }
+
+    private UUID listingAt(ListingFixtures fixtures, User user, Location ward, PropertyType propertyType,
+                           double latitudeOffset, double longitudeOffset, int hoursAgo) {
+        Property property = fixtures.property(user, ward, propertyType,
+                coordinate(centerLatitude + latitudeOffset), coordinate(centerLongitude + longitudeOffset));
+        Listing listing = fixtures.listing(property, user, ListingType.SALE, new BigDecimal("100000"),
+                LocalDateTime.now().minusHours(hoursAgo));
+        return listing.getListingId();
+    }
+
+    private static String coordinate(double degrees) {
+        return BigDecimal.valueOf(degrees).setScale(6, RoundingMode.HALF_UP).toPlainString();
+    }
+}
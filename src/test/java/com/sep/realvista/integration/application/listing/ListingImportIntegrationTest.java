@@ -0,0 +1,232 @@
+package com.sep.realvista.integration.application.listing;
+
+import com.sep.realvista.application.listing.dto.ListingImportResponse;
+import com.sep.realvista.application.listing.importing.ListingFeedFingerprint;
+import com.sep.realvista.application.listing.importing.ListingImportService;
+import com.sep.realvista.application.location.search.LocationAncestryCache;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataCache;
+import com.sep.realvista.domain.common.exception.BusinessConflictException;
+import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.ListingStatus;
+import com.sep.realvista.domain.listing.importing.ListingImportFormat;
+import com.sep.realvista.domain.listing.importing.ListingImportJob;
+import com.sep.realvista.domain.listing.importing.ListingImportStatus;
+import com.sep.realvista.domain.property.PropertyType;
+import com.sep.realvista.domain.property.location.Location;
+import com.sep.realvista.domain.property.location.LocationType;
+import com.sep.realvista.domain.user.User;
+import com.sep.realvista.infrastructure.persistence.listing.ListingImportJobJpaRepository;
+import com.sep.realvista.integration.support.ListingFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the listing feed import pipeline on H2.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Listing Import Integration Tests")
+class ListingImportIntegrationTest {
+
+    @Autowired
+    private ListingImportService listingImportService;
+
+    @Autowired
+    private ListingImportJobJpaRepository listingImportJobJpaRepository;
+
+    @Autowired
+    private LocationAncestryCache locationAncestryCache;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID ownerId;
+    private String wardCode;
+    private String typeCode;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            ListingFixtures fixtures = new ListingFixtures(entityManager);
+            User owner = fixtures.user();
+            PropertyType propertyType = fixtures.propertyType();
+            Location ward = fixtures.location(
+                    fixtures.location(fixtures.location(null, LocationType.CITY), LocationType.DISTRICT),
+                    LocationType.WARD);
+            ownerId = owner.getUserId();
+            wardCode = ward.getCode();
+            typeCode = propertyType.getCode();
+        });
+        locationAncestryCache.reload();
+        referenceDataCache.reload();
+    }
+
+    @Test
+    @DisplayName("Should import valid JSON lines rows and report the invalid ones")
+    void start_jsonLines_shouldImportValidRowsAndReportErrors() {
+        // Arrange
+        String feed = row("p-1", wardCode, "SALE", "true", "[\"https://cdn.realvista.test/a.jpg\","
+                + "\"https://cdn.realvista.test/b.jpg\"]") + "\n"
+                + "\n"
+                + row("p-2", "NO_SUCH_WARD", "SALE", "false", "[]") + "\n"
+                + "{not json}\n"
+                + row("p-4", wardCode, "RENT", "false", "[]") + "\n";
+
+        // Act
+        ListingImportResponse response = listingImportService.start(
+                ownerId, ListingImportFormat.JSON_LINES, "feed.jsonl", source(feed));
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(ListingImportStatus.COMPLETED);
+        assertThat(response.getRunRowsRead()).isEqualTo(4);
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getFailedCount()).isEqualTo(2);
+        assertThat(response.getCheckpointRow()).isEqualTo(4);
+        assertThat(response.getErrors())
+                .extracting(error -> error.getRowNumber() + ":" + error.getExternalId())
+                .containsExactly("2:p-2", "3:null");
+        assertThat(response.getErrors().get(0).getErrors())
+                .containsExactly("Unknown location code 'NO_SUCH_WARD'");
+
+        List<Listing> listings = listingsOfOwner();
+        assertThat(listings).extracting(Listing::getName).containsExactlyInAnyOrder("Listing p-1", "Listing p-4");
+        assertThat(listings).filteredOn(listing -> listing.getName().equals("Listing p-1"))
+                .singleElement()
+                .satisfies(listing -> {
+                    assertThat(listing.getStatus()).isEqualTo(ListingStatus.PUBLISHED);
+                    assertThat(listing.getSlug()).startsWith("listing-p-1-");
+                });
+        assertThat(countOf("SELECT COUNT(lm) FROM ListingMedia lm JOIN Listing l ON l.listingId = lm.listingId "
+                + "WHERE l.userId = :ownerId AND lm.isPrimary = true")).isEqualTo(1);
+        assertThat(countOf("SELECT COUNT(lm) FROM ListingMedia lm JOIN Listing l ON l.listingId = lm.listingId "
+                + "WHERE l.userId = :ownerId")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should import CSV rows with quoted fields")
+    void start_csv_shouldParseQuotedFields() {
+        // Arrange
+        String feed = "externalId,locationCode,propertyTypeCode,streetAddress,latitude,longitude,listingType,"
+                + "name,price,mediaUrls\r\n"
+                + "c-1," + wardCode + "," + typeCode + ",\"12 Le Loi, Ben Nghe\",10.776389,106.701944,SALE,"
+                + "\"The \"\"Saigon\"\" view\",5000000000,"
+                + "https://cdn.realvista.test/c.jpg|https://cdn.realvista.test/d.jpg\r\n"
+                + "c-2," + wardCode + "," + typeCode + ",1 Nguyen Hue,10.77,106.70,SALE,Too few columns\r\n";
+
+        // Act
+        ListingImportResponse response = listingImportService.start(
+                ownerId, ListingImportFormat.CSV, "feed.csv", source(feed));
+
+        // Assert
+        assertThat(response.getImportedCount()).isEqualTo(1);
+        assertThat(response.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getErrors()).containsExactly("Expected 10 columns but found 8"));
+        assertThat(listingsOfOwner()).extracting(Listing::getName).containsExactly("The \"Saigon\" view");
+        assertThat(countOf("SELECT COUNT(p) FROM Property p WHERE p.ownerId = :ownerId "
+                + "AND p.streetAddress = '12 Le Loi, Ben Nghe'")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip rows up to the checkpoint when resuming an import")
+    void resume_shouldSkipRowsUpToCheckpoint() {
+        // Arrange
+        String feed = row("r-1", wardCode, "SALE", "false", "[]") + "\n"
+                + row("r-2", wardCode, "SALE", "false", "[]") + "\n";
+        UUID jobId = interruptedJob(feed);
+
+        // Act
+        ListingImportResponse response = listingImportService.resume(jobId, source(feed));
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(ListingImportStatus.COMPLETED);
+        assertThat(response.getRunRowsSkipped()).isEqualTo(1);
+        assertThat(response.getRunImportedCount()).isEqualTo(1);
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getCheckpointRow()).isEqualTo(2);
+        assertThat(response.getLastError()).isNull();
+        assertThat(listingsOfOwner()).extracting(Listing::getName).containsExactly("Listing r-2");
+    }
+
+    @Test
+    @DisplayName("Should reject resuming an import with another feed")
+    void resume_withOtherFeed_shouldBeRejected() {
+        // Arrange
+        String feed = row("f-1", wardCode, "SALE", "false", "[]") + "\n"
+                + row("f-2", wardCode, "SALE", "false", "[]") + "\n";
+        UUID jobId = interruptedJob(feed);
+        String otherFeed = row("o-1", wardCode, "SALE", "false", "[]") + "\n"
+                + row("o-2", wardCode, "SALE", "false", "[]") + "\n";
+
+        // Act & Assert
+        assertThatThrownBy(() -> listingImportService.resume(jobId, source(otherFeed)))
+                .isInstanceOf(BusinessConflictException.class);
+        assertThat(listingsOfOwner()).isEmpty();
+        assertThat(listingImportJobJpaRepository.findById(jobId)).get()
+                .extracting(ListingImportJob::getStatus)
+                .isEqualTo(ListingImportStatus.FAILED);
+    }
+
+    /**
+     * An import of {@code feed} that failed after committing its first row.
+     */
+    private UUID interruptedJob(String feed) {
+        ListingFeedFingerprint fingerprint = ListingFeedFingerprint.of(source(feed));
+        return transactionTemplate.execute(status -> {
+            ListingImportJob job = ListingImportJob.builder()
+                    .ownerId(ownerId)
+                    .format(ListingImportFormat.JSON_LINES)
+                    .feedSha256(fingerprint.sha256())
+                    .feedSizeBytes(fingerprint.sizeBytes())
+                    .build();
+            job.advance(1, 1, 0);
+            job.fail("Connection reset");
+            return listingImportJobJpaRepository.save(job).getListingImportJobId();
+        });
+    }
+
+    private String row(String externalId, String locationCode, String listingType, String publish, String media) {
+        return "{\"externalId\":\"" + externalId + "\",\"locationCode\":\"" + locationCode + "\","
+                + "\"propertyTypeCode\":\"" + typeCode + "\",\"streetAddress\":\"1 Import Street\","
+                + "\"latitude\":10.776389,\"longitude\":106.701944,\"usableSizeM2\":72.5,"
+                + "\"listingType\":\"" + listingType + "\",\"name\":\"Listing " + externalId + "\","
+                + "\"price\":3500000000,\"publish\":" + publish + ",\"mediaUrls\":" + media + "}";
+    }
+
+    private List<Listing> listingsOfOwner() {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT l FROM Listing l WHERE l.userId = :ownerId", Listing.class)
+                .setParameter("ownerId", ownerId)
+                .getResultList());
+    }
+
+    private long countOf(String jpql) {
+        return transactionTemplate.execute(status -> entityManager.createQuery(jpql, Long.class)
+                .setParameter("ownerId", ownerId)
+                .getSingleResult());
+    }
+
+    private static InputStreamSource source(String feed) {
+        return new ByteArrayResource(feed.getBytes(StandardCharsets.UTF_8));
+    }
+}
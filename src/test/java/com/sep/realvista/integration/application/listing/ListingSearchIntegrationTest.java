@@ -0,0 +1,199 @@
+package com.sep.realvista.integration.application.listing;
+
+import com.sep.realvista.application.common.dto.CursorPageResponse;
+import com.sep.realvista.application.listing.dto.ListingCardResponse;
+import com.sep.realvista.application.listing.dto.ListingSearchRequest;
+import com.sep.realvista.application.listing.service.ListingApplicationService;
+import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.ListingStatus;
+import com.sep.realvista.domain.listing.ListingType;
+import com.sep.realvista.domain.listing.repository.ListingSortField;
+import com.sep.realvista.domain.property.Property;
+import com.sep.realvista.domain.property.PropertyType;
+import com.sep.realvista.domain.property.location.Location;
+import com.sep.realvista.domain.property.location.LocationType;
+import com.sep.realvista.domain.user.User;
+import com.sep.realvista.domain.user.role.RoleCode;
+import com.sep.realvista.infrastructure.security.AuthenticatedUser;
+import com.sep.realvista.integration.support.ListingFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for listing search filters and keyset pagination.
+ * Each test scopes its queries to a freshly created city so data from other tests is ignored.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("Listing Search Integration Tests")
+class ListingSearchIntegrationTest {
+
+    @Autowired
+    private ListingApplicationService listingApplicationService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID cityId;
+    private UUID districtId;
+    private UUID cheapestListingId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            ListingFixtures fixtures = new ListingFixtures(entityManager);
+            User user = fixtures.user();
+            PropertyType propertyType = fixtures.propertyType();
+            Location city = fixtures.location(null, LocationType.CITY);
+            Location district = fixtures.location(city, LocationType.DISTRICT);
+            Location otherDistrict = fixtures.location(city, LocationType.DISTRICT);
+            Location ward = fixtures.location(district, LocationType.WARD);
+            Location otherWard = fixtures.location(otherDistrict, LocationType.WARD);
+            userId = user.getUserId();
+            cityId = city.getLocationId();
+            districtId = district.getLocationId();
+
+            LocalDateTime publishedAt = LocalDateTime.now().minusDays(1);
+            for (int i = 1; i <= 5; i++) {
+                Property property = fixtures.property(user, i % 2 == 0 ? otherWard : ward, propertyType);
+                fixtures.numberAttribute(property, "bedrooms", i);
+                Listing listing = fixtures.listing(property, user, ListingType.SALE,
+                        BigDecimal.valueOf(i * 100_000L), publishedAt);
+                fixtures.media(listing, user, 0, true);
+                if (i == 1) {
+                    cheapestListingId = listing.getListingId();
+                }
+            }
+            entityManager.flush();
+        });
+    }
+
+    @Test
+    @DisplayName("Should walk all pages by cursor without gaps or duplicates")
+    void searchListings_byPriceAscending_shouldPageWithCursor() {
+        // Arrange
+        List<BigDecimal> prices = new ArrayList<>();
+        String cursor = null;
+
+        // Act
+        do {
+            CursorPageResponse<ListingCardResponse> page = listingApplicationService.searchListings(
+                    ListingSearchRequest.builder()
+                            .cityId(cityId)
+                            .sort(ListingSortField.PRICE)
+                            .direction(Sort.Direction.ASC)
+                            .size(2)
+                            .cursor(cursor)
+                            .build(), null);
+            page.getContent().forEach(card -> prices.add(card.getPrice()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertThat(prices).extracting(BigDecimal::longValue)
+                .containsExactly(100_000L, 200_000L, 300_000L, 400_000L, 500_000L);
+    }
+
+    @Test
+    @DisplayName("Should filter by district, price range and bedrooms")
+    void searchListings_withFilters_shouldReturnMatchingCards() {
+        // Act
+        CursorPageResponse<ListingCardResponse> page = listingApplicationService.searchListings(
+                ListingSearchRequest.builder()
+                        .districtId(districtId)
+                        .minPrice(new BigDecimal("200000"))
+                        .minBedrooms(2)
+                        .build(), null);
+
+        // Assert
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getContent()).extracting(ListingCardResponse::getBedrooms)
+                .containsExactlyInAnyOrder(3, 5);
+        assertThat(page.getContent()).allSatisfy(card -> {
+            assertThat(card.getPrimaryMedia()).isNotNull();
+            assertThat(card.getLocation().getDistrictName()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep the search projection in sync when listings change")
+    void searchListings_afterListingChanges_shouldReflectCommittedWrites() {
+        // Act: reprice one listing and unpublish the cheapest
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Listing> listings = entityManager
+                    .createQuery("SELECT l FROM Listing l WHERE l.property.location.parent.parentId = :cityId "
+                            + "OR l.property.location.parentId = :cityId", Listing.class)
+                    .setParameter("cityId", cityId)
+                    .getResultList();
+            listings.forEach(listing -> {
+                if (listing.getListingId().equals(cheapestListingId)) {
+                    listing.unpublish();
+                } else if (listing.getPrice().longValue() == 500_000L) {
+                    listing.updatePricing(new BigDecimal("50000.00"), null, null, null);
+                }
+            });
+        });
+
+        CursorPageResponse<ListingCardResponse> page = listingApplicationService.searchListings(
+                ListingSearchRequest.builder()
+                        .cityId(cityId)
+                        .sort(ListingSortField.PRICE)
+                        .direction(Sort.Direction.ASC)
+                        .build(), null);
+
+        // Assert
+        assertThat(page.getContent()).extracting(ListingCardResponse::getListingId)
+                .doesNotContain(cheapestListingId);
+        assertThat(page.getContent()).extracting(card -> card.getPrice().longValue())
+                .containsExactly(50_000L, 200_000L, 300_000L, 400_000L);
+    }
+
+    @Test
+    @DisplayName("Should show unpublished listings only to their creator and to admins")
+    void searchListings_byDraftStatus_shouldRestrictToCreatorAndAdmins() {
+        // Arrange
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.find(Listing.class, cheapestListingId).unpublish());
+        ListingSearchRequest drafts = ListingSearchRequest.builder()
+                .cityId(cityId)
+                .status(ListingStatus.DRAFT)
+                .build();
+
+        // Act & Assert
+        assertThatThrownBy(() -> listingApplicationService.searchListings(drafts, null))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(listingApplicationService.searchListings(drafts, caller(userId, RoleCode.OWNER)).getContent())
+                .extracting(ListingCardResponse::getListingId)
+                .containsExactly(cheapestListingId);
+        assertThat(listingApplicationService.searchListings(drafts, caller(UUID.randomUUID(), RoleCode.OWNER))
+                .getContent()).isEmpty();
+        assertThat(listingApplicationService.searchListings(drafts, caller(UUID.randomUUID(), RoleCode.ADMIN))
+                .getContent()).extracting(ListingCardResponse::getListingId)
+                .containsExactly(cheapestListingId);
+    }
+
+    private static AuthenticatedUser caller(UUID id, RoleCode role) {
+        return AuthenticatedUser.fromClaims(id, id + "@realvista.test", List.of(role.name()));
+    }
+}
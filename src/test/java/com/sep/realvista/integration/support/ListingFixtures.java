@@ -0,0 +1,163 @@
+package com.sep.realvista.integration.support;
+
+import com.sep.realvista.domain.common.value.Email;
+import com.sep.realvista.domain.listing.Listing;
+import com.sep.realvista.domain.listing.ListingMedia;
+import com.sep.realvista.domain.listing.ListingStatus;
+import com.sep.realvista.domain.listing.ListingType;
+import com.sep.realvista.domain.property.MediaType;
+import com.sep.realvista.domain.property.Property;
+import com.sep.realvista.domain.property.PropertyCategory;
+import com.sep.realvista.domain.property.PropertyMedia;
+import com.sep.realvista.domain.property.PropertyType;
+import com.sep.realvista.domain.property.attribute.AttributeDataType;
+import com.sep.realvista.domain.property.attribute.PropertyAttribute;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeValue;
+import com.sep.realvista.domain.property.location.Location;
+import com.sep.realvista.domain.property.location.LocationType;
+import com.sep.realvista.domain.user.User;
+import jakarta.persistence.EntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Persists listing graphs for integration tests.
+ * <p>
+ * Every fixture gets unique codes, slugs and emails so tests sharing a context do not collide.
+ * Must be used inside a transaction.
+ */
+public class ListingFixtures {
+
+    private final EntityManager entityManager;
+
+    public ListingFixtures(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public User user() {
+        User user = User.builder()
+                .businessName("Fixture Agency")
+                .passwordHash("{noop}not-used")
+                .email(Email.of("fixture-" + suffix() + "@realvista.test"))
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    public Location location(Location parent, LocationType type) {
+        String suffix = suffix();
+        Location location = Location.builder()
+                .parentId(parent != null ? parent.getLocationId() : null)
+                .type(type)
+                .name(type.name() + " " + suffix)
+                .code(type.name() + "_" + suffix)
+                .northLat(new BigDecimal("10.900000"))
+                .southLat(new BigDecimal("10.700000"))
+                .eastLng(new BigDecimal("106.800000"))
+                .westLng(new BigDecimal("106.600000"))
+                .build();
+        entityManager.persist(location);
+        return location;
+    }
+
+    public PropertyType propertyType() {
+        PropertyCategory category = PropertyCategory.builder()
+                .name("Residential")
+                .code("RES_" + suffix())
+                .build();
+        entityManager.persist(category);
+
+        PropertyType propertyType = PropertyType.builder()
+                .propertyCategoryId(category.getPropertyCategoryId())
+                .name("Apartment")
+                .code("APT_" + suffix())
+                .build();
+        entityManager.persist(propertyType);
+        return propertyType;
+    }
+
+    public Property property(User owner, Location location, PropertyType propertyType) {
+        return property(owner, location, propertyType, "10.776389", "106.701944");
+    }
+
+    public Property property(User owner, Location location, PropertyType propertyType,
+                             String latitude, String longitude) {
+        Property property = Property.builder()
+                .ownerId(owner.getUserId())
+                .locationId(location.getLocationId())
+                .propertyTypeId(propertyType.getPropertyTypeId())
+                .streetAddress("1 Fixture Street")
+                .latitude(new BigDecimal(latitude))
+                .longitude(new BigDecimal(longitude))
+                .usableSizeM2(new BigDecimal("85.00"))
+                .build();
+        entityManager.persist(property);
+        return property;
+    }
+
+    public Listing listing(Property property, User user, ListingType type, BigDecimal price,
+                           LocalDateTime publishedAt) {
+        Listing listing = Listing.builder()
+                .propertyId(property.getPropertyId())
+                .userId(user.getUserId())
+                .listingType(type)
+                .status(ListingStatus.PUBLISHED)
+                .slug("fixture-listing-" + suffix())
+                .name("Fixture Listing")
+                .price(price)
+                .publishedAt(publishedAt)
+                .build();
+        entityManager.persist(listing);
+        return listing;
+    }
+
+    public ListingMedia media(Listing listing, User uploader, int displayOrder, boolean primary) {
+        PropertyMedia propertyMedia = PropertyMedia.builder()
+                .propertyId(listing.getPropertyId())
+                .uploadBy(uploader.getUserId())
+                .mediaType(MediaType.IMAGE)
+                .mediaUrl("https://cdn.realvista.test/" + suffix() + ".jpg")
+                .build();
+        entityManager.persist(propertyMedia);
+
+        ListingMedia listingMedia = ListingMedia.builder()
+                .listingId(listing.getListingId())
+                .propertyMediaId(propertyMedia.getPropertyMediaId())
+                .displayOrder(displayOrder)
+                .isPrimary(primary)
+                .build();
+        entityManager.persist(listingMedia);
+        return listingMedia;
+    }
+
+    public PropertyAttributeValue numberAttribute(Property property, String code, int value) {
+        PropertyAttribute attribute = entityManager
+                .createQuery("SELECT pa FROM PropertyAttribute pa WHERE pa.code = :code", PropertyAttribute.class)
+                .setParameter("code", code)
+                .getResultStream()
+                .findFirst()
+                .orElseGet(() -> {
+                    PropertyAttribute created = PropertyAttribute.builder()
+                            .name(code)
+                            .code(code)
+                            .dataType(AttributeDataType.NUMBER)
+                            .build();
+                    entityManager.persist(created);
+                    return created;
+                });
+
+        PropertyAttributeValue attributeValue = PropertyAttributeValue.builder()
+                .propertyId(property.getPropertyId())
+                .propertyAttributeId(attribute.getPropertyAttributeId())
+                .valueNumber(BigDecimal.valueOf(value))
+                .build();
+        entityManager.persist(attributeValue);
+        return attributeValue;
+    }
+
+    private static String suffix() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+}
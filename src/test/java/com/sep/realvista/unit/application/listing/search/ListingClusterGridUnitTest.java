@@ -0,0 +1,91 @@
+package com.sep.realvista.unit.application.listing.search;
+
+import com.sep.realvista.application.listing.search.ListingClusterGrid;
+import com.sep.realvista.domain.common.geo.GeoBounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for the multi-resolution listing cluster grid.
+ */
+@DisplayName("Listing Cluster Grid Unit Tests")
+class ListingClusterGridUnitTest {
+
+    private static final GeoBounds SAIGON = new GeoBounds(10.70, 106.60, 10.85, 106.78);
+
+    private ListingClusterGrid grid;
+    private UUID cheapest;
+    private UUID priciest;
+
+    @BeforeEach
+    void setUp() {
+        grid = new ListingClusterGrid();
+        cheapest = UUID.randomUUID();
+        priciest = UUID.randomUUID();
+        grid.upsert(cheapest, 10.7760, 106.7010, new BigDecimal("100000"));
+        grid.upsert(UUID.randomUUID(), 10.7780, 106.7030, new BigDecimal("250000"));
+        grid.upsert(priciest, 10.8000, 106.6500, new BigDecimal("900000"));
+    }
+
+    @Test
+    @DisplayName("Should aggregate count, centroid and price range per coarse cell")
+    void clusters_atCoarsePrecision_shouldAggregateAllListings() {
+        // Act
+        List<ListingClusterGrid.Cluster> clusters = grid.clusters(SAIGON, 3);
+
+        // Assert
+        assertThat(clusters).hasSize(1);
+        ListingClusterGrid.Cluster cluster = clusters.get(0);
+        assertThat(cluster.count()).isEqualTo(3);
+        assertThat(cluster.latitude()).isCloseTo((10.7760 + 10.7780 + 10.8000) / 3, within(1e-9));
+        assertThat(cluster.minPrice()).isEqualByComparingTo("100000");
+        assertThat(cluster.maxPrice()).isEqualByComparingTo("900000");
+    }
+
+    @Test
+    @DisplayName("Should split listings into finer cells at higher precision")
+    void clusters_atFinePrecision_shouldSeparateDistantListings() {
+        // Act
+        List<ListingClusterGrid.Cluster> clusters = grid.clusters(SAIGON, 6);
+
+        // Assert
+        assertThat(clusters).extracting(ListingClusterGrid.Cluster::count).containsExactlyInAnyOrder(2, 1);
+    }
+
+    @Test
+    @DisplayName("Should recompute price bounds when the extreme listings are removed")
+    void remove_extremeListings_shouldRecomputeBounds() {
+        // Act
+        grid.remove(cheapest);
+        grid.remove(priciest);
+
+        // Assert
+        List<ListingClusterGrid.Cluster> clusters = grid.clusters(SAIGON, 1);
+        assertThat(clusters).hasSize(1);
+        assertThat(clusters.get(0).count()).isEqualTo(1);
+        assertThat(clusters.get(0).minPrice()).isEqualByComparingTo("250000");
+        assertThat(clusters.get(0).maxPrice()).isEqualByComparingTo("250000");
+    }
+
+    @Test
+    @DisplayName("Should move a listing when it is upserted with new coordinates and price")
+    void upsert_existingListing_shouldReplacePreviousPosition() {
+        // Act
+        grid.upsert(priciest, 10.7770, 106.7020, new BigDecimal("50000"));
+
+        // Assert
+        assertThat(grid.size()).isEqualTo(3);
+        List<ListingClusterGrid.Cluster> clusters = grid.clusters(SAIGON, 6);
+        assertThat(clusters).hasSize(1);
+        assertThat(clusters.get(0).minPrice()).isEqualByComparingTo("50000");
+        assertThat(clusters.get(0).maxPrice()).isEqualByComparingTo("250000");
+    }
+}
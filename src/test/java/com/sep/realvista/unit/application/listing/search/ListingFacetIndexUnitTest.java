@@ -0,0 +1,172 @@
+package com.sep.realvista.unit.application.listing.search;
+
+import com.sep.realvista.application.listing.search.FacetCount;
+import com.sep.realvista.application.listing.search.FacetField;
+import com.sep.realvista.application.listing.search.ListingFacetDocument;
+import com.sep.realvista.application.listing.search.ListingFacetIndex;
+import com.sep.realvista.application.listing.search.ListingFacetQuery;
+import com.sep.realvista.application.listing.search.NumericRange;
+import com.sep.realvista.domain.listing.ListingType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Unit tests for the in-memory listing facet index.
+ */
+@DisplayName("Listing Facet Index Unit Tests")
+class ListingFacetIndexUnitTest {
+
+    private static final UUID CITY = UUID.randomUUID();
+    private static final UUID POOL = UUID.randomUUID();
+
+    private ListingFacetIndex index;
+    private ListingFacetDocument cheapApartment;
+    private ListingFacetDocument poolVilla;
+    private ListingFacetDocument rentalApartment;
+
+    @BeforeEach
+    void setUp() {
+        cheapApartment = document(ListingType.SALE, "APARTMENT", 2, Set.of(), "150000", "55.5", 2);
+        poolVilla = document(ListingType.SALE, "VILLA", 5, Set.of(POOL), "900000", "320", 4);
+        rentalApartment = document(ListingType.RENT, "APARTMENT", 2, Set.of(POOL), "1200", null, 1);
+        index = new ListingFacetIndex();
+        index.apply(List.of(cheapApartment, poolVilla, rentalApartment), Set.of());
+    }
+
+    @Test
+    @DisplayName("Should OR values within a field and AND across fields")
+    void match_withSelections_shouldIntersectFields() {
+        // Arrange
+        ListingFacetQuery query = ListingFacetQuery.builder()
+                .selections(Map.of(
+                        FacetField.PROPERTY_TYPE, Set.of("APARTMENT", "VILLA"),
+                        FacetField.AMENITY, Set.of(POOL.toString())))
+                .build();
+
+        // Act
+        List<UUID> ids = index.listingIds(index.match(query));
+
+        // Assert
+        assertThat(ids).containsExactlyInAnyOrder(poolVilla.listingId(), rentalApartment.listingId());
+    }
+
+    @Test
+    @DisplayName("Should apply inclusive price and area ranges")
+    void match_withRanges_shouldUseInclusiveBounds() {
+        // Arrange
+        ListingFacetQuery query = ListingFacetQuery.builder()
+                .minPrice(new BigDecimal("150000"))
+                .maxPrice(new BigDecimal("900000"))
+                .minArea(new BigDecimal("55.50"))
+                .build();
+
+        // Act
+        List<UUID> ids = index.listingIds(index.match(query));
+
+        // Assert
+        assertThat(ids).containsExactlyInAnyOrder(cheapApartment.listingId(), poolVilla.listingId());
+    }
+
+    @Test
+    @DisplayName("Should count facet values among matches")
+    void counts_shouldReturnCardinalitiesPerValue() {
+        // Arrange
+        ListingFacetQuery query = ListingFacetQuery.builder()
+                .selections(Map.of(FacetField.LISTING_TYPE, Set.of("SALE")))
+                .build();
+
+        // Act
+        List<FacetCount> counts = index.counts(index.match(query), FacetField.BEDROOMS);
+
+        // Assert
+        assertThat(counts).extracting(FacetCount::value, FacetCount::count)
+                .containsExactlyInAnyOrder(tuple("2", 1), tuple("5", 1));
+    }
+
+    @Test
+    @DisplayName("Should count numeric attribute buckets and filter by attribute range")
+    void bucketCounts_shouldCountOverlappingBuckets() {
+        // Arrange
+        List<NumericRange> buckets = List.of(
+                new NumericRange(null, new BigDecimal("2")),
+                new NumericRange(new BigDecimal("2"), null),
+                new NumericRange(new BigDecimal("4"), null));
+        ListingFacetQuery query = ListingFacetQuery.builder()
+                .attributeRanges(Map.of("floors", new NumericRange(new BigDecimal("2"), null)))
+                .build();
+
+        // Act
+        int[] counts = index.bucketCounts(index.match(ListingFacetQuery.builder().build()), "floors", buckets);
+        List<UUID> ids = index.listingIds(index.match(query));
+
+        // Assert
+        assertThat(counts).containsExactly(2, 2, 1);
+        assertThat(ids).containsExactlyInAnyOrder(cheapApartment.listingId(), poolVilla.listingId());
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and removals incrementally")
+    void apply_withUpdateAndRemoval_shouldRepostDocuments() {
+        // Arrange
+        ListingFacetDocument repriced = new ListingFacetDocument(cheapApartment.listingId(), ListingType.SALE,
+                "APARTMENT", "Apartment", CITY, "City", null, null, null, null, 3, Set.of(POOL), Map.of(), Set.of(),
+                new BigDecimal("140000"), null);
+
+        // Act
+        index.apply(List.of(repriced), Set.of(poolVilla.listingId()));
+
+        // Assert
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.contains(poolVilla.listingId())).isFalse();
+        ListingFacetQuery query = ListingFacetQuery.builder()
+                .selections(Map.of(FacetField.AMENITY, Set.of(POOL.toString())))
+                .maxPrice(new BigDecimal("145000"))
+                .build();
+        assertThat(index.listingIds(index.match(query)))
+                .containsExactlyInAnyOrder(rentalApartment.listingId(), cheapApartment.listingId());
+        assertThat(index.counts(index.match(ListingFacetQuery.builder().build()), FacetField.PROPERTY_TYPE))
+                .containsExactly(new FacetCount("APARTMENT", "Apartment", 2));
+    }
+
+    @Test
+    @DisplayName("Should keep range columns ordered through inserts, repricing and removals of equal values")
+    void apply_withIncrementalChanges_shouldKeepRangesConsistent() {
+        // Arrange
+        ListingFacetDocument samePrice = document(ListingType.SALE, "APARTMENT", 1, Set.of(), "150000", "40", 1);
+        ListingFacetDocument pricier = document(ListingType.SALE, "APARTMENT", 1, Set.of(), "160000", "60", 1);
+        index.apply(List.of(samePrice, pricier), Set.of());
+
+        // Act
+        ListingFacetDocument repriced = new ListingFacetDocument(samePrice.listingId(), ListingType.SALE,
+                "APARTMENT", "APARTMENT", CITY, "City", null, null, null, null, 1, Set.of(), Map.of(), Set.of(),
+                new BigDecimal("155000.004"), new BigDecimal("40"));
+        index.apply(List.of(repriced), Set.of(cheapApartment.listingId()));
+
+        // Assert
+        ListingFacetQuery query = ListingFacetQuery.builder()
+                .minPrice(new BigDecimal("150000"))
+                .maxPrice(new BigDecimal("155000"))
+                .build();
+        assertThat(index.listingIds(index.match(query))).containsExactly(samePrice.listingId());
+        ListingFacetQuery areaQuery = ListingFacetQuery.builder().minArea(new BigDecimal("50")).build();
+        assertThat(index.listingIds(index.match(areaQuery)))
+                .containsExactlyInAnyOrder(poolVilla.listingId(), pricier.listingId());
+    }
+
+    private static ListingFacetDocument document(ListingType type, String propertyType, int bedrooms,
+            Set<UUID> amenities, String price, String area, int floors) {
+        return new ListingFacetDocument(UUID.randomUUID(), type, propertyType, propertyType, CITY, "City",
+                null, null, null, null, bedrooms, amenities, Map.of("floors", BigDecimal.valueOf(floors)), Set.of(),
+                new BigDecimal(price), area == null ? null : new BigDecimal(area));
+    }
+}
@@ -1,8 +1,12 @@
 package com.sep.realvista.unit.application.listing.service;
 
+import com.sep.realvista.application.listing.dto.ListingCardResponse;
+import com.sep.realvista.application.listing.dto.ListingCardsRequest;
 import com.sep.realvista.application.listing.dto.ListingDetailResponse;
 import com.sep.realvista.application.listing.mapper.ListingMapper;
 import com.sep.realvista.application.listing.service.ListingApplicationService;
+import com.sep.realvista.application.listing.service.ListingDetailCache;
+import com.sep.realvista.application.listing.service.PropertyAttributeVectorService;
 import com.sep.realvista.domain.common.exception.ResourceNotFoundException;
 import com.sep.realvista.domain.listing.Listing;
 import com.sep.realvista.domain.listing.ListingMedia;
@@ -11,8 +15,9 @@ import com.sep.realvista.domain.listing.ListingType;
 import com.sep.realvista.domain.listing.repository.ListingMediaRepository;
 import com.sep.realvista.domain.listing.repository.ListingRepository;
 import com.sep.realvista.domain.property.Property;
-import com.sep.realvista.domain.property.PropertyRepository;
+import com.sep.realvista.domain.property.attribute.AttributeVector;
 import com.sep.realvista.domain.property.attribute.PropertyAttributeValue;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeVector;
 import com.sep.realvista.infrastructure.persistence.property.attribute.PropertyAttributeValueJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,10 +32,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -49,14 +57,17 @@ class ListingApplicationServiceUnitTest {
     private ListingMediaRepository listingMediaRepository;
 
     @Mock
-    private PropertyRepository propertyRepository;
+    private PropertyAttributeValueJpaRepository propertyAttributeValueJpaRepository;
 
     @Mock
-    private PropertyAttributeValueJpaRepository propertyAttributeValueJpaRepository;
+    private PropertyAttributeVectorService propertyAttributeVectorService;
 
     @Mock
     private ListingMapper listingMapper;
 
+    @Mock
+    private ListingDetailCache listingDetailCache;
+
     @InjectMocks
     private ListingApplicationService listingApplicationService;
 
@@ -73,6 +84,11 @@ class ListingApplicationServiceUnitTest {
         propertyId = UUID.randomUUID();
         userId = UUID.randomUUID();
 
+        // Detail cache always misses and loads through
+        lenient().when(listingDetailCache.get(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<ListingDetailCache.LoadedDetail>>getArgument(1).get()
+                        .detail());
+
         // Create test property
         testProperty = Property.builder()
                 .propertyId(propertyId)
@@ -85,6 +101,15 @@ class ListingApplicationServiceUnitTest {
                 .descriptions("Beautiful property")
                 .build();
 
+        // Create test media
+        testMedia = ListingMedia.builder()
+                .listingMediaId(UUID.randomUUID())
+                .listingId(listingId)
+                .propertyMediaId(UUID.randomUUID())
+                .displayOrder(1)
+                .isPrimary(true)
+                .build();
+
         // Create test listing
         testListing = Listing.builder()
                 .listingId(listingId)
@@ -96,16 +121,10 @@ class ListingApplicationServiceUnitTest {
                 .name("Test Listing Name")
                 .price(new BigDecimal("2700.00"))
                 .isNegotiable(false)
+                .listingMedias(List.of(testMedia))
                 .build();
+        testListing.attachProperty(testProperty);
 
-        // Create test media
-        testMedia = ListingMedia.builder()
-                .listingMediaId(UUID.randomUUID())
-                .listingId(listingId)
-                .propertyMediaId(UUID.randomUUID())
-                .displayOrder(1)
-                .isPrimary(true)
-                .build();
     }
 
     @Test
@@ -123,10 +142,7 @@ class ListingApplicationServiceUnitTest {
                 .price(new BigDecimal("2700.00"))
                 .build();
 
-        when(listingRepository.findById(listingId)).thenReturn(Optional.of(testListing));
-        when(propertyRepository.findById(propertyId)).thenReturn(Optional.of(testProperty));
-        when(listingMediaRepository.findByListingIdOrderByDisplayOrderAsc(listingId))
-                .thenReturn(List.of(testMedia));
+        when(listingRepository.findDetailById(listingId)).thenReturn(Optional.of(testListing));
         when(propertyAttributeValueJpaRepository.findByPropertyIdWithAttribute(propertyId))
                 .thenReturn(new ArrayList<>());
         when(listingMapper.toDetailResponseWithMediaAndAttributes(any(Listing.class), anyList(), anyList()))
@@ -141,19 +157,38 @@ class ListingApplicationServiceUnitTest {
         assertThat(actualResponse.getListingType()).isEqualTo(ListingType.RENT);
         assertThat(actualResponse.getStatus()).isEqualTo(ListingStatus.PUBLISHED);
 
-        verify(listingRepository).findById(listingId);
-        verify(propertyRepository).findById(propertyId);
-        verify(listingMediaRepository).findByListingIdOrderByDisplayOrderAsc(listingId);
+        verify(listingRepository).findDetailById(listingId);
         verify(propertyAttributeValueJpaRepository).findByPropertyIdWithAttribute(propertyId);
         verify(listingMapper).toDetailResponseWithMediaAndAttributes(any(Listing.class), anyList(), anyList());
     }
 
+    @Test
+    @DisplayName("Should render attributes from the stored attribute vector without loading value rows")
+    void getListingDetail_whenVectorStored_shouldSkipAttributeValueRows() {
+        // Arrange
+        AttributeVector vector = AttributeVector.builder().number(0, new BigDecimal("3")).build();
+        ListingDetailResponse expectedResponse = ListingDetailResponse.builder().listingId(listingId).build();
+        when(listingRepository.findDetailById(listingId)).thenReturn(Optional.of(testListing));
+        when(propertyAttributeVectorService.findStored(propertyId))
+                .thenReturn(Optional.of(PropertyAttributeVector.of(propertyId, vector, 1, null)));
+        when(listingMapper.toDetailResponseWithMediaAndAttributes(
+                any(Listing.class), anyList(), any(AttributeVector.class)))
+                .thenReturn(expectedResponse);
+
+        // Act
+        ListingDetailResponse actualResponse = listingApplicationService.getListingDetail(listingId);
+
+        // Assert
+        assertThat(actualResponse.getListingId()).isEqualTo(listingId);
+        verify(propertyAttributeValueJpaRepository, never()).findByPropertyIdWithAttribute(any());
+    }
+
     @Test
     @DisplayName("Should throw ResourceNotFoundException when listing does not exist")
     void getListingDetail_whenListingDoesNotExist_shouldThrowException() {
         // Arrange
         UUID nonExistentId = UUID.randomUUID();
-        when(listingRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(listingRepository.findDetailById(nonExistentId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> listingApplicationService.getListingDetail(nonExistentId))
@@ -161,8 +196,8 @@ class ListingApplicationServiceUnitTest {
                 .hasMessageContaining("Listing")
                 .hasMessageContaining(nonExistentId.toString());
 
-        verify(listingRepository).findById(nonExistentId);
-        verify(propertyRepository, never()).findById(any());
+        verify(listingRepository).findDetailById(nonExistentId);
+        verify(propertyAttributeValueJpaRepository, never()).findByPropertyIdWithAttribute(any());
         verify(listingMapper, never()).toDetailResponse(any());
     }
 
@@ -170,8 +205,17 @@ class ListingApplicationServiceUnitTest {
     @DisplayName("Should throw ResourceNotFoundException when property does not exist")
     void getListingDetail_whenPropertyDoesNotExist_shouldThrowException() {
         // Arrange
-        when(listingRepository.findById(listingId)).thenReturn(Optional.of(testListing));
-        when(propertyRepository.findById(propertyId)).thenReturn(Optional.empty());
+        Listing orphanListing = Listing.builder()
+                .listingId(listingId)
+                .propertyId(propertyId)
+                .userId(userId)
+                .listingType(ListingType.RENT)
+                .status(ListingStatus.PUBLISHED)
+                .slug("orphan-listing-slug")
+                .name("Orphan Listing")
+                .price(new BigDecimal("2700.00"))
+                .build();
+        when(listingRepository.findDetailById(listingId)).thenReturn(Optional.of(orphanListing));
 
         // Act & Assert
         assertThatThrownBy(() -> listingApplicationService.getListingDetail(listingId))
@@ -179,9 +223,8 @@ class ListingApplicationServiceUnitTest {
                 .hasMessageContaining("Property")
                 .hasMessageContaining(propertyId.toString());
 
-        verify(listingRepository).findById(listingId);
-        verify(propertyRepository).findById(propertyId);
-        verify(listingMediaRepository, never()).findByListingIdOrderByDisplayOrderAsc(any());
+        verify(listingRepository).findDetailById(listingId);
+        verify(propertyAttributeValueJpaRepository, never()).findByPropertyIdWithAttribute(any());
         verify(listingMapper, never()).toDetailResponse(any());
     }
 
@@ -196,10 +239,7 @@ class ListingApplicationServiceUnitTest {
                 .media(List.of()) // Empty media list is fine for this test
                 .build();
 
-        when(listingRepository.findById(listingId)).thenReturn(Optional.of(testListing));
-        when(propertyRepository.findById(propertyId)).thenReturn(Optional.of(testProperty));
-        when(listingMediaRepository.findByListingIdOrderByDisplayOrderAsc(listingId))
-                .thenReturn(List.of(testMedia));
+        when(listingRepository.findDetailById(listingId)).thenReturn(Optional.of(testListing));
         when(propertyAttributeValueJpaRepository.findByPropertyIdWithAttribute(propertyId))
                 .thenReturn(new ArrayList<>());
         when(listingMapper.toDetailResponseWithMediaAndAttributes(any(Listing.class), anyList(), anyList()))
@@ -210,6 +250,59 @@ class ListingApplicationServiceUnitTest {
 
         // Assert
         assertThat(actualResponse).isNotNull();
-        verify(listingMapper).toDetailResponseWithMediaAndAttributes(any(Listing.class), anyList(), anyList());
+        verify(listingMapper).toDetailResponseWithMediaAndAttributes(testListing, List.of(testMedia), List.of());
+    }
+
+    @Test
+    @DisplayName("Should return listing cards in request order, once per id, skipping deleted listings")
+    void getListingCards_shouldPreserveOrderAndSkipDeleted() {
+        // Arrange
+        Listing otherListing = Listing.builder()
+                .listingId(UUID.randomUUID())
+                .propertyId(propertyId)
+                .userId(userId)
+                .listingType(ListingType.SALE)
+                .status(ListingStatus.SOLD)
+                .slug("other-listing-slug")
+                .name("Other Listing")
+                .price(new BigDecimal("150000.00"))
+                .build();
+        otherListing.attachProperty(testProperty);
+        Listing deletedListing = Listing.builder()
+                .listingId(UUID.randomUUID())
+                .propertyId(propertyId)
+                .userId(userId)
+                .listingType(ListingType.SALE)
+                .status(ListingStatus.PUBLISHED)
+                .slug("deleted-listing-slug")
+                .name("Deleted Listing")
+                .price(new BigDecimal("99000.00"))
+                .build();
+        deletedListing.attachProperty(testProperty);
+        deletedListing.markAsDeleted();
+        UUID missingId = UUID.randomUUID();
+
+        when(listingRepository.findWithPropertyGraphByIds(anyCollection()))
+                .thenReturn(List.of(testListing, deletedListing, otherListing));
+        when(listingMapper.toCardResponse(any(Listing.class), isNull(), anyList()))
+                .thenAnswer(invocation -> ListingCardResponse.builder()
+                        .listingId(invocation.<Listing>getArgument(0).getListingId())
+                        .build());
+
+        ListingCardsRequest request = ListingCardsRequest.builder()
+                .listingIds(List.of(otherListing.getListingId(), missingId, deletedListing.getListingId(),
+                        listingId, otherListing.getListingId()))
+                .build();
+
+        // Act
+        List<ListingCardResponse> cards = listingApplicationService.getListingCards(request);
+
+        // Assert
+        assertThat(cards).extracting(ListingCardResponse::getListingId)
+                .containsExactly(otherListing.getListingId(), listingId);
+        verify(listingRepository, times(1)).findWithPropertyGraphByIds(anyCollection());
+        verify(listingMediaRepository, times(1)).findPrimaryByListingIds(anyList());
+        verify(propertyAttributeValueJpaRepository, times(1))
+                .findByPropertyIdsAndAttributeCodes(anyCollection(), anyCollection());
     }
 }
@@ -0,0 +1,170 @@
+package com.sep.realvista.unit.application.listing.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sep.realvista.application.listing.dto.ListingDetailResponse;
+import com.sep.realvista.application.listing.service.ListingApplicationService;
+import com.sep.realvista.application.listing.service.ListingDetailCache;
+import com.sep.realvista.domain.common.version.ResourceVersion;
+import com.sep.realvista.infrastructure.cache.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for request coalescing and stale-while-revalidate in ListingDetailCache.
+ */
+@DisplayName("Listing Detail Cache Unit Tests")
+class ListingDetailCacheUnitTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+    private ListingDetailCache listingDetailCache;
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        if (listingDetailCache != null) {
+            listingDetailCache.shutdown();
+        }
+    }
+
+    private ListingDetailCache cacheRefreshingAfter(Duration refreshAfter) {
+        CacheProperties properties = new CacheProperties();
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setRefreshAfter(refreshAfter);
+        properties.getCaches().put(ListingApplicationService.DETAIL_CACHE_NAME, spec);
+        listingDetailCache = new ListingDetailCache(
+                new ConcurrentMapCacheManager(ListingApplicationService.DETAIL_CACHE_NAME),
+                new ObjectMapper().findAndRegisterModules(), properties,
+                mock(PlatformTransactionManager.class), meterRegistry);
+        return listingDetailCache;
+    }
+
+    private static ListingDetailCache.LoadedDetail loaded(String name) {
+        return new ListingDetailCache.LoadedDetail(ListingDetailResponse.builder().name(name).build(),
+                new ResourceVersion(name, LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("Should run one load for concurrent misses and hand its result to every caller")
+    void get_concurrentMisses_shouldCoalesce() throws Exception {
+        // Arrange
+        ListingDetailCache cache = cacheRefreshingAfter(null);
+        UUID listingId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callerCount = 8;
+
+        // Act
+        List<Future<ListingDetailResponse>> results = new ArrayList<>();
+        for (int i = 0; i < callerCount; i++) {
+            results.add(callers.submit(() -> cache.get(listingId, () -> {
+                loads.incrementAndGet();
+                awaitQuietly(release);
+                return loaded("loaded");
+            })));
+        }
+        while (meterRegistry.counter("listing.detail.cache.coalesced").count() < callerCount - 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // Assert
+        for (Future<ListingDetailResponse> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getName()).isEqualTo("loaded");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should serve the stale detail while one background refresh replaces it")
+    void get_staleEntry_shouldServeStaleAndRefresh() throws Exception {
+        // Arrange
+        ListingDetailCache cache = cacheRefreshingAfter(Duration.ZERO);
+        UUID listingId = UUID.randomUUID();
+        cache.get(listingId, () -> loaded("v1"));
+
+        // Act
+        ListingDetailResponse served = cache.get(listingId, () -> loaded("v2"));
+
+        // Assert
+        assertThat(served.getName()).isEqualTo("v1");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String current = served.getName();
+        while (!"v2".equals(current) && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+            current = cache.get(listingId, () -> loaded("v2")).getName();
+        }
+        assertThat(current).isEqualTo("v2");
+        assertThat(meterRegistry.counter("listing.detail.cache.stale").count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache a load that was in flight when the listing was invalidated")
+    void invalidate_duringLoad_shouldDiscardLoadedDetail() {
+        // Arrange
+        ListingDetailCache cache = cacheRefreshingAfter(null);
+        UUID listingId = UUID.randomUUID();
+
+        // Act
+        ListingDetailResponse first = cache.get(listingId, () -> {
+            cache.invalidate(listingId);
+            return loaded("before-change");
+        });
+        ListingDetailResponse second = cache.get(listingId, () -> loaded("after-change"));
+
+        // Assert
+        assertThat(first.getName()).isEqualTo("before-change");
+        assertThat(second.getName()).isEqualTo("after-change");
+    }
+
+    @Test
+    @DisplayName("Should serve the detail as JSON and expose the version of the cached entry")
+    void getJson_afterLoad_shouldCacheJsonAndVersion() {
+        // Arrange
+        ListingDetailCache cache = cacheRefreshingAfter(null);
+        UUID listingId = UUID.randomUUID();
+
+        // Act
+        Optional<ResourceVersion> beforeLoad = cache.cachedVersion(listingId);
+        byte[] json = cache.getJson(listingId, () -> loaded("first"));
+        byte[] cachedJson = cache.getJson(listingId, () -> loaded("unused"));
+        Optional<ResourceVersion> afterLoad = cache.cachedVersion(listingId);
+        cache.invalidate(listingId);
+
+        // Assert
+        assertThat(beforeLoad).isEmpty();
+        assertThat(new String(json, StandardCharsets.UTF_8)).contains("\"name\":\"first\"");
+        assertThat(cachedJson).isEqualTo(json);
+        assertThat(afterLoad).map(ResourceVersion::tag).contains("first");
+        assertThat(cache.cachedVersion(listingId)).isEmpty();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.sep.realvista.unit.application.location.search;
+
+import com.sep.realvista.application.location.search.LocationAncestry;
+import com.sep.realvista.application.location.search.LocationAncestryCache;
+import com.sep.realvista.domain.property.location.Location;
+import com.sep.realvista.domain.property.location.LocationRepository;
+import com.sep.realvista.domain.property.location.LocationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the flattened location ancestry cache.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Location Ancestry Cache Unit Tests")
+class LocationAncestryCacheUnitTest {
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @InjectMocks
+    private LocationAncestryCache locationAncestryCache;
+
+    private Location city;
+    private Location district;
+    private Location ward;
+
+    @BeforeEach
+    void setUp() {
+        city = location(null, LocationType.CITY, "Ho Chi Minh City");
+        district = location(city, LocationType.DISTRICT, "District 1");
+        ward = location(district, LocationType.WARD, "Ben Nghe");
+    }
+
+    private static Location location(Location parent, LocationType type, String name) {
+        return Location.builder()
+                .locationId(UUID.randomUUID())
+                .parentId(parent != null ? parent.getLocationId() : null)
+                .type(type)
+                .name(name)
+                .northLat(new BigDecimal("10.780000"))
+                .southLat(new BigDecimal("10.760000"))
+                .eastLng(new BigDecimal("106.700000"))
+                .westLng(new BigDecimal("106.680000"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should flatten a ward with its district and city from a single load")
+    void find_ward_shouldReturnAllLevels() {
+        // Arrange
+        when(locationRepository.findAllActive()).thenReturn(List.of(ward, city, district));
+
+        // Act
+        LocationAncestry ancestry = locationAncestryCache.find(ward.getLocationId()).orElseThrow();
+        locationAncestryCache.find(district.getLocationId());
+
+        // Assert
+        assertThat(ancestry.type()).isEqualTo(LocationType.WARD);
+        assertThat(ancestry.wardName()).isEqualTo("Ben Nghe");
+        assertThat(ancestry.districtId()).isEqualTo(district.getLocationId());
+        assertThat(ancestry.districtName()).isEqualTo("District 1");
+        assertThat(ancestry.cityName()).isEqualTo("Ho Chi Minh City");
+        assertThat(ancestry.northLat()).isEqualByComparingTo("10.78");
+        verify(locationRepository, times(1)).findAllActive();
+    }
+
+    @Test
+    @DisplayName("Should leave levels below the location empty")
+    void find_district_shouldHaveNoWard() {
+        // Arrange
+        when(locationRepository.findAllActive()).thenReturn(List.of(ward, city, district));
+
+        // Act
+        LocationAncestry ancestry = locationAncestryCache.find(district.getLocationId()).orElseThrow();
+
+        // Assert
+        assertThat(ancestry.wardId()).isNull();
+        assertThat(ancestry.districtName()).isEqualTo("District 1");
+        assertThat(ancestry.cityName()).isEqualTo("Ho Chi Minh City");
+    }
+
+    @Test
+    @DisplayName("Should miss locations that were not loaded")
+    void find_unknownLocation_shouldBeEmpty() {
+        // Arrange
+        when(locationRepository.findAllActive()).thenReturn(List.of(city));
+
+        // Act & Assert
+        assertThat(locationAncestryCache.find(UUID.randomUUID())).isEmpty();
+    }
+}
@@ -0,0 +1,92 @@
+package com.sep.realvista.unit.application.location.search;
+
+import com.sep.realvista.application.location.search.LocationSpatialIndex;
+import com.sep.realvista.application.location.search.LocationSpatialIndex.Entry;
+import com.sep.realvista.domain.property.location.LocationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the location R-tree.
+ */
+@DisplayName("Location Spatial Index Unit Tests")
+class LocationSpatialIndexUnitTest {
+
+    private static Entry location(UUID parentId, LocationType type, String name,
+                                  double south, double west, double north, double east) {
+        return new Entry(UUID.randomUUID(), parentId, type, name, null, south, west, north, east);
+    }
+
+    @Test
+    @DisplayName("Should resolve a coordinate to the smallest containing ward and its ancestors")
+    void resolve_insideOverlappingWards_shouldPickSmallestWard() {
+        // Arrange
+        Entry city = location(null, LocationType.CITY, "HCMC", 10.30, 106.30, 11.20, 107.10);
+        Entry district = location(city.locationId(), LocationType.DISTRICT, "District 1",
+                10.76, 106.68, 10.78, 106.70);
+        Entry largeWard = location(district.locationId(), LocationType.WARD, "Da Kao",
+                10.76, 106.68, 10.78, 106.70);
+        Entry smallWard = location(district.locationId(), LocationType.WARD, "Ben Nghe",
+                10.765, 106.685, 10.775, 106.695);
+        LocationSpatialIndex index = new LocationSpatialIndex(List.of(city, district, largeWard, smallWard));
+
+        // Act
+        LocationSpatialIndex.Resolution resolution = index.resolve(10.770, 106.690).orElseThrow();
+
+        // Assert
+        assertThat(resolution.ward()).isEqualTo(smallWard);
+        assertThat(resolution.district()).isEqualTo(district);
+        assertThat(resolution.city()).isEqualTo(city);
+        assertThat(resolution.deepest()).isEqualTo(smallWard);
+    }
+
+    @Test
+    @DisplayName("Should fall back to a coarser level when no ward contains the coordinate")
+    void resolve_outsideAllWards_shouldReturnCity() {
+        // Arrange
+        Entry city = location(null, LocationType.CITY, "HCMC", 10.30, 106.30, 11.20, 107.10);
+        Entry district = location(city.locationId(), LocationType.DISTRICT, "District 1",
+                10.76, 106.68, 10.78, 106.70);
+        LocationSpatialIndex index = new LocationSpatialIndex(List.of(city, district));
+
+        // Act & Assert
+        assertThat(index.resolve(11.0, 107.0)).get()
+                .extracting(LocationSpatialIndex.Resolution::deepest).isEqualTo(city);
+        assertThat(index.resolve(21.0, 105.8)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find the same locations as a linear scan across a multi-level tree")
+    void containing_manyLocations_shouldMatchLinearScan() {
+        // Arrange
+        Random random = new Random(42);
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            double south = 8 + random.nextDouble() * 15;
+            double west = 102 + random.nextDouble() * 8;
+            entries.add(location(null, LocationType.WARD, "Ward " + i,
+                    south, west, south + random.nextDouble() * 0.2, west + random.nextDouble() * 0.2));
+        }
+        LocationSpatialIndex index = new LocationSpatialIndex(entries);
+
+        for (int i = 0; i < 500; i++) {
+            double latitude = 8 + random.nextDouble() * 15;
+            double longitude = 102 + random.nextDouble() * 8;
+
+            // Act
+            List<Entry> hits = index.containing(latitude, longitude);
+
+            // Assert
+            assertThat(hits).containsExactlyInAnyOrderElementsOf(entries.stream()
+                    .filter(entry -> entry.contains(latitude, longitude))
+                    .toList());
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.sep.realvista.unit.application.property.service;
+
+import com.sep.realvista.application.property.dto.AttributeValueInput;
+import com.sep.realvista.application.property.dto.BulkPropertyAttributesResponse;
+import com.sep.realvista.application.property.dto.PropertyAttributesUpsertRequest;
+import com.sep.realvista.application.property.dto.PropertyAttributesUpsertResult;
+import com.sep.realvista.application.property.dto.PropertyAttributesUpsertResult.Status;
+import com.sep.realvista.application.property.service.PropertyAttributeBulkService;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataCache;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot;
+import com.sep.realvista.domain.property.Property;
+import com.sep.realvista.domain.property.PropertyType;
+import com.sep.realvista.domain.property.attribute.AttributeDataType;
+import com.sep.realvista.domain.property.attribute.PropertyAttribute;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeValue;
+import com.sep.realvista.domain.property.attribute.PropertyTypeAttribute;
+import com.sep.realvista.domain.user.UserRepository;
+import com.sep.realvista.infrastructure.persistence.property.PropertyJpaRepository;
+import com.sep.realvista.infrastructure.persistence.property.attribute.PropertyAttributeValueJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for validating and diff-applying bulk property attribute writes.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Property Attribute Bulk Service Unit Tests")
+class PropertyAttributeBulkServiceUnitTest {
+
+    @Mock
+    private PropertyJpaRepository propertyJpaRepository;
+
+    @Mock
+    private PropertyAttributeValueJpaRepository propertyAttributeValueJpaRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    private PropertyAttributeBulkService service;
+    private Property property;
+    private PropertyAttribute bedrooms;
+    private PropertyAttribute pool;
+    private PropertyAttribute view;
+
+    @BeforeEach
+    void setUp() {
+        service = new PropertyAttributeBulkService(propertyJpaRepository, propertyAttributeValueJpaRepository,
+                userRepository, referenceDataCache);
+        PropertyType house = PropertyType.builder()
+                .propertyTypeId(UUID.randomUUID()).code("HOUSE").name("House").build();
+        bedrooms = attribute("bedrooms", AttributeDataType.NUMBER);
+        pool = attribute("pool", AttributeDataType.BOOLEAN);
+        view = attribute("view", AttributeDataType.TEXT);
+        List<PropertyTypeAttribute> assignments = List.of(
+                assignment(house, bedrooms, true), assignment(house, pool, false), assignment(house, view, false));
+        when(referenceDataCache.snapshot()).thenReturn(ReferenceDataSnapshot.of(List.of(), List.of(house),
+                List.of(bedrooms, pool, view), List.of(), assignments, List.of(), List.of()));
+        property = Property.builder()
+                .propertyId(UUID.randomUUID()).propertyTypeId(house.getPropertyTypeId()).build();
+        when(propertyJpaRepository.findAllById(anyCollection())).thenReturn(List.of(property));
+    }
+
+    private static PropertyAttribute attribute(String code, AttributeDataType dataType) {
+        return PropertyAttribute.builder()
+                .propertyAttributeId(UUID.randomUUID()).code(code).name(code).dataType(dataType).build();
+    }
+
+    private static PropertyTypeAttribute assignment(PropertyType type, PropertyAttribute attribute, boolean required) {
+        return PropertyTypeAttribute.builder().propertyTypeId(type.getPropertyTypeId())
+                .propertyAttributeId(attribute.getPropertyAttributeId()).isRequired(required).build();
+    }
+
+    private PropertyAttributeValue stored(PropertyAttribute attribute) {
+        return PropertyAttributeValue.builder()
+                .propertyAttributeValueId(UUID.randomUUID())
+                .propertyId(property.getPropertyId())
+                .propertyAttributeId(attribute.getPropertyAttributeId())
+                .build();
+    }
+
+    private PropertyAttributesUpsertRequest request(boolean replace, AttributeValueInput... attributes) {
+        return PropertyAttributesUpsertRequest.builder()
+                .propertyId(property.getPropertyId())
+                .replace(replace)
+                .attributes(List.of(attributes))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should insert new values, update changed ones and leave equal ones untouched")
+    @SuppressWarnings("unchecked")
+    void upsertAll_shouldApplyOnlyDifferences() {
+        // Arrange
+        PropertyAttributeValue storedBedrooms = stored(bedrooms);
+        storedBedrooms.updateNumberValue(new BigDecimal("3.00"));
+        PropertyAttributeValue storedPool = stored(pool);
+        storedPool.updateBooleanValue(false);
+        when(propertyAttributeValueJpaRepository.findAllByPropertyIdsIncludingDeleted(anyCollection()))
+                .thenReturn(List.of(storedBedrooms, storedPool));
+
+        // Act
+        BulkPropertyAttributesResponse response = service.upsertAll(List.of(request(false,
+                AttributeValueInput.builder().attributeCode("bedrooms").valueNumber(new BigDecimal("3")).build(),
+                AttributeValueInput.builder().attributeCode("pool").valueBoolean(true).build(),
+                AttributeValueInput.builder().attributeCode("view").valueText("Sea").build())));
+
+        // Assert
+        PropertyAttributesUpsertResult result = response.getResults().get(0);
+        assertThat(result.getStatus()).isEqualTo(Status.APPLIED);
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getRemoved()).isZero();
+        assertThat(storedPool.getValueBoolean()).isTrue();
+        ArgumentCaptor<List<PropertyAttributeValue>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(propertyAttributeValueJpaRepository).saveAll(inserted.capture());
+        assertThat(inserted.getValue()).singleElement()
+                .satisfies(value -> assertThat(value.getValueText()).isEqualTo("Sea"));
+    }
+
+    @Test
+    @DisplayName("Should reject a property with unknown, mistyped or missing required attributes")
+    void upsertAll_invalidValues_shouldRejectProperty() {
+        // Arrange
+        PropertyAttributeValue storedPool = stored(pool);
+        storedPool.updateBooleanValue(true);
+        when(propertyAttributeValueJpaRepository.findAllByPropertyIdsIncludingDeleted(anyCollection()))
+                .thenReturn(new ArrayList<>(List.of(storedPool)));
+
+        // Act
+        BulkPropertyAttributesResponse response = service.upsertAll(List.of(request(true,
+                AttributeValueInput.builder().attributeCode("garage").valueBoolean(true).build(),
+                AttributeValueInput.builder().attributeCode("pool").valueText("yes").build())));
+
+        // Assert
+        PropertyAttributesUpsertResult result = response.getResults().get(0);
+        assertThat(result.getStatus()).isEqualTo(Status.REJECTED);
+        assertThat(result.getErrors()).containsExactly(
+                "Attribute 'garage' is not defined for property type 'HOUSE'",
+                "Attribute 'pool' expects true or false",
+                "Attribute 'bedrooms' is required");
+        assertThat(response.getFailedCount()).isEqualTo(1);
+        assertThat(storedPool.getDeleted()).isFalse();
+        verify(propertyAttributeValueJpaRepository, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should restore a removed value and remove unlisted values when replacing")
+    void upsertAll_replace_shouldRestoreAndRemove() {
+        // Arrange
+        PropertyAttributeValue removedBedrooms = stored(bedrooms);
+        removedBedrooms.updateNumberValue(new BigDecimal("2.00"));
+        removedBedrooms.markAsDeleted();
+        PropertyAttributeValue storedView = stored(view);
+        storedView.updateTextValue("Garden");
+        when(propertyAttributeValueJpaRepository.findAllByPropertyIdsIncludingDeleted(anyCollection()))
+                .thenReturn(List.of(removedBedrooms, storedView));
+
+        // Act
+        BulkPropertyAttributesResponse response = service.upsertAll(List.of(
+                request(true, AttributeValueInput.builder()
+                        .attributeCode("bedrooms").valueNumber(new BigDecimal("4")).build()),
+                PropertyAttributesUpsertRequest.builder()
+                        .propertyId(UUID.randomUUID()).attributes(List.of()).build()));
+
+        // Assert
+        assertThat(response.getResults()).extracting(PropertyAttributesUpsertResult::getStatus)
+                .containsExactly(Status.APPLIED, Status.NOT_FOUND);
+        assertThat(removedBedrooms.getDeleted()).isFalse();
+        assertThat(removedBedrooms.getValueNumber()).isEqualByComparingTo("4");
+        assertThat(storedView.getDeleted()).isTrue();
+        assertThat(response.getResults().get(0).getRemoved()).isEqualTo(1);
+        verify(propertyAttributeValueJpaRepository, never()).saveAll(anyCollection());
+    }
+}
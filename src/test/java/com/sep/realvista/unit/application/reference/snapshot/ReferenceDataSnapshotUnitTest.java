@@ -0,0 +1,155 @@
+package com.sep.realvista.unit.application.reference.snapshot;
+
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.AttributeRef;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.RangeRef;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.TypeAttributeRef;
+import com.sep.realvista.application.reference.snapshot.ReferenceDataSnapshot.TypeRef;
+import com.sep.realvista.domain.property.PropertyCategory;
+import com.sep.realvista.domain.property.PropertyType;
+import com.sep.realvista.domain.property.PropertyTypeStatus;
+import com.sep.realvista.domain.property.amenity.Amenity;
+import com.sep.realvista.domain.property.amenity.AmenityType;
+import com.sep.realvista.domain.property.attribute.AttributeDataType;
+import com.sep.realvista.domain.property.attribute.PropertyAttribute;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeRange;
+import com.sep.realvista.domain.property.attribute.PropertyAttributeSlot;
+import com.sep.realvista.domain.property.attribute.PropertyTypeAttribute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Unit tests for building and indexing the reference data snapshot.
+ */
+@DisplayName("Reference Data Snapshot Unit Tests")
+class ReferenceDataSnapshotUnitTest {
+
+    private PropertyCategory residential;
+    private PropertyType house;
+    private PropertyType apartment;
+    private PropertyAttribute bedrooms;
+    private PropertyAttribute pool;
+    private List<PropertyAttributeRange> ranges;
+    private List<PropertyTypeAttribute> typeAttributes;
+    private List<Amenity> amenities;
+    private List<PropertyAttributeSlot> slots;
+
+    @BeforeEach
+    void setUp() {
+        residential = PropertyCategory.builder()
+                .propertyCategoryId(UUID.randomUUID()).code("RESIDENTIAL").name("Residential").build();
+        house = PropertyType.builder()
+                .propertyTypeId(UUID.randomUUID()).propertyCategoryId(residential.getPropertyCategoryId())
+                .code("HOUSE").name("House").build();
+        apartment = PropertyType.builder()
+                .propertyTypeId(UUID.randomUUID()).propertyCategoryId(residential.getPropertyCategoryId())
+                .code("APARTMENT").name("Apartment").status(PropertyTypeStatus.INACTIVE).build();
+        bedrooms = PropertyAttribute.builder()
+                .propertyAttributeId(UUID.randomUUID()).code("bedrooms").name("Bedrooms")
+                .dataType(AttributeDataType.NUMBER).build();
+        pool = PropertyAttribute.builder()
+                .propertyAttributeId(UUID.randomUUID()).code("pool").name("Pool")
+                .dataType(AttributeDataType.BOOLEAN).isSearchable(false).build();
+        ranges = List.of(
+                range("3+", 2, new BigDecimal("3"), null),
+                range("1-2", 1, new BigDecimal("1"), new BigDecimal("2")));
+        typeAttributes = List.of(
+                PropertyTypeAttribute.builder().propertyTypeId(house.getPropertyTypeId())
+                        .propertyAttributeId(pool.getPropertyAttributeId()).build(),
+                PropertyTypeAttribute.builder().propertyTypeId(house.getPropertyTypeId())
+                        .propertyAttributeId(bedrooms.getPropertyAttributeId()).isRequired(true).build(),
+                PropertyTypeAttribute.builder().propertyTypeId(house.getPropertyTypeId())
+                        .propertyAttributeId(UUID.randomUUID()).build());
+        amenities = List.of(Amenity.builder()
+                .amenityId(UUID.randomUUID()).amenityName("Gym").amenityType(AmenityType.ONSITE).build());
+        slots = List.of(
+                PropertyAttributeSlot.builder().propertyAttributeId(pool.getPropertyAttributeId()).slot(0).build(),
+                PropertyAttributeSlot.builder().propertyAttributeId(bedrooms.getPropertyAttributeId()).slot(3).build(),
+                PropertyAttributeSlot.builder().propertyAttributeId(UUID.randomUUID()).slot(1).build());
+    }
+
+    private PropertyAttributeRange range(String label, int displayOrder, BigDecimal min, BigDecimal max) {
+        return PropertyAttributeRange.builder()
+                .propertyAttributeRangeId(UUID.randomUUID())
+                .propertyAttributeId(bedrooms.getPropertyAttributeId())
+                .label(label)
+                .displayOrder(displayOrder)
+                .minValue(min)
+                .maxValue(max)
+                .build();
+    }
+
+    private ReferenceDataSnapshot snapshot() {
+        return ReferenceDataSnapshot.of(List.of(residential), List.of(house, apartment), List.of(pool, bedrooms),
+                ranges, typeAttributes, amenities, slots);
+    }
+
+    @Test
+    @DisplayName("Should index types by id and code with their category and known attributes")
+    void of_shouldResolveTypesWithCategoryAndAttributes() {
+        // Act
+        ReferenceDataSnapshot snapshot = snapshot();
+
+        // Assert
+        TypeRef byId = snapshot.findType(house.getPropertyTypeId()).orElseThrow();
+        assertThat(snapshot.findTypeByCode("HOUSE")).containsSame(byId);
+        assertThat(byId.category().code()).isEqualTo("RESIDENTIAL");
+        assertThat(byId.attributes())
+                .extracting(typeAttribute -> typeAttribute.attribute().code(), TypeAttributeRef::required)
+                .containsExactly(tuple("bedrooms", true), tuple("pool", false));
+        assertThat(snapshot.findType(apartment.getPropertyTypeId()).orElseThrow().isActive()).isFalse();
+        assertThat(snapshot.findType(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should number entries in name order and keep ranges in display order")
+    void of_shouldAssignOrdinalsAndOrderRanges() {
+        // Act
+        ReferenceDataSnapshot snapshot = snapshot();
+
+        // Assert
+        assertThat(snapshot.types()).extracting(TypeRef::code).containsExactly("APARTMENT", "HOUSE");
+        assertThat(snapshot.types()).extracting(TypeRef::ordinal).containsExactly(0, 1);
+        AttributeRef attribute = snapshot.findAttributeByCode("bedrooms").orElseThrow();
+        assertThat(attribute.ordinal()).isZero();
+        assertThat(attribute.ranges()).extracting(RangeRef::label).containsExactly("1-2", "3+");
+        assertThat(snapshot.searchableAttributes()).extracting(AttributeRef::code).containsExactly("bedrooms");
+        assertThat(snapshot.amenities()).extracting(ReferenceDataSnapshot.AmenityRef::name).containsExactly("Gym");
+    }
+
+    @Test
+    @DisplayName("Should derive the same version from the same rows and a new one when rows change")
+    void of_shouldVersionByContent() {
+        // Act
+        ReferenceDataSnapshot first = snapshot();
+        ReferenceDataSnapshot same = snapshot();
+        ReferenceDataSnapshot fewerAmenities = ReferenceDataSnapshot.of(List.of(residential),
+                List.of(house, apartment), List.of(pool, bedrooms), ranges, typeAttributes, List.of(), slots);
+
+        // Assert
+        assertThat(same.version()).isEqualTo(first.version());
+        assertThat(fewerAmenities.version().tag()).isNotEqualTo(first.version().tag());
+    }
+
+    @Test
+    @DisplayName("Should resolve attributes by vector slot and skip slots of unknown attributes")
+    void of_shouldIndexAttributesBySlot() {
+        // Act
+        ReferenceDataSnapshot snapshot = snapshot();
+
+        // Assert
+        assertThat(snapshot.findAttributeBySlot(3)).map(AttributeRef::code).contains("bedrooms");
+        assertThat(snapshot.findAttributeBySlot(0)).map(AttributeRef::code).contains("pool");
+        assertThat(snapshot.findAttributeBySlot(1)).isEmpty();
+        assertThat(snapshot.findAttributeBySlot(7)).isEmpty();
+        assertThat(AttributeRef.of(bedrooms).slot()).isEqualTo(ReferenceDataSnapshot.DETACHED);
+    }
+}
@@ -0,0 +1,65 @@
+package com.sep.realvista.unit.domain.common.geo;
+
+import com.sep.realvista.domain.common.geo.GeoBounds;
+import com.sep.realvista.domain.common.geo.GeoDistance;
+import com.sep.realvista.domain.common.geo.Geohash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for geohash encoding, rectangle covering and haversine distance.
+ */
+@DisplayName("Geohash Unit Tests")
+class GeohashUnitTest {
+
+    @Test
+    @DisplayName("Should encode the reference coordinate")
+    void encode_shouldMatchReferenceHash() {
+        // Act
+        String hash = Geohash.encode(57.64911, 10.40744, 11);
+
+        // Assert
+        assertThat(hash).isEqualTo("u4pruydqqvj");
+    }
+
+    @Test
+    @DisplayName("Should cover every point inside the bounds within the cell budget")
+    void cover_shouldContainEveryPointInBounds() {
+        // Arrange
+        GeoBounds bounds = new GeoBounds(10.70, 106.60, 10.85, 106.78);
+        Random random = new Random(42);
+
+        // Act
+        List<Geohash.Range> ranges = Geohash.cover(bounds, 16);
+
+        // Assert
+        assertThat(ranges).isNotEmpty().hasSizeLessThanOrEqualTo(16);
+        for (int i = 0; i < 1000; i++) {
+            double latitude = bounds.south() + random.nextDouble() * (bounds.north() - bounds.south());
+            double longitude = bounds.west() + random.nextDouble() * (bounds.east() - bounds.west());
+            String hash = Geohash.encode(latitude, longitude, Geohash.MAX_PRECISION);
+            assertThat(ranges).anySatisfy(range -> {
+                assertThat(hash).isGreaterThanOrEqualTo(range.lower());
+                if (range.upper() != null) {
+                    assertThat(hash).isLessThan(range.upper());
+                }
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Should compute great-circle distance in meters")
+    void distance_shouldMatchKnownDistance() {
+        // Act: Ben Thanh Market to Notre-Dame Cathedral, Ho Chi Minh City
+        double meters = GeoDistance.meters(10.772461, 106.698055, 10.779783, 106.699018);
+
+        // Assert
+        assertThat(meters).isCloseTo(820, within(20.0));
+    }
+}
@@ -0,0 +1,79 @@
+package com.sep.realvista.unit.domain.property.attribute;
+
+import com.sep.realvista.domain.property.attribute.AttributeVector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for building, reading and encoding attribute vectors.
+ */
+@DisplayName("Attribute Vector Unit Tests")
+class AttributeVectorUnitTest {
+
+    @Test
+    @DisplayName("Should keep typed values by slot through an encode and decode round trip")
+    void decode_ofEncoded_shouldRestoreValues() {
+        // Arrange
+        AttributeVector vector = AttributeVector.builder()
+                .number(0, new BigDecimal("3"))
+                .flag(2, true)
+                .flag(5, false)
+                .text(70, "South-east")
+                .number(130, new BigDecimal("12.345"))
+                .build();
+
+        // Act
+        AttributeVector decoded = AttributeVector.decode(vector.encode());
+
+        // Assert
+        assertThat(decoded.size()).isEqualTo(5);
+        assertThat(decoded.number(0)).isEqualByComparingTo("3");
+        assertThat(decoded.number(130)).isEqualTo(new BigDecimal("12.35"));
+        assertThat(decoded.flag(2)).isTrue();
+        assertThat(decoded.flag(5)).isFalse();
+        assertThat(decoded.isTrue(5)).isFalse();
+        assertThat(decoded.text(70)).isEqualTo("South-east");
+        assertThat(decoded.number(1)).isNull();
+        assertThat(decoded.flag(0)).isNull();
+        assertThat(decoded.text(131)).isNull();
+        BitSet expectedSlots = new BitSet();
+        expectedSlots.set(0);
+        expectedSlots.set(2);
+        expectedSlots.set(5);
+        expectedSlots.set(70);
+        expectedSlots.set(130);
+        assertThat(decoded.slots()).isEqualTo(expectedSlots);
+    }
+
+    @Test
+    @DisplayName("Should let a later value replace an earlier one of another type and skip nulls")
+    void builder_sameSlotTwice_shouldKeepLastValue() {
+        // Act
+        AttributeVector vector = AttributeVector.builder()
+                .number(1, BigDecimal.ONE)
+                .text(1, "one")
+                .flag(2, null)
+                .build();
+
+        // Assert
+        assertThat(vector.hasNumber(1)).isFalse();
+        assertThat(vector.text(1)).isEqualTo("one");
+        assertThat(vector.size()).isEqualTo(1);
+        assertThat(AttributeVector.decode(AttributeVector.EMPTY.encode()).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject data that is not an encoded vector")
+    void decode_unknownFormat_shouldThrow() {
+        assertThatThrownBy(() -> AttributeVector.decode(new byte[] {9}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AttributeVector.decode(new byte[] {1, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,159 @@
+package com.sep.realvista.unit.infrastructure.cache;
+
+import com.sep.realvista.infrastructure.cache.CacheProperties;
+import com.sep.realvista.infrastructure.cache.InMemoryCacheInvalidationBus;
+import com.sep.realvista.infrastructure.cache.SharedCacheStore;
+import com.sep.realvista.infrastructure.cache.TwoTierCacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the two-tier cache, simulating two nodes that share an in-memory
+ * invalidation bus and shared store.
+ */
+@DisplayName("Two-Tier Cache Manager Unit Tests")
+class TwoTierCacheManagerUnitTest {
+
+    private InMemorySharedStore sharedStore;
+    private Cache nodeA;
+    private Cache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        sharedStore = new InMemorySharedStore();
+        nodeA = new TwoTierCacheManager(properties("node-a"), sharedStore, bus).getCache("listings");
+        nodeB = new TwoTierCacheManager(properties("node-b"), sharedStore, bus).getCache("listings");
+    }
+
+    private static CacheProperties properties(String nodeId) {
+        CacheProperties properties = new CacheProperties();
+        properties.setNodeId(nodeId);
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setMaximumSize(100);
+        spec.setTimeToLive(Duration.ofMinutes(5));
+        properties.getCaches().put("listings", spec);
+        return properties;
+    }
+
+    @Test
+    @DisplayName("Should serve a value loaded on one node to another node from the shared tier")
+    void get_afterLoadOnOtherNode_shouldReadSharedTier() {
+        // Arrange
+        UUID listingId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        String first = nodeA.get(listingId, () -> "detail-" + loads.incrementAndGet());
+        String second = nodeB.get(listingId, () -> "detail-" + loads.incrementAndGet());
+
+        // Assert
+        assertThat(first).isEqualTo("detail-1");
+        assertThat(second).isEqualTo("detail-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should drop every node's local copy and the shared copy on eviction")
+    void evict_onOneNode_shouldInvalidateAllTiersOnAllNodes() {
+        // Arrange
+        UUID listingId = UUID.randomUUID();
+        nodeA.put(listingId, "old");
+        assertThat(nodeB.get(listingId, String.class)).isEqualTo("old");
+
+        // Act
+        nodeA.evict(listingId);
+
+        // Assert
+        assertThat(sharedStore.entries).isEmpty();
+        assertThat(nodeA.get(listingId)).isNull();
+        assertThat(nodeB.get(listingId)).isNull();
+        assertThat(nodeB.get(listingId, () -> "new")).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("Should evict all tiers on all nodes when evicting from an after-commit callback")
+    void evictIfPresent_fromAfterCommit_shouldInvalidateAllTiersOnAllNodes() {
+        // Arrange
+        UUID listingId = UUID.randomUUID();
+        nodeA.put(listingId, "old");
+        assertThat(nodeB.get(listingId, String.class)).isEqualTo("old");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    nodeA.evictIfPresent(listingId);
+                }
+            });
+
+            // Act
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        assertThat(sharedStore.entries).isEmpty();
+        assertThat(nodeA.get(listingId)).isNull();
+        assertThat(nodeB.get(listingId)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep non-distributed caches on the local node")
+    void put_nonDistributedCache_shouldNotUseSharedTier() {
+        // Arrange
+        CacheProperties properties = properties("node-c");
+        CacheProperties.Spec local = new CacheProperties.Spec();
+        local.setDistributed(false);
+        properties.getCaches().put("listingFacets", local);
+        Cache facets = new TwoTierCacheManager(properties, sharedStore, new InMemoryCacheInvalidationBus())
+                .getCache("listingFacets");
+
+        // Act
+        facets.put("key", "value");
+
+        // Assert
+        assertThat(facets.get("key", String.class)).isEqualTo("value");
+        assertThat(sharedStore.entries).isEmpty();
+    }
+
+    private static final class InMemorySharedStore implements SharedCacheStore {
+
+        private final Map<String, Object> entries = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<Object> get(String cacheName, String key) {
+            return Optional.ofNullable(entries.get(cacheName + "::" + key));
+        }
+
+        @Override
+        public void put(String cacheName, String key, Object value, Duration timeToLive) {
+            entries.put(cacheName + "::" + key, value);
+        }
+
+        @Override
+        public void evict(String cacheName, String key) {
+            entries.remove(cacheName + "::" + key);
+        }
+
+        @Override
+        public void clear(String cacheName) {
+            entries.keySet().removeIf(key -> key.startsWith(cacheName + "::"));
+        }
+    }
+}
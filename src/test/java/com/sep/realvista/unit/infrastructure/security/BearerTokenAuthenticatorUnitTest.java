@@ -0,0 +1,133 @@
+package com.sep.realvista.unit.infrastructure.security;
+
+import com.sep.realvista.application.user.service.UserStatusCache;
+import com.sep.realvista.infrastructure.security.AuthenticatedUser;
+import com.sep.realvista.infrastructure.security.jwt.BearerTokenAuthenticator;
+import com.sep.realvista.infrastructure.security.jwt.JwtTokenService;
+import com.sep.realvista.infrastructure.security.session.SessionActivityTracker;
+import com.sep.realvista.infrastructure.security.session.SessionRevocationIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for BearerTokenAuthenticator.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BearerTokenAuthenticator Unit Tests")
+class BearerTokenAuthenticatorUnitTest {
+
+    private static final String SECRET_KEY =
+            "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tc2lnbmluZy1pbi11bml0LXRlc3RzLW9ubHkK";
+    private static final String TEST_EMAIL = "test@example.com";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private UserStatusCache userStatusCache;
+
+    @Mock
+    private SessionRevocationIndex sessionRevocationIndex;
+
+    @Mock
+    private SessionActivityTracker sessionActivityTracker;
+
+    private JwtTokenService jwtTokenService;
+    private BearerTokenAuthenticator authenticator;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenService = new JwtTokenService(SECRET_KEY, 60_000);
+        authenticator = new BearerTokenAuthenticator(jwtTokenService, userDetailsService, userStatusCache,
+                sessionRevocationIndex, sessionActivityTracker);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should rebuild the principal from claims without loading the user")
+    void authenticate_shouldUseClaimsOfSelfContainedToken() {
+        // Given
+        String token = jwtTokenService.generateToken(
+                AuthenticatedUser.fromClaims(userId, TEST_EMAIL, List.of("ADMIN")));
+        when(userStatusCache.isAllowed(userId)).thenReturn(true);
+
+        // When / Then
+        assertThat(authenticator.authenticate(token)).hasValueSatisfying(principal -> {
+            assertThat(principal.getId()).isEqualTo(userId);
+            assertThat(principal.getUsername()).isEqualTo(TEST_EMAIL);
+            assertThat(principal.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_ADMIN");
+        });
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Should reject the token of a suspended, banned or deleted user")
+    void authenticate_shouldRejectBlockedUser() {
+        // Given
+        String token = jwtTokenService.generateToken(
+                AuthenticatedUser.fromClaims(userId, TEST_EMAIL, List.of("BUYER")));
+        when(userStatusCache.isAllowed(userId)).thenReturn(false);
+
+        // When / Then
+        assertThat(authenticator.authenticate(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should load the user for tokens issued without id and role claims")
+    void authenticate_shouldLoadUserOfLegacyToken() {
+        // Given
+        String token = jwtTokenService.generateToken(
+                User.withUsername(TEST_EMAIL).password("").authorities("ROLE_BUYER").build());
+        when(userDetailsService.loadUserByUsername(TEST_EMAIL))
+                .thenReturn(AuthenticatedUser.fromClaims(userId, TEST_EMAIL, List.of()));
+        when(userStatusCache.isAllowed(userId)).thenReturn(true);
+
+        // When / Then
+        assertThat(authenticator.authenticate(token)).hasValueSatisfying(principal ->
+                assertThat(principal.getRoles()).containsExactly(AuthenticatedUser.DEFAULT_ROLE));
+    }
+
+    @Test
+    @DisplayName("Should accept the token of a live session and record its activity")
+    void authenticate_shouldTouchLiveSession() {
+        // Given
+        UUID sessionId = UUID.randomUUID();
+        String token = jwtTokenService.generateToken(
+                AuthenticatedUser.fromClaims(userId, TEST_EMAIL, List.of("BUYER")), sessionId);
+        when(sessionRevocationIndex.isRevoked(sessionId)).thenReturn(false);
+        when(userStatusCache.isAllowed(userId)).thenReturn(true);
+
+        // When / Then
+        assertThat(authenticator.authenticate(token)).isPresent();
+        verify(sessionActivityTracker).touch(sessionId);
+    }
+
+    @Test
+    @DisplayName("Should reject the token of a revoked session")
+    void authenticate_shouldRejectRevokedSession() {
+        // Given
+        UUID sessionId = UUID.randomUUID();
+        String token = jwtTokenService.generateToken(
+                AuthenticatedUser.fromClaims(userId, TEST_EMAIL, List.of("BUYER")), sessionId);
+        when(sessionRevocationIndex.isRevoked(sessionId)).thenReturn(true);
+
+        // When / Then
+        assertThat(authenticator.authenticate(token)).isEmpty();
+        verifyNoInteractions(userStatusCache, sessionActivityTracker);
+    }
+}
@@ -0,0 +1,100 @@
+package com.sep.realvista.unit.infrastructure.security;
+
+import com.sep.realvista.application.auth.service.VerifiedToken;
+import com.sep.realvista.infrastructure.security.AuthenticatedUser;
+import com.sep.realvista.infrastructure.security.jwt.JwtTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for JwtTokenService.
+ */
+@DisplayName("JwtTokenService Unit Tests")
+class JwtTokenServiceUnitTest {
+
+    private static final String SECRET_KEY =
+            "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tc2lnbmluZy1pbi11bml0LXRlc3RzLW9ubHkK";
+    private static final String OTHER_SECRET_KEY =
+            "b3RoZXItc2VjcmV0LWtleS1mb3Itand0LXRva2VuLXNpZ25pbmctaW4tdW5pdC10ZXN0cy1vbmx5Cg==";
+    private static final String TEST_EMAIL = "test@example.com";
+
+    private JwtTokenService jwtTokenService;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenService = new JwtTokenService(SECRET_KEY, 60_000);
+        userDetails = User.withUsername(TEST_EMAIL).password("").authorities("ROLE_USER").build();
+    }
+
+    @Test
+    @DisplayName("Should verify a freshly issued token")
+    void verify_shouldReturnClaimsOfValidToken() {
+        // Given
+        String token = jwtTokenService.generateToken(userDetails);
+
+        // When
+        Optional<VerifiedToken> verified = jwtTokenService.verify(token);
+
+        // Then
+        assertThat(verified).hasValueSatisfying(claims -> {
+            assertThat(claims.subject()).isEqualTo(TEST_EMAIL);
+            assertThat(claims.expiresAt()).isAfter(claims.issuedAt());
+            assertThat(claims.isExpiredAt(Instant.now())).isFalse();
+        });
+        assertThat(jwtTokenService.isTokenValid(token, userDetails)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should carry the id and roles of an authenticated user as claims")
+    void verify_shouldReturnIdAndRolesOfAuthenticatedUser() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        String token = jwtTokenService.generateToken(
+                AuthenticatedUser.fromClaims(userId, TEST_EMAIL, List.of("ADMIN", "SELLER")));
+
+        // When
+        Optional<VerifiedToken> verified = jwtTokenService.verify(token);
+
+        // Then
+        assertThat(verified).hasValueSatisfying(claims -> {
+            assertThat(claims.isSelfContained()).isTrue();
+            assertThat(claims.userId()).isEqualTo(userId);
+            assertThat(claims.roles()).containsExactly("ADMIN", "SELLER");
+        });
+        assertThat(jwtTokenService.verify(jwtTokenService.generateToken(userDetails)))
+                .hasValueSatisfying(claims -> assertThat(claims.isSelfContained()).isFalse());
+    }
+
+    @Test
+    @DisplayName("Should reject expired, foreign and malformed tokens without throwing")
+    void verify_shouldRejectInvalidTokens() {
+        // Given
+        String expired = new JwtTokenService(SECRET_KEY, -1_000).generateToken(userDetails);
+        String foreign = new JwtTokenService(OTHER_SECRET_KEY, 60_000).generateToken(userDetails);
+
+        // Then
+        assertThat(jwtTokenService.verify(expired)).isEmpty();
+        assertThat(jwtTokenService.verify(foreign)).isEmpty();
+        assertThat(jwtTokenService.verify("not-a-jwt")).isEmpty();
+        assertThat(jwtTokenService.isTokenValid(expired, userDetails)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fail fast on a secret that is not a valid HMAC key")
+    void constructor_shouldRejectInvalidSecret() {
+        assertThatThrownBy(() -> new JwtTokenService("c2hvcnQ=", 60_000))
+                .isInstanceOf(RuntimeException.class);
+    }
+}
@@ -0,0 +1,151 @@
+package com.sep.realvista.unit.infrastructure.security;
+
+import com.sep.realvista.infrastructure.config.PasswordEncoderConfig;
+import com.sep.realvista.infrastructure.security.password.BoundedPasswordEncoder;
+import com.sep.realvista.infrastructure.security.password.OAuth2OnlyPasswordEncoder;
+import com.sep.realvista.infrastructure.security.password.PasswordHashingBusyException;
+import com.sep.realvista.infrastructure.security.password.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the password encoder built by PasswordEncoderConfig.
+ */
+@DisplayName("Password Encoder Unit Tests")
+class PasswordEncoderUnitTest {
+
+    private static final String PASSWORD = "Password123";
+
+    private MeterRegistry meterRegistry;
+    private PasswordHashingProperties properties;
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new PasswordHashingProperties();
+        properties.setBcryptStrength(4);
+        properties.setThreads(1);
+        passwordEncoder = new PasswordEncoderConfig().passwordEncoder(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((BoundedPasswordEncoder) passwordEncoder).close();
+    }
+
+    @Test
+    @DisplayName("Should prefix new hashes and not upgrade them")
+    void encode_shouldProduceCurrentHash() {
+        // When
+        String encoded = passwordEncoder.encode(PASSWORD);
+
+        // Then
+        assertThat(encoded).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.matches(PASSWORD, encoded)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(encoded)).isFalse();
+        assertThat(meterRegistry.get("security.password.hashing").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should match unprefixed and weaker hashes and flag them for a rehash")
+    void matches_shouldAcceptOutdatedHashes() {
+        // Given
+        String unprefixed = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        properties.setBcryptStrength(5);
+        PasswordEncoder stronger = new PasswordEncoderConfig().passwordEncoder(properties, new SimpleMeterRegistry());
+        String weaker = passwordEncoder.encode(PASSWORD);
+
+        // Then
+        assertThat(passwordEncoder.matches(PASSWORD, unprefixed)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(unprefixed)).isTrue();
+        assertThat(stronger.matches(PASSWORD, weaker)).isTrue();
+        assertThat(stronger.upgradeEncoding(weaker)).isTrue();
+        ((BoundedPasswordEncoder) stronger).close();
+    }
+
+    @Test
+    @DisplayName("Should never match the password of an OAuth2-only account")
+    void matches_shouldRejectOAuth2OnlyPassword() {
+        assertThat(passwordEncoder.matches("", OAuth2OnlyPasswordEncoder.ENCODED_PASSWORD)).isFalse();
+        assertThat(passwordEncoder.matches(PASSWORD, OAuth2OnlyPasswordEncoder.ENCODED_PASSWORD)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should encode any password to the OAuth2-only marker payload")
+    void encode_shouldProduceOAuth2OnlyMarker() {
+        // When
+        String encoded = new OAuth2OnlyPasswordEncoder().encode(PASSWORD);
+
+        // Then
+        assertThat("{" + OAuth2OnlyPasswordEncoder.ID + "}" + encoded)
+                .isEqualTo(OAuth2OnlyPasswordEncoder.ENCODED_PASSWORD);
+        assertThat(passwordEncoder.matches(PASSWORD, OAuth2OnlyPasswordEncoder.ENCODED_PASSWORD + encoded))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject hashes beyond the queue capacity instead of waiting")
+    void encode_shouldRejectWhenSaturated() throws Exception {
+        // Given: one thread busy with a blocked hash and a queue of one already taken
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        properties.setQueueCapacity(1);
+        properties.setTimeout(Duration.ofSeconds(10));
+        MeterRegistry registry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder bounded = new BoundedPasswordEncoder(new BlockingEncoder(started, release),
+                properties, registry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> bounded.encode(PASSWORD));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> bounded.encode(PASSWORD));
+        while (registry.get("executor.queued").tag("name", "password-hashing").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        try {
+            // Then
+            assertThatThrownBy(() -> bounded.encode(PASSWORD)).isInstanceOf(PasswordHashingBusyException.class);
+            assertThat(registry.get("security.password.hashing.rejected").tag("reason", "queue_full")
+                    .counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+            queued.get(5, TimeUnit.SECONDS);
+            bounded.close();
+        }
+    }
+
+    private record BlockingEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
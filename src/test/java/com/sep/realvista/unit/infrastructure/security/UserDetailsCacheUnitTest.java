@@ -0,0 +1,91 @@
+package com.sep.realvista.unit.infrastructure.security;
+
+import com.sep.realvista.infrastructure.security.AuthenticatedUser;
+import com.sep.realvista.infrastructure.security.UserDetailsCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for UserDetailsCache.
+ */
+@DisplayName("UserDetailsCache Unit Tests")
+class UserDetailsCacheUnitTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    private MeterRegistry meterRegistry;
+    private UserDetailsCache userDetailsCache;
+    private AtomicInteger loads;
+    private Function<String, AuthenticatedUser> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsCache = new UserDetailsCache(new ConcurrentMapCacheManager(), meterRegistry);
+        loads = new AtomicInteger();
+        loader = email -> {
+            loads.incrementAndGet();
+            return AuthenticatedUser.fromClaims(UUID.randomUUID(), email, List.of("BUYER"));
+        };
+    }
+
+    @Test
+    @DisplayName("Should load a user once and count hits and misses")
+    void get_shouldServeRepeatedLookupsFromCache() {
+        // When
+        AuthenticatedUser first = userDetailsCache.get(TEST_EMAIL, loader);
+        AuthenticatedUser second = userDetailsCache.get(TEST_EMAIL, loader);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reload a user after eviction")
+    void evict_shouldForceReload() {
+        // Given
+        userDetailsCache.get(TEST_EMAIL, loader);
+
+        // When
+        userDetailsCache.evict(TEST_EMAIL);
+        userDetailsCache.get(TEST_EMAIL, loader);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should rethrow UsernameNotFoundException and not cache unknown emails")
+    void get_shouldNotCacheUnknownUser() {
+        // Given
+        Function<String, AuthenticatedUser> notFound = email -> {
+            throw new UsernameNotFoundException("User not found with email: " + email);
+        };
+
+        // Then
+        assertThatThrownBy(() -> userDetailsCache.get(TEST_EMAIL, notFound))
+                .isInstanceOf(UsernameNotFoundException.class);
+        userDetailsCache.get(TEST_EMAIL, loader);
+        assertThat(loads).hasValue(1);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("security.user_details.cache").tag("result", result).counter().count();
+    }
+}
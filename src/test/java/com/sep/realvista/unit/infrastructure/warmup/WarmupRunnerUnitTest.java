@@ -0,0 +1,116 @@
+package com.sep.realvista.unit.infrastructure.warmup;
+
+import com.sep.realvista.application.common.warmup.WarmupTask;
+import com.sep.realvista.infrastructure.warmup.WarmupHealthIndicator;
+import com.sep.realvista.infrastructure.warmup.WarmupProperties;
+import com.sep.realvista.infrastructure.warmup.WarmupRunner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for WarmupRunner and the readiness it reports.
+ */
+@DisplayName("Warmup Runner Unit Tests")
+class WarmupRunnerUnitTest {
+
+    @SuppressWarnings("unchecked")
+    private static WarmupRunner runnerFor(Duration budget, WarmupTask... tasks) {
+        ObjectProvider<WarmupTask> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(invocation -> Stream.of(tasks));
+        WarmupProperties properties = new WarmupProperties();
+        properties.setBudget(budget);
+        properties.setParallelism(2);
+        return new WarmupRunner(provider, properties);
+    }
+
+    private static WarmupTask task(String name, Runnable... jobs) {
+        return new WarmupTask() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public List<Runnable> jobs() {
+                return List.of(jobs);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should report out of service until every job has run, counting failed jobs")
+    void start_allJobsFinish_shouldBecomeReady() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        WarmupRunner runner = runnerFor(Duration.ofSeconds(10),
+                task("blocked", () -> {
+                    awaitQuietly(release);
+                    runs.incrementAndGet();
+                }),
+                task("mixed", runs::incrementAndGet, () -> {
+                    throw new IllegalStateException("boom");
+                }));
+        WarmupHealthIndicator health = new WarmupHealthIndicator(runner);
+
+        // Act
+        Status beforeStart = health.health().getStatus();
+        runner.start();
+        Status whileRunning = health.health().getStatus();
+        release.countDown();
+        awaitFinished(runner);
+
+        // Assert
+        assertThat(beforeStart).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(whileRunning).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(health.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(runner.phase()).isEqualTo(WarmupRunner.Phase.COMPLETED);
+        assertThat(runs).hasValue(2);
+        assertThat(runner.progress().get("mixed")).isEqualTo(new WarmupRunner.Progress(2, 2, 1));
+    }
+
+    @Test
+    @DisplayName("Should become ready once the budget runs out, even with jobs still running")
+    void start_budgetExceeded_shouldBecomeReady() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        WarmupRunner runner = runnerFor(Duration.ofMillis(50), task("slow", () -> awaitQuietly(release)));
+
+        // Act
+        runner.start();
+        awaitFinished(runner);
+        release.countDown();
+
+        // Assert
+        assertThat(runner.phase()).isEqualTo(WarmupRunner.Phase.BUDGET_EXCEEDED);
+        assertThat(new WarmupHealthIndicator(runner).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    private static void awaitFinished(WarmupRunner runner) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!runner.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}